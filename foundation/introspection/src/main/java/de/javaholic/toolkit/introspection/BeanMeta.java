@@ -64,6 +64,20 @@ public final class BeanMeta<T> {
         return properties;
     }
 
+    /**
+     * Returns the property with the given name, if present.
+     *
+     * <p>Example: {@code meta.findProperty("email").ifPresent(p -> System.out.println(p.type()));}</p>
+     */
+    public Optional<BeanProperty<T, ?>> findProperty(String name) {
+        for (BeanProperty<T, ?> property : properties) {
+            if (property.name().equals(name)) {
+                return Optional.of(property);
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Returns the property marked with {@code @Id}, if present.
      *
@@ -0,0 +1,116 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link CrudStore}.
+ *
+ * <p>Concept: every operation of the blocking store is offered as a {@link CompletableFuture}, so
+ * callers such as UI request threads can hand store work off and continue without waiting on
+ * JDBC. Failures of the underlying call complete the future exceptionally instead of being thrown
+ * to the caller.</p>
+ *
+ * <p>Each call is an independent unit of work. Implementations backed by a transactional store run
+ * every call in its own transaction on the executing thread; a call never joins a transaction that
+ * is active on the calling thread.</p>
+ *
+ * <p>Streaming and chunked reads are not part of this contract because they hold store resources
+ * across calls; use {@link CrudStore#stream(int)} from a worker thread instead.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * AsyncCrudStore<User, UUID> store = ...;
+ * store.findPage(PageRequest.of(0, 50, Sort.by("identifier")))
+ *         .thenAccept(page -> ui.access(() -> grid.setItems(page.content())));
+ * }</pre>
+ */
+public interface AsyncCrudStore<T, ID> {
+
+    /**
+     * Returns all stored entities.
+     */
+    CompletableFuture<List<T>> findAll();
+
+    /**
+     * Returns one entity by id, if present.
+     */
+    CompletableFuture<Optional<T>> findById(ID id);
+
+    /**
+     * Returns the entities with the given ids; unknown ids are skipped.
+     */
+    CompletableFuture<List<T>> findAllById(Collection<? extends ID> ids);
+
+    /**
+     * Returns all entities matching the filter.
+     */
+    CompletableFuture<List<T>> findAll(Filter filter);
+
+    /**
+     * Returns the number of stored entities.
+     */
+    CompletableFuture<Long> count();
+
+    /**
+     * Returns the number of entities matching the filter.
+     */
+    CompletableFuture<Long> count(Filter filter);
+
+    /**
+     * Returns whether an entity with the given id exists.
+     */
+    CompletableFuture<Boolean> existsById(ID id);
+
+    /**
+     * Returns whether at least one entity matches the filter.
+     */
+    CompletableFuture<Boolean> exists(Filter filter);
+
+    /**
+     * Returns one sorted page of entities.
+     */
+    CompletableFuture<Page<T>> findPage(PageRequest request);
+
+    /**
+     * Returns one sorted page of the entities matching the filter.
+     */
+    CompletableFuture<Page<T>> findPage(Filter filter, PageRequest request);
+
+    /**
+     * Returns one sorted page of the projected properties of the entities matching the filter.
+     */
+    CompletableFuture<Page<Row>> findRowPage(Projection projection, Filter filter, PageRequest request);
+
+    /**
+     * Returns one window of entities after the request's keyset position.
+     */
+    CompletableFuture<Window<T>> findWindow(ScrollRequest request);
+
+    /**
+     * Persists the given entity and returns the persisted state.
+     */
+    CompletableFuture<T> save(T entity);
+
+    /**
+     * Persists all given entities and returns their persisted state in input order.
+     */
+    CompletableFuture<List<T>> saveAll(Collection<? extends T> entities);
+
+    /**
+     * Deletes the given entity.
+     */
+    CompletableFuture<Void> delete(T entity);
+
+    /**
+     * Deletes all given entities.
+     */
+    CompletableFuture<Void> deleteAll(Collection<? extends T> entities);
+
+    /**
+     * Deletes all entities with the given ids; unknown ids are ignored.
+     */
+    CompletableFuture<Void> deleteAllById(Collection<? extends ID> ids);
+}
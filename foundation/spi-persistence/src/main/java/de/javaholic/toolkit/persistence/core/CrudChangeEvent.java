@@ -0,0 +1,103 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Objects;
+
+/**
+ * Notification that one entity of a {@link CrudStore} was created, updated or deleted.
+ *
+ * <p>Concept: events are emitted only after the write is durable, that is after the surrounding
+ * transaction committed. They carry identity and version but not state, so listeners decide
+ * whether to reload ({@code findById}) or just drop what they hold. The version is {@code null}
+ * for types without a version property and for deletes by id.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * if (event.type() == CrudChangeEvent.Type.DELETED) {
+ *     cache.remove(event.id());
+ * }
+ * }</pre>
+ */
+public final class CrudChangeEvent {
+
+    /**
+     * Kind of change.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Class<?> domainType;
+    private final Object id;
+    private final Object version;
+
+    private CrudChangeEvent(Type type, Class<?> domainType, Object id, Object version) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.domainType = Objects.requireNonNull(domainType, "domainType");
+        this.id = Objects.requireNonNull(id, "id");
+        this.version = version;
+    }
+
+    /**
+     * Creates an event for a newly inserted entity.
+     */
+    public static CrudChangeEvent created(Class<?> domainType, Object id, Object version) {
+        return new CrudChangeEvent(Type.CREATED, domainType, id, version);
+    }
+
+    /**
+     * Creates an event for an updated entity.
+     */
+    public static CrudChangeEvent updated(Class<?> domainType, Object id, Object version) {
+        return new CrudChangeEvent(Type.UPDATED, domainType, id, version);
+    }
+
+    /**
+     * Creates an event for a deleted entity; {@code version} may be {@code null}.
+     */
+    public static CrudChangeEvent deleted(Class<?> domainType, Object id, Object version) {
+        return new CrudChangeEvent(Type.DELETED, domainType, id, version);
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public Class<?> domainType() {
+        return domainType;
+    }
+
+    public Object id() {
+        return id;
+    }
+
+    public Object version() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CrudChangeEvent other)) {
+            return false;
+        }
+        return type == other.type
+                && domainType.equals(other.domainType)
+                && id.equals(other.id)
+                && Objects.equals(version, other.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, domainType, id, version);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + domainType.getSimpleName() + '#' + id + (version == null ? "" : " v" + version);
+    }
+}
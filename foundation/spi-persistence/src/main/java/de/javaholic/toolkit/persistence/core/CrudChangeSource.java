@@ -0,0 +1,37 @@
+package de.javaholic.toolkit.persistence.core;
+
+/**
+ * Platform SPI for stores that report their committed writes.
+ *
+ * <p>Concept: implemented next to {@link CrudStore} by stores that can observe their own writes.
+ * Only writes made through the store are reported; changes made directly in the backing system
+ * are not. Delivery is asynchronous, so listeners never add latency to the write path.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * if (store instanceof CrudChangeSource source) {
+ *     subscription = source.subscribe(events -> refreshChangedRows(events));
+ * }
+ * ...
+ * subscription.close();
+ * }</pre>
+ */
+public interface CrudChangeSource {
+
+    /**
+     * Registers the listener for all changes committed from now on.
+     */
+    Subscription subscribe(CrudStoreListener listener);
+
+    /**
+     * Handle of one listener registration.
+     */
+    interface Subscription extends AutoCloseable {
+
+        /**
+         * Stops delivery to the listener; batches already being delivered may still arrive.
+         */
+        @Override
+        void close();
+    }
+}
@@ -1,7 +1,13 @@
 package de.javaholic.toolkit.persistence.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Platform SPI for CRUD operations on one type.
@@ -40,6 +46,13 @@ import java.util.Optional;
  * CrudStore<User, UUID> store = ...;
  * User saved = store.save(user);
  * Optional<User> loaded = store.findById(saved.getId());
+ * List<User> selected = store.findAllById(selectedIds);
+ * Page<User> first = store.findPage(PageRequest.of(0, 50, Sort.by("identifier")));
+ * List<User> active = store.findAll(Filter.eq("status", UserStatus.ACTIVE));
+ * boolean taken = store.exists(Filter.eq("identifier", "alice"));
+ * Page<Row> rows = store.findRowPage(Projection.of("id", "identifier"), Filter.all(), PageRequest.of(0, 100));
+ * Window<User> deep = store.findWindow(ScrollRequest.of(50, Sort.by("identifier")).after(position));
+ * store.saveAll(importedUsers);
  * }</pre>
  */
 public interface CrudStore<T, ID> {
@@ -54,13 +67,216 @@ public interface CrudStore<T, ID> {
      */
     Optional<T> findById(ID id);
 
+    /**
+     * Returns the entities with the given ids in no particular order.
+     *
+     * <p>Unknown and {@code null} ids are skipped and duplicate ids yield one entity. The default
+     * implementation calls {@link #findById(Object)} once per distinct id; stores backed by a
+     * query engine should override it with {@code IN} queries.</p>
+     */
+    default List<T> findAllById(Collection<? extends ID> ids) {
+        List<T> found = new ArrayList<>(ids.size());
+        for (ID id : new LinkedHashSet<ID>(ids)) {
+            if (id != null) {
+                findById(id).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns all entities matching the filter.
+     *
+     * <p>The default implementation evaluates the filter in memory over {@link #findAll()} via
+     * {@link InMemoryFilters}. Stores backed by a query engine should override this and translate
+     * the filter into a native query.</p>
+     */
+    default List<T> findAll(Filter filter) {
+        return InMemoryFilters.filter(findAll(), filter);
+    }
+
+    /**
+     * Returns the number of stored entities.
+     *
+     * <p>The default implementation measures {@link #findAll()}; stores should override it with a
+     * count that does not load rows.</p>
+     */
+    default long count() {
+        return findAll().size();
+    }
+
+    /**
+     * Returns the number of entities matching the filter.
+     *
+     * <p>The default implementation measures {@link #findAll(Filter)}.</p>
+     */
+    default long count(Filter filter) {
+        return findAll(filter).size();
+    }
+
+    /**
+     * Returns whether an entity with the given id exists.
+     *
+     * <p>The default implementation delegates to {@link #findById(Object)}.</p>
+     */
+    default boolean existsById(ID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Returns whether at least one entity matches the filter.
+     *
+     * <p>The default implementation evaluates {@link #findAll(Filter)}; stores backed by a query
+     * engine should override it with a query that stops at the first match.</p>
+     */
+    default boolean exists(Filter filter) {
+        return !findAll(filter).isEmpty();
+    }
+
+    /**
+     * Returns one sorted page of entities.
+     *
+     * <p>The default implementation loads {@link #findAll()} and sorts/slices in memory via
+     * {@link InMemoryQueries}. Stores backed by a query engine should override this and push
+     * paging and ordering down.</p>
+     */
+    default Page<T> findPage(PageRequest request) {
+        return InMemoryQueries.page(findAll(), request);
+    }
+
+    /**
+     * Returns one sorted page of the entities matching the filter.
+     *
+     * <p>The default implementation pages {@link #findAll(Filter)} in memory.</p>
+     */
+    default Page<T> findPage(Filter filter, PageRequest request) {
+        return InMemoryQueries.page(findAll(filter), request);
+    }
+
+    /**
+     * Returns the projected properties of all entities matching the filter.
+     *
+     * <p>The default implementation reads the properties from {@link #findAll(Filter)}. Stores
+     * backed by a query engine should override it and select only the projected columns.</p>
+     */
+    default List<Row> findRows(Projection projection, Filter filter) {
+        List<T> items = findAll(filter);
+        List<Row> rows = new ArrayList<>(items.size());
+        for (T item : items) {
+            rows.add(projection.read(item));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns one sorted page of the projected properties of the entities matching the filter.
+     *
+     * <p>The default implementation reads the properties from {@link #findPage(Filter, PageRequest)}.</p>
+     */
+    default Page<Row> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        return findPage(filter, request).map(projection::read);
+    }
+
+    /**
+     * Returns one window of entities after the request's keyset position.
+     *
+     * <p>The seek key is the requested sort plus the id, so the cost of a window does not depend
+     * on how far the caller has scrolled. The default implementation evaluates the request in
+     * memory over {@link #findAll()} via {@link InMemoryQueries}; stores backed by a query engine
+     * should override it and seek in the database.</p>
+     */
+    default Window<T> findWindow(ScrollRequest request) {
+        return InMemoryQueries.window(findAll(), request);
+    }
+
+    /**
+     * Streams all entities, reading at most {@code fetchSize} rows from the backing store at a time.
+     *
+     * <p>The returned stream holds store resources and must be closed, for example with
+     * try-with-resources. Elements are mapped lazily as they are pulled. Stores that load lazy
+     * associations during mapping require the stream to be consumed inside a surrounding
+     * transaction.</p>
+     *
+     * <p>The default implementation streams over {@link #findAll()} and therefore does not bound
+     * memory; stores backed by a query engine should override it.</p>
+     */
+    default Stream<T> stream(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        }
+        return findAll().stream();
+    }
+
+    /**
+     * Walks all entities in chunks of at most {@code chunkSize} rows.
+     *
+     * <p>Each chunk is handed to the consumer before the next chunk is read, so only one chunk
+     * needs to be held in memory by the caller.</p>
+     */
+    default void forEachChunk(int chunkSize, Consumer<List<T>> consumer) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        try (Stream<T> stream = stream(chunkSize)) {
+            Iterator<T> iterator = stream.iterator();
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        }
+    }
+
     /**
      * Persists the given entity and returns the persisted state.
      */
     T save(T entity);
 
+    /**
+     * Persists all given entities and returns their persisted state in input order.
+     *
+     * <p>The default implementation calls {@link #save(Object)} per entity. Stores backed by a
+     * database should override this to write in one transaction with batched statements.</p>
+     */
+    default List<T> saveAll(Collection<? extends T> entities) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
     /**
      * Deletes the given entity.
      */
     void delete(T entity);
+
+    /**
+     * Deletes all given entities.
+     *
+     * <p>The default implementation calls {@link #delete(Object)} per entity.</p>
+     */
+    default void deleteAll(Collection<? extends T> entities) {
+        for (T entity : entities) {
+            delete(entity);
+        }
+    }
+
+    /**
+     * Deletes all entities with the given ids; unknown ids are ignored.
+     *
+     * <p>The default implementation loads each entity via {@link #findById(Object)} and deletes it.
+     * Stores backed by a database should override this with a set-based delete.</p>
+     */
+    default void deleteAllById(Collection<? extends ID> ids) {
+        for (ID id : ids) {
+            findById(id).ifPresent(this::delete);
+        }
+    }
 }
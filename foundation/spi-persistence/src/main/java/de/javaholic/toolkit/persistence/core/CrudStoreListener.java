@@ -0,0 +1,24 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.List;
+
+/**
+ * Receives committed changes of a {@link CrudChangeSource}.
+ *
+ * <p>Concept: listeners are called off the write path, on a delivery thread, with batches of
+ * events in commit order. A batch may span several transactions. Exceptions thrown by a listener
+ * are reported and do not affect other listeners or later batches.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudStoreListener listener = events -> ui.access(grid.getDataProvider()::refreshAll);
+ * }</pre>
+ */
+@FunctionalInterface
+public interface CrudStoreListener {
+
+    /**
+     * Handles one batch of committed changes; the list is never empty.
+     */
+    void onChanges(List<CrudChangeEvent> events);
+}
@@ -43,8 +43,27 @@ public interface DtoMapper<DTO, D> {
      */
     DTO toDto(D domain);
 
+    /**
+     * Maps one domain instance to DTO, sharing nested results through the read's context.
+     *
+     * <p>Stores call this for every row of a multi-row read. The default ignores the context;
+     * mappers of object graphs with shared children override it.</p>
+     */
+    default DTO toDto(D domain, MappingContext context) {
+        return toDto(domain);
+    }
+
     /**
      * Maps one DTO instance to domain.
      */
     D toDomain(DTO dto);
+
+    /**
+     * Returns whether {@link #toDto(Object)} may be called from several threads at once.
+     *
+     * <p>Stores only map in parallel when this is {@code true}.</p>
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
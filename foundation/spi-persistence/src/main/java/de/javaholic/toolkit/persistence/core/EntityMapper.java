@@ -43,8 +43,29 @@ public interface EntityMapper<D, E> {
      */
     D toDomain(E entity);
 
+    /**
+     * Maps persistence entity to domain model, sharing nested results through the read's context.
+     *
+     * <p>Stores call this for every row of a multi-row read. The default ignores the context;
+     * mappers of entity graphs with shared children override it.</p>
+     */
+    default D toDomain(E entity, MappingContext context) {
+        return toDomain(entity);
+    }
+
     /**
      * Maps domain model to persistence entity.
      */
     E toEntity(D domain);
+
+    /**
+     * Returns whether {@link #toDomain(Object)} may be called from several threads at once.
+     *
+     * <p>Stores only map in parallel when this is {@code true}. Mappers that read lazy
+     * associations are not thread-safe: the persistence context behind the entities belongs to
+     * the calling thread.</p>
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -0,0 +1,334 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Platform SPI filter over the properties of a {@link CrudStore} type.
+ *
+ * <p>Concept: a filter is a small immutable tree of property conditions combined with and/or.
+ * Property names are bean property names, the same names used by {@link Sort}. Stores backed by a
+ * query engine translate the tree into a native query (for example a JPA {@code Specification});
+ * all other stores evaluate it in memory via {@link InMemoryFilters}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Filter filter = Filter.contains("key", "app.").ignoringCase()
+ *         .and(Filter.in("locale", List.of("de", "en")));
+ * List<I18nEntryDto> entries = store.findAll(filter);
+ * }</pre>
+ */
+public sealed interface Filter permits Filter.Equal, Filter.In, Filter.Match, Filter.Range, Filter.Junction {
+
+    /**
+     * Returns a filter that matches every row.
+     */
+    static Filter all() {
+        return Junction.ALL;
+    }
+
+    /**
+     * Matches rows whose property equals {@code value}; a {@code null} value matches {@code null}.
+     */
+    static Equal eq(String property, Object value) {
+        return new Equal(property, value, false);
+    }
+
+    /**
+     * Matches rows whose property equals one of {@code values}.
+     */
+    static In in(String property, Collection<?> values) {
+        return new In(property, values);
+    }
+
+    /**
+     * Matches rows whose text property contains {@code text}.
+     */
+    static Match contains(String property, String text) {
+        return new Match(property, Match.Mode.CONTAINS, text, false);
+    }
+
+    /**
+     * Matches rows whose text property starts with {@code prefix}.
+     */
+    static Match startsWith(String property, String prefix) {
+        return new Match(property, Match.Mode.PREFIX, prefix, false);
+    }
+
+    /**
+     * Matches rows whose property lies between both bounds, inclusive.
+     *
+     * <p>A {@code null} bound leaves that side open.</p>
+     */
+    static <V extends Comparable<? super V>> Range between(String property, V lower, V upper) {
+        return new Range(property, lower, upper);
+    }
+
+    /**
+     * Matches rows whose property is greater than or equal to {@code lower}.
+     */
+    static <V extends Comparable<? super V>> Range atLeast(String property, V lower) {
+        return new Range(property, lower, null);
+    }
+
+    /**
+     * Matches rows whose property is less than or equal to {@code upper}.
+     */
+    static <V extends Comparable<? super V>> Range atMost(String property, V upper) {
+        return new Range(property, null, upper);
+    }
+
+    /**
+     * Matches rows that match all given filters.
+     */
+    static Filter and(Filter... filters) {
+        return Junction.of(Junction.Type.AND, List.of(filters));
+    }
+
+    /**
+     * Matches rows that match at least one of the given filters.
+     */
+    static Filter or(Filter... filters) {
+        return Junction.of(Junction.Type.OR, List.of(filters));
+    }
+
+    /**
+     * Returns a filter that matches rows matching this and {@code other}.
+     */
+    default Filter and(Filter other) {
+        return and(this, other);
+    }
+
+    /**
+     * Returns a filter that matches rows matching this or {@code other}.
+     */
+    default Filter or(Filter other) {
+        return or(this, other);
+    }
+
+    /**
+     * Returns whether this filter matches every row.
+     */
+    default boolean isAll() {
+        return this instanceof Junction junction && junction.type() == Junction.Type.AND && junction.filters().isEmpty();
+    }
+
+    /**
+     * Equality condition on one property.
+     */
+    final class Equal implements Filter {
+        private final String property;
+        private final Object value;
+        private final boolean ignoreCase;
+
+        private Equal(String property, Object value, boolean ignoreCase) {
+            this.property = requireProperty(property);
+            this.value = value;
+            this.ignoreCase = ignoreCase;
+        }
+
+        /**
+         * Returns a copy that compares text values case-insensitively.
+         */
+        public Equal ignoringCase() {
+            return new Equal(property, value, true);
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public Object value() {
+            return value;
+        }
+
+        public boolean ignoreCase() {
+            return ignoreCase;
+        }
+
+        @Override
+        public String toString() {
+            return property + (ignoreCase ? " ~= " : " = ") + value;
+        }
+    }
+
+    /**
+     * Membership condition on one property.
+     */
+    final class In implements Filter {
+        private final String property;
+        private final List<Object> values;
+
+        private In(String property, Collection<?> values) {
+            this.property = requireProperty(property);
+            this.values = List.copyOf(Objects.requireNonNull(values, "values"));
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public List<Object> values() {
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return property + " in " + values;
+        }
+    }
+
+    /**
+     * Text condition on one property.
+     */
+    final class Match implements Filter {
+
+        /**
+         * Where the text has to occur.
+         */
+        public enum Mode {
+            CONTAINS,
+            PREFIX
+        }
+
+        private final String property;
+        private final Mode mode;
+        private final String text;
+        private final boolean ignoreCase;
+
+        private Match(String property, Mode mode, String text, boolean ignoreCase) {
+            this.property = requireProperty(property);
+            this.mode = Objects.requireNonNull(mode, "mode");
+            this.text = Objects.requireNonNull(text, "text");
+            this.ignoreCase = ignoreCase;
+        }
+
+        /**
+         * Returns a copy that matches case-insensitively.
+         */
+        public Match ignoringCase() {
+            return new Match(property, mode, text, true);
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public Mode mode() {
+            return mode;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public boolean ignoreCase() {
+            return ignoreCase;
+        }
+
+        @Override
+        public String toString() {
+            return property + ' ' + mode.name().toLowerCase() + (ignoreCase ? " ~'" : " '") + text + '\'';
+        }
+    }
+
+    /**
+     * Inclusive range condition on one property; {@code null} bounds are open.
+     */
+    final class Range implements Filter {
+        private final String property;
+        private final Comparable<?> lower;
+        private final Comparable<?> upper;
+
+        private Range(String property, Comparable<?> lower, Comparable<?> upper) {
+            this.property = requireProperty(property);
+            if (lower == null && upper == null) {
+                throw new IllegalArgumentException("range on '" + property + "' needs at least one bound");
+            }
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public Comparable<?> lower() {
+            return lower;
+        }
+
+        public Comparable<?> upper() {
+            return upper;
+        }
+
+        @Override
+        public String toString() {
+            return property + " in [" + (lower == null ? "*" : lower) + ", " + (upper == null ? "*" : upper) + ']';
+        }
+    }
+
+    /**
+     * And/or combination of filters.
+     *
+     * <p>An empty and-junction matches every row, an empty or-junction matches none.</p>
+     */
+    final class Junction implements Filter {
+
+        /**
+         * How child filters are combined.
+         */
+        public enum Type {
+            AND,
+            OR
+        }
+
+        private static final Junction ALL = new Junction(Type.AND, List.of());
+
+        private final Type type;
+        private final List<Filter> filters;
+
+        private Junction(Type type, List<Filter> filters) {
+            this.type = type;
+            this.filters = filters;
+        }
+
+        private static Filter of(Type type, List<Filter> filters) {
+            List<Filter> flat = new ArrayList<>(filters.size());
+            for (Filter filter : filters) {
+                Objects.requireNonNull(filter, "filter");
+                if (filter instanceof Junction junction && junction.type == type) {
+                    flat.addAll(junction.filters);
+                } else if (!(type == Type.AND && filter.isAll())) {
+                    flat.add(filter);
+                }
+            }
+            if (flat.size() == 1) {
+                return flat.get(0);
+            }
+            return flat.isEmpty() && type == Type.AND ? ALL : new Junction(type, List.copyOf(flat));
+        }
+
+        public Type type() {
+            return type;
+        }
+
+        public List<Filter> filters() {
+            return filters;
+        }
+
+        @Override
+        public String toString() {
+            return type + filters.toString();
+        }
+    }
+
+    private static String requireProperty(String property) {
+        Objects.requireNonNull(property, "property");
+        if (property.isBlank()) {
+            throw new IllegalArgumentException("property must not be blank");
+        }
+        return property;
+    }
+}
@@ -0,0 +1,58 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Platform SPI marker asking the mapper processor to generate an implementation of the annotated
+ * {@link EntityMapper} or {@link DtoMapper} interface at build time.
+ *
+ * <p>Concept: mapping stays explicit and reflection-free, but the plain getter/setter code is
+ * written by the compiler instead of by hand. The annotated interface names the mapped pair
+ * through its {@code EntityMapper}/{@code DtoMapper} type arguments. The processor emits
+ * {@code <InterfaceName>Impl} next to it, which creates each target with its no-argument
+ * constructor and copies every target setter from the source getter of the same name.</p>
+ *
+ * <p>Properties whose types differ are converted by one of the mappers listed in {@link #uses()};
+ * the generated constructor takes them in that order. {@code Set}, {@code List} and
+ * {@code Collection} properties are copied element by element into pre-sized collections; a
+ * {@code null} collection becomes an empty one. A target property without a matching source
+ * property fails the build unless it is listed in {@link #ignore()}.</p>
+ *
+ * <p>The processor lives in {@code persistence-mapper-processor}; add it as a {@code provided}
+ * dependency of the module that declares the interfaces.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * @GenerateMapper(uses = PermissionFormMapping.class, shareBy = "name")
+ * public interface RoleFormMapping extends DtoMapper<RoleFormDto, Role> {
+ * }
+ *
+ * DtoMapper<RoleFormDto, Role> mapper = new RoleFormMappingImpl(new PermissionFormMappingImpl());
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper {
+
+    /**
+     * Mappers converting nested properties, passed to the generated constructor in this order.
+     */
+    Class<?>[] uses() default {};
+
+    /**
+     * Target properties the generated mapper leaves unset, in both directions.
+     */
+    String[] ignore() default {};
+
+    /**
+     * Source property whose value identifies shared instances on reads; rows of one read that
+     * carry the same value get the same mapped instance through their {@link MappingContext}.
+     * Empty maps every instance.
+     */
+    String shareBy() default "";
+}
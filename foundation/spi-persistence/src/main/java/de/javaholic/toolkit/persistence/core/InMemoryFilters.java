@@ -0,0 +1,215 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory evaluation of {@link Filter} trees.
+ *
+ * <p>Concept: a filter is compiled once per bean type into a {@link Predicate}. Compilation
+ * resolves every property name through {@link BeanMeta} and checks that filter values fit the
+ * property type, so a typo fails fast with the same message in every store. The compiled
+ * predicate only reads properties; it does no name lookups per row.</p>
+ *
+ * <p>Used by the {@link CrudStore} default methods and by stores without a query engine.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * Predicate<User> active = InMemoryFilters.compile(Filter.eq("status", UserStatus.ACTIVE), User.class);
+ * List<User> result = users.stream().filter(active).toList();
+ * }</pre>
+ */
+public final class InMemoryFilters {
+
+    private InMemoryFilters() {
+    }
+
+    /**
+     * Returns the items matching the filter; the bean type is taken from the first item.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> filter(List<T> items, Filter filter) {
+        Objects.requireNonNull(items, "items");
+        Objects.requireNonNull(filter, "filter");
+        if (items.isEmpty() || filter.isAll()) {
+            return items;
+        }
+        Predicate<T> predicate = compile(filter, (Class<T>) items.get(0).getClass());
+        List<T> result = new ArrayList<>();
+        for (T item : items) {
+            if (predicate.test(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that every property of the filter exists on {@code type} and accepts the filter values.
+     *
+     * <p>Throws {@link IllegalArgumentException} otherwise.</p>
+     */
+    public static void validate(Filter filter, Class<?> type) {
+        compile(filter, type);
+    }
+
+    /**
+     * Compiles the filter into a predicate over beans of {@code type}.
+     *
+     * <p>Throws {@link IllegalArgumentException} for unknown properties or ill-typed values.</p>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Predicate<T> compile(Filter filter, Class<T> type) {
+        Objects.requireNonNull(filter, "filter");
+        Objects.requireNonNull(type, "type");
+        BeanMeta<T> meta = (BeanMeta<T>) InMemoryQueries.meta(type);
+        return switch (filter) {
+            case Filter.Equal equal -> {
+                BeanProperty<T, ?> property = property(meta, equal.property());
+                Function<T, Object> getter = getter(meta, property);
+                if (equal.value() == null) {
+                    yield bean -> getter.apply(bean) == null;
+                }
+                requireAssignable(property, equal.value());
+                if (equal.ignoreCase()) {
+                    requireText(property);
+                    String expected = (String) equal.value();
+                    yield bean -> getter.apply(bean) instanceof String actual && actual.equalsIgnoreCase(expected);
+                }
+                Object expected = equal.value();
+                yield bean -> expected.equals(getter.apply(bean));
+            }
+            case Filter.In in -> {
+                BeanProperty<T, ?> property = property(meta, in.property());
+                Function<T, Object> getter = getter(meta, property);
+                for (Object value : in.values()) {
+                    requireAssignable(property, value);
+                }
+                Set<Object> expected = new HashSet<>(in.values());
+                yield bean -> expected.contains(getter.apply(bean));
+            }
+            case Filter.Match match -> {
+                BeanProperty<T, ?> property = property(meta, match.property());
+                requireText(property);
+                Function<T, Object> getter = getter(meta, property);
+                String text = match.ignoreCase() ? match.text().toLowerCase(Locale.ROOT) : match.text();
+                boolean prefix = match.mode() == Filter.Match.Mode.PREFIX;
+                boolean ignoreCase = match.ignoreCase();
+                yield bean -> {
+                    if (!(getter.apply(bean) instanceof String actual)) {
+                        return false;
+                    }
+                    String candidate = ignoreCase ? actual.toLowerCase(Locale.ROOT) : actual;
+                    return prefix ? candidate.startsWith(text) : candidate.contains(text);
+                };
+            }
+            case Filter.Range range -> {
+                BeanProperty<T, ?> property = property(meta, range.property());
+                Function<T, Object> getter = getter(meta, property);
+                Comparable lower = range.lower();
+                Comparable upper = range.upper();
+                if (lower != null) {
+                    requireAssignable(property, lower);
+                }
+                if (upper != null) {
+                    requireAssignable(property, upper);
+                }
+                yield bean -> {
+                    Object value = getter.apply(bean);
+                    if (value == null) {
+                        return false;
+                    }
+                    return (lower == null || lower.compareTo(value) <= 0)
+                            && (upper == null || upper.compareTo(value) >= 0);
+                };
+            }
+            case Filter.Junction junction -> {
+                List<Predicate<T>> children = new ArrayList<>(junction.filters().size());
+                for (Filter child : junction.filters()) {
+                    children.add(compile(child, type));
+                }
+                if (junction.type() == Filter.Junction.Type.AND) {
+                    yield bean -> {
+                        for (Predicate<T> child : children) {
+                            if (!child.test(bean)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    };
+                }
+                yield bean -> {
+                    for (Predicate<T> child : children) {
+                        if (child.test(bean)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+        };
+    }
+
+    private static <T> BeanProperty<T, ?> property(BeanMeta<T> meta, String name) {
+        return meta.findProperty(name).orElseThrow(() -> new IllegalArgumentException(
+                "Unknown property '" + name + "' on " + meta.type().getName()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Function<T, Object> getter(BeanMeta<T> meta, BeanProperty<T, ?> property) {
+        BeanProperty raw = property;
+        return bean -> meta.getValue(raw, bean);
+    }
+
+    private static void requireText(BeanProperty<?, ?> property) {
+        if (!CharSequence.class.isAssignableFrom(property.type())) {
+            throw new IllegalArgumentException(
+                    "Text filter on non-text property '" + property.name() + "' of type " + property.type().getName());
+        }
+    }
+
+    private static void requireAssignable(BeanProperty<?, ?> property, Object value) {
+        Objects.requireNonNull(value, () -> "value for '" + property.name() + "'");
+        if (!wrap(property.type()).isInstance(value)) {
+            throw new IllegalArgumentException("Value " + value + " of type " + value.getClass().getName()
+                    + " does not fit property '" + property.name() + "' of type " + property.type().getName());
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+}
@@ -0,0 +1,180 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory evaluation of {@link CrudStore} read requests.
+ *
+ * <p>Concept: this is the fallback used by the {@link CrudStore} default methods for stores
+ * without native push-down (file stores, test stores, wrappers). Property access goes through
+ * {@link BeanMeta}, so sort property names mean the same as in push-down adapters.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * Page<User> page = InMemoryQueries.page(users, PageRequest.of(0, 20, Sort.by("identifier")));
+ * Window<User> window = InMemoryQueries.window(users, ScrollRequest.of(20, Sort.by("identifier")));
+ * }</pre>
+ */
+public final class InMemoryQueries {
+
+    private static final ClassValue<BeanMeta<?>> META = new ClassValue<>() {
+        @Override
+        protected BeanMeta<?> computeValue(Class<?> type) {
+            return BeanIntrospector.inspect(type);
+        }
+    };
+
+    private InMemoryQueries() {
+    }
+
+    /**
+     * Sorts the given items and cuts out the requested page.
+     *
+     * <p>The input list is not modified.</p>
+     */
+    public static <T> Page<T> page(List<T> items, PageRequest request) {
+        Objects.requireNonNull(items, "items");
+        Objects.requireNonNull(request, "request");
+        List<T> source = sort(items, request.sort());
+        long offset = request.offset();
+        if (offset >= source.size()) {
+            return Page.of(List.of(), request, source.size());
+        }
+        int from = (int) offset;
+        int to = Math.min(source.size(), from + request.size());
+        return Page.of(source.subList(from, to), request, source.size());
+    }
+
+    /**
+     * Sorts the given items by the seek key and returns the window after the requested position.
+     *
+     * <p>The seek key is the requested sort plus the {@code @Id} property as ascending
+     * tie-breaker. Types without {@code @Id} must be scrolled with a sort whose values are
+     * unique, otherwise rows sharing the last key of a window are skipped.</p>
+     */
+    public static <T> Window<T> window(List<T> items, ScrollRequest request) {
+        Objects.requireNonNull(items, "items");
+        Objects.requireNonNull(request, "request");
+        if (items.isEmpty()) {
+            return Window.of(List.of(), request, false, request.position());
+        }
+        Sort seek = seekSort(items.get(0).getClass(), request.sort());
+        List<T> sorted = sort(items, seek);
+        int from = 0;
+        if (!request.position().isInitial()) {
+            Map<String, Object> keys = request.position().keys();
+            while (from < sorted.size() && compareToKeys(sorted.get(from), seek, keys) <= 0) {
+                from++;
+            }
+        }
+        int to = Math.min(sorted.size(), from + request.size());
+        List<T> content = sorted.subList(from, to);
+        KeysetPosition next = content.isEmpty()
+                ? request.position()
+                : positionOf(content.get(content.size() - 1), seek);
+        return Window.of(content, request, to < sorted.size(), next);
+    }
+
+    /**
+     * Returns the given sort extended by the {@code @Id} property of {@code type}, if not yet contained.
+     *
+     * <p>Throws {@link IllegalArgumentException} when the result would be unsorted.</p>
+     */
+    public static Sort seekSort(Class<?> type, Sort sort) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(sort, "sort");
+        Sort seek = META.get(type).idProperty()
+                .map(BeanProperty::name)
+                .filter(id -> sort.orders().stream().noneMatch(order -> order.property().equals(id)))
+                .map(id -> sort.and(Sort.Order.asc(id)))
+                .orElse(sort);
+        if (!seek.isSorted()) {
+            throw new IllegalArgumentException(
+                    "Keyset scrolling needs a sort or an @Id property on " + type.getName());
+        }
+        return seek;
+    }
+
+    /**
+     * Returns a sorted copy of the given items, or the items themselves when unsorted.
+     */
+    public static <T> List<T> sort(List<T> items, Sort sort) {
+        Objects.requireNonNull(sort, "sort");
+        if (!sort.isSorted() || items.size() < 2) {
+            return items;
+        }
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(comparator(sort));
+        return sorted;
+    }
+
+    /**
+     * Builds a comparator for the given sort.
+     *
+     * <p>Property values must be {@link Comparable}; {@code null} values sort first in ascending
+     * order. The bean type is taken from the runtime class of the compared items.</p>
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Comparator<T> comparator(Sort sort) {
+        Comparator<T> result = (a, b) -> 0;
+        for (Sort.Order order : sort.orders()) {
+            Comparator<T> next = Comparator.comparing(
+                    item -> (Comparable<Object>) value(item, order.property()),
+                    Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder())
+            );
+            result = result.thenComparing(order.isAscending() ? next : next.reversed());
+        }
+        return result;
+    }
+
+    static BeanMeta<?> meta(Class<?> type) {
+        return META.get(type);
+    }
+
+    private static KeysetPosition positionOf(Object bean, Sort seek) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : seek.orders()) {
+            keys.put(order.property(), value(bean, order.property()));
+        }
+        return KeysetPosition.of(keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareToKeys(Object bean, Sort seek, Map<String, Object> keys) {
+        Comparator<Comparable<Object>> natural = Comparator.nullsFirst(Comparator.naturalOrder());
+        for (Sort.Order order : seek.orders()) {
+            int result = natural.compare(
+                    (Comparable<Object>) value(bean, order.property()),
+                    (Comparable<Object>) keys.get(order.property())
+            );
+            if (result != 0) {
+                return order.isAscending() ? result : -result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads one property value from the given bean.
+     *
+     * <p>Throws {@link IllegalArgumentException} when the bean type has no such property.</p>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Object value(Object bean, String property) {
+        Objects.requireNonNull(bean, "bean");
+        BeanMeta meta = META.get(bean.getClass());
+        BeanProperty<?, ?> beanProperty = META.get(bean.getClass()).findProperty(property)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown property '" + property + "' on " + bean.getClass().getName()));
+        return meta.getValue((BeanProperty) beanProperty, bean);
+    }
+}
@@ -0,0 +1,84 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Platform SPI position inside a keyset-scrolled {@link CrudStore} read.
+ *
+ * <p>A position holds the seek key of the last row a caller has seen: the values of the sort
+ * properties plus the id. The next window starts strictly after that key, so reading window N
+ * costs the same as reading the first one. Callers treat positions as opaque and only pass back
+ * what a {@link Window} handed out.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Window<User> first = store.findWindow(ScrollRequest.of(100, Sort.by("identifier")));
+ * KeysetPosition resumeAt = first.nextPosition();
+ * }</pre>
+ */
+public final class KeysetPosition {
+
+    private static final KeysetPosition INITIAL = new KeysetPosition(Map.of());
+
+    private final Map<String, Object> keys;
+
+    private KeysetPosition(Map<String, Object> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Returns the position before the first row.
+     */
+    public static KeysetPosition initial() {
+        return INITIAL;
+    }
+
+    /**
+     * Creates a position from seek key values in key order; {@code null} values are allowed.
+     */
+    public static KeysetPosition of(Map<String, ?> keys) {
+        Objects.requireNonNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return INITIAL;
+        }
+        return new KeysetPosition(Collections.unmodifiableMap(new LinkedHashMap<>(keys)));
+    }
+
+    /**
+     * Returns the seek key values by property name, in key order.
+     */
+    public Map<String, Object> keys() {
+        return keys;
+    }
+
+    /**
+     * Returns whether this is the position before the first row.
+     */
+    public boolean isInitial() {
+        return keys.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPosition that)) {
+            return false;
+        }
+        return keys.equals(that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPosition" + keys;
+    }
+}
@@ -0,0 +1,125 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Platform SPI context shared by the mapper calls of one read.
+ *
+ * <p>Concept: result rows often reference the same nested objects, for example many users sharing
+ * a few roles. Stores open one context per {@code findAll}, page or window and pass it to
+ * {@link EntityMapper#toDomain(Object, MappingContext)} and
+ * {@link DtoMapper#toDto(Object, MappingContext)}. Mappers route nested objects through it, so a
+ * shared source instance or id is mapped once and the result is reused for every row that
+ * references it.</p>
+ *
+ * <p>Results handed out by a context are shared between rows of the same read; callers must not
+ * change them for one row only. A context may be used from several threads at once.
+ * {@link #none()} maps every call and shares nothing.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * public RoleFormDto toDto(Role role, MappingContext context) {
+ *     return context.mapOnce(role, RoleFormDto.class, r -> new RoleFormDto(r.getName(), ...));
+ * }
+ * }</pre>
+ */
+public final class MappingContext {
+
+    private static final MappingContext NONE = new MappingContext(null);
+
+    private final Map<Object, Object> mapped;
+
+    private MappingContext(Map<Object, Object> mapped) {
+        this.mapped = mapped;
+    }
+
+    /**
+     * Creates an empty context for one read.
+     */
+    public static MappingContext create() {
+        return new MappingContext(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns the context that does not share anything, for single-row mapping.
+     */
+    public static MappingContext none() {
+        return NONE;
+    }
+
+    /**
+     * Maps the source instance once per target type; later calls with the same instance return
+     * the first result.
+     *
+     * <p>Sources are compared by identity, so equal but distinct instances are mapped separately.</p>
+     */
+    public <S, T> T mapOnce(S source, Class<T> targetType, Function<? super S, ? extends T> mapping) {
+        Objects.requireNonNull(source, "source");
+        return lookup(new InstanceKey(targetType, source), targetType, () -> mapping.apply(source));
+    }
+
+    /**
+     * Maps the object with the given id once per target type; later calls with an equal id return
+     * the first result.
+     */
+    public <T> T mapOnceById(Object id, Class<T> targetType, Supplier<? extends T> mapping) {
+        Objects.requireNonNull(id, "id");
+        return lookup(new IdKey(targetType, id), targetType, mapping);
+    }
+
+    /**
+     * Returns how many mapped results this context holds.
+     */
+    public int size() {
+        return mapped == null ? 0 : mapped.size();
+    }
+
+    private <T> T lookup(Object key, Class<T> targetType, Supplier<? extends T> mapping) {
+        Objects.requireNonNull(mapping, "mapping");
+        if (mapped == null) {
+            return mapping.get();
+        }
+        Object existing = mapped.get(key);
+        if (existing != null) {
+            return targetType.cast(existing);
+        }
+        // Not computeIfAbsent: mappings map nested objects through this context themselves.
+        T fresh = mapping.get();
+        if (fresh == null) {
+            return null;
+        }
+        Object raced = mapped.putIfAbsent(key, fresh);
+        return raced != null ? targetType.cast(raced) : fresh;
+    }
+
+    private record IdKey(Class<?> targetType, Object id) {
+
+        private IdKey {
+            Objects.requireNonNull(targetType, "targetType");
+        }
+    }
+
+    private static final class InstanceKey {
+        private final Class<?> targetType;
+        private final Object source;
+
+        private InstanceKey(Class<?> targetType, Object source) {
+            this.targetType = Objects.requireNonNull(targetType, "targetType");
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof InstanceKey that && source == that.source && targetType == that.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(source) + targetType.hashCode();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+/**
+ * Platform SPI result of a paged {@link CrudStore} read.
+ *
+ * <p>A page either knows the total number of rows (when the store ran a count) or is a slice
+ * that only knows whether another page follows. Slices avoid the count query on stores where
+ * counting is expensive.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Page<User> page = store.findPage(PageRequest.of(0, 50));
+ * page.content().forEach(grid::add);
+ * if (page.hasNext()) { ... store.findPage(page.request().next()) ... }
+ * }</pre>
+ */
+public final class Page<T> {
+
+    private final List<T> content;
+    private final PageRequest request;
+    private final long totalElements;
+    private final boolean hasNext;
+
+    private Page(List<T> content, PageRequest request, long totalElements, boolean hasNext) {
+        this.content = List.copyOf(content);
+        this.request = Objects.requireNonNull(request, "request");
+        this.totalElements = totalElements;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Creates a page with a known total row count.
+     */
+    public static <T> Page<T> of(List<T> content, PageRequest request, long totalElements) {
+        Objects.requireNonNull(content, "content");
+        Objects.requireNonNull(request, "request");
+        boolean hasNext = request.offset() + content.size() < totalElements;
+        return new Page<>(content, request, totalElements, hasNext);
+    }
+
+    /**
+     * Creates a slice that does not know the total row count.
+     */
+    public static <T> Page<T> slice(List<T> content, PageRequest request, boolean hasNext) {
+        return new Page<>(Objects.requireNonNull(content, "content"), request, -1, hasNext);
+    }
+
+    /**
+     * Returns the rows of this page.
+     */
+    public List<T> content() {
+        return content;
+    }
+
+    /**
+     * Returns the request this page answers.
+     */
+    public PageRequest request() {
+        return request;
+    }
+
+    /**
+     * Returns the total row count, or empty when this page is a slice.
+     */
+    public OptionalLong totalElements() {
+        return totalElements < 0 ? OptionalLong.empty() : OptionalLong.of(totalElements);
+    }
+
+    /**
+     * Returns whether another page follows this one.
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Maps the rows of this page while keeping paging information.
+     *
+     * <p>Only the rows on this page are passed to the mapper.</p>
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        List<R> mapped = new ArrayList<>(content.size());
+        for (T item : content) {
+            mapped.add(mapper.apply(item));
+        }
+        return new Page<>(mapped, request, totalElements, hasNext);
+    }
+
+    @Override
+    public String toString() {
+        return "Page[request=" + request + ", size=" + content.size()
+                + ", total=" + (totalElements < 0 ? "?" : totalElements) + ", hasNext=" + hasNext + ']';
+    }
+}
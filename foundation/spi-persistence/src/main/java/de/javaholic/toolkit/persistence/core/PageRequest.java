@@ -0,0 +1,111 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Objects;
+
+/**
+ * Platform SPI request for one page of a {@link CrudStore} read.
+ *
+ * <p>Pages are zero-based. The request carries its {@link Sort} so adapters can push paging and
+ * ordering down to the backing store in one query.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * PageRequest request = PageRequest.of(0, 50).withSort(Sort.by("identifier"));
+ * Page<User> page = store.findPage(request);
+ * }</pre>
+ */
+public final class PageRequest {
+
+    private final int page;
+    private final int size;
+    private final Sort sort;
+
+    private PageRequest(int page, int size, Sort sort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative: " + page);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.page = page;
+        this.size = size;
+        this.sort = Objects.requireNonNull(sort, "sort");
+    }
+
+    /**
+     * Creates an unsorted request for the given zero-based page.
+     */
+    public static PageRequest of(int page, int size) {
+        return new PageRequest(page, size, Sort.unsorted());
+    }
+
+    /**
+     * Creates a sorted request for the given zero-based page.
+     */
+    public static PageRequest of(int page, int size, Sort sort) {
+        return new PageRequest(page, size, sort);
+    }
+
+    /**
+     * Returns a copy of this request with the given sort.
+     */
+    public PageRequest withSort(Sort sort) {
+        return new PageRequest(page, size, sort);
+    }
+
+    /**
+     * Returns the request for the following page.
+     */
+    public PageRequest next() {
+        return new PageRequest(page + 1, size, sort);
+    }
+
+    /**
+     * Returns the zero-based page index.
+     */
+    public int page() {
+        return page;
+    }
+
+    /**
+     * Returns the maximum number of rows per page.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the requested order.
+     */
+    public Sort sort() {
+        return sort;
+    }
+
+    /**
+     * Returns the index of the first row of this page.
+     */
+    public long offset() {
+        return (long) page * size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageRequest that)) {
+            return false;
+        }
+        return page == that.page && size == that.size && sort.equals(that.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(page, size, sort);
+    }
+
+    @Override
+    public String toString() {
+        return "PageRequest[page=" + page + ", size=" + size + ", sort=" + sort + ']';
+    }
+}
@@ -0,0 +1,109 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Platform SPI selection of the properties a projection read returns.
+ *
+ * <p>Concept: a projection names the properties a caller actually shows, for example the visible
+ * grid columns. Stores backed by a query engine select only these columns and skip entity
+ * hydration and mapping; all other stores read the properties from loaded beans. The projection
+ * is shared by all {@link Row}s it produces, so a row only holds its values.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Projection columns = Projection.of("id", "identifier", "displayName", "status");
+ * Page<Row> page = store.findRowPage(columns, Filter.all(), PageRequest.of(0, 100, Sort.by("identifier")));
+ * String name = page.content().get(0).get("displayName", String.class);
+ * }</pre>
+ */
+public final class Projection {
+
+    private final List<String> properties;
+    private final Map<String, Integer> positions;
+
+    private Projection(List<String> properties) {
+        if (properties.isEmpty()) {
+            throw new IllegalArgumentException("projection needs at least one property");
+        }
+        this.properties = List.copyOf(properties);
+        this.positions = new HashMap<>(properties.size() * 2);
+        for (int i = 0; i < this.properties.size(); i++) {
+            String property = this.properties.get(i);
+            if (property.isBlank()) {
+                throw new IllegalArgumentException("property must not be blank");
+            }
+            if (positions.put(property, i) != null) {
+                throw new IllegalArgumentException("Duplicate property '" + property + "' in projection");
+            }
+        }
+    }
+
+    /**
+     * Creates a projection of the given properties in the given order.
+     */
+    public static Projection of(String... properties) {
+        return new Projection(List.of(properties));
+    }
+
+    /**
+     * Creates a projection of the given properties in the given order.
+     */
+    public static Projection of(List<String> properties) {
+        return new Projection(Objects.requireNonNull(properties, "properties"));
+    }
+
+    /**
+     * Returns the projected property names.
+     */
+    public List<String> properties() {
+        return properties;
+    }
+
+    /**
+     * Returns the position of the property, or {@code -1} if it is not projected.
+     */
+    public int indexOf(String property) {
+        Integer position = positions.get(property);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Creates a row with one value per property, in projection order.
+     */
+    public Row row(Object... values) {
+        if (values.length != properties.size()) {
+            throw new IllegalArgumentException("Expected " + properties.size() + " values but got " + values.length);
+        }
+        return new Row(this, values.clone());
+    }
+
+    /**
+     * Creates a row by reading every projected property from the bean.
+     */
+    public Row read(Object bean) {
+        Object[] values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = InMemoryQueries.value(bean, properties.get(i));
+        }
+        return new Row(this, values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Projection other && properties.equals(other.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return properties.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Projection" + properties;
+    }
+}
@@ -0,0 +1,90 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Platform SPI result row of a projection read.
+ *
+ * <p>Concept: a row holds only the values of its {@link Projection}, addressed by property name
+ * or position. Rows are immutable and detached from any persistence context.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * grid.addColumn(row -> row.get("identifier"));
+ * UUID id = row.get("id", UUID.class);
+ * }</pre>
+ */
+public final class Row {
+
+    private final Projection projection;
+    private final Object[] values;
+
+    Row(Projection projection, Object[] values) {
+        this.projection = projection;
+        this.values = values;
+    }
+
+    /**
+     * Returns the projection this row belongs to.
+     */
+    public Projection projection() {
+        return projection;
+    }
+
+    /**
+     * Returns the value of the property.
+     *
+     * <p>Throws {@link IllegalArgumentException} if the property is not projected.</p>
+     */
+    public Object get(String property) {
+        int position = projection.indexOf(property);
+        if (position < 0) {
+            throw new IllegalArgumentException("Property '" + property + "' is not part of " + projection);
+        }
+        return values[position];
+    }
+
+    /**
+     * Returns the value of the property cast to the given type.
+     */
+    public <V> V get(String property, Class<V> type) {
+        return type.cast(get(property));
+    }
+
+    /**
+     * Returns the value at the given position of the projection.
+     */
+    public Object get(int position) {
+        return values[position];
+    }
+
+    /**
+     * Returns the values keyed by property name, in projection order.
+     */
+    public Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>(values.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            map.put(projection.properties().get(i), values[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Row other
+                && projection.equals(other.projection)
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * projection.hashCode() + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+}
@@ -0,0 +1,98 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.Objects;
+
+/**
+ * Platform SPI request for one window of a keyset-scrolled {@link CrudStore} read.
+ *
+ * <p>Unlike {@link PageRequest}, a scroll request has no page index. It carries the
+ * {@link KeysetPosition} after which the window starts, so adapters can seek with
+ * {@code where (sort..., id) > (:last...)} instead of skipping rows with an offset.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ScrollRequest request = ScrollRequest.of(500, Sort.by("key"));
+ * Window<I18nEntry> window = store.findWindow(request);
+ * while (window.hasNext()) {
+ *     window = store.findWindow(window.next());
+ * }
+ * }</pre>
+ */
+public final class ScrollRequest {
+
+    private final int size;
+    private final Sort sort;
+    private final KeysetPosition position;
+
+    private ScrollRequest(int size, Sort sort, KeysetPosition position) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.size = size;
+        this.sort = Objects.requireNonNull(sort, "sort");
+        this.position = Objects.requireNonNull(position, "position");
+    }
+
+    /**
+     * Creates a request for the first window ordered by id only.
+     */
+    public static ScrollRequest of(int size) {
+        return new ScrollRequest(size, Sort.unsorted(), KeysetPosition.initial());
+    }
+
+    /**
+     * Creates a request for the first window in the given order.
+     */
+    public static ScrollRequest of(int size, Sort sort) {
+        return new ScrollRequest(size, sort, KeysetPosition.initial());
+    }
+
+    /**
+     * Returns a copy of this request that starts after the given position.
+     */
+    public ScrollRequest after(KeysetPosition position) {
+        return new ScrollRequest(size, sort, position);
+    }
+
+    /**
+     * Returns the maximum number of rows per window.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the requested order; the id is appended as tie-breaker by the store.
+     */
+    public Sort sort() {
+        return sort;
+    }
+
+    /**
+     * Returns the position after which the window starts.
+     */
+    public KeysetPosition position() {
+        return position;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScrollRequest that)) {
+            return false;
+        }
+        return size == that.size && sort.equals(that.sort) && position.equals(that.position);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, sort, position);
+    }
+
+    @Override
+    public String toString() {
+        return "ScrollRequest[size=" + size + ", sort=" + sort + ", position=" + position + ']';
+    }
+}
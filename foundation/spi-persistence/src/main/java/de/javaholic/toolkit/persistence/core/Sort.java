@@ -0,0 +1,159 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Platform SPI sort specification for {@link CrudStore} reads.
+ *
+ * <p>Orders reference bean property names of the store type. Adapters translate them to their
+ * native query language (for example Spring Data {@code Sort}); stores without push-down sort
+ * in memory.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Sort sort = Sort.by("identifier").and(Sort.Order.desc("status"));
+ * }</pre>
+ */
+public final class Sort {
+
+    private static final Sort UNSORTED = new Sort(List.of());
+
+    private final List<Order> orders;
+
+    private Sort(List<Order> orders) {
+        this.orders = List.copyOf(orders);
+    }
+
+    /**
+     * Returns a sort without any order.
+     */
+    public static Sort unsorted() {
+        return UNSORTED;
+    }
+
+    /**
+     * Creates an ascending sort over the given properties.
+     */
+    public static Sort by(String... properties) {
+        List<Order> orders = new ArrayList<>(properties.length);
+        for (String property : properties) {
+            orders.add(Order.asc(property));
+        }
+        return new Sort(orders);
+    }
+
+    /**
+     * Creates a sort from explicit orders.
+     */
+    public static Sort by(Order... orders) {
+        return new Sort(List.of(orders));
+    }
+
+    /**
+     * Returns a new sort with the given order appended.
+     */
+    public Sort and(Order order) {
+        List<Order> combined = new ArrayList<>(orders);
+        combined.add(Objects.requireNonNull(order, "order"));
+        return new Sort(combined);
+    }
+
+    /**
+     * Returns all orders in priority order.
+     */
+    public List<Order> orders() {
+        return orders;
+    }
+
+    /**
+     * Returns whether at least one order is present.
+     */
+    public boolean isSorted() {
+        return !orders.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Sort that)) {
+            return false;
+        }
+        return orders.equals(that.orders);
+    }
+
+    @Override
+    public int hashCode() {
+        return orders.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isSorted() ? orders.toString() : "UNSORTED";
+    }
+
+    /**
+     * Sort direction.
+     */
+    public enum Direction {
+        ASC,
+        DESC
+    }
+
+    /**
+     * One property order of a {@link Sort}.
+     */
+    public static final class Order {
+        private final String property;
+        private final Direction direction;
+
+        public Order(String property, Direction direction) {
+            this.property = Objects.requireNonNull(property, "property");
+            this.direction = Objects.requireNonNull(direction, "direction");
+        }
+
+        public static Order asc(String property) {
+            return new Order(property, Direction.ASC);
+        }
+
+        public static Order desc(String property) {
+            return new Order(property, Direction.DESC);
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public Direction direction() {
+            return direction;
+        }
+
+        public boolean isAscending() {
+            return direction == Direction.ASC;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Order that)) {
+                return false;
+            }
+            return property.equals(that.property) && direction == that.direction;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(property, direction);
+        }
+
+        @Override
+        public String toString() {
+            return property + ": " + direction;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Platform SPI result of a keyset-scrolled {@link CrudStore} read.
+ *
+ * <p>A window knows whether more rows follow and the {@link KeysetPosition} of its last row.
+ * It never knows a total count; use {@link Page} when a count is needed.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Window<User> window = store.findWindow(ScrollRequest.of(200, Sort.by("identifier")));
+ * window.content().forEach(exporter::write);
+ * if (window.hasNext()) { ... store.findWindow(window.next()) ... }
+ * }</pre>
+ */
+public final class Window<T> {
+
+    private final List<T> content;
+    private final ScrollRequest request;
+    private final boolean hasNext;
+    private final KeysetPosition nextPosition;
+
+    private Window(List<T> content, ScrollRequest request, boolean hasNext, KeysetPosition nextPosition) {
+        this.content = List.copyOf(content);
+        this.request = Objects.requireNonNull(request, "request");
+        this.hasNext = hasNext;
+        this.nextPosition = Objects.requireNonNull(nextPosition, "nextPosition");
+    }
+
+    /**
+     * Creates a window; {@code nextPosition} is the seek key of the last row in {@code content}.
+     */
+    public static <T> Window<T> of(List<T> content, ScrollRequest request, boolean hasNext, KeysetPosition nextPosition) {
+        return new Window<>(Objects.requireNonNull(content, "content"), request, hasNext, nextPosition);
+    }
+
+    /**
+     * Returns the rows of this window.
+     */
+    public List<T> content() {
+        return content;
+    }
+
+    /**
+     * Returns the request this window answers.
+     */
+    public ScrollRequest request() {
+        return request;
+    }
+
+    /**
+     * Returns whether more rows follow this window.
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Returns the position of the last row of this window.
+     */
+    public KeysetPosition nextPosition() {
+        return nextPosition;
+    }
+
+    /**
+     * Returns the request for the following window.
+     */
+    public ScrollRequest next() {
+        return request.after(nextPosition);
+    }
+
+    /**
+     * Maps the rows of this window while keeping scroll information.
+     */
+    public <R> Window<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        List<R> mapped = new ArrayList<>(content.size());
+        for (T item : content) {
+            mapped.add(mapper.apply(item));
+        }
+        return new Window<>(mapped, request, hasNext, nextPosition);
+    }
+
+    @Override
+    public String toString() {
+        return "Window[request=" + request + ", size=" + content.size() + ", hasNext=" + hasNext + ']';
+    }
+}
@@ -0,0 +1,72 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryFiltersTest {
+
+    static class Item {
+        private final String name;
+        private final int rank;
+
+        Item(String name, int rank) {
+            this.name = name;
+            this.rank = rank;
+        }
+    }
+
+    private final List<Item> items = List.of(
+            new Item("Alpha", 1),
+            new Item("beta", 2),
+            new Item("alphabet", 3),
+            new Item(null, 4)
+    );
+
+    @Test
+    void matchesTextIgnoringCase() {
+        List<Item> result = InMemoryFilters.filter(items, Filter.startsWith("name", "ALPHA").ignoringCase());
+
+        assertThat(result).extracting(item -> item.rank).containsExactly(1, 3);
+    }
+
+    @Test
+    void combinesRangeInAndOr() {
+        Filter filter = Filter.between("rank", 2, 3)
+                .and(Filter.contains("name", "et"))
+                .or(Filter.eq("name", null));
+
+        List<Item> result = InMemoryFilters.filter(items, filter);
+
+        assertThat(result).extracting(item -> item.rank).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void matchesInOnPrimitiveProperty() {
+        List<Item> result = InMemoryFilters.filter(items, Filter.in("rank", List.of(1, 4)));
+
+        assertThat(result).extracting(item -> item.rank).containsExactly(1, 4);
+    }
+
+    @Test
+    void allMatchesEverything() {
+        assertThat(InMemoryFilters.filter(items, Filter.all())).hasSize(4);
+        assertThat(Filter.and(Filter.all(), Filter.all()).isAll()).isTrue();
+    }
+
+    @Test
+    void rejectsUnknownPropertyAndIllTypedValues() {
+        assertThatThrownBy(() -> InMemoryFilters.validate(Filter.eq("missing", 1), Item.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+        assertThatThrownBy(() -> InMemoryFilters.validate(Filter.eq("rank", "1"), Item.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("rank");
+        assertThatThrownBy(() -> InMemoryFilters.validate(Filter.contains("rank", "1"), Item.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("non-text");
+    }
+}
@@ -0,0 +1,78 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryQueriesTest {
+
+    static class Item {
+        private final String name;
+        private final Integer rank;
+
+        Item(String name, Integer rank) {
+            this.name = name;
+            this.rank = rank;
+        }
+    }
+
+    private final List<Item> items = List.of(
+            new Item("c", 1),
+            new Item("a", 2),
+            new Item("b", null),
+            new Item("d", 2)
+    );
+
+    @Test
+    void pageSortsAndSlices() {
+        Page<Item> page = InMemoryQueries.page(items, PageRequest.of(1, 2, Sort.by("name")));
+
+        assertThat(page.content()).extracting(item -> item.name).containsExactly("c", "d");
+        assertThat(page.totalElements()).hasValue(4);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void sortSupportsDescendingAndNulls() {
+        List<Item> sorted = InMemoryQueries.sort(items, Sort.by(Sort.Order.desc("rank"), Sort.Order.asc("name")));
+
+        assertThat(sorted).extracting(item -> item.name).containsExactly("a", "d", "c", "b");
+    }
+
+    @Test
+    void pageBeyondEndIsEmpty() {
+        Page<Item> page = InMemoryQueries.page(items, PageRequest.of(5, 2));
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void windowSeeksPastPosition() {
+        Window<Item> first = InMemoryQueries.window(items, ScrollRequest.of(2, Sort.by("name")));
+        Window<Item> second = InMemoryQueries.window(items, first.next());
+
+        assertThat(first.content()).extracting(item -> item.name).containsExactly("a", "b");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextPosition().keys()).containsEntry("name", "b");
+        assertThat(second.content()).extracting(item -> item.name).containsExactly("c", "d");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void windowWithoutSortOrIdFails() {
+        assertThatThrownBy(() -> InMemoryQueries.window(items, ScrollRequest.of(2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@Id");
+    }
+
+    @Test
+    void unknownPropertyFails() {
+        assertThatThrownBy(() -> InMemoryQueries.sort(items, Sort.by("missing")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+    }
+}
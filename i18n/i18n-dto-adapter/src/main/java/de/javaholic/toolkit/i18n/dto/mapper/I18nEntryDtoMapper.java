@@ -23,5 +23,9 @@ public class I18nEntryDtoMapper implements DtoMapper<I18nEntryDto, I18nEntry> {
         domain.setValue(dto.getValue());
         return domain;
     }
-}
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
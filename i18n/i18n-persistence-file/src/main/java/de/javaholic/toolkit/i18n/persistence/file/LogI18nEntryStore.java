@@ -0,0 +1,35 @@
+package de.javaholic.toolkit.i18n.persistence.file;
+
+import de.javaholic.toolkit.i18n.core.domain.I18nEntry;
+import de.javaholic.toolkit.i18n.core.spi.I18nEntryStore;
+import de.javaholic.toolkit.persistence.core.LogStructuredCrudStore;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * {@link I18nEntryStore} persisted in a local append-only log, for deployments without a database.
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * try (LogI18nEntryStore entries = LogI18nEntryStore.open(Path.of("data/i18n"))) {
+ *     entries.save(new I18nEntry(null, "app.title", "de", "Titel", 0L));
+ * }
+ * }</pre>
+ */
+public class LogI18nEntryStore extends LogStructuredCrudStore<I18nEntry, UUID> implements I18nEntryStore {
+
+    private LogI18nEntryStore(Path directory, Settings settings) {
+        super(I18nEntry.class, directory, settings);
+    }
+
+    public static LogI18nEntryStore open(Path directory) {
+        return open(directory, Settings.defaults());
+    }
+
+    public static LogI18nEntryStore open(Path directory, Settings settings) {
+        LogI18nEntryStore store = new LogI18nEntryStore(directory, settings);
+        store.startBackground();
+        return store;
+    }
+}
@@ -0,0 +1,32 @@
+package de.javaholic.toolkit.i18n.persistence.file;
+
+import de.javaholic.toolkit.i18n.core.domain.I18nEntry;
+import de.javaholic.toolkit.i18n.core.spi.I18nEntryStore;
+import de.javaholic.toolkit.persistence.core.Filter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogI18nEntryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void servesEntriesAfterReopen() {
+        try (LogI18nEntryStore store = LogI18nEntryStore.open(directory)) {
+            I18nEntryStore entries = store;
+            entries.save(new I18nEntry(null, "app.title", "de", "Titel", 0L));
+            entries.save(new I18nEntry(null, "app.title", "en", "Title", 0L));
+        }
+
+        try (LogI18nEntryStore store = LogI18nEntryStore.open(directory)) {
+            assertThat(store.findAll(Filter.eq("locale", "de"))).singleElement()
+                    .satisfies(entry -> assertThat(entry.getValue()).isEqualTo("Titel"));
+            assertThat(store.count()).isEqualTo(2);
+        }
+    }
+}
@@ -10,11 +10,15 @@ import de.javaholic.toolkit.i18n.persistence.jpa.mapper.JpaI18nEntryMapper;
 import de.javaholic.toolkit.i18n.persistence.jpa.provider.JpaTextResolver;
 import de.javaholic.toolkit.i18n.persistence.jpa.repo.JpaI18nEntryRepository;
 import de.javaholic.toolkit.i18n.persistence.jpa.store.JpaI18nEntryStore;
+import de.javaholic.toolkit.persistence.springdata.JpaCacheRegion;
+import jakarta.persistence.EntityManager;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import java.time.Duration;
+
 @AutoConfiguration
 @EnableJpaRepositories(basePackageClasses = JpaI18nEntryRepository.class)
 @EntityScan(basePackageClasses = JpaI18nEntry.class)
@@ -26,8 +30,8 @@ public class I18nJpaAutoConfiguration {
     }
 
     @Bean
-    public JpaI18nEntryStore jpaI18nEntryStore(JpaI18nEntryRepository repository, JpaI18nEntryMapper mapper) {
-        return new JpaI18nEntryStore(repository, mapper);
+    public JpaI18nEntryStore jpaI18nEntryStore(JpaI18nEntryRepository repository, JpaI18nEntryMapper mapper, EntityManager entityManager) {
+        return new JpaI18nEntryStore(repository, mapper, entityManager);
     }
 
     @Bean
@@ -40,4 +44,16 @@ public class I18nJpaAutoConfiguration {
         return new JpaTextResolver(store);
     }
 
+    // Second-level cache regions; only used when javaholic.jpa.cache.enabled=true.
+
+    @Bean
+    public JpaCacheRegion i18nEntryCacheRegion() {
+        return new JpaCacheRegion(JpaI18nEntry.CACHE_REGION, 20_000, Duration.ofHours(1));
+    }
+
+    @Bean
+    public JpaCacheRegion i18nQueryCacheRegion() {
+        return new JpaCacheRegion(JpaI18nEntry.QUERY_CACHE_REGION, 1_000, Duration.ofHours(1));
+    }
+
 }
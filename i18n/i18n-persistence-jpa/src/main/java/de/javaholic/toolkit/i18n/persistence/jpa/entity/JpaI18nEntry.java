@@ -1,21 +1,36 @@
 package de.javaholic.toolkit.i18n.persistence.jpa.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaI18nEntry.CACHE_REGION)
 @Table(
     name = "i18n_entry",
     uniqueConstraints = @UniqueConstraint(name = "uk_i18n_key_locale", columnNames = {"key", "locale"})
 )
 public class JpaI18nEntry {
 
+    /**
+     * Second-level cache region of entries.
+     */
+    public static final String CACHE_REGION = "i18n-entry";
+
+    /**
+     * Second-level cache region of entry query results.
+     */
+    public static final String QUERY_CACHE_REGION = "i18n-query";
+
     @Id
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
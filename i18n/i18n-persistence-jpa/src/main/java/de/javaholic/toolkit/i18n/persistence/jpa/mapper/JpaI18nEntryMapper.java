@@ -33,5 +33,9 @@ public class JpaI18nEntryMapper implements EntityMapper<I18nEntry, JpaI18nEntry>
             domain.getVersion()
         );
     }
-}
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
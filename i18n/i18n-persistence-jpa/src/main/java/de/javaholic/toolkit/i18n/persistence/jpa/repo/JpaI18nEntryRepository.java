@@ -1,15 +1,38 @@
 package de.javaholic.toolkit.i18n.persistence.jpa.repo;
 
 import de.javaholic.toolkit.i18n.persistence.jpa.entity.JpaI18nEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface JpaI18nEntryRepository extends JpaRepository<JpaI18nEntry, UUID> {
+public interface JpaI18nEntryRepository extends JpaRepository<JpaI18nEntry, UUID>, JpaSpecificationExecutor<JpaI18nEntry> {
 
+    /**
+     * Loads all entries; the result is cached when the query cache is on, since
+     * {@code JpaTextResolver} reads the full list per lookup.
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaI18nEntry.QUERY_CACHE_REGION)
+    })
+    List<JpaI18nEntry> findAll();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaI18nEntry.QUERY_CACHE_REGION)
+    })
     Optional<JpaI18nEntry> findByKeyAndLocale(String key, String locale);
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaI18nEntry.QUERY_CACHE_REGION)
+    })
     List<JpaI18nEntry> findByKey(String key);
 }
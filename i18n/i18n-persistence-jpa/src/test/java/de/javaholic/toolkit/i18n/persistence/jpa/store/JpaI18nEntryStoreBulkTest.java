@@ -0,0 +1,166 @@
+package de.javaholic.toolkit.i18n.persistence.jpa.store;
+
+import de.javaholic.toolkit.i18n.core.domain.I18nEntry;
+import de.javaholic.toolkit.i18n.persistence.jpa.config.I18nJpaAutoConfiguration;
+import de.javaholic.toolkit.i18n.persistence.jpa.repo.JpaI18nEntryRepository;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.ScrollRequest;
+import de.javaholic.toolkit.persistence.core.Sort;
+import de.javaholic.toolkit.persistence.core.Window;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = JpaI18nEntryStoreBulkTest.TestApp.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class JpaI18nEntryStoreBulkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JpaI18nEntryStore store;
+
+    @Autowired
+    private JpaI18nEntryRepository repository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clear() {
+        repository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void saveAllInsertsTenThousandRowsInJdbcBatches() {
+        List<I18nEntry> entries = entries();
+
+        statistics.clear();
+        List<I18nEntry> saved = store.saveAll(entries);
+
+        assertThat(saved).hasSize(ROWS);
+        assertThat(saved).allSatisfy(entry -> assertThat(entry.getVersion()).isZero());
+        // one insert per flushed chunk, reused for its JDBC batches; unbatched inserts prepare one per row
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(ROWS / CHUNK_SIZE);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(repository.count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void saveAllUpdatesExistingRowsWithOneLookupPerChunk() {
+        List<I18nEntry> saved = store.saveAll(entries());
+        saved.forEach(entry -> entry.setValue(entry.getValue() + "!"));
+
+        statistics.clear();
+        List<I18nEntry> updated = store.saveAll(saved);
+
+        assertThat(updated).allSatisfy(entry -> assertThat(entry.getVersion()).isEqualTo(1L));
+        // per chunk: one id lookup and one batched update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2 * ROWS / CHUNK_SIZE);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void deleteAllByIdIssuesOneDeletePerChunk() {
+        List<UUID> ids = store.saveAll(entries()).stream().map(I18nEntry::getId).toList();
+
+        statistics.clear();
+        store.deleteAllById(ids);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(ROWS / CHUNK_SIZE);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void findWindowSeeksWithOneQueryPerWindow() {
+        store.saveAll(entries());
+        Set<UUID> seen = new HashSet<>();
+        List<Long> statementsPerWindow = new ArrayList<>();
+        String previousKey = "";
+
+        Window<I18nEntry> window = null;
+        do {
+            ScrollRequest request = window == null ? ScrollRequest.of(CHUNK_SIZE, Sort.by("key")) : window.next();
+            statistics.clear();
+            window = store.findWindow(request);
+            statementsPerWindow.add(statistics.getPrepareStatementCount());
+            for (I18nEntry entry : window.content()) {
+                assertThat(entry.getKey()).isGreaterThan(previousKey);
+                previousKey = entry.getKey();
+                seen.add(entry.getId());
+            }
+        } while (window.hasNext());
+
+        assertThat(seen).hasSize(ROWS);
+        assertThat(statementsPerWindow).hasSize(ROWS / CHUNK_SIZE).containsOnly(1L);
+    }
+
+    @Test
+    void findPageWithFilterRunsInDatabase() {
+        store.saveAll(entries());
+        Filter filter = Filter.contains("key", "KEY.1").ignoringCase().and(Filter.eq("locale", "de"));
+
+        statistics.clear();
+        Page<I18nEntry> page = store.findPage(filter, PageRequest.of(0, 20, Sort.by("key")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.totalElements()).hasValue(1111);
+        assertThat(page.content()).hasSize(20).allSatisfy(entry -> assertThat(entry.getKey()).startsWith("bulk.key.1"));
+    }
+
+    @Test
+    void countAndExistsRunOneQueryEach() {
+        List<I18nEntry> saved = store.saveAll(entries());
+        Filter filter = Filter.startsWith("key", "bulk.key.99");
+
+        statistics.clear();
+        long total = store.count();
+        long matching = store.count(filter);
+        boolean exists = store.exists(filter);
+        boolean existsById = store.existsById(saved.get(0).getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(total).isEqualTo(ROWS);
+        assertThat(matching).isEqualTo(111);
+        assertThat(exists).isTrue();
+        assertThat(existsById).isTrue();
+        assertThat(store.exists(Filter.eq("key", "missing"))).isFalse();
+    }
+
+    private static List<I18nEntry> entries() {
+        List<I18nEntry> entries = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            entries.add(new I18nEntry(UUID.randomUUID(), "bulk.key." + i, "de", "Wert " + i, null));
+        }
+        return entries;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(I18nJpaAutoConfiguration.class)
+    static class TestApp {
+    }
+}
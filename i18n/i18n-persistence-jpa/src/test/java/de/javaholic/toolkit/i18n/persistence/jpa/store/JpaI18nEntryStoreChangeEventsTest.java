@@ -0,0 +1,94 @@
+package de.javaholic.toolkit.i18n.persistence.jpa.store;
+
+import de.javaholic.toolkit.i18n.core.domain.I18nEntry;
+import de.javaholic.toolkit.i18n.persistence.jpa.config.I18nJpaAutoConfiguration;
+import de.javaholic.toolkit.persistence.core.CrudChangeEvent;
+import de.javaholic.toolkit.persistence.core.CrudChangeSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = JpaI18nEntryStoreChangeEventsTest.TestApp.class)
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class JpaI18nEntryStoreChangeEventsTest {
+
+    @Autowired
+    private JpaI18nEntryStore store;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final BlockingQueue<CrudChangeEvent> events = new LinkedBlockingQueue<>();
+    private CrudChangeSource.Subscription subscription;
+
+    @BeforeEach
+    void subscribe() {
+        subscription = store.subscribe(events::addAll);
+    }
+
+    @AfterEach
+    void unsubscribe() {
+        subscription.close();
+    }
+
+    @Test
+    void reportsCreateUpdateAndDeleteAfterCommit() throws InterruptedException {
+        I18nEntry saved = store.save(new I18nEntry(UUID.randomUUID(), "events.key", "de", "Wert", null));
+        saved.setValue("Neu");
+        store.save(saved);
+        store.deleteAllById(List.of(saved.getId()));
+
+        assertThat(next()).isEqualTo(CrudChangeEvent.created(I18nEntry.class, saved.getId(), 0L));
+        assertThat(next()).isEqualTo(CrudChangeEvent.updated(I18nEntry.class, saved.getId(), 1L));
+        assertThat(next()).isEqualTo(CrudChangeEvent.deleted(I18nEntry.class, saved.getId(), null));
+    }
+
+    @Test
+    void dropsEventsOfRolledBackTransaction() throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            store.save(new I18nEntry(UUID.randomUUID(), "events.rolled.back", "de", "Wert", null));
+            status.setRollbackOnly();
+        });
+        UUID committed = UUID.randomUUID();
+        transaction.executeWithoutResult(status -> {
+            store.save(new I18nEntry(committed, "events.first", "de", "Wert", null));
+            store.save(new I18nEntry(UUID.randomUUID(), "events.second", "de", "Wert", null));
+        });
+
+        CrudChangeEvent first = next();
+        assertThat(first.type()).isEqualTo(CrudChangeEvent.Type.CREATED);
+        assertThat(first.id()).isEqualTo(committed);
+        assertThat(next().type()).isEqualTo(CrudChangeEvent.Type.CREATED);
+        assertThat(events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private CrudChangeEvent next() throws InterruptedException {
+        CrudChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertThat(event).as("change event").isNotNull();
+        return event;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(I18nJpaAutoConfiguration.class)
+    static class TestApp {
+    }
+}
@@ -4,17 +4,26 @@ import de.javaholic.toolkit.i18n.core.domain.I18nEntry;
 import de.javaholic.toolkit.i18n.persistence.jpa.entity.JpaI18nEntry;
 import de.javaholic.toolkit.i18n.persistence.jpa.mapper.JpaI18nEntryMapper;
 import de.javaholic.toolkit.i18n.persistence.jpa.repo.JpaI18nEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import de.javaholic.toolkit.persistence.core.MappingContext;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.Sort;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +39,12 @@ class JpaI18nEntryStoreTest {
     @InjectMocks
     private JpaI18nEntryStore store;
 
+    @BeforeEach
+    void delegateContextMappingLikeTheSpiDefault() {
+        lenient().when(mapper.toDomain(any(), any(MappingContext.class)))
+                .thenAnswer(invocation -> mapper.toDomain(invocation.<JpaI18nEntry>getArgument(0)));
+    }
+
     @Test
     void findAllDelegatesAndMaps() {
         JpaI18nEntry entity = new JpaI18nEntry();
@@ -59,6 +74,51 @@ class JpaI18nEntryStoreTest {
         verify(mapper).toDomain(entity);
     }
 
+    @Test
+    void findPagePushesDownPageable() {
+        JpaI18nEntry entity = new JpaI18nEntry();
+        I18nEntry domain = new I18nEntry();
+        Pageable pageable = org.springframework.data.domain.PageRequest.of(2, 10,
+                org.springframework.data.domain.Sort.by("key"));
+        when(repository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(entity), pageable, 21));
+        when(mapper.toDomain(entity)).thenReturn(domain);
+
+        Page<I18nEntry> result = store.findPage(PageRequest.of(2, 10, Sort.by("key")));
+
+        assertThat(result.content()).containsExactly(domain);
+        assertThat(result.totalElements()).hasValue(21);
+        assertThat(result.hasNext()).isFalse();
+        verify(repository).findAll(pageable);
+    }
+
+    @Test
+    void streamReadsIdOrderedWindowsUntilShortWindow() {
+        JpaI18nEntry first = new JpaI18nEntry();
+        first.setId(UUID.randomUUID());
+        JpaI18nEntry second = new JpaI18nEntry();
+        second.setId(UUID.randomUUID());
+        JpaI18nEntry third = new JpaI18nEntry();
+        third.setId(UUID.randomUUID());
+        I18nEntry domain = new I18nEntry();
+        Pageable firstWindow = org.springframework.data.domain.PageRequest.of(0, 2,
+                org.springframework.data.domain.Sort.by("id"));
+        Pageable secondWindow = org.springframework.data.domain.PageRequest.of(1, 2,
+                org.springframework.data.domain.Sort.by("id"));
+        when(repository.findAll(firstWindow)).thenReturn(new PageImpl<>(List.of(first, second), firstWindow, 3));
+        when(repository.findAll(secondWindow)).thenReturn(new PageImpl<>(List.of(third), secondWindow, 3));
+        when(mapper.toDomain(org.mockito.ArgumentMatchers.any())).thenReturn(domain);
+
+        List<I18nEntry> result;
+        try (java.util.stream.Stream<I18nEntry> stream = store.stream(2)) {
+            result = stream.toList();
+        }
+
+        assertThat(result).hasSize(3);
+        verify(repository).findAll(firstWindow);
+        verify(repository).findAll(secondWindow);
+        verify(repository, org.mockito.Mockito.never()).findAll();
+    }
+
     @Test
     void saveDelegatesAndMaps() {
         I18nEntry input = new I18nEntry();
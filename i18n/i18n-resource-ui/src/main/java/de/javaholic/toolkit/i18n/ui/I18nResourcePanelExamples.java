@@ -10,6 +10,9 @@ import com.vaadin.flow.data.value.ValueChangeMode;
 import de.javaholic.toolkit.i18n.TextResolver;
 import de.javaholic.toolkit.i18n.dto.I18nEntryDto;
 import de.javaholic.toolkit.persistence.core.CrudStore;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
 import de.javaholic.toolkit.ui.resource.GridFormsResourceView;
 
 import java.util.List;
@@ -82,6 +85,7 @@ public final class I18nResourcePanelExamples {
 
     private static final class FilteredI18nEntryStore implements CrudStore<I18nEntryDto, UUID> {
         private final CrudStore<I18nEntryDto, UUID> delegate;
+        private Filter filter = Filter.all();
         private String keyContains = "";
         private String locale = "";
 
@@ -91,10 +95,22 @@ public final class I18nResourcePanelExamples {
 
         @Override
         public List<I18nEntryDto> findAll() {
-            return delegate.findAll().stream()
-                    .filter(this::matchesKey)
-                    .filter(this::matchesLocale)
-                    .toList();
+            return delegate.findAll(filter);
+        }
+
+        @Override
+        public List<I18nEntryDto> findAll(Filter additional) {
+            return delegate.findAll(filter.and(additional));
+        }
+
+        @Override
+        public Page<I18nEntryDto> findPage(PageRequest request) {
+            return delegate.findPage(filter, request);
+        }
+
+        @Override
+        public Page<I18nEntryDto> findPage(Filter additional, PageRequest request) {
+            return delegate.findPage(filter.and(additional), request);
         }
 
         @Override
@@ -114,25 +130,23 @@ public final class I18nResourcePanelExamples {
 
         private void setKeyContains(String keyContains) {
             this.keyContains = normalize(keyContains);
+            this.filter = buildFilter();
         }
 
         private void setLocale(String locale) {
             this.locale = normalize(locale);
+            this.filter = buildFilter();
         }
 
-        private boolean matchesKey(I18nEntryDto item) {
-            if (keyContains.isBlank()) {
-                return true;
+        private Filter buildFilter() {
+            Filter result = Filter.all();
+            if (!keyContains.isBlank()) {
+                result = result.and(Filter.contains("key", keyContains).ignoringCase());
             }
-            String itemKey = normalize(item.getKey());
-            return itemKey.toLowerCase().contains(keyContains.toLowerCase());
-        }
-
-        private boolean matchesLocale(I18nEntryDto item) {
-            if (locale.isBlank()) {
-                return true;
+            if (!locale.isBlank()) {
+                result = result.and(Filter.eq("locale", locale).ignoringCase());
             }
-            return normalize(item.getLocale()).equalsIgnoreCase(locale);
+            return result;
         }
 
         private String normalize(String value) {
@@ -2,6 +2,9 @@ package de.javaholic.toolkit.iam.core.spi;
 
 import de.javaholic.toolkit.iam.core.domain.Permission;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +19,21 @@ public interface PermissionQuery {
      */
     Optional<Permission> findByCode(String code);
 
+    /**
+     * Finds the permissions with the given codes in no particular order; unknown codes are skipped.
+     *
+     * <p>The default implementation calls {@link #findByCode(String)} once per distinct code.</p>
+     */
+    default List<Permission> findByCodes(Collection<String> codes) {
+        List<Permission> found = new ArrayList<>(codes.size());
+        for (String code : new LinkedHashSet<>(codes)) {
+            if (code != null) {
+                findByCode(code).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
     /**
      * Returns all permissions.
      */
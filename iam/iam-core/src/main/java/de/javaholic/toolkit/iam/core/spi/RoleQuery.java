@@ -2,6 +2,9 @@ package de.javaholic.toolkit.iam.core.spi;
 
 import de.javaholic.toolkit.iam.core.domain.Role;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +19,21 @@ public interface RoleQuery {
      */
     Optional<Role> findByName(String name);
 
+    /**
+     * Finds the roles with the given names in no particular order; unknown names are skipped.
+     *
+     * <p>The default implementation calls {@link #findByName(String)} once per distinct name.</p>
+     */
+    default List<Role> findByNames(Collection<String> names) {
+        List<Role> found = new ArrayList<>(names.size());
+        for (String name : new LinkedHashSet<>(names)) {
+            if (name != null) {
+                findByName(name).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
     /**
      * Returns all roles.
      */
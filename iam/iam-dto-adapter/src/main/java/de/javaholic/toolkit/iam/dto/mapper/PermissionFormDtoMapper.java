@@ -3,6 +3,7 @@ package de.javaholic.toolkit.iam.dto.mapper;
 import de.javaholic.toolkit.iam.core.domain.Permission;
 import de.javaholic.toolkit.iam.dto.PermissionFormDto;
 import de.javaholic.toolkit.persistence.core.DtoMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
 
 public class PermissionFormDtoMapper implements DtoMapper<PermissionFormDto, Permission> {
 
@@ -11,9 +12,24 @@ public class PermissionFormDtoMapper implements DtoMapper<PermissionFormDto, Per
         return new PermissionFormDto(domain.getCode());
     }
 
+    /**
+     * Maps each permission code once per read.
+     */
+    @Override
+    public PermissionFormDto toDto(Permission domain, MappingContext context) {
+        if (domain.getCode() == null) {
+            return context.mapOnce(domain, PermissionFormDto.class, this::toDto);
+        }
+        return context.mapOnceById(domain.getCode(), PermissionFormDto.class, () -> toDto(domain));
+    }
+
     @Override
     public Permission toDomain(PermissionFormDto dto) {
         return new Permission(dto.getCode());
     }
-}
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+}
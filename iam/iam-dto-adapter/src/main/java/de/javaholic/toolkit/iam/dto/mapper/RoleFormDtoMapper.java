@@ -5,6 +5,7 @@ import de.javaholic.toolkit.iam.core.domain.Role;
 import de.javaholic.toolkit.iam.dto.PermissionFormDto;
 import de.javaholic.toolkit.iam.dto.RoleFormDto;
 import de.javaholic.toolkit.persistence.core.DtoMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -19,7 +20,18 @@ public class RoleFormDtoMapper implements DtoMapper<RoleFormDto, Role> {
 
     @Override
     public RoleFormDto toDto(Role domain) {
-        return new RoleFormDto(domain.getName(), toPermissionDtos(domain.getPermissions()));
+        return toDto(domain, MappingContext.none());
+    }
+
+    /**
+     * Maps each role once per read, keyed by its name; users of that read share the DTO.
+     */
+    @Override
+    public RoleFormDto toDto(Role domain, MappingContext context) {
+        if (domain.getName() == null) {
+            return context.mapOnce(domain, RoleFormDto.class, role -> newRoleDto(role, context));
+        }
+        return context.mapOnceById(domain.getName(), RoleFormDto.class, () -> newRoleDto(domain, context));
     }
 
     @Override
@@ -27,11 +39,15 @@ public class RoleFormDtoMapper implements DtoMapper<RoleFormDto, Role> {
         return new Role(dto.getName(), toDomainPermissions(dto.getPermissions()));
     }
 
-    private Set<PermissionFormDto> toPermissionDtos(Set<Permission> permissions) {
+    private RoleFormDto newRoleDto(Role role, MappingContext context) {
+        return new RoleFormDto(role.getName(), toPermissionDtos(role.getPermissions(), context));
+    }
+
+    private Set<PermissionFormDto> toPermissionDtos(Set<Permission> permissions, MappingContext context) {
         Set<Permission> source = permissions != null ? permissions : Set.of();
         Set<PermissionFormDto> result = new HashSet<>(source.size());
         for (Permission permission : source) {
-            result.add(permissionMapper.toDto(permission));
+            result.add(permissionMapper.toDto(permission, context));
         }
         return result;
     }
@@ -44,5 +60,9 @@ public class RoleFormDtoMapper implements DtoMapper<RoleFormDto, Role> {
         }
         return result;
     }
-}
 
+    @Override
+    public boolean isThreadSafe() {
+        return permissionMapper.isThreadSafe();
+    }
+}
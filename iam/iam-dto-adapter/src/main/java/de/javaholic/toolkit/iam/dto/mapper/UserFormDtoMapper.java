@@ -5,6 +5,7 @@ import de.javaholic.toolkit.iam.core.domain.User;
 import de.javaholic.toolkit.iam.dto.RoleFormDto;
 import de.javaholic.toolkit.iam.dto.UserFormDto;
 import de.javaholic.toolkit.persistence.core.DtoMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -19,12 +20,17 @@ public class UserFormDtoMapper implements DtoMapper<UserFormDto, User> {
 
     @Override
     public UserFormDto toDto(User domain) {
+        return toDto(domain, MappingContext.none());
+    }
+
+    @Override
+    public UserFormDto toDto(User domain, MappingContext context) {
         return new UserFormDto(
             domain.getId(),
             domain.getIdentifier(),
             domain.getDisplayName(),
             domain.getStatus(),
-            toRoleDtos(domain.getRoles())
+            toRoleDtos(domain.getRoles(), context)
         );
     }
 
@@ -39,11 +45,11 @@ public class UserFormDtoMapper implements DtoMapper<UserFormDto, User> {
         );
     }
 
-    private Set<RoleFormDto> toRoleDtos(Set<Role> roles) {
+    private Set<RoleFormDto> toRoleDtos(Set<Role> roles, MappingContext context) {
         Set<Role> source = roles != null ? roles : Set.of();
         Set<RoleFormDto> result = new HashSet<>(source.size());
         for (Role role : source) {
-            result.add(roleMapper.toDto(role));
+            result.add(roleMapper.toDto(role, context));
         }
         return result;
     }
@@ -56,4 +62,9 @@ public class UserFormDtoMapper implements DtoMapper<UserFormDto, User> {
         }
         return result;
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return roleMapper.isThreadSafe();
+    }
 }
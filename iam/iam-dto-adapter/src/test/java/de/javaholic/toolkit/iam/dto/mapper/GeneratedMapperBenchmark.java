@@ -0,0 +1,64 @@
+package de.javaholic.toolkit.iam.dto.mapper;
+
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.dto.UserFormDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.javaholic.toolkit.iam.dto.mapper.GeneratedMapperTest.GENERATED;
+import static de.javaholic.toolkit.iam.dto.mapper.GeneratedMapperTest.HAND_WRITTEN;
+import static de.javaholic.toolkit.iam.dto.mapper.GeneratedMapperTest.ROLES;
+import static de.javaholic.toolkit.iam.dto.mapper.GeneratedMapperTest.toDomains;
+import static de.javaholic.toolkit.iam.dto.mapper.GeneratedMapperTest.toDtos;
+import static de.javaholic.toolkit.iam.dto.mapper.GeneratedMapperTest.users;
+
+/**
+ * Times the hand-written and generated IAM form mappers on 50k users sharing 30 roles, like one
+ * {@code findAll}, and mapping the DTOs back; prints the best round of each.
+ *
+ * <p>Runs only with {@code mvn test -Pbenchmarks}.</p>
+ */
+class GeneratedMapperBenchmark {
+
+    private static final int USERS = 50_000;
+    private static final int ROUNDS = 10;
+
+    @Test
+    void generatedVersusHandWritten() {
+        List<User> users = users(USERS);
+        List<UserFormDto> dtos = toDtos(HAND_WRITTEN, users);
+        for (int i = 0; i < 5; i++) {
+            toDtos(HAND_WRITTEN, users);
+            toDtos(GENERATED, users);
+            toDomains(HAND_WRITTEN, dtos);
+            toDomains(GENERATED, dtos);
+        }
+
+        long handWrittenRead = Long.MAX_VALUE;
+        long generatedRead = Long.MAX_VALUE;
+        long handWrittenWrite = Long.MAX_VALUE;
+        long generatedWrite = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            handWrittenRead = Math.min(handWrittenRead, nanos(() -> toDtos(HAND_WRITTEN, users)));
+            generatedRead = Math.min(generatedRead, nanos(() -> toDtos(GENERATED, users)));
+            handWrittenWrite = Math.min(handWrittenWrite, nanos(() -> toDomains(HAND_WRITTEN, dtos)));
+            generatedWrite = Math.min(generatedWrite, nanos(() -> toDomains(GENERATED, dtos)));
+        }
+
+        System.out.printf("%,d users, %d roles: toDto hand-written %.1f ns/row, generated %.1f ns/row; "
+                        + "toDomain hand-written %.1f ns/row, generated %.1f ns/row%n",
+                USERS, ROLES, perRow(handWrittenRead), perRow(generatedRead),
+                perRow(handWrittenWrite), perRow(generatedWrite));
+    }
+
+    private static long nanos(Runnable run) {
+        long start = System.nanoTime();
+        run.run();
+        return System.nanoTime() - start;
+    }
+
+    private static double perRow(long nanos) {
+        return nanos / (double) USERS;
+    }
+}
@@ -0,0 +1,89 @@
+package de.javaholic.toolkit.iam.dto.mapper;
+
+import de.javaholic.toolkit.iam.core.domain.Permission;
+import de.javaholic.toolkit.iam.core.domain.Role;
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.iam.dto.PermissionFormDto;
+import de.javaholic.toolkit.iam.dto.RoleFormDto;
+import de.javaholic.toolkit.iam.dto.UserFormDto;
+import de.javaholic.toolkit.persistence.core.DtoMapper;
+import de.javaholic.toolkit.persistence.core.GenerateMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the hand-written IAM form mappers with mappers generated from {@link GenerateMapper}.
+ */
+class GeneratedMapperTest {
+
+    static final int ROLES = 30;
+
+    @GenerateMapper(shareBy = "code")
+    interface PermissionFormMapping extends DtoMapper<PermissionFormDto, Permission> {
+    }
+
+    @GenerateMapper(uses = PermissionFormMapping.class, shareBy = "name")
+    interface RoleFormMapping extends DtoMapper<RoleFormDto, Role> {
+    }
+
+    @GenerateMapper(uses = RoleFormMapping.class)
+    interface UserFormMapping extends DtoMapper<UserFormDto, User> {
+    }
+
+    static final DtoMapper<UserFormDto, User> HAND_WRITTEN =
+            new UserFormDtoMapper(new RoleFormDtoMapper(new PermissionFormDtoMapper()));
+    static final DtoMapper<UserFormDto, User> GENERATED = new GeneratedMapperTest_UserFormMappingImpl(
+            new GeneratedMapperTest_RoleFormMappingImpl(new GeneratedMapperTest_PermissionFormMappingImpl()));
+
+    @Test
+    void generatedMappersMatchHandWrittenOnes() {
+        List<User> users = users(200);
+
+        List<UserFormDto> expected = toDtos(HAND_WRITTEN, users);
+        List<UserFormDto> actual = toDtos(GENERATED, users);
+
+        assertThat(actual).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(expected);
+        assertThat(toDomains(GENERATED, actual)).usingRecursiveComparison().ignoringCollectionOrder()
+                .isEqualTo(toDomains(HAND_WRITTEN, expected));
+        assertThat(GENERATED.isThreadSafe()).isTrue();
+    }
+
+    static List<UserFormDto> toDtos(DtoMapper<UserFormDto, User> mapper, List<User> users) {
+        MappingContext context = MappingContext.create();
+        List<UserFormDto> dtos = new ArrayList<>(users.size());
+        for (User user : users) {
+            dtos.add(mapper.toDto(user, context));
+        }
+        return dtos;
+    }
+
+    static List<User> toDomains(DtoMapper<UserFormDto, User> mapper, List<UserFormDto> dtos) {
+        List<User> users = new ArrayList<>(dtos.size());
+        for (UserFormDto dto : dtos) {
+            users.add(mapper.toDomain(dto));
+        }
+        return users;
+    }
+
+    static List<User> users(int count) {
+        List<Role> roles = new ArrayList<>(ROLES);
+        for (int r = 0; r < ROLES; r++) {
+            roles.add(new Role("ROLE_" + r, Set.of(
+                    new Permission("perm." + r + ".read"), new Permission("perm." + r + ".write"), new Permission("user.read"))));
+        }
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User(UUID.nameUUIDFromBytes(("user-" + i).getBytes()), "user-" + i, "User " + i,
+                    UserStatus.ACTIVE, Set.of(roles.get(i % ROLES), roles.get((i + 11) % ROLES))));
+        }
+        return users;
+    }
+}
@@ -7,6 +7,8 @@ import de.javaholic.toolkit.iam.core.domain.Role;
 import de.javaholic.toolkit.iam.core.domain.User;
 import de.javaholic.toolkit.iam.core.domain.UserStatus;
 import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.InMemoryFilters;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,6 +23,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public final class FileUserFormStore implements UserFormStore {
 
@@ -28,6 +31,7 @@ public final class FileUserFormStore implements UserFormStore {
 
     private final List<User> users;
     private final Map<String, User> usersByIdentifier;
+    private final Map<UUID, User> usersById;
 
     public FileUserFormStore() {
         this(DEFAULT_RESOURCE, new ObjectMapper(new YAMLFactory()));
@@ -44,6 +48,7 @@ public final class FileUserFormStore implements UserFormStore {
         Map<String, Role> rolesByName = buildRoles(data.roles);
         this.users = Collections.unmodifiableList(buildUsers(data.users, rolesByName));
         this.usersByIdentifier = indexUsers(this.users);
+        this.usersById = indexUsersById(this.users);
     }
 
     @Override
@@ -56,9 +61,70 @@ public final class FileUserFormStore implements UserFormStore {
         return users;
     }
 
+    @Override
+    public List<User> findAll(Filter filter) {
+        Predicate<User> predicate = InMemoryFilters.compile(filter, User.class);
+        Optional<List<User>> indexed = lookup(filter);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+        List<User> result = new ArrayList<>();
+        for (User user : users) {
+            if (predicate.test(user)) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
     @Override
     public Optional<User> findById(UUID id) {
-        throw new UnsupportedOperationException("unimplemented");
+        return Optional.ofNullable(usersById.get(id));
+    }
+
+    @Override
+    public long count() {
+        return users.size();
+    }
+
+    @Override
+    public long count(Filter filter) {
+        return filter.isAll() ? users.size() : findAll(filter).size();
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return usersById.containsKey(id);
+    }
+
+    @Override
+    public boolean exists(Filter filter) {
+        Predicate<User> predicate = InMemoryFilters.compile(filter, User.class);
+        Optional<List<User>> indexed = lookup(filter);
+        if (indexed.isPresent()) {
+            return !indexed.get().isEmpty();
+        }
+        for (User user : users) {
+            if (predicate.test(user)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<List<User>> lookup(Filter filter) {
+        if (!(filter instanceof Filter.Equal equal) || equal.ignoreCase()) {
+            return Optional.empty();
+        }
+        User match;
+        if ("identifier".equals(equal.property()) && equal.value() instanceof String identifier) {
+            match = usersByIdentifier.get(identifier);
+        } else if ("id".equals(equal.property()) && equal.value() instanceof UUID id) {
+            match = usersById.get(id);
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(match != null ? List.of(match) : List.of());
     }
 
     private UsersFile load(String resourcePath, ObjectMapper mapper) {
@@ -114,6 +180,14 @@ public final class FileUserFormStore implements UserFormStore {
         return result;
     }
 
+    private Map<UUID, User> indexUsersById(List<User> users) {
+        Map<UUID, User> result = new HashMap<>();
+        for (User user : users) {
+            result.put(user.getId(), user);
+        }
+        return result;
+    }
+
     private Set<Role> resolveRoles(Set<String> roleNames, Map<String, Role> rolesByName) {
         Set<String> names = roleNames != null ? roleNames : Collections.emptySet();
         Set<Role> roles = new HashSet<>();
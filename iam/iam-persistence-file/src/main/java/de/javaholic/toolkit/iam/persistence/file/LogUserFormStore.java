@@ -0,0 +1,47 @@
+package de.javaholic.toolkit.iam.persistence.file;
+
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.LogStructuredCrudStore;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Writable {@link UserFormStore} persisted in a local append-only log.
+ *
+ * <p>Unlike {@link FileUserFormStore}, which reads a fixed YAML resource, users are saved and
+ * deleted at runtime. Roles and permissions are stored with each user.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * try (LogUserFormStore users = LogUserFormStore.open(Path.of("data/iam-users"))) {
+ *     users.findByIdentifier("admin");
+ * }
+ * }</pre>
+ */
+public class LogUserFormStore extends LogStructuredCrudStore<User, UUID> implements UserFormStore {
+
+    private LogUserFormStore(Path directory, Settings settings) {
+        super(User.class, directory, settings);
+    }
+
+    public static LogUserFormStore open(Path directory) {
+        return open(directory, Settings.defaults());
+    }
+
+    public static LogUserFormStore open(Path directory, Settings settings) {
+        LogUserFormStore store = new LogUserFormStore(directory, settings);
+        store.startBackground();
+        return store;
+    }
+
+    @Override
+    public Optional<User> findByIdentifier(String identifier) {
+        Objects.requireNonNull(identifier, "identifier");
+        return findAll(Filter.eq("identifier", identifier)).stream().findFirst();
+    }
+}
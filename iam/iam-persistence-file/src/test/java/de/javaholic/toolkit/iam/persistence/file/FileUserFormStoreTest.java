@@ -4,12 +4,16 @@ import de.javaholic.toolkit.iam.core.domain.Permission;
 import de.javaholic.toolkit.iam.core.domain.Role;
 import de.javaholic.toolkit.iam.core.domain.User;
 import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.persistence.core.Filter;
 import org.junit.Test;
 
+import java.util.List;
+
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class FileUserFormStoreTest {
@@ -28,6 +32,39 @@ public class FileUserFormStoreTest {
         assertEquals(Set.of("user.manage", "config.write"), toPermissionCodes(adminRole));
     }
 
+    @Test
+    public void filtersUsersInMemory() {
+        FileUserFormStore store = new FileUserFormStore("iam/users-test.yaml");
+
+        List<User> byPrefix = store.findAll(Filter.startsWith("displayName", "admin").ignoringCase()
+                .and(Filter.eq("status", UserStatus.ACTIVE)));
+        List<User> byIdentifier = store.findAll(Filter.eq("identifier", "admin"));
+        List<User> none = store.findAll(Filter.eq("status", UserStatus.DISABLED));
+
+        assertEquals(List.of("admin"), byPrefix.stream().map(User::getIdentifier).toList());
+        assertEquals(byPrefix, byIdentifier);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    public void countsAndChecksExistenceFromIndexes() {
+        FileUserFormStore store = new FileUserFormStore("iam/users-test.yaml");
+        User admin = store.findByIdentifier("admin").orElseThrow();
+
+        assertEquals(1, store.count());
+        assertEquals(1, store.count(Filter.eq("identifier", "admin")));
+        assertTrue(store.existsById(admin.getId()));
+        assertEquals(Optional.of(admin), store.findById(admin.getId()));
+        assertTrue(store.exists(Filter.eq("identifier", "admin")));
+        assertFalse(store.exists(Filter.eq("identifier", "nobody")));
+        assertFalse(store.exists(Filter.eq("status", UserStatus.DISABLED)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownFilterProperty() {
+        new FileUserFormStore("iam/users-test.yaml").findAll(Filter.eq("username", "admin"));
+    }
+
     private Set<String> toRoleNames(User user) {
         return user.getRoles().stream().map(Role::getName).collect(java.util.stream.Collectors.toSet());
     }
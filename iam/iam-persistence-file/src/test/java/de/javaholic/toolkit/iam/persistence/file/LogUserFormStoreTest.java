@@ -0,0 +1,54 @@
+package de.javaholic.toolkit.iam.persistence.file;
+
+import de.javaholic.toolkit.iam.core.domain.Permission;
+import de.javaholic.toolkit.iam.core.domain.Role;
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LogUserFormStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void keepsUsersWithRolesAcrossReopen() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        User admin = new User(UUID.randomUUID(), "admin", "Administrator", UserStatus.ACTIVE,
+                Set.of(new Role("ADMIN", Set.of(new Permission("user.manage"), new Permission("config.write")))));
+        User guest = new User(UUID.randomUUID(), "guest", "Guest", UserStatus.ACTIVE, Set.of());
+
+        try (LogUserFormStore store = LogUserFormStore.open(directory)) {
+            UserFormStore asFormStore = store;
+            assertTrue(asFormStore.findAll().isEmpty());
+            store.save(admin);
+            store.save(guest);
+            admin.setStatus(UserStatus.DISABLED);
+            store.save(admin);
+            store.delete(guest);
+        }
+
+        try (LogUserFormStore store = LogUserFormStore.open(directory)) {
+            User restored = store.findByIdentifier("admin").orElseThrow();
+            assertEquals(UserStatus.DISABLED, restored.getStatus());
+            assertEquals("Administrator", restored.getDisplayName());
+            Role role = restored.getRoles().iterator().next();
+            assertEquals("ADMIN", role.getName());
+            assertEquals(2, role.getPermissions().size());
+            assertFalse(store.findByIdentifier("guest").isPresent());
+            assertTrue(store.existsById(admin.getId()));
+            assertEquals(1, store.count());
+        }
+    }
+}
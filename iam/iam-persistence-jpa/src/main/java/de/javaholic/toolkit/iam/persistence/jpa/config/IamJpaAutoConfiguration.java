@@ -15,6 +15,8 @@ import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaUserRepository;
 import de.javaholic.toolkit.iam.persistence.jpa.store.JpaDomainPermissionFormStore;
 import de.javaholic.toolkit.iam.persistence.jpa.store.JpaDomainRoleFormStore;
 import de.javaholic.toolkit.iam.persistence.jpa.store.JpaDomainUserFormStore;
+import de.javaholic.toolkit.persistence.springdata.JpaCacheRegion;
+import jakarta.persistence.EntityManager;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -22,6 +24,8 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import java.time.Duration;
+
 @AutoConfiguration
 @EnableJpaRepositories(basePackageClasses = {
     JpaUserRepository.class,
@@ -52,18 +56,18 @@ public class IamJpaAutoConfiguration {
     }
 
     @Bean
-    public JpaDomainUserFormStore jpaDomainUserStore(JpaUserRepository userRepository, JpaUserMapper userMapper) {
-        return new JpaDomainUserFormStore(userRepository, userMapper);
+    public JpaDomainUserFormStore jpaDomainUserStore(JpaUserRepository userRepository, JpaUserMapper userMapper, EntityManager entityManager) {
+        return new JpaDomainUserFormStore(userRepository, userMapper, entityManager);
     }
 
     @Bean
-    public JpaDomainRoleFormStore jpaDomainRoleStore(JpaRoleRepository roleRepository, JpaRoleMapper roleMapper) {
-        return new JpaDomainRoleFormStore(roleRepository, roleMapper);
+    public JpaDomainRoleFormStore jpaDomainRoleStore(JpaRoleRepository roleRepository, JpaRoleMapper roleMapper, EntityManager entityManager) {
+        return new JpaDomainRoleFormStore(roleRepository, roleMapper, entityManager);
     }
 
     @Bean
-    public JpaDomainPermissionFormStore jpaDomainPermissionStore(JpaPermissionRepository permissionRepository, JpaPermissionMapper permissionMapper) {
-        return new JpaDomainPermissionFormStore(permissionRepository, permissionMapper);
+    public JpaDomainPermissionFormStore jpaDomainPermissionStore(JpaPermissionRepository permissionRepository, JpaPermissionMapper permissionMapper, EntityManager entityManager) {
+        return new JpaDomainPermissionFormStore(permissionRepository, permissionMapper, entityManager);
     }
 
     @Bean
@@ -84,6 +88,31 @@ public class IamJpaAutoConfiguration {
         return store;
     }
 
+    // Second-level cache regions; only used when javaholic.jpa.cache.enabled=true.
+
+    @Bean
+    public JpaCacheRegion iamRoleCacheRegion() {
+        return new JpaCacheRegion(JpaRoleEntity.CACHE_REGION, 1_000, Duration.ofHours(1));
+    }
+
+    @Bean
+    public JpaCacheRegion iamRolePermissionsCacheRegion() {
+        return new JpaCacheRegion(JpaRoleEntity.PERMISSIONS_CACHE_REGION, 1_000, Duration.ofHours(1));
+    }
 
+    @Bean
+    public JpaCacheRegion iamRoleQueryCacheRegion() {
+        return new JpaCacheRegion(JpaRoleEntity.QUERY_CACHE_REGION, 1_000, Duration.ofHours(1));
+    }
+
+    @Bean
+    public JpaCacheRegion iamPermissionCacheRegion() {
+        return new JpaCacheRegion(JpaPermissionEntity.CACHE_REGION, 5_000, Duration.ofHours(1));
+    }
+
+    @Bean
+    public JpaCacheRegion iamPermissionQueryCacheRegion() {
+        return new JpaCacheRegion(JpaPermissionEntity.QUERY_CACHE_REGION, 1_000, Duration.ofHours(1));
+    }
 
 }
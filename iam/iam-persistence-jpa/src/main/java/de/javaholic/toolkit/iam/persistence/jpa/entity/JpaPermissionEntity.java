@@ -1,16 +1,31 @@
 package de.javaholic.toolkit.iam.persistence.jpa.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaPermissionEntity.CACHE_REGION)
 @Table(name = "iam_permission")
 public class JpaPermissionEntity {
 
+    /**
+     * Second-level cache region of permissions.
+     */
+    public static final String CACHE_REGION = "iam-permission";
+
+    /**
+     * Second-level cache region of permission query results.
+     */
+    public static final String QUERY_CACHE_REGION = "iam-permission-query";
+
     @Id
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
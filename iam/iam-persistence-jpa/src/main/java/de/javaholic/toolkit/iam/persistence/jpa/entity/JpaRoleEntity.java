@@ -1,5 +1,6 @@
 package de.javaholic.toolkit.iam.persistence.jpa.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -7,16 +8,43 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JpaRoleEntity.CACHE_REGION)
 @Table(name = "iam_role")
+@NamedEntityGraph(name = JpaRoleEntity.WITH_PERMISSIONS, attributeNodes = @NamedAttributeNode("permissions"))
 public class JpaRoleEntity {
 
+    /**
+     * Entity graph loading the role's permissions.
+     */
+    public static final String WITH_PERMISSIONS = "JpaRoleEntity.withPermissions";
+
+    /**
+     * Second-level cache region of roles.
+     */
+    public static final String CACHE_REGION = "iam-role";
+
+    /**
+     * Second-level cache region of the role to permission association.
+     */
+    public static final String PERMISSIONS_CACHE_REGION = "iam-role-permissions";
+
+    /**
+     * Second-level cache region of role query results.
+     */
+    public static final String QUERY_CACHE_REGION = "iam-role-query";
+
     @Id
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
@@ -25,6 +53,7 @@ public class JpaRoleEntity {
     private String name;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PERMISSIONS_CACHE_REGION)
     @JoinTable(
         name = "iam_role_permission",
         joinColumns = @JoinColumn(name = "role_id"),
@@ -10,16 +10,39 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * JPA row of an IAM user.
+ *
+ * <p>{@code @DynamicUpdate} makes a save that changes one property update only that column.
+ * Hibernate cannot JDBC-batch such updates, so a {@code saveAll} of changed users sends one
+ * {@code UPDATE} per user. Roles and permissions leave it out: their only updatable column is the
+ * name or code, so their updates stay batched.</p>
+ */
 @Entity
+@DynamicUpdate
 @Table(name = "iam_user")
+@NamedEntityGraph(
+    name = JpaUserEntity.ROLES_WITH_PERMISSIONS,
+    attributeNodes = @NamedAttributeNode(value = "roles", subgraph = "permissions"),
+    subgraphs = @NamedSubgraph(name = "permissions", attributeNodes = @NamedAttributeNode("permissions"))
+)
 public class JpaUserEntity {
 
+    /**
+     * Entity graph loading the user's roles and their permissions.
+     */
+    public static final String ROLES_WITH_PERMISSIONS = "JpaUserEntity.rolesWithPermissions";
+
     @Id
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
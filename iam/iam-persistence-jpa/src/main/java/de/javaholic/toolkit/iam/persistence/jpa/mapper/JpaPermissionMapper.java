@@ -3,6 +3,7 @@ package de.javaholic.toolkit.iam.persistence.jpa.mapper;
 import de.javaholic.toolkit.iam.core.domain.Permission;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
 import de.javaholic.toolkit.persistence.core.EntityMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.UUID;
@@ -15,6 +16,18 @@ public final class JpaPermissionMapper implements EntityMapper<Permission, JpaPe
         return new Permission(entity.getCode());
     }
 
+    /**
+     * Maps each permission row once per read.
+     */
+    @Override
+    public Permission toDomain(JpaPermissionEntity entity, MappingContext context) {
+        Objects.requireNonNull(entity, "entity");
+        if (entity.getId() == null) {
+            return context.mapOnce(entity, Permission.class, this::toDomain);
+        }
+        return context.mapOnceById(entity.getId(), Permission.class, () -> toDomain(entity));
+    }
+
     @Override
     public JpaPermissionEntity toEntity(Permission permission) {
         Objects.requireNonNull(permission, "permission");
@@ -27,4 +40,9 @@ public final class JpaPermissionMapper implements EntityMapper<Permission, JpaPe
     private UUID deterministicId(String prefix, String value) {
         return UUID.nameUUIDFromBytes((prefix + value).getBytes(StandardCharsets.UTF_8));
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
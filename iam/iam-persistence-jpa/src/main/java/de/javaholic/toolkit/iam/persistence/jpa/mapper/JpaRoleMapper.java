@@ -5,6 +5,7 @@ import de.javaholic.toolkit.iam.core.domain.Role;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
 import de.javaholic.toolkit.persistence.core.EntityMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Objects;
@@ -21,8 +22,19 @@ public final class JpaRoleMapper implements EntityMapper<Role, JpaRoleEntity> {
 
     @Override
     public Role toDomain(JpaRoleEntity entity) {
+        return toDomain(entity, MappingContext.none());
+    }
+
+    /**
+     * Maps each role row and its permissions once per read; users of that read share the role.
+     */
+    @Override
+    public Role toDomain(JpaRoleEntity entity, MappingContext context) {
         Objects.requireNonNull(entity, "entity");
-        return new Role(entity.getName(), toDomainPermissions(entity.getPermissions()));
+        if (entity.getId() == null) {
+            return context.mapOnce(entity, Role.class, role -> newRole(role, context));
+        }
+        return context.mapOnceById(entity.getId(), Role.class, () -> newRole(entity, context));
     }
 
     @Override
@@ -35,11 +47,15 @@ public final class JpaRoleMapper implements EntityMapper<Role, JpaRoleEntity> {
         return entity;
     }
 
-    private Set<Permission> toDomainPermissions(Set<JpaPermissionEntity> entities) {
+    private Role newRole(JpaRoleEntity entity, MappingContext context) {
+        return new Role(entity.getName(), toDomainPermissions(entity.getPermissions(), context));
+    }
+
+    private Set<Permission> toDomainPermissions(Set<JpaPermissionEntity> entities, MappingContext context) {
         Set<JpaPermissionEntity> source = entities != null ? entities : Set.of();
         Set<Permission> result = new HashSet<>(source.size());
         for (JpaPermissionEntity entity : source) {
-            result.add(permissionMapper.toDomain(entity));
+            result.add(permissionMapper.toDomain(entity, context));
         }
         return result;
     }
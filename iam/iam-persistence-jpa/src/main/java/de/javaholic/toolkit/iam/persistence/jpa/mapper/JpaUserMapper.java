@@ -5,6 +5,7 @@ import de.javaholic.toolkit.iam.core.domain.User;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
 import de.javaholic.toolkit.persistence.core.EntityMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -19,13 +20,21 @@ public final class JpaUserMapper implements EntityMapper<User, JpaUserEntity> {
 
     @Override
     public User toDomain(JpaUserEntity entity) {
+        return toDomain(entity, MappingContext.none());
+    }
+
+    /**
+     * Maps the user and takes its roles from the read's context, so shared roles are mapped once.
+     */
+    @Override
+    public User toDomain(JpaUserEntity entity, MappingContext context) {
         Objects.requireNonNull(entity, "entity");
         return new User(
             entity.getId(),
             entity.getIdentifier(),
             entity.getDisplayName(),
             entity.getStatus(),
-            toDomainRoles(entity.getRoles())
+            toDomainRoles(entity.getRoles(), context)
         );
     }
 
@@ -41,11 +50,11 @@ public final class JpaUserMapper implements EntityMapper<User, JpaUserEntity> {
         return entity;
     }
 
-    private Set<Role> toDomainRoles(Set<JpaRoleEntity> entities) {
+    private Set<Role> toDomainRoles(Set<JpaRoleEntity> entities, MappingContext context) {
         Set<JpaRoleEntity> source = entities != null ? entities : Set.of();
         Set<Role> result = new HashSet<>(source.size());
         for (JpaRoleEntity entity : source) {
-            result.add(roleMapper.toDomain(entity));
+            result.add(roleMapper.toDomain(entity, context));
         }
         return result;
     }
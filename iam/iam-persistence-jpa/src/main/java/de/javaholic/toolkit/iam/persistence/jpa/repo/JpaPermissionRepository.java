@@ -1,11 +1,27 @@
 package de.javaholic.toolkit.iam.persistence.jpa.repo;
 
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface JpaPermissionRepository extends JpaRepository<JpaPermissionEntity, UUID> {
+public interface JpaPermissionRepository extends JpaRepository<JpaPermissionEntity, UUID>, JpaSpecificationExecutor<JpaPermissionEntity> {
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaPermissionEntity.QUERY_CACHE_REGION)
+    })
     Optional<JpaPermissionEntity> findByCode(String code);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaPermissionEntity.QUERY_CACHE_REGION)
+    })
+    List<JpaPermissionEntity> findByCodeIn(Collection<String> codes);
 }
@@ -1,11 +1,27 @@
 package de.javaholic.toolkit.iam.persistence.jpa.repo;
 
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface JpaRoleRepository extends JpaRepository<JpaRoleEntity, UUID> {
+public interface JpaRoleRepository extends JpaRepository<JpaRoleEntity, UUID>, JpaSpecificationExecutor<JpaRoleEntity> {
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaRoleEntity.QUERY_CACHE_REGION)
+    })
     Optional<JpaRoleEntity> findByName(String name);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JpaRoleEntity.QUERY_CACHE_REGION)
+    })
+    List<JpaRoleEntity> findByNameIn(Collection<String> names);
 }
@@ -4,8 +4,9 @@ import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface JpaUserRepository extends JpaRepository<JpaUserEntity, UUID> {
+public interface JpaUserRepository extends JpaRepository<JpaUserEntity, UUID>, JpaSpecificationExecutor<JpaUserEntity> {
 
     Optional<JpaUserEntity> findByIdentifier(String identifier);
 }
@@ -5,9 +5,13 @@ import de.javaholic.toolkit.iam.core.spi.PermissionFormStore;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.mapper.JpaPermissionMapper;
 import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaPermissionRepository;
+import de.javaholic.toolkit.persistence.springdata.JpaInLists;
 import de.javaholic.toolkit.persistence.springdata.store.JpaDomainCrudStore;
+import jakarta.persistence.EntityManager;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,7 +21,11 @@ public class JpaDomainPermissionFormStore extends JpaDomainCrudStore<Permission,
     private final JpaPermissionMapper mapper;
 
     public JpaDomainPermissionFormStore(JpaPermissionRepository repository, JpaPermissionMapper mapper) {
-        super(repository, mapper);
+        this(repository, mapper, null);
+    }
+
+    public JpaDomainPermissionFormStore(JpaPermissionRepository repository, JpaPermissionMapper mapper, EntityManager entityManager) {
+        super(repository, mapper, entityManager);
         this.mapper = mapper;
     }
 
@@ -25,4 +33,11 @@ public class JpaDomainPermissionFormStore extends JpaDomainCrudStore<Permission,
     public Optional<Permission> findByCode(String code) {
         return repository.findByCode(code).map(mapper::toDomain);
     }
+
+    @Override
+    public List<Permission> findByCodes(Collection<String> codes) {
+        return JpaInLists.query(codes, repository::findByCodeIn).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
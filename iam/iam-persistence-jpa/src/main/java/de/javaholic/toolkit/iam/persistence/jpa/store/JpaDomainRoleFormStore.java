@@ -5,19 +5,30 @@ import de.javaholic.toolkit.iam.core.spi.RoleFormStore;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.mapper.JpaRoleMapper;
 import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaRoleRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import de.javaholic.toolkit.persistence.springdata.JpaFetchPlan;
+import de.javaholic.toolkit.persistence.springdata.JpaInLists;
 import de.javaholic.toolkit.persistence.springdata.store.JpaDomainCrudStore;
+import jakarta.persistence.EntityManager;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
 public class JpaDomainRoleFormStore extends JpaDomainCrudStore<Role, UUID, JpaRoleEntity, JpaRoleRepository> implements RoleFormStore {
 
+    private static final JpaFetchPlan WITH_PERMISSIONS = JpaFetchPlan.named(JpaRoleEntity.WITH_PERMISSIONS);
+
     private final JpaRoleMapper mapper;
     public JpaDomainRoleFormStore(JpaRoleRepository roleRepository, JpaRoleMapper roleMapper) {
-        super(roleRepository, roleMapper);
+        this(roleRepository, roleMapper, null);
+    }
+
+    public JpaDomainRoleFormStore(JpaRoleRepository roleRepository, JpaRoleMapper roleMapper, EntityManager entityManager) {
+        super(roleRepository, roleMapper, entityManager);
         this.mapper = Objects.requireNonNull(roleMapper, "roleMapper");
     }
 
@@ -25,6 +36,22 @@ public class JpaDomainRoleFormStore extends JpaDomainCrudStore<Role, UUID, JpaRo
     @Override
     public Optional<Role> findByName(String name) {
         return repository.findByName(name)
+                .map(role -> fetch(JpaFetchPlan.Operation.FIND_BY_ID, role))
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public List<Role> findByNames(Collection<String> names) {
+        return fetch(JpaFetchPlan.Operation.FIND_ALL_BY_ID, JpaInLists.query(names, repository::findByNameIn)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Loads permissions with the roles, since {@link JpaRoleMapper} maps them.
+     */
+    @Override
+    protected JpaFetchPlan fetchPlan(JpaFetchPlan.Operation operation) {
+        return WITH_PERMISSIONS;
+    }
 }
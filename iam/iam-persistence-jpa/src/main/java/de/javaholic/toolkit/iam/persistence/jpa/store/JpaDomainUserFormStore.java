@@ -5,7 +5,9 @@ import de.javaholic.toolkit.iam.core.spi.UserFormStore;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.mapper.JpaUserMapper;
 import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaUserRepository;
+import de.javaholic.toolkit.persistence.springdata.JpaFetchPlan;
 import de.javaholic.toolkit.persistence.springdata.store.JpaDomainCrudStore;
+import jakarta.persistence.EntityManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -14,10 +16,17 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class JpaDomainUserFormStore extends JpaDomainCrudStore<User, UUID, JpaUserEntity, JpaUserRepository> implements UserFormStore {
 // TODO: add permissions to JpaCrudStore - no! Add SERVICE layer, add permission there!
+    private static final JpaFetchPlan ROLES_WITH_PERMISSIONS = JpaFetchPlan.named(JpaUserEntity.ROLES_WITH_PERMISSIONS);
+    private static final JpaFetchPlan ROLES_WITH_PERMISSIONS_BATCHED = ROLES_WITH_PERMISSIONS.batched();
+
     private final JpaUserMapper mapper;
 
     public JpaDomainUserFormStore(JpaUserRepository repo, JpaUserMapper mapper) {
-        super(repo, mapper);
+        this(repo, mapper, null);
+    }
+
+    public JpaDomainUserFormStore(JpaUserRepository repo, JpaUserMapper mapper, EntityManager entityManager) {
+        super(repo, mapper, entityManager);
         this.mapper = mapper;
     }
 
@@ -25,6 +34,18 @@ public class JpaDomainUserFormStore extends JpaDomainCrudStore<User, UUID, JpaUs
     @Override
     public Optional<User> findByIdentifier(String identifier) {
         return repository.findByIdentifier(identifier)
+                .map(user -> fetch(JpaFetchPlan.Operation.FIND_BY_ID, user))
                 .map(mapper::toDomain);
     }
+
+    /**
+     * Loads roles and permissions with the users, since {@link JpaUserMapper} maps both.
+     *
+     * <p>Single loads join them in; list reads load the users first and the nested collections in
+     * batches, so the join does not multiply every user row by its roles and permissions.</p>
+     */
+    @Override
+    protected JpaFetchPlan fetchPlan(JpaFetchPlan.Operation operation) {
+        return operation == JpaFetchPlan.Operation.FIND_BY_ID ? ROLES_WITH_PERMISSIONS : ROLES_WITH_PERMISSIONS_BATCHED;
+    }
 }
@@ -0,0 +1,148 @@
+package de.javaholic.toolkit.iam.persistence.jpa;
+
+import de.javaholic.toolkit.iam.core.domain.Role;
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.iam.core.spi.RoleFormStore;
+import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.iam.persistence.jpa.config.IamJpaAutoConfiguration;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaPermissionRepository;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaRoleRepository;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaUserRepository;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.Sort;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the statements of user and role reads that map roles and permissions.
+ */
+@SpringBootTest(classes = IamFetchPlanTest.TestApp.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class IamFetchPlanTest {
+
+    private static final int ROLES_PER_USER = 3;
+    private static final int PERMISSIONS_PER_ROLE = 2;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserFormStore userFormStore;
+
+    @Autowired
+    private RoleFormStore roleStore;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    @Autowired
+    private JpaRoleRepository roleRepository;
+
+    @Autowired
+    private JpaPermissionRepository permissionRepository;
+
+    @Test
+    void listingUsersWithRolesAndPermissionsTakesConstantStatements() {
+        storeUsers("few", 2);
+        int few = statements(() -> userFormStore.findAll());
+
+        storeUsers("many", 20);
+        List<User> users = userFormStore.findAll();
+        int many = statements(() -> userFormStore.findAll());
+
+        // user rows + one batch query for roles and permissions, instead of one joined statement
+        assertEquals(few, many);
+        assertEquals(2, many);
+        User user = users.stream().filter(u -> u.getIdentifier().equals("many-7")).findFirst().orElseThrow();
+        assertEquals(ROLES_PER_USER, user.getRoles().size());
+        for (Role role : user.getRoles()) {
+            assertEquals(PERMISSIONS_PER_ROLE, role.getPermissions().size());
+        }
+    }
+
+    @Test
+    void pagesAndSingleUsersLoadRolesAndPermissionsInOneExtraStatement() {
+        storeUsers("page", 12);
+
+        int page = statements(() -> userFormStore.findPage(PageRequest.of(0, 10, Sort.by("identifier"))));
+        int byIdentifier = statements(() -> userFormStore.findByIdentifier("page-3"));
+        Page<User> loaded = userFormStore.findPage(PageRequest.of(0, 10, Sort.by("identifier")));
+
+        // page rows + count + one batch query for the associations
+        assertEquals(3, page);
+        assertEquals(2, byIdentifier);
+        assertEquals(10, loaded.content().size());
+    }
+
+    @Test
+    void listingRolesWithPermissionsTakesConstantStatements() {
+        storeUsers("roles", 4);
+
+        int statements = statements(() -> roleStore.findAll());
+
+        assertEquals(1, statements);
+    }
+
+    private int statements(Supplier<?> read) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        read.get();
+        return (int) statistics.getPrepareStatementCount();
+    }
+
+    private void storeUsers(String prefix, int count) {
+        for (int u = 0; u < count; u++) {
+            Set<JpaRoleEntity> roles = new HashSet<>();
+            for (int r = 0; r < ROLES_PER_USER; r++) {
+                Set<JpaPermissionEntity> permissions = new HashSet<>();
+                for (int p = 0; p < PERMISSIONS_PER_ROLE; p++) {
+                    JpaPermissionEntity permission = new JpaPermissionEntity();
+                    permission.setId(UUID.randomUUID());
+                    permission.setCode(prefix + "." + u + ".role" + r + ".perm" + p);
+                    permissions.add(permissionRepository.save(permission));
+                }
+                JpaRoleEntity role = new JpaRoleEntity();
+                role.setId(UUID.randomUUID());
+                role.setName(prefix.toUpperCase() + "_" + u + "_ROLE_" + r);
+                role.setPermissions(permissions);
+                roles.add(roleRepository.save(role));
+            }
+            JpaUserEntity user = new JpaUserEntity();
+            user.setId(UUID.randomUUID());
+            user.setIdentifier(prefix + "-" + u);
+            user.setDisplayName(prefix + " " + u);
+            user.setStatus(UserStatus.ACTIVE);
+            user.setRoles(roles);
+            userRepository.save(user);
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(IamJpaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = JpaUserEntity.class)
+    static class TestApp {
+    }
+}
@@ -3,6 +3,7 @@ package de.javaholic.toolkit.iam.persistence.jpa;
 import de.javaholic.toolkit.iam.core.domain.Permission;
 import de.javaholic.toolkit.iam.core.domain.Role;
 import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
 import de.javaholic.toolkit.iam.persistence.jpa.config.IamJpaAutoConfiguration;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
@@ -10,9 +11,24 @@ import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
 import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaPermissionRepository;
 import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaRoleRepository;
 import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaUserRepository;
+import de.javaholic.toolkit.iam.core.spi.PermissionFormStore;
+import de.javaholic.toolkit.iam.core.spi.RoleFormStore;
 import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.Projection;
+import de.javaholic.toolkit.persistence.core.Row;
+import de.javaholic.toolkit.persistence.core.Sort;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringBootConfiguration;
@@ -25,13 +41,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = IamJpaPersistenceTest.TestApp.class)
+@SpringBootTest(classes = IamJpaPersistenceTest.TestApp.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = Replace.ANY)
 class IamJpaPersistenceTest {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -47,6 +67,12 @@ class IamJpaPersistenceTest {
     @Autowired
     private UserFormStore userFormStore;
 
+    @Autowired
+    private RoleFormStore roleStore;
+
+    @Autowired
+    private PermissionFormStore permissionStore;
+
     @Test
     void flywayMigrationCreatesTables() {
         Integer count = jdbcTemplate.queryForObject("select count(*) from iam_user", Integer.class);
@@ -70,7 +96,7 @@ class IamJpaPersistenceTest {
         user.setId(UUID.randomUUID());
         user.setIdentifier("alice");
         user.setDisplayName("Alice");
-        user.setStatus(de.javaholic.toolkit.iam.core.domain.UserStatus.ACTIVE);
+        user.setStatus(UserStatus.ACTIVE);
         user.setRoles(Set.of(adminRole));
         userRepository.save(user);
 
@@ -78,10 +104,10 @@ class IamJpaPersistenceTest {
         assertEquals("alice", loaded.getIdentifier());
         assertEquals("Alice", loaded.getDisplayName());
         assertEquals(Set.of("ADMIN"),
-            loaded.getRoles().stream().map(Role::getName).collect(java.util.stream.Collectors.toSet()));
+            loaded.getRoles().stream().map(Role::getName).collect(Collectors.toSet()));
         Role role = loaded.getRoles().iterator().next();
         assertEquals(Set.of("user.manage"), role.getPermissions().stream().map(Permission::getCode)
-            .collect(java.util.stream.Collectors.toSet()));
+            .collect(Collectors.toSet()));
     }
 
     @Test
@@ -90,12 +116,135 @@ class IamJpaPersistenceTest {
         user.setId(UUID.randomUUID());
         user.setIdentifier("bob");
         user.setDisplayName("Bob");
-        user.setStatus(de.javaholic.toolkit.iam.core.domain.UserStatus.ACTIVE);
+        user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
 
         assertTrue(userFormStore.findByIdentifier("bob").isPresent());
     }
 
+    @Test
+    void userStoreWalksAllUsersInChunks() {
+        for (int i = 0; i < 5; i++) {
+            JpaUserEntity user = new JpaUserEntity();
+            user.setId(UUID.randomUUID());
+            user.setIdentifier("chunk-" + i);
+            user.setDisplayName("Chunk " + i);
+            user.setStatus(UserStatus.ACTIVE);
+            userRepository.save(user);
+        }
+        long total = userRepository.count();
+        List<Integer> chunkSizes = new ArrayList<>();
+        Set<String> identifiers = new HashSet<>();
+
+        userFormStore.forEachChunk(2, chunk -> {
+            chunkSizes.add(chunk.size());
+            chunk.forEach(user -> identifiers.add(user.getIdentifier()));
+        });
+
+        assertEquals(total, identifiers.size());
+        assertTrue(identifiers.containsAll(Set.of("chunk-0", "chunk-1", "chunk-2", "chunk-3", "chunk-4")));
+        assertTrue(chunkSizes.stream().allMatch(size -> size <= 2));
+    }
+
+    @Test
+    void userStoreFiltersInDatabase() {
+        for (String identifier : List.of("filter-carol", "filter-dave", "other-erin")) {
+            JpaUserEntity user = new JpaUserEntity();
+            user.setId(UUID.randomUUID());
+            user.setIdentifier(identifier);
+            user.setDisplayName(identifier);
+            user.setStatus(identifier.endsWith("dave")
+                ? UserStatus.DISABLED
+                : UserStatus.ACTIVE);
+            userRepository.save(user);
+        }
+
+        List<User> active = userFormStore.findAll(Filter.startsWith("identifier", "FILTER-").ignoringCase()
+            .and(Filter.eq("status", UserStatus.ACTIVE)));
+
+        assertEquals(List.of("filter-carol"), active.stream().map(User::getIdentifier).toList());
+        assertEquals(2, userFormStore.count(Filter.startsWith("identifier", "filter-")));
+        assertTrue(userFormStore.exists(Filter.eq("identifier", "other-erin")));
+        assertFalse(userFormStore.exists(Filter.eq("identifier", "nobody")));
+        assertTrue(userFormStore.existsById(active.get(0).getId()));
+        assertEquals(userRepository.count(), userFormStore.count());
+    }
+
+    @Test
+    void userStoreReadsProjectedColumnsPage() {
+        for (String identifier : List.of("row-bob", "row-anna", "row-cleo")) {
+            JpaUserEntity user = new JpaUserEntity();
+            user.setId(UUID.randomUUID());
+            user.setIdentifier(identifier);
+            user.setDisplayName(identifier.toUpperCase());
+            user.setStatus(UserStatus.ACTIVE);
+            userRepository.save(user);
+        }
+
+        Page<Row> page = userFormStore.findRowPage(Projection.of("identifier", "displayName"),
+            Filter.startsWith("identifier", "row-"), PageRequest.of(0, 2, Sort.by("identifier")));
+
+        assertEquals(3, page.totalElements().getAsLong());
+        assertEquals(List.of("row-anna", "row-bob"),
+            page.content().stream().map(row -> row.get("identifier", String.class)).toList());
+        assertEquals("ROW-ANNA", page.content().get(0).get("displayName"));
+        assertEquals(List.of("identifier", "displayName"), page.content().get(0).projection().properties());
+    }
+
+    @Test
+    void resolvesRolesPermissionsAndUsersInBatches() {
+        for (String code : List.of("batch.read", "batch.write")) {
+            JpaPermissionEntity permission = new JpaPermissionEntity();
+            permission.setId(UUID.randomUUID());
+            permission.setCode(code);
+            permissionRepository.save(permission);
+        }
+        for (String name : List.of("BATCH_VIEWER", "BATCH_EDITOR")) {
+            JpaRoleEntity role = new JpaRoleEntity();
+            role.setId(UUID.randomUUID());
+            role.setName(name);
+            roleRepository.save(role);
+        }
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            JpaUserEntity user = new JpaUserEntity();
+            user.setId(UUID.randomUUID());
+            user.setIdentifier("batch-" + i);
+            user.setDisplayName("Batch " + i);
+            user.setStatus(UserStatus.ACTIVE);
+            ids.add(userRepository.save(user).getId());
+        }
+        for (int i = 0; i < 2500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.add(ids.get(0));
+
+        Set<String> roles = new HashSet<>();
+        long roleStatements = statements(() -> roleStore.findByNames(List.of("BATCH_VIEWER", "BATCH_EDITOR", "MISSING"))
+                .forEach(role -> roles.add(role.getName())));
+        Set<String> codes = new HashSet<>();
+        long permissionStatements = statements(() -> permissionStore.findByCodes(List.of("batch.read", "batch.write", "batch.read"))
+                .forEach(permission -> codes.add(permission.getCode())));
+        Set<String> users = new HashSet<>();
+        long userStatements = statements(() -> userFormStore.findAllById(ids).forEach(user -> users.add(user.getIdentifier())));
+
+        assertEquals(Set.of("BATCH_VIEWER", "BATCH_EDITOR"), roles);
+        assertEquals(Set.of("batch.read", "batch.write"), codes);
+        assertEquals(Set.of("batch-0", "batch-1"), users);
+        // roles: one IN query + one batch query for their permissions
+        assertEquals(2, roleStatements);
+        assertEquals(1, permissionStatements);
+        // 2502 distinct ids in IN lists of 1000 + one batch query for the roles of the users found
+        assertEquals(4, userStatements);
+    }
+
+    private long statements(Runnable read) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        read.run();
+        return statistics.getPrepareStatementCount();
+    }
+
     @SpringBootConfiguration
     @EnableAutoConfiguration
 @Import(IamJpaAutoConfiguration.class)
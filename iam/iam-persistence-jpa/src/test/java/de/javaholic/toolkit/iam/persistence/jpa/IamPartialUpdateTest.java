@@ -0,0 +1,186 @@
+package de.javaholic.toolkit.iam.persistence.jpa;
+
+import de.javaholic.toolkit.iam.core.domain.Role;
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.iam.persistence.jpa.config.IamJpaAutoConfiguration;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaRoleRepository;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaUserRepository;
+import de.javaholic.toolkit.persistence.core.CrudStore;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the SQL written when saving users that already exist.
+ */
+@SpringBootTest(classes = IamPartialUpdateTest.TestApp.class)
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class IamPartialUpdateTest {
+
+    private static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private UserFormStore userFormStore;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    @Autowired
+    private JpaRoleRepository roleRepository;
+
+    private CrudStore<User, UUID> users;
+
+    @BeforeEach
+    void setUp() {
+        users = userFormStore;
+    }
+
+    @Test
+    void unchangedSaveWritesNothing() {
+        User user = storeUser("partial-noop", "READER", "WRITER");
+
+        SQL.clear();
+        User saved = users.save(user);
+
+        assertEquals(List.of(), writes());
+        assertEquals(roleNames(user), roleNames(saved));
+    }
+
+    @Test
+    void changedColumnIsTheOnlyOneUpdated() {
+        User user = storeUser("partial-column", "READER");
+
+        SQL.clear();
+        users.save(new User(user.getId(), user.getIdentifier(), "Renamed", user.getStatus(), user.getRoles()));
+
+        List<String> writes = writes();
+        assertEquals(1, writes.size(), writes::toString);
+        assertTrue(writes.get(0).startsWith("update iam_user "), writes::toString);
+        assertTrue(writes.get(0).contains("display_name"), writes::toString);
+        assertFalse(writes.get(0).contains("identifier"), writes::toString);
+        assertFalse(writes.get(0).contains("status"), writes::toString);
+        assertEquals("Renamed", userRepository.findById(user.getId()).orElseThrow().getDisplayName());
+    }
+
+    @Test
+    void roleChangesAreWrittenAsSetDifference() {
+        User user = storeUser("partial-roles", "READER", "WRITER", "AUDITOR");
+        storeRole("ADMIN");
+        Set<Role> roles = new HashSet<>();
+        for (Role role : user.getRoles()) {
+            if (!role.getName().equals("WRITER")) {
+                roles.add(role);
+            }
+        }
+        roles.add(new Role("ADMIN", Set.of()));
+
+        SQL.clear();
+        User saved = users.save(new User(user.getId(), user.getIdentifier(), user.getDisplayName(), user.getStatus(), roles));
+
+        List<String> writes = writes();
+        assertEquals(2, writes.size(), writes::toString);
+        assertTrue(writes.stream().anyMatch(sql -> sql.startsWith("delete from iam_user_role") && sql.contains("role_id")),
+                writes::toString);
+        assertTrue(writes.stream().anyMatch(sql -> sql.startsWith("insert into iam_user_role")), writes::toString);
+        assertFalse(writes.stream().anyMatch(sql -> sql.startsWith("update iam_user ")), writes::toString);
+        assertEquals(Set.of("READER", "AUDITOR", "ADMIN"), roleNames(saved));
+        assertEquals(Set.of("READER", "AUDITOR", "ADMIN"), roleNames(users.findById(user.getId()).orElseThrow()));
+    }
+
+    @Test
+    void saveAllWritesOnlyChangedUsers() {
+        User unchanged = storeUser("partial-all-noop", "READER", "WRITER");
+        User renamed = storeUser("partial-all-renamed", "READER");
+
+        SQL.clear();
+        List<User> saved = users.saveAll(List.of(unchanged,
+                new User(renamed.getId(), renamed.getIdentifier(), "Renamed", renamed.getStatus(), renamed.getRoles())));
+
+        List<String> writes = writes();
+        assertEquals(1, writes.size(), writes::toString);
+        assertTrue(writes.get(0).startsWith("update iam_user "), writes::toString);
+        assertFalse(writes.get(0).contains("identifier"), writes::toString);
+        assertEquals(roleNames(unchanged), roleNames(saved.get(0)));
+        assertEquals("Renamed", saved.get(1).getDisplayName());
+    }
+
+    private User storeUser(String identifier, String... roleNames) {
+        Set<JpaRoleEntity> roles = new HashSet<>();
+        for (String roleName : roleNames) {
+            roles.add(storeRole(roleName));
+        }
+        JpaUserEntity entity = new JpaUserEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setIdentifier(identifier);
+        entity.setDisplayName(identifier);
+        entity.setStatus(UserStatus.ACTIVE);
+        entity.setRoles(roles);
+        userRepository.save(entity);
+        return users.findById(entity.getId()).orElseThrow();
+    }
+
+    private JpaRoleEntity storeRole(String name) {
+        // Same id rule as JpaRoleMapper, so mapped roles resolve to the stored rows.
+        UUID id = UUID.nameUUIDFromBytes(("role:" + name).getBytes(StandardCharsets.UTF_8));
+        return roleRepository.findById(id).orElseGet(() -> {
+            JpaRoleEntity role = new JpaRoleEntity();
+            role.setId(id);
+            role.setName(name);
+            return roleRepository.save(role);
+        });
+    }
+
+    private static Set<String> roleNames(User user) {
+        return user.getRoles().stream().map(Role::getName).collect(Collectors.toSet());
+    }
+
+    private static List<String> writes() {
+        return SQL.stream()
+                .map(sql -> sql.trim().toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("insert") || sql.startsWith("update") || sql.startsWith("delete"))
+                .toList();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(IamJpaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = JpaUserEntity.class)
+    static class TestApp {
+
+        @Bean
+        HibernatePropertiesCustomizer sqlRecorder() {
+            StatementInspector recorder = sql -> {
+                SQL.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, recorder);
+        }
+    }
+}
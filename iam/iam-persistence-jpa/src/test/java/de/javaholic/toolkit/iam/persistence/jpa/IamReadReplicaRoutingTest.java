@@ -0,0 +1,140 @@
+package de.javaholic.toolkit.iam.persistence.jpa;
+
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.iam.persistence.jpa.config.IamJpaAutoConfiguration;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaUserRepository;
+import de.javaholic.toolkit.persistence.core.CrudStore;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.Projection;
+import de.javaholic.toolkit.persistence.springdata.ReadWriteRoutingDataSource;
+import de.javaholic.toolkit.persistence.springdata.SpringDataCrudStore;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = IamReadReplicaRoutingTest.TestApp.class)
+class IamReadReplicaRoutingTest {
+
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    @Autowired
+    private UserFormStore userFormStore;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @Test
+    void readOnlyReadsUseReplicaExceptWithinReadYourWritesWindow() {
+        CrudStore<User, UUID> users = userFormStore;
+        UUID id = UUID.randomUUID();
+        users.save(new User(id, "replica-alice", "Alice", UserStatus.ACTIVE, Set.of()));
+
+        JdbcTemplate primaryJdbc = new JdbcTemplate(primary);
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        assertEquals(1, primaryJdbc.queryForObject("select count(*) from iam_user where id = ?", Integer.class, id));
+        assertEquals(0, replicaJdbc.queryForObject("select count(*) from iam_user where id = ?", Integer.class, id));
+
+        // right after the write the session still reads from the primary
+        assertEquals(Optional.of("Alice"), users.findById(id).map(User::getDisplayName));
+
+        CLOCK.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertTrue(users.findById(id).isEmpty());
+
+        replicaJdbc.update("insert into iam_user (id, identifier, display_name, status) values (?, ?, ?, ?)",
+                id, "replica-alice", "Alice (replica)", UserStatus.ACTIVE.name());
+        assertEquals(Optional.of("Alice (replica)"), users.findById(id).map(User::getDisplayName));
+    }
+
+    @Test
+    void projectionReadsOfSpringDataStoresUseReplica() {
+        SpringDataCrudStore<JpaUserEntity, UUID> entities = new SpringDataCrudStore<>(JpaUserEntity.class, UUID.class,
+                userRepository, entityManager, transactionManager);
+        new JdbcTemplate(replica).update("insert into iam_user (id, identifier, display_name, status) values (?, ?, ?, ?)",
+                UUID.randomUUID(), "replica-rows", "Rows (replica)", UserStatus.ACTIVE.name());
+
+        List<Object> names = entities.findRows(Projection.of("displayName"), Filter.eq("identifier", "replica-rows")).stream()
+                .map(row -> row.get("displayName"))
+                .toList();
+
+        assertEquals(List.of("Rows (replica)"), names);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(IamJpaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = JpaUserEntity.class)
+    static class TestApp {
+
+        @Bean
+        DataSource primaryDataSource() {
+            return embedded("iam-primary");
+        }
+
+        @Bean
+        DataSource replicaDataSource() {
+            DataSource replica = embedded("iam-replica");
+            Flyway.configure().dataSource(replica).load().migrate();
+            return replica;
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(
+                @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                @Qualifier("replicaDataSource") DataSource replicaDataSource
+        ) {
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource);
+            routing.setReadYourWritesWindow(Duration.ofSeconds(2));
+            routing.setTicker(CLOCK::get);
+            return routing.toLazyDataSource();
+        }
+
+        private static DataSource embedded(String name) {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .setName(name)
+                    .build();
+        }
+    }
+}
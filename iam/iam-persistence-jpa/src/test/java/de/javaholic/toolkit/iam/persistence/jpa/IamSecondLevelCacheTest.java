@@ -0,0 +1,144 @@
+package de.javaholic.toolkit.iam.persistence.jpa;
+
+import de.javaholic.toolkit.iam.persistence.jpa.config.IamJpaAutoConfiguration;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaPermissionEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaRoleEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaPermissionRepository;
+import de.javaholic.toolkit.iam.persistence.jpa.repo.JpaRoleRepository;
+import de.javaholic.toolkit.persistence.springdata.JpaCacheStatistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that roles, their permissions and role queries are served from the second-level cache.
+ */
+@SpringBootTest(classes = IamSecondLevelCacheTest.TestApp.class, properties = "javaholic.jpa.cache.enabled=true")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class IamSecondLevelCacheTest {
+
+    @Autowired
+    private JpaRoleRepository roleRepository;
+
+    @Autowired
+    private JpaPermissionRepository permissionRepository;
+
+    @Autowired
+    private TransactionTemplate transactions;
+
+    @Autowired
+    private JpaCacheStatistics cacheStatistics;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void rolesAndPermissionsAreReadFromTheCache() {
+        UUID id = storeRole("CACHED_EDITOR", "cached.read", "cached.write").getId();
+        readRole(id);
+
+        long roleHits = hits(JpaRoleEntity.CACHE_REGION);
+        long collectionHits = hits(JpaRoleEntity.PERMISSIONS_CACHE_REGION);
+        long permissionHits = hits(JpaPermissionEntity.CACHE_REGION);
+        int permissions = readRole(id);
+
+        assertEquals(2, permissions);
+        assertTrue(cacheStatistics.isEnabled());
+        assertEquals(roleHits + 1, hits(JpaRoleEntity.CACHE_REGION));
+        assertEquals(collectionHits + 1, hits(JpaRoleEntity.PERMISSIONS_CACHE_REGION));
+        assertEquals(permissionHits + 2, hits(JpaPermissionEntity.CACHE_REGION));
+    }
+
+    @Test
+    void roleQueriesAreReadFromTheQueryCache() {
+        storeRole("CACHED_AUDITOR");
+        roleRepository.findByName("CACHED_AUDITOR").orElseThrow();
+
+        long queryHits = hits(JpaRoleEntity.QUERY_CACHE_REGION);
+        roleRepository.findByName("CACHED_AUDITOR").orElseThrow();
+
+        assertEquals(queryHits + 1, hits(JpaRoleEntity.QUERY_CACHE_REGION));
+    }
+
+    @Test
+    void eachContextUsesItsOwnCacheManager() {
+        CacheManager other;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestApp.class)
+                .properties("javaholic.jpa.cache.enabled=true")
+                .run()) {
+            other = context.getBean(CacheManager.class);
+            assertNotSame(cacheManager, other);
+        }
+
+        assertTrue(other.isClosed());
+        assertFalse(cacheManager.isClosed());
+    }
+
+    @Test
+    void cachingIsOffWithoutTheProperty() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestApp.class).run()) {
+            SessionFactoryImplementor sessionFactory = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactoryImplementor.class);
+
+            assertFalse(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+            assertFalse(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled());
+            assertEquals(Set.of(), sessionFactory.getCache().getCacheRegionNames());
+            assertTrue(context.getBeansOfType(CacheManager.class).isEmpty());
+        }
+    }
+
+    private int readRole(UUID id) {
+        return transactions.execute(status -> roleRepository.findById(id).orElseThrow().getPermissions().stream()
+                .map(JpaPermissionEntity::getCode)
+                .toList()
+                .size());
+    }
+
+    private long hits(String region) {
+        return cacheStatistics.region(region).map(JpaCacheStatistics.Region::hitCount).orElse(0L);
+    }
+
+    private JpaRoleEntity storeRole(String name, String... codes) {
+        Set<JpaPermissionEntity> permissions = new HashSet<>();
+        for (String code : codes) {
+            JpaPermissionEntity permission = new JpaPermissionEntity();
+            permission.setId(UUID.randomUUID());
+            permission.setCode(code);
+            permissions.add(permissionRepository.save(permission));
+        }
+        JpaRoleEntity role = new JpaRoleEntity();
+        role.setId(UUID.randomUUID());
+        role.setName(name);
+        role.setPermissions(permissions);
+        return roleRepository.save(role);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(IamJpaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = JpaUserEntity.class)
+    static class TestApp {
+    }
+}
@@ -0,0 +1,141 @@
+package de.javaholic.toolkit.iam.persistence.jpa;
+
+import de.javaholic.toolkit.iam.core.domain.Permission;
+import de.javaholic.toolkit.iam.core.domain.Role;
+import de.javaholic.toolkit.iam.core.domain.User;
+import de.javaholic.toolkit.iam.core.domain.UserStatus;
+import de.javaholic.toolkit.iam.core.spi.PermissionFormStore;
+import de.javaholic.toolkit.iam.core.spi.RoleFormStore;
+import de.javaholic.toolkit.iam.core.spi.UserFormStore;
+import de.javaholic.toolkit.iam.persistence.jpa.config.IamJpaAutoConfiguration;
+import de.javaholic.toolkit.iam.persistence.jpa.entity.JpaUserEntity;
+import de.javaholic.toolkit.persistence.core.CrudStore;
+import de.javaholic.toolkit.persistence.springdata.SpringUnitOfWorks;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts JDBC round trips of the user/role/permission save flow with and without a unit of work.
+ */
+@SpringBootTest(classes = IamUnitOfWorkTest.TestApp.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class IamUnitOfWorkTest {
+
+    private static final int FLOWS = 10;
+    private static final int ROLES_PER_USER = 3;
+    private static final int PERMISSIONS_PER_ROLE = 4;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserFormStore userFormStore;
+
+    @Autowired
+    private RoleFormStore roleStore;
+
+    @Autowired
+    private PermissionFormStore permissionStore;
+
+    @Autowired
+    private SpringUnitOfWorks unitOfWorks;
+
+    @Test
+    void unitOfWorkCommitsUserRolesAndPermissionsWithFewerRoundTrips() {
+        Result separate = run("separate", flow -> {
+            permissionStore.saveAll(permissions("separate", flow));
+            roleStore.saveAll(roles("separate", flow));
+            CrudStore<User, UUID> users = userFormStore;
+            users.save(user("separate", flow));
+        });
+        Result unitOfWork = run("unit-of-work", flow -> unitOfWorks.begin()
+                .saveAll(permissionStore, permissions("uow", flow))
+                .saveAll(roleStore, roles("uow", flow))
+                .save(userFormStore, user("uow", flow))
+                .commit());
+
+        assertEquals(FLOWS * 3, separate.commits);
+        assertEquals(FLOWS, unitOfWork.commits);
+        assertTrue(unitOfWork.roundTrips() < separate.roundTrips(),
+                () -> "unit of work " + unitOfWork + " vs separate " + separate);
+
+        CrudStore<User, UUID> users = userFormStore;
+        User saved = users.findById(UUID.nameUUIDFromBytes("uow-user-7".getBytes())).orElseThrow();
+        assertEquals(ROLES_PER_USER, saved.getRoles().size());
+        assertEquals(PERMISSIONS_PER_ROLE, saved.getRoles().iterator().next().getPermissions().size());
+    }
+
+    private Result run(String name, IntConsumer flow) {
+        flow.accept(-1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        for (int i = 0; i < FLOWS; i++) {
+            flow.accept(i);
+        }
+        return new Result((int) statistics.getPrepareStatementCount(), (int) statistics.getTransactionCount());
+    }
+
+    private static List<Permission> permissions(String prefix, int flow) {
+        List<Permission> permissions = new ArrayList<>();
+        for (Role role : roles(prefix, flow)) {
+            permissions.addAll(role.getPermissions());
+        }
+        return permissions;
+    }
+
+    private static List<Role> roles(String prefix, int flow) {
+        List<Role> roles = new ArrayList<>();
+        for (int r = 0; r < ROLES_PER_USER; r++) {
+            Set<Permission> permissions = new HashSet<>();
+            for (int p = 0; p < PERMISSIONS_PER_ROLE; p++) {
+                permissions.add(new Permission(prefix + "." + flow + ".role" + r + ".perm" + p));
+            }
+            roles.add(new Role(prefix.toUpperCase() + "_" + flow + "_ROLE_" + r, permissions));
+        }
+        return roles;
+    }
+
+    private static User user(String prefix, int flow) {
+        String identifier = prefix + "-user-" + flow;
+        return new User(UUID.nameUUIDFromBytes(identifier.getBytes()), identifier, identifier,
+                UserStatus.ACTIVE, Set.copyOf(roles(prefix, flow)));
+    }
+
+    private record Result(int statements, int commits) {
+
+        int roundTrips() {
+            return statements + commits;
+        }
+
+        @Override
+        public String toString() {
+            return roundTrips() + " round trips (" + statements + " statements, " + commits + " commits)";
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(IamJpaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = JpaUserEntity.class)
+    static class TestApp {
+    }
+}
@@ -0,0 +1,211 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncCrudStore} adapter that runs the calls of a blocking {@link CrudStore} on an executor.
+ *
+ * <p>Concept: the adapter does no persistence work itself. Every method submits exactly one call
+ * of the wrapped store to the executor and completes the returned future with its result. By
+ * default calls run on a fresh virtual thread each, so a call blocked on JDBC parks its carrier
+ * instead of occupying a platform thread.</p>
+ *
+ * <p>Thread-bound state is not inherited by the worker. Context that a call needs (for example a
+ * security context) is propagated by the executor, and transaction demarcation around each call
+ * is applied by the {@link CallScope}. Both run on the worker thread, so a call never sees
+ * uncommitted changes of a transaction on the submitting thread.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudStore<UserDto, UUID> store = ...;
+ * AsyncCrudStore<UserDto, UUID> async = new AsyncCrudStoreAdapter<>(store);
+ * async.save(dto).thenCompose(saved -> async.findAll());
+ * }</pre>
+ */
+public class AsyncCrudStoreAdapter<T, ID> implements AsyncCrudStore<T, ID> {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("crud-store-", 0).factory();
+
+    private final CrudStore<T, ID> delegate;
+    private final Executor executor;
+    private final CallScope scope;
+
+    /**
+     * Creates the adapter running each call on its own virtual thread.
+     */
+    public AsyncCrudStoreAdapter(CrudStore<T, ID> delegate) {
+        this(delegate, virtualThreads(), CallScope.NONE);
+    }
+
+    /**
+     * Creates the adapter running calls on the given executor.
+     */
+    public AsyncCrudStoreAdapter(CrudStore<T, ID> delegate, Executor executor) {
+        this(delegate, executor, CallScope.NONE);
+    }
+
+    /**
+     * Creates the adapter running calls on the given executor inside the given scope.
+     */
+    public AsyncCrudStoreAdapter(CrudStore<T, ID> delegate, Executor executor, CallScope scope) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.scope = Objects.requireNonNull(scope, "scope");
+    }
+
+    /**
+     * Returns an executor that starts one virtual thread per task.
+     */
+    public static Executor virtualThreads() {
+        return task -> VIRTUAL_THREADS.newThread(task).start();
+    }
+
+    /**
+     * Returns the wrapped blocking store.
+     */
+    public CrudStore<T, ID> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAll() {
+        return read(delegate::findAll);
+    }
+
+    @Override
+    public CompletableFuture<Optional<T>> findById(ID id) {
+        return read(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAllById(Collection<? extends ID> ids) {
+        List<ID> copy = new ArrayList<>(ids);
+        return read(() -> delegate.findAllById(copy));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAll(Filter filter) {
+        return read(() -> delegate.findAll(filter));
+    }
+
+    @Override
+    public CompletableFuture<Long> count() {
+        return read(delegate::count);
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Filter filter) {
+        return read(() -> delegate.count(filter));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(ID id) {
+        return read(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(Filter filter) {
+        return read(() -> delegate.exists(filter));
+    }
+
+    @Override
+    public CompletableFuture<Page<T>> findPage(PageRequest request) {
+        return read(() -> delegate.findPage(request));
+    }
+
+    @Override
+    public CompletableFuture<Page<T>> findPage(Filter filter, PageRequest request) {
+        return read(() -> delegate.findPage(filter, request));
+    }
+
+    @Override
+    public CompletableFuture<Page<Row>> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        return read(() -> delegate.findRowPage(projection, filter, request));
+    }
+
+    @Override
+    public CompletableFuture<Window<T>> findWindow(ScrollRequest request) {
+        return read(() -> delegate.findWindow(request));
+    }
+
+    @Override
+    public CompletableFuture<T> save(T entity) {
+        return write(() -> delegate.save(entity));
+    }
+
+    @Override
+    public CompletableFuture<List<T>> saveAll(Collection<? extends T> entities) {
+        List<T> copy = List.copyOf(entities);
+        return write(() -> delegate.saveAll(copy));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(T entity) {
+        return write(() -> {
+            delegate.delete(entity);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(Collection<? extends T> entities) {
+        List<T> copy = List.copyOf(entities);
+        return write(() -> {
+            delegate.deleteAll(copy);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllById(Collection<? extends ID> ids) {
+        List<ID> copy = List.copyOf(ids);
+        return write(() -> {
+            delegate.deleteAllById(copy);
+            return null;
+        });
+    }
+
+    private <R> CompletableFuture<R> read(Supplier<R> call) {
+        return submit(true, call);
+    }
+
+    private <R> CompletableFuture<R> write(Supplier<R> call) {
+        return submit(false, call);
+    }
+
+    private <R> CompletableFuture<R> submit(boolean readOnly, Supplier<R> call) {
+        return CompletableFuture.supplyAsync(() -> scope.call(readOnly, call), executor);
+    }
+
+    /**
+     * Demarcation applied around each store call on the worker thread.
+     *
+     * <p>Typical implementations open a transaction, read-only for queries, so that everything a
+     * call does (including DTO mapping of lazy associations) shares one transaction.</p>
+     */
+    public interface CallScope {
+
+        /**
+         * Runs the call without additional demarcation.
+         */
+        CallScope NONE = new CallScope() {
+            @Override
+            public <R> R call(boolean readOnly, Supplier<R> call) {
+                return call.get();
+            }
+        };
+
+        /**
+         * Runs one store call; {@code readOnly} is {@code true} for queries.
+         */
+        <R> R call(boolean readOnly, Supplier<R> call);
+    }
+}
@@ -0,0 +1,340 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary encoding of beans in {@link BeanMeta} property order, shared by snapshots and file stores.
+ *
+ * <p>Concept: every value is written with a one-byte type tag. Enum and nested bean types are
+ * written as an index into a {@link ClassTable} that the caller persists next to the data, so
+ * class names are not repeated per value. Strings, primitives and their wrappers, enums,
+ * {@link UUID}, {@link BigDecimal}, {@link Instant}, {@link LocalDate}, {@link LocalDateTime},
+ * {@code byte[]}, lists, sets and maps of those, and nested beans are supported; beans need a
+ * no-arg constructor or must be records.</p>
+ */
+final class BinaryRowCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte SHORT = 6;
+    private static final byte BYTE = 7;
+    private static final byte CHAR = 8;
+    private static final byte BOOLEAN = 9;
+    private static final byte UUID_VALUE = 10;
+    private static final byte ENUM = 11;
+    private static final byte INSTANT = 12;
+    private static final byte LOCAL_DATE = 13;
+    private static final byte LOCAL_DATE_TIME = 14;
+    private static final byte BIG_DECIMAL = 15;
+    private static final byte BYTES = 16;
+    private static final byte LIST = 17;
+    private static final byte SET = 18;
+    private static final byte MAP = 19;
+    private static final byte BEAN = 20;
+
+    /**
+     * Maps enum and bean classes to the indexes written in place of their names.
+     */
+    interface ClassTable {
+
+        /**
+         * Returns the index of the class, registering it if needed.
+         */
+        int indexOf(Class<?> type);
+
+        /**
+         * Returns the class registered under the index.
+         */
+        Class<?> typeAt(int index);
+    }
+
+    private final Map<Class<?>, Shape> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Writes the bean's properties in {@link BeanMeta} order.
+     */
+    void writeBean(DataOutputStream out, Object bean, ClassTable classes) throws IOException {
+        Shape shape = shapeOf(bean.getClass());
+        out.writeShort(shape.properties.length);
+        for (BeanProperty<?, ?> property : shape.properties) {
+            writeValue(out, shape.get(property, bean), classes);
+        }
+    }
+
+    /**
+     * Reads a bean of the given type written by {@link #writeBean}.
+     */
+    <B> B readBean(ByteBuffer in, Class<B> type, ClassTable classes) {
+        return type.cast(readBean(in, shapeOf(type), classes));
+    }
+
+    /**
+     * Writes one tagged value.
+     */
+    void writeValue(DataOutputStream out, Object value, ClassTable classes) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            writeString(out, string);
+        } else if (value instanceof Integer number) {
+            out.writeByte(INT);
+            out.writeInt(number);
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof Double number) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(number);
+        } else if (value instanceof Float number) {
+            out.writeByte(FLOAT);
+            out.writeFloat(number);
+        } else if (value instanceof Short number) {
+            out.writeByte(SHORT);
+            out.writeShort(number);
+        } else if (value instanceof Byte number) {
+            out.writeByte(BYTE);
+            out.writeByte(number);
+        } else if (value instanceof Character character) {
+            out.writeByte(CHAR);
+            out.writeChar(character);
+        } else if (value instanceof Boolean flag) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(flag);
+        } else if (value instanceof UUID uuid) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Enum<?> constant) {
+            out.writeByte(ENUM);
+            out.writeShort(classes.indexOf(constant.getDeclaringClass()));
+            writeString(out, constant.name());
+        } else if (value instanceof Instant instant) {
+            out.writeByte(INSTANT);
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        } else if (value instanceof LocalDate date) {
+            out.writeByte(LOCAL_DATE);
+            out.writeLong(date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            out.writeLong(dateTime.toLocalDate().toEpochDay());
+            out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(out, decimal.toString());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Collection<?> collection) {
+            out.writeByte(value instanceof Set<?> ? SET : LIST);
+            out.writeInt(collection.size());
+            for (Object element : collection) {
+                writeValue(out, element, classes);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey(), classes);
+                writeValue(out, entry.getValue(), classes);
+            }
+        } else if (value.getClass().getName().startsWith("java.")) {
+            throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        } else {
+            out.writeByte(BEAN);
+            out.writeShort(classes.indexOf(value.getClass()));
+            writeBean(out, value, classes);
+        }
+    }
+
+    /**
+     * Reads one tagged value written by {@link #writeValue}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Object readValue(ByteBuffer in, ClassTable classes) {
+        byte tag = in.get();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case INT -> in.getInt();
+            case LONG -> in.getLong();
+            case DOUBLE -> in.getDouble();
+            case FLOAT -> in.getFloat();
+            case SHORT -> in.getShort();
+            case BYTE -> in.get();
+            case CHAR -> in.getChar();
+            case BOOLEAN -> in.get() != 0;
+            case UUID_VALUE -> new UUID(in.getLong(), in.getLong());
+            case ENUM -> {
+                Class enumType = classes.typeAt(in.getShort());
+                yield Enum.valueOf(enumType, readString(in));
+            }
+            case INSTANT -> Instant.ofEpochSecond(in.getLong(), in.getInt());
+            case LOCAL_DATE -> LocalDate.ofEpochDay(in.getLong());
+            case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(in.getLong()), LocalTime.ofNanoOfDay(in.getLong()));
+            case BIG_DECIMAL -> new BigDecimal(readString(in));
+            case BYTES -> {
+                byte[] bytes = new byte[in.getInt()];
+                in.get(bytes);
+                yield bytes;
+            }
+            case LIST, SET -> {
+                int size = in.getInt();
+                Collection<Object> collection = tag == SET ? new LinkedHashSet<>(size * 2) : new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    collection.add(readValue(in, classes));
+                }
+                yield collection;
+            }
+            case MAP -> {
+                int size = in.getInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in, classes), readValue(in, classes));
+                }
+                yield map;
+            }
+            case BEAN -> readBean(in, shapeOf(classes.typeAt(in.getShort())), classes);
+            default -> throw new IllegalStateException("Corrupt data: unknown value tag " + tag);
+        };
+    }
+
+    /**
+     * Returns the property names and types of the type, for comparing stored and current layout.
+     */
+    String schema(Class<?> type) {
+        StringBuilder schema = new StringBuilder();
+        for (BeanProperty<?, ?> property : shapeOf(type).properties) {
+            schema.append(property.name()).append(':').append(property.type().getName()).append(';');
+        }
+        return schema.toString();
+    }
+
+    /**
+     * Writes a short length-prefixed UTF-8 name, for headers.
+     */
+    static void writeName(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a name written by {@link #writeName}.
+     */
+    static String readName(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Object readBean(ByteBuffer in, Shape shape, ClassTable classes) {
+        int count = in.getShort();
+        if (count != shape.properties.length) {
+            throw new IllegalStateException("Stored layout does not match " + shape.meta.type().getName());
+        }
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readValue(in, classes);
+        }
+        try {
+            if (shape.record) {
+                return shape.constructor.newInstance(values);
+            }
+            Object bean = shape.constructor.newInstance();
+            for (int i = 0; i < count; i++) {
+                if (values[i] != null) {
+                    shape.set(shape.properties[i], bean, values[i]);
+                }
+            }
+            return bean;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + shape.meta.type().getName(), e);
+        }
+    }
+
+    private Shape shapeOf(Class<?> type) {
+        return shapes.computeIfAbsent(type, ignored -> new Shape(BeanIntrospector.inspect(type)));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Properties and constructor of one bean type, resolved once.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class Shape {
+        private final BeanMeta meta;
+        private final BeanProperty<?, ?>[] properties;
+        private final Constructor<?> constructor;
+        private final boolean record;
+
+        private Shape(BeanMeta<?> meta) {
+            Class<?> type = meta.type();
+            this.meta = meta;
+            this.properties = meta.properties().toArray(BeanProperty[]::new);
+            this.record = type.isRecord();
+            try {
+                if (record) {
+                    RecordComponent[] components = type.getRecordComponents();
+                    Class<?>[] parameterTypes = new Class<?>[components.length];
+                    for (int i = 0; i < components.length; i++) {
+                        parameterTypes[i] = components[i].getType();
+                    }
+                    this.constructor = type.getDeclaredConstructor(parameterTypes);
+                } else {
+                    this.constructor = type.getDeclaredConstructor();
+                }
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " needs a no-arg constructor to be decoded", e);
+            }
+        }
+
+        private Object get(BeanProperty property, Object bean) {
+            return meta.getValue(property, bean);
+        }
+
+        private void set(BeanProperty property, Object bean, Object value) {
+            meta.setValue(property, bean, value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package de.javaholic.toolkit.persistence.core;
+
+/**
+ * Immutable snapshot of the statistics of a {@link CachingCrudStore}.
+ *
+ * <p>Concept: counters are cumulative since the store was created. A miss is an id or snapshot
+ * lookup not answered from the cache. A load is one call of the wrapped store: a single-id miss
+ * costs one load, while {@code findAllById} fetches all of its misses in one load, so
+ * {@code loadCount} can be lower than {@code missCount}. Evictions count entries removed because
+ * of size or expiry, including candidates that were not admitted.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CacheStats stats = cachingStore.stats();
+ * log.info("role cache hit rate {}", stats.hitRate());
+ * }</pre>
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long loadCount;
+    private final long totalLoadTimeNanos;
+
+    /**
+     * Creates a snapshot with the given counters.
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount, long loadCount, long totalLoadTimeNanos) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    public long loadCount() {
+        return loadCount;
+    }
+
+    public long totalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    /**
+     * Returns the number of lookups.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the share of lookups answered from the cache; {@code 1.0} without lookups.
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Returns the mean time spent in the wrapped store per load, that is per store call.
+     */
+    public double averageLoadPenaltyNanos() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                + ", loads=" + loadCount + ", loadTimeNanos=" + totalLoadTimeNanos + ']';
+    }
+}
@@ -0,0 +1,539 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache decorator for a {@link CrudStore}.
+ *
+ * <p>Concept: {@link #findById(Object)} results are cached per id and, if enabled, the
+ * {@link #findAll()} result is cached as one snapshot. Writes go to the wrapped store first; on
+ * success the saved state replaces the cached entry, deletes remove it, and every write drops the
+ * snapshot. Loads that overlap a write are not cached, and a cached entry is never replaced by a
+ * state with a lower version, so the cache does not fall behind writes made through it.</p>
+ *
+ * <p>The cache is bounded: when it is full, a new entry is admitted only if it was requested at
+ * least as often recently as the least recently used entry, which is then evicted. Popular rows
+ * therefore stay cached while one-off lookups cannot flush them. Entries expire a fixed time after
+ * they were loaded or written.</p>
+ *
+ * <p>Filtered, paged and streaming reads as well as counts are passed through uncached. Cached
+ * instances are shared between callers and must be treated as read-only. Writes that bypass this
+ * decorator (or roll back in an outer transaction) are only seen after expiry or
+ * {@link #invalidateAll()}.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudStore<Role, UUID> roles = new CachingCrudStore<>(roleStore, accessor,
+ *         CachingCrudStore.Settings.maximumSize(1_000).expireAfterWrite(Duration.ofMinutes(10)).cachingFindAll());
+ * log.info("{}", ((CachingCrudStore<Role, UUID>) roles).stats());
+ * }</pre>
+ */
+public class CachingCrudStore<T, ID> implements CrudStore<T, ID> {
+
+    private final CrudStore<T, ID> delegate;
+    private final Function<T, Object> idOf;
+    private final Function<T, Optional<Object>> versionOf;
+    private final Settings settings;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<Object, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private List<T> snapshot;
+    private long snapshotExpiresAt;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    /**
+     * Creates the cache reading ids and versions through store metadata.
+     */
+    public CachingCrudStore(CrudStore<T, ID> delegate, CrudStoreMeta<T> meta, Settings settings) {
+        this(delegate, meta::getId, meta::getVersion, settings);
+    }
+
+    /**
+     * Creates the cache reading ids and versions through an {@link EntityIdAccessor}.
+     */
+    public CachingCrudStore(CrudStore<T, ID> delegate, EntityIdAccessor<T> accessor, Settings settings) {
+        this(delegate, accessor::getId, accessor::getVersion, settings);
+    }
+
+    private CachingCrudStore(
+            CrudStore<T, ID> delegate,
+            Function<T, Object> idOf,
+            Function<T, Optional<Object>> versionOf,
+            Settings settings
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.idOf = idOf;
+        this.versionOf = versionOf;
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.sketch = new FrequencySketch(settings.maximumSize());
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadTimeNanos.sum());
+    }
+
+    /**
+     * Returns the number of cached entities, not counting the {@code findAll} snapshot.
+     */
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Drops all cached entries and the {@code findAll} snapshot.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            generation++;
+            entries.clear();
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Fills the cache with the complete current rows of the wrapped store without calling it.
+     *
+     * <p>Used to warm a cold cache, for example from a {@link CrudStoreSnapshot}. Rows are admitted
+     * like loaded rows up to the maximum size and, if enabled, become the {@code findAll}
+     * snapshot.</p>
+     */
+    public void warm(Collection<? extends T> rows) {
+        List<T> loaded = List.copyOf(rows);
+        synchronized (lock) {
+            generation++;
+            for (T row : loaded) {
+                put(idOf.apply(row), row);
+            }
+            if (settings.isCachingFindAll()) {
+                snapshot = loaded;
+                snapshotExpiresAt = now() + settings.expireAfterWriteNanos();
+            }
+        }
+    }
+
+    /**
+     * Returns the cached snapshot if enabled and fresh; loads it otherwise.
+     */
+    @Override
+    public List<T> findAll() {
+        if (!settings.isCachingFindAll()) {
+            return delegate.findAll();
+        }
+        long observedGeneration;
+        synchronized (lock) {
+            if (snapshot != null && snapshotExpiresAt - now() > 0) {
+                hits.increment();
+                return snapshot;
+            }
+            snapshot = null;
+            misses.increment();
+            observedGeneration = generation;
+        }
+        long start = now();
+        List<T> loaded = List.copyOf(delegate.findAll());
+        recordLoad(start);
+        synchronized (lock) {
+            if (generation == observedGeneration) {
+                snapshot = loaded;
+                snapshotExpiresAt = now() + settings.expireAfterWriteNanos();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the cached entity if fresh; loads and caches it otherwise.
+     *
+     * <p>Absent ids are not cached.</p>
+     */
+    @Override
+    public Optional<T> findById(ID id) {
+        Objects.requireNonNull(id, "id");
+        long observedGeneration;
+        synchronized (lock) {
+            sketch.increment(id);
+            Entry<T> entry = entries.get(id);
+            if (entry != null) {
+                if (entry.expiresAt - now() > 0) {
+                    hits.increment();
+                    return Optional.of(entry.value);
+                }
+                entries.remove(id);
+                evictions.increment();
+            }
+            misses.increment();
+            observedGeneration = generation;
+        }
+        long start = now();
+        Optional<T> loaded = delegate.findById(id);
+        recordLoad(start);
+        if (loaded.isPresent()) {
+            synchronized (lock) {
+                if (generation == observedGeneration) {
+                    put(id, loaded.get());
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the fresh cached entities and loads all others with one call of the wrapped store.
+     */
+    @Override
+    public List<T> findAllById(Collection<? extends ID> ids) {
+        List<T> found = new ArrayList<>(ids.size());
+        List<ID> missing = new ArrayList<>();
+        long observedGeneration;
+        synchronized (lock) {
+            long now = now();
+            for (ID id : new LinkedHashSet<ID>(ids)) {
+                if (id == null) {
+                    continue;
+                }
+                sketch.increment(id);
+                Entry<T> entry = entries.get(id);
+                if (entry != null && entry.expiresAt - now > 0) {
+                    hits.increment();
+                    found.add(entry.value);
+                } else {
+                    misses.increment();
+                    missing.add(id);
+                }
+            }
+            observedGeneration = generation;
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        long start = now();
+        List<T> loaded = delegate.findAllById(missing);
+        recordLoad(start);
+        synchronized (lock) {
+            if (generation == observedGeneration) {
+                for (T entity : loaded) {
+                    put(idOf.apply(entity), entity);
+                }
+            }
+        }
+        found.addAll(loaded);
+        return found;
+    }
+
+    /**
+     * Answers from the cache when the entity is cached; asks the wrapped store otherwise.
+     */
+    @Override
+    public boolean existsById(ID id) {
+        Objects.requireNonNull(id, "id");
+        synchronized (lock) {
+            Entry<T> entry = entries.get(id);
+            if (entry != null && entry.expiresAt - now() > 0) {
+                hits.increment();
+                return true;
+            }
+        }
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<T> findAll(Filter filter) {
+        return delegate.findAll(filter);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long count(Filter filter) {
+        return delegate.count(filter);
+    }
+
+    @Override
+    public boolean exists(Filter filter) {
+        return delegate.exists(filter);
+    }
+
+    @Override
+    public Page<T> findPage(PageRequest request) {
+        return delegate.findPage(request);
+    }
+
+    @Override
+    public Page<T> findPage(Filter filter, PageRequest request) {
+        return delegate.findPage(filter, request);
+    }
+
+    @Override
+    public List<Row> findRows(Projection projection, Filter filter) {
+        return delegate.findRows(projection, filter);
+    }
+
+    @Override
+    public Page<Row> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        return delegate.findRowPage(projection, filter, request);
+    }
+
+    @Override
+    public Window<T> findWindow(ScrollRequest request) {
+        return delegate.findWindow(request);
+    }
+
+    @Override
+    public Stream<T> stream(int fetchSize) {
+        return delegate.stream(fetchSize);
+    }
+
+    @Override
+    public void forEachChunk(int chunkSize, Consumer<List<T>> consumer) {
+        delegate.forEachChunk(chunkSize, consumer);
+    }
+
+    /**
+     * Saves through the wrapped store and caches the saved state.
+     */
+    @Override
+    public T save(T entity) {
+        T saved = delegate.save(entity);
+        synchronized (lock) {
+            generation++;
+            snapshot = null;
+            put(idOf.apply(saved), saved);
+        }
+        return saved;
+    }
+
+    /**
+     * Saves through the wrapped store and caches all saved states.
+     */
+    @Override
+    public List<T> saveAll(Collection<? extends T> entities) {
+        List<T> saved = delegate.saveAll(entities);
+        synchronized (lock) {
+            generation++;
+            snapshot = null;
+            for (T entity : saved) {
+                put(idOf.apply(entity), entity);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Deletes through the wrapped store and drops the cached entry.
+     */
+    @Override
+    public void delete(T entity) {
+        Object id = idOf.apply(entity);
+        delegate.delete(entity);
+        invalidate(List.of(id));
+    }
+
+    /**
+     * Deletes through the wrapped store and drops the cached entries.
+     */
+    @Override
+    public void deleteAll(Collection<? extends T> entities) {
+        List<Object> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            ids.add(idOf.apply(entity));
+        }
+        delegate.deleteAll(entities);
+        invalidate(ids);
+    }
+
+    /**
+     * Deletes through the wrapped store and drops the cached entries.
+     */
+    @Override
+    public void deleteAllById(Collection<? extends ID> ids) {
+        delegate.deleteAllById(ids);
+        invalidate(ids);
+    }
+
+    private void invalidate(Collection<?> ids) {
+        synchronized (lock) {
+            generation++;
+            snapshot = null;
+            for (Object id : ids) {
+                if (id != null) {
+                    entries.remove(id);
+                }
+            }
+        }
+    }
+
+    private void put(Object id, T value) {
+        if (id == null) {
+            return;
+        }
+        long expiresAt = now() + settings.expireAfterWriteNanos();
+        Entry<T> current = entries.get(id);
+        if (current != null) {
+            if (!isOlder(value, current.value)) {
+                current.value = value;
+                current.expiresAt = expiresAt;
+            }
+            return;
+        }
+        if (entries.size() >= settings.maximumSize() && !makeRoomFor(id)) {
+            evictions.increment();
+            return;
+        }
+        entries.put(id, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Evicts expired entries at the head, then the LRU victim if the candidate is at least as popular.
+     */
+    private boolean makeRoomFor(Object candidate) {
+        long now = now();
+        Iterator<Map.Entry<Object, Entry<T>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() >= settings.maximumSize()) {
+            Map.Entry<Object, Entry<T>> head = iterator.next();
+            if (head.getValue().expiresAt - now <= 0) {
+                iterator.remove();
+                evictions.increment();
+                continue;
+            }
+            if (sketch.frequency(candidate) < sketch.frequency(head.getKey())) {
+                return false;
+            }
+            iterator.remove();
+            evictions.increment();
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean isOlder(T candidate, T current) {
+        Object candidateVersion = versionOf.apply(candidate).orElse(null);
+        Object currentVersion = versionOf.apply(current).orElse(null);
+        if (candidateVersion instanceof Comparable comparable && currentVersion != null
+                && candidateVersion.getClass() == currentVersion.getClass()) {
+            return comparable.compareTo(currentVersion) < 0;
+        }
+        return false;
+    }
+
+    private void recordLoad(long start) {
+        loads.increment();
+        loadTimeNanos.add(now() - start);
+    }
+
+    private long now() {
+        return settings.ticker().getAsLong();
+    }
+
+    private static final class Entry<T> {
+        private T value;
+        private long expiresAt;
+
+        private Entry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Immutable cache settings.
+     *
+     * <p>Example: {@code Settings.maximumSize(500).expireAfterWrite(Duration.ofMinutes(5))}</p>
+     */
+    public static final class Settings {
+
+        private static final long NEVER = Long.MAX_VALUE / 2;
+
+        private final int maximumSize;
+        private final long expireAfterWriteNanos;
+        private final boolean cachingFindAll;
+        private final LongSupplier ticker;
+
+        private Settings(int maximumSize, long expireAfterWriteNanos, boolean cachingFindAll, LongSupplier ticker) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            this.expireAfterWriteNanos = expireAfterWriteNanos;
+            this.cachingFindAll = cachingFindAll;
+            this.ticker = Objects.requireNonNull(ticker, "ticker");
+        }
+
+        /**
+         * Creates settings for at most {@code maximumSize} cached entities without expiry.
+         */
+        public static Settings maximumSize(int maximumSize) {
+            return new Settings(maximumSize, NEVER, false, System::nanoTime);
+        }
+
+        /**
+         * Returns a copy whose entries expire the given time after they were loaded or written.
+         */
+        public Settings expireAfterWrite(Duration ttl) {
+            Objects.requireNonNull(ttl, "ttl");
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive: " + ttl);
+            }
+            long nanos = ttl.compareTo(Duration.ofNanos(NEVER)) >= 0 ? NEVER : ttl.toNanos();
+            return new Settings(maximumSize, nanos, cachingFindAll, ticker);
+        }
+
+        /**
+         * Returns a copy that also caches the {@code findAll} result.
+         */
+        public Settings cachingFindAll() {
+            return new Settings(maximumSize, expireAfterWriteNanos, true, ticker);
+        }
+
+        /**
+         * Returns a copy reading time in nanoseconds from the given source, for tests.
+         */
+        public Settings ticker(LongSupplier ticker) {
+            return new Settings(maximumSize, expireAfterWriteNanos, cachingFindAll, ticker);
+        }
+
+        public int maximumSize() {
+            return maximumSize;
+        }
+
+        public long expireAfterWriteNanos() {
+            return expireAfterWriteNanos;
+        }
+
+        public boolean isCachingFindAll() {
+            return cachingFindAll;
+        }
+
+        LongSupplier ticker() {
+            return ticker;
+        }
+    }
+}
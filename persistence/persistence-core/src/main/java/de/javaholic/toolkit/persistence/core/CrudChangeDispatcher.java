@@ -0,0 +1,153 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Asynchronous, batching delivery of {@link CrudChangeEvent}s to {@link CrudStoreListener}s.
+ *
+ * <p>Concept: {@link #publish(Collection)} only appends to a queue and, if no delivery is running,
+ * submits one drain task to the executor. The drain task hands everything queued so far to each
+ * listener in batches of at most {@code maxBatchSize} and repeats until the queue is empty. At
+ * most one drain task runs at a time, so listeners see events in publish order and never
+ * concurrently. Without listeners, publishing is a no-op.</p>
+ *
+ * <p>A listener that throws does not stop delivery to the others. Its exception goes to the
+ * failure handler, which by default passes it to the delivering thread's uncaught exception
+ * handler, as if the task itself had failed.</p>
+ *
+ * <p>Stores call {@link #publish(Collection)} once their transaction committed.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudChangeDispatcher changes = new CrudChangeDispatcher();
+ * changes.subscribe(events -> log(events));
+ * changes.publish(List.of(CrudChangeEvent.created(Role.class, id, 0L)));
+ * }</pre>
+ */
+public final class CrudChangeDispatcher implements CrudChangeSource {
+
+    /**
+     * Default maximum number of events per listener call.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final BiConsumer<CrudStoreListener, RuntimeException> failureHandler;
+    private final List<CrudStoreListener> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<CrudChangeEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Creates a dispatcher delivering on virtual threads.
+     */
+    public CrudChangeDispatcher() {
+        this(AsyncCrudStoreAdapter.virtualThreads(), DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a dispatcher delivering on the given executor.
+     */
+    public CrudChangeDispatcher(Executor executor, int maxBatchSize) {
+        this(executor, maxBatchSize, CrudChangeDispatcher::uncaught);
+    }
+
+    /**
+     * Creates a dispatcher delivering on the given executor and reporting listener failures to
+     * {@code failureHandler}.
+     */
+    public CrudChangeDispatcher(
+            Executor executor,
+            int maxBatchSize,
+            BiConsumer<CrudStoreListener, RuntimeException> failureHandler
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.maxBatchSize = maxBatchSize;
+        this.failureHandler = Objects.requireNonNull(failureHandler, "failureHandler");
+    }
+
+    @Override
+    public Subscription subscribe(CrudStoreListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Returns whether at least one listener is registered.
+     *
+     * <p>Stores use this to skip building events nobody receives.</p>
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Queues committed events for delivery and returns immediately.
+     */
+    public void publish(Collection<CrudChangeEvent> events) {
+        Objects.requireNonNull(events, "events");
+        if (events.isEmpty() || listeners.isEmpty()) {
+            return;
+        }
+        pending.addAll(events);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            List<CrudChangeEvent> batch = new ArrayList<>(Math.min(maxBatchSize, 64));
+            CrudChangeEvent event;
+            while (batch.size() < maxBatchSize && (event = pending.poll()) != null) {
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                draining.set(false);
+                // An event queued after the last poll but before the reset found draining still set.
+                if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            deliver(List.copyOf(batch));
+        }
+    }
+
+    private void deliver(List<CrudChangeEvent> batch) {
+        for (CrudStoreListener listener : listeners) {
+            try {
+                listener.onChanges(batch);
+            } catch (RuntimeException e) {
+                failureHandler.accept(listener, e);
+            }
+        }
+    }
+
+    private static void uncaught(CrudStoreListener listener, RuntimeException failure) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+    }
+}
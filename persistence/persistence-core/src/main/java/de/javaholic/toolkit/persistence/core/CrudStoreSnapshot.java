@@ -0,0 +1,273 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static de.javaholic.toolkit.persistence.core.BinaryRowCodec.readName;
+import static de.javaholic.toolkit.persistence.core.BinaryRowCodec.writeName;
+
+/**
+ * Compact binary snapshot of a store's rows for warming caches on a cold start.
+ *
+ * <p>Concept: rows are written property by property in {@link BeanMeta} order, with a header
+ * holding the format version, the domain type and its property names and types. Reading maps the
+ * file into memory and decodes it in one pass without touching the database; a file whose header
+ * does not match the current class is rejected. {@link #catchUp(Collection, CrudStore)} then
+ * brings the rows up to date by reading only ids and versions from the store, reloading rows
+ * whose version differs, adding new ones and dropping deleted ones.</p>
+ *
+ * <p>Supported property values are strings, primitives and their wrappers, enums, {@link UUID},
+ * {@link BigDecimal}, {@link Instant}, {@link LocalDate}, {@link LocalDateTime}, {@code byte[]},
+ * lists, sets and maps of those, and nested beans. Nested beans need a no-arg constructor or must
+ * be records, like the domain type itself.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudStoreSnapshot<Role> snapshot = new CrudStoreSnapshot<>(Role.class);
+ * cachingRoles.warm(snapshot.restore(file, roleStore));
+ * // on shutdown or periodically
+ * snapshot.write(roleStore.findAll(), file);
+ * }</pre>
+ */
+public final class CrudStoreSnapshot<T> {
+
+    /**
+     * Version of the binary layout; files of other versions are rejected.
+     */
+    public static final short FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x4A48534E;
+
+    private final BeanMeta<T> meta;
+    private final EntityIdAccessor<T> accessor;
+    private final BinaryRowCodec codec = new BinaryRowCodec();
+
+    /**
+     * Creates the snapshot codec for the given domain type, which must declare an {@code @Id}.
+     */
+    public CrudStoreSnapshot(Class<T> type) {
+        this.meta = BeanIntrospector.inspect(Objects.requireNonNull(type, "type"));
+        this.accessor = new EntityIdAccessor<>(meta);
+        codec.schema(type);
+    }
+
+    /**
+     * Writes the rows to the file, replacing it atomically.
+     */
+    public void write(Collection<? extends T> rows, Path file) {
+        Objects.requireNonNull(rows, "rows");
+        Objects.requireNonNull(file, "file");
+        FileClasses classes = new FileClasses();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(Math.max(64, rows.size() * 64));
+        try {
+            DataOutputStream out = new DataOutputStream(body);
+            out.writeInt(rows.size());
+            for (T row : rows) {
+                codec.writeBean(out, row, classes);
+            }
+            out.flush();
+
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream stream = Files.newOutputStream(temp)) {
+                    DataOutputStream header = new DataOutputStream(stream);
+                    writeHeader(header, classes.types);
+                    header.flush();
+                    body.writeTo(stream);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Reads all rows of a snapshot file through a memory-mapped buffer.
+     *
+     * @throws IllegalStateException if the file is no snapshot of the current domain type
+     */
+    public List<T> read(Path file) {
+        Objects.requireNonNull(file, "file");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            FileClasses classes = readHeader(buffer, file);
+            int count = buffer.getInt();
+            List<T> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rows.add(codec.readBean(buffer, meta.type(), classes));
+            }
+            return rows;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Truncated snapshot " + file, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Returns the rows of the snapshot file caught up with the store, or all store rows if there
+     * is no usable snapshot.
+     */
+    public <ID> List<T> restore(Path file, CrudStore<T, ID> store) {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(store, "store");
+        if (!Files.isRegularFile(file)) {
+            return store.findAll();
+        }
+        List<T> rows;
+        try {
+            rows = read(file);
+        } catch (IllegalStateException e) {
+            return store.findAll();
+        }
+        return catchUp(rows, store);
+    }
+
+    /**
+     * Brings snapshot rows up to date with the store.
+     *
+     * <p>Reads id and version of all store rows as one projection, reloads rows that are new or
+     * whose version differs with one batched {@link CrudStore#findAllById(Collection)} and drops
+     * rows that no longer exist. Types without a {@code @Version} property cannot be compared and
+     * are reloaded completely.</p>
+     */
+    @SuppressWarnings("unchecked")
+    public <ID> List<T> catchUp(Collection<? extends T> rows, CrudStore<T, ID> store) {
+        Objects.requireNonNull(rows, "rows");
+        Objects.requireNonNull(store, "store");
+        Optional<BeanProperty<T, ?>> version = meta.versionProperty();
+        if (version.isEmpty()) {
+            return store.findAll();
+        }
+        String idName = meta.idProperty().orElseThrow().name();
+        String versionName = version.get().name();
+        Map<Object, T> byId = new LinkedHashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            byId.put(accessor.getId(row), row);
+        }
+        Set<Object> live = new HashSet<>(byId.size() * 2);
+        List<ID> stale = new ArrayList<>();
+        for (Row current : store.findRows(Projection.of(idName, versionName), Filter.all())) {
+            Object id = current.get(0);
+            live.add(id);
+            T known = byId.get(id);
+            if (known == null || !sameVersion(current.get(1), accessor.getVersion(known).orElse(null))) {
+                stale.add((ID) id);
+            }
+        }
+        byId.keySet().retainAll(live);
+        if (!stale.isEmpty()) {
+            for (T fresh : store.findAllById(stale)) {
+                byId.put(accessor.getId(fresh), fresh);
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    private static boolean sameVersion(Object current, Object known) {
+        if (current instanceof Number a && known instanceof Number b) {
+            return a.longValue() == b.longValue();
+        }
+        return current != null && current.equals(known);
+    }
+
+    private void writeHeader(DataOutputStream out, List<Class<?>> classes) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writeName(out, meta.type().getName());
+        out.writeShort(meta.properties().size());
+        for (BeanProperty<T, ?> property : meta.properties()) {
+            writeName(out, property.name());
+            writeName(out, property.type().getName());
+        }
+        out.writeShort(classes.size());
+        for (Class<?> type : classes) {
+            writeName(out, type.getName());
+        }
+    }
+
+    private FileClasses readHeader(ByteBuffer in, Path file) {
+        if (in.remaining() < 6 || in.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a snapshot file: " + file);
+        }
+        short format = in.getShort();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported snapshot format " + format + " in " + file);
+        }
+        String typeName = readName(in);
+        int propertyCount = in.getShort();
+        StringBuilder schema = new StringBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            schema.append(readName(in)).append(':').append(readName(in)).append(';');
+        }
+        if (!typeName.equals(meta.type().getName()) || !schema.toString().equals(codec.schema(meta.type()))) {
+            throw new IllegalStateException("Snapshot " + file + " does not match " + meta.type().getName());
+        }
+        int classCount = in.getShort();
+        FileClasses classes = new FileClasses();
+        for (int i = 0; i < classCount; i++) {
+            String name = readName(in);
+            try {
+                classes.indexOf(Class.forName(name, false, meta.type().getClassLoader()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Snapshot " + file + " references unknown class " + name, e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Enum and bean classes of one snapshot file, written once in the header.
+     */
+    private static final class FileClasses implements BinaryRowCodec.ClassTable {
+        private final Map<Class<?>, Integer> indexes = new HashMap<>();
+        private final List<Class<?>> types = new ArrayList<>();
+
+        @Override
+        public int indexOf(Class<?> type) {
+            return indexes.computeIfAbsent(type, ignored -> {
+                types.add(type);
+                return types.size() - 1;
+            });
+        }
+
+        @Override
+        public Class<?> typeAt(int index) {
+            return types.get(index);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package de.javaholic.toolkit.persistence.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * {@link CrudStore} adapter that exposes DTOs while delegating persistence to a domain store.
@@ -16,18 +21,61 @@ import java.util.Optional;
  * DtoMapper<UserDto, User> mapper = ...;
  * CrudStore<UserDto, UUID> dtoStore = new DtoCrudStore<>(domainStore, mapper);
  * }</pre>
+ *
+ * <p>Change events of a domain store that is a {@link CrudChangeSource} are forwarded as-is.</p>
+ *
+ * <p>List results of {@code findAll} and {@code findAllById} are mapped eagerly by default. With
+ * {@link MappedList.Mode#LAZY} they are views that map a row when it is first read, so a caller
+ * that shows only the first rows of a large result pays only for those. With a
+ * {@link ParallelMapping} large results are mapped in parallel chunks instead.</p>
+ *
+ * <p>All rows of one list, page, window, stream or chunk are mapped with one
+ * {@link MappingContext}, so nested objects shared by several rows are mapped once.</p>
  */
-public class DtoCrudStore<DTO, D, ID> implements CrudStore<DTO, ID> {
+public class DtoCrudStore<DTO, D, ID> implements CrudStore<DTO, ID>, CrudChangeSource {
 
     private final CrudStore<D, ID> domainStore;
     private final DtoMapper<DTO, D> mapper;
+    private final MappedList.Mode listMapping;
+    private final ParallelMapping parallelMapping;
 
     /**
      * Creates the adapter with target domain store and mapper.
      */
     public DtoCrudStore(CrudStore<D, ID> domainStore, DtoMapper<DTO, D> mapper) {
+        this(domainStore, mapper, MappedList.Mode.EAGER);
+    }
+
+    /**
+     * Creates the adapter mapping list results as given.
+     *
+     * <p>Example: {@code new DtoCrudStore<>(domainStore, mapper, MappedList.Mode.LAZY);}</p>
+     */
+    public DtoCrudStore(CrudStore<D, ID> domainStore, DtoMapper<DTO, D> mapper, MappedList.Mode listMapping) {
+        this(domainStore, mapper, Objects.requireNonNull(listMapping, "listMapping"), null);
+    }
+
+    /**
+     * Creates the adapter mapping large list results in parallel.
+     *
+     * <p>Throws {@link IllegalArgumentException} if the mapper does not declare itself
+     * thread-safe.</p>
+     *
+     * <p>Example: {@code new DtoCrudStore<>(domainStore, mapper, ParallelMapping.above(5_000));}</p>
+     */
+    public DtoCrudStore(CrudStore<D, ID> domainStore, DtoMapper<DTO, D> mapper, ParallelMapping parallelMapping) {
+        this(domainStore, mapper, MappedList.Mode.EAGER, Objects.requireNonNull(parallelMapping, "parallelMapping"));
+        if (!mapper.isThreadSafe()) {
+            throw new IllegalArgumentException("Parallel mapping needs a thread-safe mapper: " + mapper.getClass().getName());
+        }
+    }
+
+    private DtoCrudStore(CrudStore<D, ID> domainStore, DtoMapper<DTO, D> mapper, MappedList.Mode listMapping,
+                         ParallelMapping parallelMapping) {
         this.domainStore = Objects.requireNonNull(domainStore);
         this.mapper = Objects.requireNonNull(mapper);
+        this.listMapping = listMapping;
+        this.parallelMapping = parallelMapping;
     }
 
     /**
@@ -35,10 +83,7 @@ public class DtoCrudStore<DTO, D, ID> implements CrudStore<DTO, ID> {
      */
     @Override
     public List<DTO> findAll() {
-        return domainStore.findAll()
-                .stream()
-                .map(mapper::toDto)
-                .toList();
+        return toDtos(domainStore.findAll());
     }
 
     /**
@@ -50,6 +95,129 @@ public class DtoCrudStore<DTO, D, ID> implements CrudStore<DTO, ID> {
                 .map(mapper::toDto);
     }
 
+    /**
+     * Delegates the multi-get to the domain store and maps the found rows.
+     */
+    @Override
+    public List<DTO> findAllById(Collection<? extends ID> ids) {
+        return toDtos(domainStore.findAllById(ids));
+    }
+
+    /**
+     * Delegates filtering to the domain store and maps the matching rows.
+     *
+     * <p>Property names are passed through unchanged, so DTO and domain must share the names of
+     * filterable properties.</p>
+     */
+    @Override
+    public List<DTO> findAll(Filter filter) {
+        return toDtos(domainStore.findAll(filter));
+    }
+
+    /**
+     * Delegates projection reads to the domain store; rows are not mapped.
+     *
+     * <p>Property names are passed through unchanged, like filter property names.</p>
+     */
+    @Override
+    public List<Row> findRows(Projection projection, Filter filter) {
+        return domainStore.findRows(projection, filter);
+    }
+
+    /**
+     * Delegates paged projection reads to the domain store.
+     */
+    @Override
+    public Page<Row> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        return domainStore.findRowPage(projection, filter, request);
+    }
+
+    /**
+     * Delegates counting to the domain store.
+     */
+    @Override
+    public long count() {
+        return domainStore.count();
+    }
+
+    /**
+     * Delegates filtered counting to the domain store.
+     */
+    @Override
+    public long count(Filter filter) {
+        return domainStore.count(filter);
+    }
+
+    /**
+     * Delegates the existence check to the domain store without mapping.
+     */
+    @Override
+    public boolean existsById(ID id) {
+        return domainStore.existsById(id);
+    }
+
+    /**
+     * Delegates the filtered existence check to the domain store.
+     */
+    @Override
+    public boolean exists(Filter filter) {
+        return domainStore.exists(filter);
+    }
+
+    /**
+     * Delegates paging to the domain store and maps only the rows of the returned page.
+     *
+     * <p>Sort property names are passed through unchanged, so DTO and domain must share the
+     * names of sortable properties.</p>
+     */
+    @Override
+    public Page<DTO> findPage(PageRequest request) {
+        return domainStore.findPage(request)
+                .map(toDtoInContext());
+    }
+
+    /**
+     * Delegates filtered paging to the domain store and maps only the rows of the returned page.
+     */
+    @Override
+    public Page<DTO> findPage(Filter filter, PageRequest request) {
+        return domainStore.findPage(filter, request)
+                .map(toDtoInContext());
+    }
+
+    /**
+     * Delegates keyset scrolling to the domain store and maps only the rows of the returned window.
+     *
+     * <p>Positions are handed through unchanged; they hold domain property values.</p>
+     */
+    @Override
+    public Window<DTO> findWindow(ScrollRequest request) {
+        return domainStore.findWindow(request)
+                .map(toDtoInContext());
+    }
+
+    /**
+     * Delegates streaming to the domain store and maps each element as it is pulled.
+     */
+    @Override
+    public Stream<DTO> stream(int fetchSize) {
+        return domainStore.stream(fetchSize)
+                .map(toDtoInContext());
+    }
+
+    /**
+     * Delegates chunking to the domain store and maps each chunk before handing it on.
+     *
+     * <p>Domain stores that run the walk in one transaction keep doing so for DTO callers.</p>
+     */
+    @Override
+    public void forEachChunk(int chunkSize, Consumer<List<DTO>> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+        domainStore.forEachChunk(chunkSize, chunk -> consumer.accept(
+                chunk.stream().map(toDtoInContext()).toList()
+        ));
+    }
+
     /**
      * Maps DTO to domain, persists it, and maps persisted state back to DTO.
      */
@@ -59,6 +227,17 @@ public class DtoCrudStore<DTO, D, ID> implements CrudStore<DTO, ID> {
         return mapper.toDto(saved);
     }
 
+    /**
+     * Maps all DTOs to domain, delegates one bulk save, and maps the persisted state back.
+     */
+    @Override
+    public List<DTO> saveAll(Collection<? extends DTO> dtos) {
+        return domainStore.saveAll(toDomain(dtos))
+                .stream()
+                .map(toDtoInContext())
+                .toList();
+    }
+
     /**
      * Maps DTO to domain and delegates deletion to the wrapped store.
      */
@@ -66,4 +245,56 @@ public class DtoCrudStore<DTO, D, ID> implements CrudStore<DTO, ID> {
     public void delete(DTO dto) {
         domainStore.delete(mapper.toDomain(dto));
     }
+
+    /**
+     * Maps all DTOs to domain and delegates one bulk delete.
+     */
+    @Override
+    public void deleteAll(Collection<? extends DTO> dtos) {
+        domainStore.deleteAll(toDomain(dtos));
+    }
+
+    /**
+     * Delegates deletion by id without mapping.
+     */
+    @Override
+    public void deleteAllById(Collection<? extends ID> ids) {
+        domainStore.deleteAllById(ids);
+    }
+
+    /**
+     * Subscribes to the changes of the wrapped store.
+     *
+     * <p>Events are passed through unchanged; DTO and domain share ids, and the event type is the
+     * domain type. Throws {@link UnsupportedOperationException} if the wrapped store does not
+     * report changes.</p>
+     */
+    @Override
+    public Subscription subscribe(CrudStoreListener listener) {
+        if (!(domainStore instanceof CrudChangeSource source)) {
+            throw new UnsupportedOperationException(
+                    "Wrapped store " + domainStore.getClass().getName() + " does not report changes");
+        }
+        return source.subscribe(listener);
+    }
+
+    private List<DTO> toDtos(List<D> domains) {
+        Function<D, DTO> toDto = toDtoInContext();
+        return parallelMapping != null
+                ? parallelMapping.map(domains, toDto)
+                : listMapping.map(domains, toDto);
+    }
+
+    private Function<D, DTO> toDtoInContext() {
+        MappingContext context = MappingContext.create();
+        return domain -> mapper.toDto(domain, context);
+    }
+
+    private List<D> toDomain(Collection<? extends DTO> dtos) {
+        List<D> domains = new ArrayList<>(dtos.size());
+        for (DTO dto : dtos) {
+            domains.add(mapper.toDomain(dto));
+        }
+        return domains;
+    }
 }
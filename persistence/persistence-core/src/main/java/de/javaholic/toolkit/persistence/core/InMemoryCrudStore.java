@@ -0,0 +1,462 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe {@link CrudStore} that keeps all entities in memory.
+ *
+ * <p>Concept: entities are held in a {@link ConcurrentHashMap} keyed by their id, read through
+ * {@link EntityIdAccessor} (or a property named {@code id} for plain domain classes without
+ * {@code @Id}). Callers may declare secondary hash indexes on one or more properties. Writes
+ * update the entity map and all indexes under one write lock, so readers never see an entity
+ * without its index entries. {@link #findById(Object)} is a plain map lookup; filters whose
+ * equality conditions cover an index are answered from the index and only the candidates are
+ * checked against the full filter.</p>
+ *
+ * <p>Entities are stored by reference. Index entries are taken at save time, so an entity changed
+ * without saving it again is still found by its old values but no longer matches filters.
+ * A {@code null} {@link UUID} id is assigned on save; other id types must be set by the caller.
+ * Committed writes are reported to {@link CrudChangeSource} subscribers.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * InMemoryCrudStore<I18nEntry, UUID> entries = new InMemoryCrudStore<>(I18nEntry.class,
+ *         InMemoryCrudStore.Index.unique("key", "locale"),
+ *         InMemoryCrudStore.Index.on("locale"));
+ * entries.findAll(Filter.and(Filter.eq("key", "app.title"), Filter.eq("locale", "de")));
+ * }</pre>
+ */
+public class InMemoryCrudStore<T, ID> implements CrudStore<T, ID>, CrudChangeSource {
+
+    private final Class<T> type;
+    private final BeanMeta<T> meta;
+    private final BeanProperty<T, ?> idProperty;
+    private final EntityIdAccessor<T> accessor;
+    private final List<IndexState<T>> indexes;
+    private final ConcurrentHashMap<Object, T> entities = new ConcurrentHashMap<>();
+    private final Map<Object, List<List<Object>>> indexKeysById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CrudChangeDispatcher changes = new CrudChangeDispatcher();
+
+    /**
+     * Creates an empty store for the given type with the given secondary indexes.
+     *
+     * <p>Throws {@link IllegalArgumentException} if an index names an unknown property and
+     * {@link IllegalStateException} if the type has neither an {@code @Id} nor an {@code id}
+     * property.</p>
+     */
+    public InMemoryCrudStore(Class<T> type, Index... indexes) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.meta = BeanIntrospector.inspect(type);
+        this.idProperty = meta.idProperty()
+                .or(() -> meta.findProperty("id"))
+                .orElseThrow(() -> new IllegalStateException("No @Id or id property found on " + type.getName()));
+        this.accessor = meta.idProperty().isPresent() ? new EntityIdAccessor<>(meta) : null;
+        List<IndexState<T>> states = new ArrayList<>(indexes.length);
+        for (Index index : indexes) {
+            states.add(new IndexState<>(Objects.requireNonNull(index, "index"), properties(index)));
+        }
+        this.indexes = List.copyOf(states);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return List.copyOf(entities.values());
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        return Optional.ofNullable(entities.get(Objects.requireNonNull(id, "id")));
+    }
+
+    /**
+     * Returns the matching entities; equality conditions covering an index are answered in O(1).
+     */
+    @Override
+    public List<T> findAll(Filter filter) {
+        Predicate<T> predicate = InMemoryFilters.compile(filter, type);
+        lock.readLock().lock();
+        try {
+            Collection<T> candidates = candidates(filter);
+            List<T> result = new ArrayList<>();
+            for (T entity : candidates) {
+                if (predicate.test(entity)) {
+                    result.add(entity);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        return entities.size();
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return entities.containsKey(Objects.requireNonNull(id, "id"));
+    }
+
+    @Override
+    public boolean exists(Filter filter) {
+        Predicate<T> predicate = InMemoryFilters.compile(filter, type);
+        lock.readLock().lock();
+        try {
+            for (T entity : candidates(filter)) {
+                if (predicate.test(entity)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public T save(T entity) {
+        return saveAll(List.of(entity)).get(0);
+    }
+
+    /**
+     * Stores all entities atomically: on a unique index violation none of them is stored.
+     *
+     * <p>On failure every touched id gets back its previous entity and the index keys recorded when
+     * that entity was saved, even if the caller has changed the instance in the meantime.</p>
+     */
+    @Override
+    public List<T> saveAll(Collection<? extends T> toSave) {
+        List<T> saved = new ArrayList<>(toSave.size());
+        List<CrudChangeEvent> events = new ArrayList<>(toSave.size());
+        Map<Object, Stored<T>> previous = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            try {
+                for (T entity : toSave) {
+                    Objects.requireNonNull(entity, "entity");
+                    Object id = assignId(entity);
+                    if (!previous.containsKey(id)) {
+                        T current = entities.get(id);
+                        previous.put(id, current == null ? null : new Stored<>(current, indexKeysById.get(id)));
+                    }
+                    T replaced = put(id, entity);
+                    saved.add(entity);
+                    events.add(replaced == null
+                            ? CrudChangeEvent.created(type, id, versionOf(entity))
+                            : CrudChangeEvent.updated(type, id, versionOf(entity)));
+                }
+            } catch (RuntimeException e) {
+                previous.forEach((id, stored) -> {
+                    remove(id);
+                    if (stored != null) {
+                        link(id, stored.entity(), stored.keys());
+                    }
+                });
+                throw e;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changes.publish(events);
+        return saved;
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteIds(List.of(idOf(entity)));
+    }
+
+    @Override
+    public void deleteAll(Collection<? extends T> toDelete) {
+        List<Object> ids = new ArrayList<>(toDelete.size());
+        for (T entity : toDelete) {
+            ids.add(idOf(entity));
+        }
+        deleteIds(ids);
+    }
+
+    @Override
+    public void deleteAllById(Collection<? extends ID> ids) {
+        deleteIds(ids);
+    }
+
+    /**
+     * Removes all entities.
+     */
+    public void clear() {
+        deleteIds(List.copyOf(entities.keySet()));
+    }
+
+    @Override
+    public Subscription subscribe(CrudStoreListener listener) {
+        return changes.subscribe(listener);
+    }
+
+    private void deleteIds(Collection<?> ids) {
+        List<CrudChangeEvent> events = new ArrayList<>(ids.size());
+        lock.writeLock().lock();
+        try {
+            for (Object id : ids) {
+                if (id == null) {
+                    continue;
+                }
+                T removed = remove(id);
+                if (removed != null) {
+                    events.add(CrudChangeEvent.deleted(type, id, versionOf(removed)));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changes.publish(events);
+    }
+
+    /**
+     * Returns the entities an index can narrow the filter to, or all entities.
+     *
+     * <p>Must be called under the read lock.</p>
+     */
+    private Collection<T> candidates(Filter filter) {
+        if (filter instanceof Filter.In in) {
+            IndexState<T> index = indexOn(List.of(in.property()));
+            if (index != null) {
+                Set<T> result = new LinkedHashSet<>();
+                for (Object value : in.values()) {
+                    result.addAll(lookup(index, Arrays.asList(value)));
+                }
+                return result;
+            }
+            return entities.values();
+        }
+        Map<String, Object> equalities = new HashMap<>();
+        if (filter instanceof Filter.Equal equal) {
+            collectEquality(equal, equalities);
+        } else if (filter instanceof Filter.Junction junction && junction.type() == Filter.Junction.Type.AND) {
+            for (Filter child : junction.filters()) {
+                if (child instanceof Filter.Equal equal) {
+                    collectEquality(equal, equalities);
+                }
+            }
+        }
+        IndexState<T> best = null;
+        for (IndexState<T> index : indexes) {
+            if (equalities.keySet().containsAll(index.index.properties)
+                    && (best == null || index.index.properties.size() > best.index.properties.size())) {
+                best = index;
+            }
+        }
+        if (best == null) {
+            return entities.values();
+        }
+        List<Object> key = new ArrayList<>(best.index.properties.size());
+        for (String property : best.index.properties) {
+            key.add(equalities.get(property));
+        }
+        return lookup(best, key);
+    }
+
+    private static void collectEquality(Filter.Equal equal, Map<String, Object> equalities) {
+        if (!equal.ignoreCase() && equal.value() != null) {
+            equalities.putIfAbsent(equal.property(), equal.value());
+        }
+    }
+
+    private IndexState<T> indexOn(List<String> properties) {
+        for (IndexState<T> index : indexes) {
+            if (index.index.properties.equals(properties)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private List<T> lookup(IndexState<T> index, List<Object> key) {
+        Set<Object> ids = index.entries.get(key);
+        if (ids == null) {
+            return List.of();
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            T entity = entities.get(id);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the entity and its index entries; must be called under the write lock.
+     */
+    private T put(Object id, T entity) {
+        List<List<Object>> keys = new ArrayList<>(indexes.size());
+        for (IndexState<T> index : indexes) {
+            List<Object> key = index.keyOf(meta, entity);
+            if (index.index.unique) {
+                Set<Object> owners = index.entries.get(key);
+                if (owners != null && !owners.isEmpty() && !owners.contains(id)) {
+                    throw new IllegalStateException("Duplicate " + index.index + " value " + key + " for " + type.getName());
+                }
+            }
+            keys.add(key);
+        }
+        T replaced = remove(id);
+        link(id, entity, keys);
+        return replaced;
+    }
+
+    /**
+     * Stores the entity under the given index keys without checking them; must be called under the
+     * write lock after {@link #remove(Object)}.
+     */
+    private void link(Object id, T entity, List<List<Object>> keys) {
+        for (int i = 0; i < indexes.size(); i++) {
+            indexes.get(i).entries.computeIfAbsent(keys.get(i), key -> new LinkedHashSet<>()).add(id);
+        }
+        indexKeysById.put(id, keys);
+        entities.put(id, entity);
+    }
+
+    /**
+     * Removes the entity and the index entries recorded when it was saved; must be called under the write lock.
+     */
+    private T remove(Object id) {
+        T removed = entities.remove(id);
+        List<List<Object>> keys = indexKeysById.remove(id);
+        if (keys != null) {
+            for (int i = 0; i < indexes.size(); i++) {
+                Map<List<Object>, Set<Object>> entries = indexes.get(i).entries;
+                Set<Object> ids = entries.get(keys.get(i));
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        entries.remove(keys.get(i));
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object assignId(T entity) {
+        Object id = idOf(entity);
+        if (id == null && idProperty.type() == UUID.class) {
+            id = UUID.randomUUID();
+            meta.setValue((BeanProperty) idProperty, entity, id);
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cannot store " + type.getName() + " without id");
+        }
+        return id;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object idOf(T entity) {
+        Objects.requireNonNull(entity, "entity");
+        return accessor != null ? accessor.getId(entity) : meta.getValue((BeanProperty) idProperty, entity);
+    }
+
+    private Object versionOf(T entity) {
+        return accessor == null ? null : accessor.getVersion(entity).orElse(null);
+    }
+
+    private List<BeanProperty<T, ?>> properties(Index index) {
+        List<BeanProperty<T, ?>> properties = new ArrayList<>(index.properties.size());
+        for (String name : index.properties) {
+            properties.add(meta.findProperty(name).orElseThrow(() -> new IllegalArgumentException(
+                    "Unknown property '" + name + "' on " + type.getName())));
+        }
+        return properties;
+    }
+
+    /**
+     * Declaration of a secondary hash index on one or more properties.
+     */
+    public static final class Index {
+        private final List<String> properties;
+        private final boolean unique;
+
+        private Index(List<String> properties, boolean unique) {
+            if (properties.isEmpty()) {
+                throw new IllegalArgumentException("index needs at least one property");
+            }
+            this.properties = List.copyOf(properties);
+            this.unique = unique;
+        }
+
+        /**
+         * Declares an index on the combination of the given properties.
+         */
+        public static Index on(String... properties) {
+            return new Index(List.of(properties), false);
+        }
+
+        /**
+         * Declares an index that rejects a second entity with the same combination of values.
+         */
+        public static Index unique(String... properties) {
+            return new Index(List.of(properties), true);
+        }
+
+        public List<String> properties() {
+            return properties;
+        }
+
+        public boolean isUnique() {
+            return unique;
+        }
+
+        @Override
+        public String toString() {
+            return (unique ? "unique index " : "index ") + properties;
+        }
+    }
+
+    /**
+     * An entity as stored before a batch, with the index keys taken when it was saved.
+     */
+    private record Stored<T>(T entity, List<List<Object>> keys) {
+    }
+
+    private static final class IndexState<T> {
+        private final Index index;
+        private final List<BeanProperty<T, ?>> properties;
+        private final Map<List<Object>, Set<Object>> entries = new HashMap<>();
+
+        private IndexState(Index index, List<BeanProperty<T, ?>> properties) {
+            this.index = index;
+            this.properties = properties;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private List<Object> keyOf(BeanMeta<T> meta, T entity) {
+            Object[] values = new Object[properties.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = meta.getValue((BeanProperty) properties.get(i), entity);
+            }
+            return Arrays.asList(values);
+        }
+    }
+}
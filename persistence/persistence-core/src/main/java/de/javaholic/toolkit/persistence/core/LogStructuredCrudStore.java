@@ -0,0 +1,1129 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * {@link CrudStore} that persists entities in an append-only log of segment files.
+ *
+ * <p>Concept: every save appends a checksummed record holding the id and the entity encoded in
+ * {@link BeanMeta} property order; every delete appends a tombstone. An in-memory index maps each
+ * live id to the position of its latest record, so {@link #findById(Object)} decodes one record
+ * and {@link #count()} never touches the disk. Sealed segments are memory-mapped once; records of
+ * the active segment are read with positional reads. When the active segment reaches
+ * {@link Settings#maxSegmentBytes()} a new one is started. Compaction copies the live records of
+ * all sealed segments into new segments of at most that size and drops overwritten records and
+ * tombstones; it runs in the background when the share of garbage in sealed segments exceeds
+ * {@link Settings#compactionThreshold()}, and can be triggered with {@link #compact()}.</p>
+ *
+ * <p>Opening a directory rebuilds the index by scanning the segments. A record at the end of the
+ * newest segment that was only partly written, or whose checksum does not match, is cut off;
+ * damage anywhere else is reported as {@link IllegalStateException}. How often writes are forced
+ * to disk is controlled by {@link Durability}. Entities are copied on save and decoded on every
+ * read, so callers never share instances with the store. The id property and the value types
+ * follow {@link InMemoryCrudStore} and {@link CrudStoreSnapshot}: an {@code @Id} or {@code id}
+ * property, and a {@code null} {@link UUID} id is assigned on save. Filters are evaluated
+ * against the decoded live entities.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * try (LogStructuredCrudStore<I18nEntry, UUID> entries = LogStructuredCrudStore.open(I18nEntry.class,
+ *         Path.of("data/i18n"), LogStructuredCrudStore.Settings.defaults()
+ *                 .durability(LogStructuredCrudStore.Durability.PERIODIC))) {
+ *     entries.save(entry);
+ *     entries.findAll(Filter.eq("locale", "de"));
+ * }
+ * }</pre>
+ */
+public class LogStructuredCrudStore<T, ID> implements CrudStore<T, ID>, AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String PART_SUFFIX = ".part";
+    private static final String COMMIT_PREFIX = "compaction-";
+    private static final String COMMIT_SUFFIX = ".commit";
+
+    private static final int HEADER_BYTES = 9;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte CLASS = 3;
+
+    /**
+     * When appended records are forced to disk.
+     */
+    public enum Durability {
+        /**
+         * Forces every {@code save}, {@code saveAll} and {@code delete} call before it returns.
+         */
+        ON_WRITE,
+        /**
+         * Forces the log in the background every {@link Settings#syncInterval()}.
+         */
+        PERIODIC,
+        /**
+         * Leaves flushing to the operating system until the store is closed.
+         */
+        NEVER
+    }
+
+    private final Class<T> type;
+    private final BeanMeta<T> meta;
+    private final BeanProperty<T, ?> idProperty;
+    private final EntityIdAccessor<T> accessor;
+    private final Path directory;
+    private final Settings settings;
+    private final BinaryRowCodec codec = new BinaryRowCodec();
+    private final StoreClasses classes = new StoreClasses();
+    private final ConcurrentHashMap<Object, Location> index = new ConcurrentHashMap<>();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object compaction = new Object();
+    private ScheduledExecutorService background;
+    private Segment active;
+    private long discardedTailBytes;
+    private volatile boolean closed;
+
+    /**
+     * Opens the store in the given directory with default settings, creating it if needed.
+     */
+    public static <T, ID> LogStructuredCrudStore<T, ID> open(Class<T> type, Path directory) {
+        return open(type, directory, Settings.defaults());
+    }
+
+    /**
+     * Opens the store in the given directory, creating it if needed, rebuilds the index and starts
+     * the background work the settings ask for.
+     *
+     * <p>Throws {@link IllegalStateException} if the type has neither an {@code @Id} nor an
+     * {@code id} property or a sealed segment is damaged.</p>
+     */
+    public static <T, ID> LogStructuredCrudStore<T, ID> open(Class<T> type, Path directory, Settings settings) {
+        LogStructuredCrudStore<T, ID> store = new LogStructuredCrudStore<>(type, directory, settings);
+        store.startBackground();
+        return store;
+    }
+
+    /**
+     * Opens the store in the given directory, creating it if needed, and rebuilds the index.
+     *
+     * <p>Background work does not run until {@link #startBackground()} is called, so subclasses
+     * call it from their own factory once construction has finished.</p>
+     */
+    protected LogStructuredCrudStore(Class<T> type, Path directory, Settings settings) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.meta = BeanIntrospector.inspect(type);
+        this.idProperty = meta.idProperty()
+                .or(() -> meta.findProperty("id"))
+                .orElseThrow(() -> new IllegalStateException("No @Id or id property found on " + type.getName()));
+        this.accessor = meta.idProperty().isPresent() ? new EntityIdAccessor<>(meta) : null;
+        codec.schema(type);
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            closeSegmentsAfter(e);
+            throw new UncheckedIOException("Cannot open log store in " + directory, e);
+        } catch (RuntimeException e) {
+            closeSegmentsAfter(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the periodic sync and background compaction the settings ask for; does nothing if
+     * there are none or they already run.
+     */
+    protected final void startBackground() {
+        synchronized (compaction) {
+            ensureOpen();
+            if (background == null) {
+                background = newBackground();
+            }
+        }
+    }
+
+    @Override
+    public List<T> findAll() {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            List<T> result = new ArrayList<>(index.size());
+            for (Location location : index.values()) {
+                result.add(decode(location));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        Objects.requireNonNull(id, "id");
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            Location location = index.get(id);
+            return location == null ? Optional.empty() : Optional.of(decode(location));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<T> findAll(Filter filter) {
+        Predicate<T> predicate = InMemoryFilters.compile(filter, type);
+        List<T> result = new ArrayList<>();
+        for (T entity : findAll()) {
+            if (predicate.test(entity)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long count() {
+        return index.size();
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return index.containsKey(Objects.requireNonNull(id, "id"));
+    }
+
+    @Override
+    public T save(T entity) {
+        return saveAll(List.of(entity)).get(0);
+    }
+
+    /**
+     * Appends all entities and forces the log once when the durability asks for it.
+     *
+     * <p>All entities are encoded before the first record is written, so an entity that cannot be
+     * encoded leaves the store unchanged.</p>
+     */
+    @Override
+    public List<T> saveAll(Collection<? extends T> toSave) {
+        Objects.requireNonNull(toSave, "entities");
+        List<T> saved = new ArrayList<>(toSave.size());
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            List<Object> ids = new ArrayList<>(toSave.size());
+            List<byte[]> records = new ArrayList<>(toSave.size());
+            try {
+                for (T entity : toSave) {
+                    Objects.requireNonNull(entity, "entity");
+                    Object id = assignId(entity);
+                    ids.add(id);
+                    records.add(encodePut(id, entity));
+                    saved.add(entity);
+                }
+            } catch (IOException e) {
+                classes.discardPending();
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                classes.discardPending();
+                throw e;
+            }
+            appendPendingClasses();
+            for (int i = 0; i < records.size(); i++) {
+                replace(ids.get(i), append(PUT, records.get(i)));
+            }
+            syncOnWrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to log store in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return saved;
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteIds(List.of(idOf(entity)));
+    }
+
+    @Override
+    public void deleteAll(Collection<? extends T> toDelete) {
+        List<Object> ids = new ArrayList<>(toDelete.size());
+        for (T entity : toDelete) {
+            ids.add(idOf(entity));
+        }
+        deleteIds(ids);
+    }
+
+    @Override
+    public void deleteAllById(Collection<? extends ID> ids) {
+        deleteIds(ids);
+    }
+
+    /**
+     * Copies the live records of all sealed segments into one segment and removes the old files.
+     *
+     * <p>The active segment is sealed first if it holds records. Records are copied without
+     * blocking readers or writers; only swapping the index entries takes the write lock.</p>
+     *
+     * @return {@code true} if segments were compacted
+     */
+    public boolean compact() {
+        synchronized (compaction) {
+            List<Segment> sealed;
+            List<List<Copy>> parts;
+            lock.writeLock().lock();
+            try {
+                ensureOpen();
+                if (active.size > 0) {
+                    roll();
+                }
+                sealed = new ArrayList<>(segments.headMap(active.id).values());
+                if (sealed.isEmpty()) {
+                    return false;
+                }
+                parts = planCompaction();
+                long next = sealed.get(sealed.size() - 1).id + parts.size() + 1;
+                if (active.id < next) {
+                    // The active segment is still empty; move it above the ids the compacted parts take.
+                    segments.remove(active.id);
+                    active.close();
+                    Files.delete(active.path);
+                    active = openSegment(next, true);
+                    segments.put(active.id, active);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot seal segment in " + directory, e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                compact(sealed, parts);
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot compact log store in " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * Forces all appended records to disk.
+     */
+    public void sync() {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                active.channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot sync log store in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of incomplete records cut off the newest segment when the store
+     * was opened; {@code 0} if the log ended cleanly.
+     */
+    public long discardedTailBytes() {
+        return discardedTailBytes;
+    }
+
+    /**
+     * Returns the share of sealed segment bytes held by overwritten records and tombstones.
+     */
+    public double garbageRatio() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            long garbage = 0;
+            for (Segment segment : segments.headMap(active.id).values()) {
+                total += segment.size;
+                garbage += segment.garbage;
+            }
+            return total == 0 ? 0 : (double) garbage / total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Stops background work, forces the log to disk and closes all segment files.
+     *
+     * <p>Every segment is closed even if forcing or closing another one fails; the first failure
+     * is thrown as {@link UncheckedIOException} with the others suppressed.</p>
+     */
+    @Override
+    public void close() {
+        synchronized (compaction) {
+            if (background != null) {
+                background.shutdown();
+            }
+            lock.writeLock().lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                IOException failure = null;
+                try {
+                    active.channel.force(false);
+                } catch (IOException e) {
+                    failure = e;
+                }
+                IOException closing = closeSegments();
+                if (failure == null) {
+                    failure = closing;
+                } else if (closing != null) {
+                    failure.addSuppressed(closing);
+                }
+                if (failure != null) {
+                    throw new UncheckedIOException("Cannot close log store in " + directory, failure);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void deleteIds(Collection<?> ids) {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            boolean written = false;
+            for (Object id : ids) {
+                if (id == null || !index.containsKey(id)) {
+                    continue;
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+                codec.writeValue(new DataOutputStream(bytes), id, classes);
+                appendPendingClasses();
+                Location tombstone = append(DELETE, bytes.toByteArray());
+                tombstone.segment.garbage += tombstone.length;
+                replace(id, null);
+                written = true;
+            }
+            if (written) {
+                syncOnWrite();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to log store in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Points the id at its new record, counting the previous one as garbage; must be called under the write lock.
+     */
+    private void replace(Object id, Location location) {
+        Location previous = location == null ? index.remove(id) : index.put(id, location);
+        if (previous != null) {
+            previous.segment.garbage += previous.length;
+        }
+    }
+
+    /**
+     * Writes the classes first referenced by the records about to be appended; must be called under the write lock.
+     */
+    private void appendPendingClasses() throws IOException {
+        for (Class<?> newType : classes.takePending()) {
+            append(CLASS, encodeClass(classes.indexOf(newType), newType));
+        }
+    }
+
+    private byte[] encodePut(Object id, T entity) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.writeValue(out, id, classes);
+        codec.writeBean(out, entity, classes);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeClass(int classIndex, Class<?> classType) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(classIndex);
+        BinaryRowCodec.writeName(out, classType.getName());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private T decode(Location location) {
+        ByteBuffer payload = location.segment.payload(location);
+        codec.readValue(payload, classes);
+        return codec.readBean(payload, type, classes);
+    }
+
+    /**
+     * Appends one record to the active segment, starting a new one when it is full; must be called under the write lock.
+     */
+    private Location append(byte recordType, byte[] payload) throws IOException {
+        int length = HEADER_BYTES + payload.length;
+        if (active.size > 0 && active.size + length > settings.maxSegmentBytes) {
+            roll();
+        }
+        ByteBuffer record = ByteBuffer.allocate(length);
+        record.putInt(payload.length).putInt(checksum(recordType, payload, 0, payload.length)).put(recordType).put(payload);
+        record.flip();
+        long offset = active.size;
+        while (record.hasRemaining()) {
+            active.channel.write(record, offset + record.position());
+        }
+        active.size += length;
+        return new Location(active, offset, length);
+    }
+
+    private void syncOnWrite() throws IOException {
+        if (settings.durability == Durability.ON_WRITE) {
+            active.channel.force(false);
+        }
+    }
+
+    /**
+     * Seals the active segment and starts the next one; must be called under the write lock.
+     */
+    private void roll() throws IOException {
+        active.channel.force(false);
+        active.seal();
+        active = openSegment(active.id + 1, true);
+        segments.put(active.id, active);
+    }
+
+    /**
+     * Lists the class records and the live records of the sealed segments in file order and packs
+     * them into parts of at most {@link Settings#maxSegmentBytes()}; must be called under the write lock.
+     */
+    private List<List<Copy>> planCompaction() throws IOException {
+        List<Copy> copies = new ArrayList<>();
+        List<Class<?>> knownClasses = classes.snapshot();
+        for (int i = 0; i < knownClasses.size(); i++) {
+            byte[] payload = encodeClass(i, knownClasses.get(i));
+            ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+            record.putInt(payload.length).putInt(checksum(CLASS, payload, 0, payload.length)).put(CLASS).put(payload);
+            copies.add(new Copy(null, null, record.flip()));
+        }
+        List<Map.Entry<Object, Location>> live = new ArrayList<>();
+        for (Map.Entry<Object, Location> entry : index.entrySet()) {
+            if (entry.getValue().segment.id < active.id) {
+                live.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        live.sort(Comparator.comparingLong((Map.Entry<Object, Location> entry) -> entry.getValue().segment.id)
+                .thenComparingLong(entry -> entry.getValue().offset));
+        for (Map.Entry<Object, Location> entry : live) {
+            copies.add(new Copy(entry.getKey(), entry.getValue(), entry.getValue().segment.record(entry.getValue())));
+        }
+
+        List<List<Copy>> parts = new ArrayList<>();
+        List<Copy> part = null;
+        long partSize = 0;
+        for (Copy copy : copies) {
+            int length = copy.record.remaining();
+            if (part == null || partSize > 0 && partSize + length > settings.maxSegmentBytes) {
+                part = new ArrayList<>();
+                parts.add(part);
+                partSize = 0;
+            }
+            part.add(copy);
+            partSize += length;
+        }
+        return parts;
+    }
+
+    /**
+     * Writes the parts as {@code .part} files next to the log and swaps them in under the write
+     * lock. The commit marker written first makes recovery finish an interrupted swap instead of
+     * mixing old and new segments.
+     */
+    private void compact(List<Segment> sealed, List<List<Copy>> parts) throws IOException {
+        long target = sealed.get(sealed.size() - 1).id;
+        List<Path> partPaths = new ArrayList<>(parts.size());
+        List<long[]> offsets = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            Path path = directory.resolve(segmentName(target + 1 + i) + PART_SUFFIX);
+            partPaths.add(path);
+            long[] partOffsets = new long[parts.get(i).size()];
+            try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                long position = 0;
+                for (int j = 0; j < partOffsets.length; j++) {
+                    partOffsets[j] = position;
+                    position += writeFully(out, parts.get(i).get(j).record, position);
+                }
+                out.force(true);
+            }
+            offsets.add(partOffsets);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                for (Path path : partPaths) {
+                    Files.deleteIfExists(path);
+                }
+                return;
+            }
+            Path commit = directory.resolve(COMMIT_PREFIX + target + COMMIT_SUFFIX);
+            Files.createFile(commit);
+            for (Segment segment : sealed) {
+                segments.remove(segment.id);
+                segment.close();
+                Files.deleteIfExists(segment.path);
+            }
+            for (int i = 0; i < parts.size(); i++) {
+                long id = target + 1 + i;
+                Path finalPath = directory.resolve(segmentName(id));
+                Files.move(partPaths.get(i), finalPath, StandardCopyOption.ATOMIC_MOVE);
+                Segment replacement = openSegment(id, finalPath, false);
+                replacement.seal();
+                for (int j = 0; j < offsets.get(i).length; j++) {
+                    Copy copy = parts.get(i).get(j);
+                    if (copy.id == null) {
+                        continue;
+                    }
+                    Location current = new Location(replacement, offsets.get(i)[j], copy.from.length);
+                    if (!index.replace(copy.id, copy.from, current)) {
+                        replacement.garbage += copy.from.length;
+                    }
+                }
+                segments.put(id, replacement);
+            }
+            Files.delete(commit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the segment files, finishing a committed compaction first and
+     * dropping the parts of one that was not committed.
+     */
+    private void recover() throws IOException {
+        List<Path> parts = new ArrayList<>();
+        Path commit = null;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PART_SUFFIX)) {
+                    parts.add(file);
+                } else if (name.startsWith(COMMIT_PREFIX) && name.endsWith(COMMIT_SUFFIX)) {
+                    commit = file;
+                }
+            }
+        }
+        if (commit != null) {
+            String name = commit.getFileName().toString();
+            long target = Long.parseLong(name.substring(COMMIT_PREFIX.length(), name.length() - COMMIT_SUFFIX.length()));
+            for (long id : segmentIds()) {
+                if (id <= target) {
+                    Files.delete(directory.resolve(segmentName(id)));
+                }
+            }
+            for (Path part : parts) {
+                String partName = part.getFileName().toString();
+                Files.move(part, directory.resolve(partName.substring(0, partName.length() - PART_SUFFIX.length())),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.delete(commit);
+        } else {
+            for (Path part : parts) {
+                Files.delete(part);
+            }
+        }
+        List<Long> ids = segmentIds();
+        for (int i = 0; i < ids.size(); i++) {
+            boolean newest = i == ids.size() - 1;
+            Segment segment = openSegment(ids.get(i), newest);
+            segments.put(segment.id, segment);
+            scan(segment, newest);
+            if (newest) {
+                active = segment;
+            } else {
+                segment.seal();
+            }
+        }
+        if (active == null) {
+            active = openSegment(1, true);
+            segments.put(active.id, active);
+        }
+    }
+
+    private void scan(Segment segment, boolean newest) throws IOException {
+        ByteBuffer buffer = segment.channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.size);
+        long offset = 0;
+        while (offset < segment.size) {
+            int payloadLength = segment.size - offset >= HEADER_BYTES ? buffer.getInt((int) offset) : -1;
+            boolean intact = payloadLength >= 0 && offset + HEADER_BYTES + payloadLength <= segment.size;
+            if (intact) {
+                int crc = buffer.getInt((int) offset + 4);
+                byte recordType = buffer.get((int) offset + 8);
+                ByteBuffer payload = buffer.slice((int) offset + HEADER_BYTES, payloadLength);
+                intact = crc == checksum(recordType, payload);
+                if (intact) {
+                    int length = HEADER_BYTES + payloadLength;
+                    apply(new Location(segment, offset, length), recordType, payload.duplicate());
+                    offset += length;
+                    continue;
+                }
+            }
+            if (!newest) {
+                throw new IllegalStateException("Corrupt record at offset " + offset + " in " + segment.path);
+            }
+            discardedTailBytes = segment.size - offset;
+            segment.channel.truncate(offset);
+            segment.channel.force(true);
+            segment.size = offset;
+        }
+    }
+
+    private void apply(Location location, byte recordType, ByteBuffer payload) {
+        try {
+            switch (recordType) {
+                case PUT -> replace(codec.readValue(payload, classes), location);
+                case DELETE -> {
+                    replace(codec.readValue(payload, classes), null);
+                    location.segment.garbage += location.length;
+                }
+                case CLASS -> classes.register(payload.getShort(), BinaryRowCodec.readName(payload), type.getClassLoader());
+                default -> throw new IllegalStateException("Unknown record type " + recordType + " in " + location.segment.path);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Corrupt record at offset " + location.offset + " in " + location.segment.path, e);
+        }
+    }
+
+    private List<Long> segmentIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    ids.add(segmentId(name));
+                }
+            }
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private Segment openSegment(long id, boolean writable) throws IOException {
+        return openSegment(id, directory.resolve(segmentName(id)), writable);
+    }
+
+    private static Segment openSegment(long id, Path path, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        return new Segment(id, path, channel);
+    }
+
+    private ScheduledExecutorService newBackground() {
+        boolean periodicSync = settings.durability == Durability.PERIODIC;
+        boolean compacting = settings.compactionInterval != null;
+        if (!periodicSync && !compacting) {
+            return null;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("log-store-" + directory.getFileName()).daemon().factory());
+        if (periodicSync) {
+            long millis = settings.syncInterval.toMillis();
+            executor.scheduleWithFixedDelay(() -> runReporting(this::sync), millis, millis, TimeUnit.MILLISECONDS);
+        }
+        if (compacting) {
+            long millis = settings.compactionInterval.toMillis();
+            executor.scheduleWithFixedDelay(() -> runReporting(() -> {
+                if (!closed && garbageRatio() >= settings.compactionThreshold) {
+                    compact();
+                }
+            }), millis, millis, TimeUnit.MILLISECONDS);
+        }
+        return executor;
+    }
+
+    private void runReporting(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            settings.backgroundFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Closes every segment and returns the first failure with the others suppressed, or {@code null}.
+     */
+    private IOException closeSegments() {
+        IOException failure = null;
+        for (Segment segment : segments.values()) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        return failure;
+    }
+
+    private void closeSegmentsAfter(Exception cause) {
+        IOException closing = closeSegments();
+        if (closing != null) {
+            cause.addSuppressed(closing);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Log store " + directory + " is closed");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object assignId(T entity) {
+        Object id = idOf(entity);
+        if (id == null && idProperty.type() == UUID.class) {
+            id = UUID.randomUUID();
+            meta.setValue((BeanProperty) idProperty, entity, id);
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cannot store " + type.getName() + " without id");
+        }
+        return id;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object idOf(T entity) {
+        Objects.requireNonNull(entity, "entity");
+        return accessor != null ? accessor.getId(entity) : meta.getValue((BeanProperty) idProperty, entity);
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    private static int checksum(byte recordType, byte[] payload, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(recordType);
+        crc.update(payload, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static int checksum(byte recordType, ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(recordType);
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static String segmentName(long id) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    }
+
+    private static long segmentId(String name) {
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Position of a record: segment, offset of its header and length including the header.
+     */
+    private record Location(Segment segment, long offset, int length) {
+    }
+
+    /**
+     * A record copied by compaction: the id and location it replaces, or {@code null} for a class record.
+     */
+    private record Copy(Object id, Location from, ByteBuffer record) {
+    }
+
+    /**
+     * One segment file with its channel and, once sealed, a read-only mapping of the whole file.
+     */
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private volatile MappedByteBuffer mapped;
+        private long size;
+        private long garbage;
+
+        private Segment(long id, Path path, FileChannel channel) throws IOException {
+            if (channel.size() > Integer.MAX_VALUE) {
+                channel.close();
+                throw new IllegalStateException("Segment too large to map: " + path);
+            }
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        /**
+         * Maps the whole file once no more records are appended.
+         */
+        private void seal() throws IOException {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        private ByteBuffer payload(Location location) {
+            return record(location).position(HEADER_BYTES).slice();
+        }
+
+        /**
+         * Slices the record from the mapping of a sealed segment, or reads it from the file while the segment is active.
+         */
+        private ByteBuffer record(Location location) {
+            MappedByteBuffer current = mapped;
+            if (current != null) {
+                return current.slice((int) location.offset, location.length);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(location.length);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, location.offset + buffer.position()) < 0) {
+                        throw new IllegalStateException("Record ends past the end of " + path);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read " + path, e);
+            }
+            return buffer.flip();
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Enum and bean classes referenced by records, numbered for the whole store.
+     */
+    private static final class StoreClasses implements BinaryRowCodec.ClassTable {
+        private final Map<Class<?>, Integer> indexes = new ConcurrentHashMap<>();
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<Class<?>> pending = new ArrayList<>();
+
+        @Override
+        public int indexOf(Class<?> classType) {
+            Integer known = indexes.get(classType);
+            if (known != null) {
+                return known;
+            }
+            synchronized (this) {
+                return indexes.computeIfAbsent(classType, ignored -> {
+                    types.add(classType);
+                    pending.add(classType);
+                    return types.size() - 1;
+                });
+            }
+        }
+
+        @Override
+        public synchronized Class<?> typeAt(int classIndex) {
+            return types.get(classIndex);
+        }
+
+        private synchronized void register(int classIndex, String name, ClassLoader loader) {
+            Class<?> classType;
+            try {
+                classType = Class.forName(name, false, loader);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Log store references unknown class " + name, e);
+            }
+            if (classIndex < types.size()) {
+                if (types.get(classIndex) != classType) {
+                    throw new IllegalStateException("Conflicting class entries for index " + classIndex);
+                }
+                return;
+            }
+            if (classIndex != types.size()) {
+                throw new IllegalStateException("Missing class entries before index " + classIndex);
+            }
+            types.add(classType);
+            indexes.put(classType, classIndex);
+        }
+
+        private synchronized List<Class<?>> takePending() {
+            List<Class<?>> taken = List.copyOf(pending);
+            pending.clear();
+            return taken;
+        }
+
+        private synchronized void discardPending() {
+            for (Class<?> classType : pending) {
+                indexes.remove(classType);
+                types.remove(classType);
+            }
+            pending.clear();
+        }
+
+        private synchronized List<Class<?>> snapshot() {
+            return List.copyOf(types);
+        }
+    }
+
+    /**
+     * Durability, segment size and compaction settings.
+     */
+    public static final class Settings {
+
+        private final Durability durability;
+        private final Duration syncInterval;
+        private final long maxSegmentBytes;
+        private final Duration compactionInterval;
+        private final double compactionThreshold;
+        private final Consumer<? super RuntimeException> backgroundFailureHandler;
+
+        private Settings(Durability durability, Duration syncInterval, long maxSegmentBytes,
+                         Duration compactionInterval, double compactionThreshold,
+                         Consumer<? super RuntimeException> backgroundFailureHandler) {
+            if (maxSegmentBytes < HEADER_BYTES || maxSegmentBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("maxSegmentBytes must be between " + HEADER_BYTES + " and 2 GiB: " + maxSegmentBytes);
+            }
+            if (compactionThreshold <= 0 || compactionThreshold > 1) {
+                throw new IllegalArgumentException("compactionThreshold must be in (0, 1]: " + compactionThreshold);
+            }
+            this.durability = Objects.requireNonNull(durability, "durability");
+            this.syncInterval = positive(syncInterval, "syncInterval");
+            this.maxSegmentBytes = maxSegmentBytes;
+            this.compactionInterval = compactionInterval == null ? null : positive(compactionInterval, "compactionInterval");
+            this.compactionThreshold = compactionThreshold;
+            this.backgroundFailureHandler = Objects.requireNonNull(backgroundFailureHandler, "backgroundFailureHandler");
+        }
+
+        /**
+         * Forces every write, starts segments at 64 MiB, checks for compaction every minute at 50% garbage
+         * and passes background failures to the uncaught exception handler of the background thread.
+         */
+        public static Settings defaults() {
+            return new Settings(Durability.ON_WRITE, Duration.ofSeconds(1), 64L * 1024 * 1024, Duration.ofMinutes(1), 0.5,
+                    Settings::uncaught);
+        }
+
+        /**
+         * Returns a copy forcing writes to disk as given.
+         */
+        public Settings durability(Durability durability) {
+            return new Settings(durability, syncInterval, maxSegmentBytes, compactionInterval, compactionThreshold, backgroundFailureHandler);
+        }
+
+        /**
+         * Returns a copy forcing the log every {@code interval} in {@link Durability#PERIODIC} mode.
+         */
+        public Settings syncInterval(Duration interval) {
+            return new Settings(durability, interval, maxSegmentBytes, compactionInterval, compactionThreshold, backgroundFailureHandler);
+        }
+
+        /**
+         * Returns a copy starting a new segment once the active one would exceed the given size.
+         */
+        public Settings maxSegmentBytes(long maxSegmentBytes) {
+            return new Settings(durability, syncInterval, maxSegmentBytes, compactionInterval, compactionThreshold, backgroundFailureHandler);
+        }
+
+        /**
+         * Returns a copy checking every {@code interval} whether sealed segments hold at least
+         * {@code threshold} garbage and compacting them if so.
+         */
+        public Settings compaction(Duration interval, double threshold) {
+            return new Settings(durability, syncInterval, maxSegmentBytes, Objects.requireNonNull(interval, "interval"), threshold,
+                    backgroundFailureHandler);
+        }
+
+        /**
+         * Returns a copy that compacts only when {@link LogStructuredCrudStore#compact()} is called.
+         */
+        public Settings withoutBackgroundCompaction() {
+            return new Settings(durability, syncInterval, maxSegmentBytes, null, compactionThreshold, backgroundFailureHandler);
+        }
+
+        /**
+         * Returns a copy passing failures of periodic syncs and background compactions to {@code handler};
+         * the failed run is skipped and the next one is still scheduled.
+         */
+        public Settings onBackgroundFailure(Consumer<? super RuntimeException> handler) {
+            return new Settings(durability, syncInterval, maxSegmentBytes, compactionInterval, compactionThreshold,
+                    Objects.requireNonNull(handler, "handler"));
+        }
+
+        public Durability durability() {
+            return durability;
+        }
+
+        public Duration syncInterval() {
+            return syncInterval;
+        }
+
+        public long maxSegmentBytes() {
+            return maxSegmentBytes;
+        }
+
+        public Optional<Duration> compactionInterval() {
+            return Optional.ofNullable(compactionInterval);
+        }
+
+        public double compactionThreshold() {
+            return compactionThreshold;
+        }
+
+        private static void uncaught(RuntimeException failure) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+        }
+
+        private static Duration positive(Duration duration, String name) {
+            Objects.requireNonNull(duration, name);
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
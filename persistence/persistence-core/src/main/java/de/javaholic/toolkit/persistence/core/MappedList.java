@@ -0,0 +1,138 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Read-only {@link RandomAccess} list view that maps the elements of a source list on access.
+ *
+ * <p>Concept: stores hand out {@code findAll} results that are often only partly read, for example
+ * when a grid renders the first page. Instead of mapping every row up front, the view maps an
+ * element when it is first requested. A memoized view keeps each mapped element, so repeated
+ * access returns the same instance, and drops the source list once every element has been mapped.
+ * An unmemoized view maps on every access and holds no second array, which suits callers that
+ * read each element once.</p>
+ *
+ * <p>The source list is not copied and must not change while the view is in use. Memoized views
+ * are safe for concurrent readers: if two threads map the same element at once, both see the
+ * value that was stored first.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * List<UserDto> users = MappedList.Mode.LAZY.map(domainStore.findAll(), mapper::toDto);
+ * grid.setItems(users.subList(0, 50)); // maps 50 rows
+ * }</pre>
+ */
+public final class MappedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * How a store maps the rows of list results.
+     */
+    public enum Mode {
+        /**
+         * Maps all rows into a new list before returning it.
+         */
+        EAGER,
+        /**
+         * Returns a memoized view that maps each row on first access.
+         */
+        LAZY,
+        /**
+         * Returns a view that maps a row on every access, for one-pass consumers.
+         */
+        LAZY_UNMEMOIZED;
+
+        /**
+         * Maps the source rows according to this mode.
+         */
+        public <S, T> List<T> map(List<? extends S> source, Function<? super S, ? extends T> mapper) {
+            Objects.requireNonNull(source, "source");
+            Objects.requireNonNull(mapper, "mapper");
+            return switch (this) {
+                case EAGER -> {
+                    List<T> mapped = new ArrayList<>(source.size());
+                    for (S element : source) {
+                        mapped.add(mapper.apply(element));
+                    }
+                    yield Collections.unmodifiableList(mapped);
+                }
+                case LAZY -> memoized(source, mapper);
+                case LAZY_UNMEMOIZED -> unmemoized(source, mapper);
+            };
+        }
+    }
+
+    private final int size;
+    private final Function<? super S, ? extends T> mapper;
+    private final AtomicReferenceArray<T> mapped;
+    private final AtomicInteger unmapped;
+    private volatile List<? extends S> source;
+
+    private MappedList(List<? extends S> source, Function<? super S, ? extends T> mapper, boolean memoize) {
+        this.source = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        this.size = source.size();
+        this.mapper = mapper;
+        this.mapped = memoize ? new AtomicReferenceArray<>(size) : null;
+        this.unmapped = memoize ? new AtomicInteger(size) : null;
+    }
+
+    /**
+     * Returns a view that maps each element once, on first access.
+     */
+    public static <S, T> MappedList<S, T> memoized(List<? extends S> source, Function<? super S, ? extends T> mapper) {
+        return new MappedList<>(Objects.requireNonNull(source, "source"), Objects.requireNonNull(mapper, "mapper"), true);
+    }
+
+    /**
+     * Returns a view that maps an element on every access.
+     */
+    public static <S, T> MappedList<S, T> unmemoized(List<? extends S> source, Function<? super S, ? extends T> mapper) {
+        return new MappedList<>(Objects.requireNonNull(source, "source"), Objects.requireNonNull(mapper, "mapper"), false);
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        if (mapped == null) {
+            return mapper.apply(source.get(index));
+        }
+        T value = mapped.get(index);
+        if (value != null) {
+            return value;
+        }
+        List<? extends S> rows = source;
+        if (rows == null) {
+            return mapped.get(index);
+        }
+        T fresh = mapper.apply(rows.get(index));
+        if (fresh == null) {
+            return null;
+        }
+        if (mapped.compareAndSet(index, null, fresh)) {
+            if (unmapped.decrementAndGet() == 0) {
+                source = null;
+            }
+            return fresh;
+        }
+        return mapped.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns how many elements have been mapped and kept; always {@code 0} for unmemoized views.
+     */
+    public int mappedCount() {
+        return mapped == null ? 0 : size - unmapped.get();
+    }
+}
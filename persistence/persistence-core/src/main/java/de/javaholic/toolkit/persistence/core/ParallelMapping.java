@@ -0,0 +1,152 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Maps large result lists in parallel chunks while keeping their order.
+ *
+ * <p>Concept: below {@link #threshold()} rows the list is mapped on the calling thread. Above it,
+ * the rows are split into contiguous chunks that are mapped on a {@link ForkJoinPool} or on
+ * virtual threads and written into one result array, so the result has the source order. Only
+ * mappers that declare themselves thread-safe ({@link DtoMapper#isThreadSafe()},
+ * {@link EntityMapper#isThreadSafe()}) may be used; stores check this when they are created.</p>
+ *
+ * <p>The first exception thrown by a mapper is rethrown on the calling thread after all chunks
+ * have finished.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudStore<UserFormDto, UUID> users = new DtoCrudStore<>(userStore, userFormDtoMapper,
+ *         ParallelMapping.above(5_000).onVirtualThreads());
+ * }</pre>
+ */
+public final class ParallelMapping {
+
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    private final int threshold;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    private ParallelMapping(int threshold, int chunkSize, ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        if (chunkSize < 0) {
+            throw new IllegalArgumentException("chunkSize must not be negative: " + chunkSize);
+        }
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Maps lists of at least {@code threshold} rows in parallel on the common {@link ForkJoinPool}.
+     */
+    public static ParallelMapping above(int threshold) {
+        return new ParallelMapping(threshold, 0, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns a copy mapping on the given pool.
+     */
+    public ParallelMapping on(ForkJoinPool pool) {
+        return new ParallelMapping(threshold, chunkSize, Objects.requireNonNull(pool, "pool"));
+    }
+
+    /**
+     * Returns a copy mapping each chunk on its own virtual thread.
+     */
+    public ParallelMapping onVirtualThreads() {
+        return new ParallelMapping(threshold, chunkSize, null);
+    }
+
+    /**
+     * Returns a copy splitting lists into chunks of the given size; {@code 0} derives the size
+     * from the list size and the available parallelism.
+     */
+    public ParallelMapping chunkSize(int chunkSize) {
+        return new ParallelMapping(threshold, chunkSize, pool);
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Maps all rows into an unmodifiable list in source order.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> List<T> map(List<? extends S> source, Function<? super S, ? extends T> mapper) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(mapper, "mapper");
+        int size = source.size();
+        if (size < threshold) {
+            return MappedList.Mode.EAGER.map(source, mapper);
+        }
+        List<? extends S> rows = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        Object[] result = new Object[size];
+        int chunk = chunkSizeFor(size);
+        List<Callable<Void>> tasks = new ArrayList<>(size / chunk + 1);
+        for (int from = 0; from < size; from += chunk) {
+            int start = from;
+            int end = Math.min(size, from + chunk);
+            tasks.add(() -> {
+                for (int i = start; i < end; i++) {
+                    result[i] = mapper.apply(rows.get(i));
+                }
+                return null;
+            });
+        }
+        run(tasks);
+        return Collections.unmodifiableList(Arrays.asList((T[]) result));
+    }
+
+    private int chunkSizeFor(int size) {
+        if (chunkSize > 0) {
+            return chunkSize;
+        }
+        int parallelism = pool != null ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+        return Math.max(MIN_CHUNK_SIZE, (size + parallelism * 4 - 1) / (parallelism * 4));
+    }
+
+    private void run(List<Callable<Void>> tasks) {
+        List<Future<Void>> futures;
+        try {
+            if (pool != null) {
+                futures = pool.invokeAll(tasks);
+            } else {
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    futures = executor.invokeAll(tasks);
+                }
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while mapping rows", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Mapping rows failed", cause);
+        }
+    }
+}
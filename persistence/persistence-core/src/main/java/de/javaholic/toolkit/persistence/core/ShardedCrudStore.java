@@ -0,0 +1,586 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link CrudStore} that partitions one type over several delegate stores (shards).
+ *
+ * <p>Concept: every entity lives in exactly one shard, chosen by a {@link ShardFunction} over its
+ * id or over one routing property. Writes go to that shard only; batch writes are grouped per
+ * shard and sent to the shards in parallel. Reads that cannot be routed fan out to all shards in
+ * parallel, by default on one virtual thread per shard, and combine the results: counts are
+ * summed, and sorted pages and windows are merged with a k-way merge over the already sorted
+ * shard results, so each shard only returns the first {@code offset + size} rows of its own
+ * order. Filters with an equality or {@code IN} condition on the routing property only query the
+ * shards that can hold matches.</p>
+ *
+ * <p>The shards are independent stores: a batch that spans shards is not atomic, and calls run on
+ * worker threads outside any transaction of the caller. The routing key must be set before the
+ * first save and never change, otherwise an entity would be found in the wrong shard. Deep pages
+ * cost {@code offset + size} rows per shard; prefer {@link #findWindow(ScrollRequest)} for deep
+ * scrolling.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CrudStore<AuditEvent, UUID> events = new ShardedCrudStore<>(
+ *         List.of(eventsA, eventsB, eventsC), meta, ShardedCrudStore.Routing.byProperty("tenant"));
+ * Page<AuditEvent> latest = events.findPage(Filter.all(),
+ *         PageRequest.of(0, 50, Sort.by(Sort.Order.desc("occurredAt"))));
+ * }</pre>
+ */
+public class ShardedCrudStore<T, ID> implements CrudStore<T, ID> {
+
+    private final List<CrudStore<T, ID>> shards;
+    private final CrudStoreMeta<T> meta;
+    private final Routing routing;
+    private final Executor executor;
+    private final int[] allShards;
+
+    /**
+     * Creates the store fanning out on one virtual thread per shard call.
+     */
+    public ShardedCrudStore(List<? extends CrudStore<T, ID>> shards, CrudStoreMeta<T> meta, Routing routing) {
+        this(shards, meta, routing, AsyncCrudStoreAdapter.virtualThreads());
+    }
+
+    /**
+     * Creates the store fanning out on the given executor.
+     */
+    public ShardedCrudStore(
+            List<? extends CrudStore<T, ID>> shards,
+            CrudStoreMeta<T> meta,
+            Routing routing,
+            Executor executor
+    ) {
+        this.shards = List.copyOf(Objects.requireNonNull(shards, "shards"));
+        if (this.shards.isEmpty()) {
+            throw new IllegalArgumentException("shards must not be empty");
+        }
+        this.meta = Objects.requireNonNull(meta, "meta");
+        this.routing = Objects.requireNonNull(routing, "routing");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.allShards = IntStream.range(0, this.shards.size()).toArray();
+    }
+
+    /**
+     * Returns the delegate stores in shard order.
+     */
+    public List<CrudStore<T, ID>> shards() {
+        return shards;
+    }
+
+    /**
+     * Returns the index of the shard the given entity is stored in.
+     */
+    public int shardOf(T entity) {
+        Objects.requireNonNull(entity, "entity");
+        Object key = routing.property == null ? meta.getId(entity) : InMemoryQueries.value(entity, routing.property);
+        if (key == null) {
+            throw new IllegalArgumentException("Cannot route " + meta.domainType().getName() + " without "
+                    + (routing.property == null ? "an id" : "a value for '" + routing.property + "'"));
+        }
+        return shardOfKey(key);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return concat(fanOut(allShards, i -> shards.get(i).findAll()));
+    }
+
+    /**
+     * Reads from the owning shard when routing by id; asks all shards otherwise.
+     */
+    @Override
+    public Optional<T> findById(ID id) {
+        Objects.requireNonNull(id, "id");
+        if (routing.property == null) {
+            return shards.get(shardOfKey(id)).findById(id);
+        }
+        for (Optional<T> found : fanOut(allShards, i -> shards.get(i).findById(id))) {
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<T> findAllById(Collection<? extends ID> ids) {
+        if (routing.property != null) {
+            List<ID> copy = List.copyOf(ids);
+            return concat(fanOut(allShards, i -> shards.get(i).findAllById(copy)));
+        }
+        List<List<ID>> groups = groups();
+        for (ID id : ids) {
+            if (id != null) {
+                groups.get(shardOfKey(id)).add(id);
+            }
+        }
+        return concat(fanOut(nonEmpty(groups), i -> shards.get(i).findAllById(groups.get(i))));
+    }
+
+    @Override
+    public List<T> findAll(Filter filter) {
+        return concat(fanOut(shardsFor(filter), i -> shards.get(i).findAll(filter)));
+    }
+
+    @Override
+    public long count() {
+        return fanOut(allShards, i -> shards.get(i).count()).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long count(Filter filter) {
+        return fanOut(shardsFor(filter), i -> shards.get(i).count(filter)).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        Objects.requireNonNull(id, "id");
+        if (routing.property == null) {
+            return shards.get(shardOfKey(id)).existsById(id);
+        }
+        return fanOut(allShards, i -> shards.get(i).existsById(id)).contains(Boolean.TRUE);
+    }
+
+    @Override
+    public boolean exists(Filter filter) {
+        return fanOut(shardsFor(filter), i -> shards.get(i).exists(filter)).contains(Boolean.TRUE);
+    }
+
+    /**
+     * Merges the first {@code offset + size} rows of every shard.
+     */
+    @Override
+    public Page<T> findPage(PageRequest request) {
+        PageRequest head = head(request);
+        return merge(fanOut(allShards, i -> shards.get(i).findPage(head)), request,
+                InMemoryQueries.comparator(request.sort()));
+    }
+
+    /**
+     * Merges the first {@code offset + size} matching rows of every shard that can hold matches.
+     */
+    @Override
+    public Page<T> findPage(Filter filter, PageRequest request) {
+        PageRequest head = head(request);
+        return merge(fanOut(shardsFor(filter), i -> shards.get(i).findPage(filter, head)), request,
+                InMemoryQueries.comparator(request.sort()));
+    }
+
+    @Override
+    public List<Row> findRows(Projection projection, Filter filter) {
+        return concat(fanOut(shardsFor(filter), i -> shards.get(i).findRows(projection, filter)));
+    }
+
+    /**
+     * Merges projected shard pages; sort properties missing from the projection are read along
+     * and dropped after the merge.
+     */
+    @Override
+    public Page<Row> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        List<String> properties = new ArrayList<>(projection.properties());
+        for (Sort.Order order : request.sort().orders()) {
+            if (!properties.contains(order.property())) {
+                properties.add(order.property());
+            }
+        }
+        Projection extended = Projection.of(properties);
+        PageRequest head = head(request);
+        Page<Row> merged = merge(fanOut(shardsFor(filter), i -> shards.get(i).findRowPage(extended, filter, head)),
+                request, rowComparator(request.sort()));
+        if (extended.equals(projection)) {
+            return merged;
+        }
+        return merged.map(row -> {
+            Object[] values = new Object[projection.properties().size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.get(projection.properties().get(i));
+            }
+            return projection.row(values);
+        });
+    }
+
+    /**
+     * Seeks every shard past the same position and merges the windows by the seek key.
+     */
+    @Override
+    public Window<T> findWindow(ScrollRequest request) {
+        Sort seek = InMemoryQueries.seekSort(meta.domainType(), request.sort());
+        List<Window<T>> windows = fanOut(allShards, i -> shards.get(i).findWindow(request));
+        List<List<T>> runs = new ArrayList<>(windows.size());
+        boolean hasNext = false;
+        int fetched = 0;
+        for (Window<T> window : windows) {
+            runs.add(window.content());
+            hasNext |= window.hasNext();
+            fetched += window.content().size();
+        }
+        List<T> content = kWayMerge(runs, InMemoryQueries.comparator(seek), 0, request.size());
+        if (content.isEmpty()) {
+            return Window.of(content, request, false, request.position());
+        }
+        T last = content.get(content.size() - 1);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : seek.orders()) {
+            keys.put(order.property(), InMemoryQueries.value(last, order.property()));
+        }
+        return Window.of(content, request, hasNext || fetched > content.size(), KeysetPosition.of(keys));
+    }
+
+    /**
+     * Streams the shards one after the other, in shard order.
+     */
+    @Override
+    public Stream<T> stream(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        }
+        return shards.stream().flatMap(shard -> shard.stream(fetchSize));
+    }
+
+    @Override
+    public T save(T entity) {
+        return shards.get(shardOf(entity)).save(entity);
+    }
+
+    /**
+     * Writes each shard's part of the batch in parallel; results keep the input order.
+     */
+    @Override
+    public List<T> saveAll(Collection<? extends T> entities) {
+        List<T> input = List.copyOf(entities);
+        List<List<T>> groups = groups();
+        List<List<Integer>> positions = groups();
+        for (int position = 0; position < input.size(); position++) {
+            int shard = shardOf(input.get(position));
+            groups.get(shard).add(input.get(position));
+            positions.get(shard).add(position);
+        }
+        int[] targets = nonEmpty(groups);
+        List<List<T>> saved = fanOut(targets, i -> shards.get(i).saveAll(groups.get(i)));
+        List<T> result = new ArrayList<>(Collections.nCopies(input.size(), (T) null));
+        for (int t = 0; t < targets.length; t++) {
+            List<Integer> shardPositions = positions.get(targets[t]);
+            for (int j = 0; j < shardPositions.size(); j++) {
+                result.set(shardPositions.get(j), saved.get(t).get(j));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(T entity) {
+        shards.get(shardOf(entity)).delete(entity);
+    }
+
+    @Override
+    public void deleteAll(Collection<? extends T> entities) {
+        List<List<T>> groups = groups();
+        for (T entity : entities) {
+            groups.get(shardOf(entity)).add(entity);
+        }
+        fanOut(nonEmpty(groups), i -> {
+            shards.get(i).deleteAll(groups.get(i));
+            return null;
+        });
+    }
+
+    /**
+     * Deletes in the owning shards when routing by id; in all shards otherwise.
+     */
+    @Override
+    public void deleteAllById(Collection<? extends ID> ids) {
+        if (routing.property != null) {
+            List<ID> copy = List.copyOf(ids);
+            fanOut(allShards, i -> {
+                shards.get(i).deleteAllById(copy);
+                return null;
+            });
+            return;
+        }
+        List<List<ID>> groups = groups();
+        for (ID id : ids) {
+            if (id != null) {
+                groups.get(shardOfKey(id)).add(id);
+            }
+        }
+        fanOut(nonEmpty(groups), i -> {
+            shards.get(i).deleteAllById(groups.get(i));
+            return null;
+        });
+    }
+
+    private int shardOfKey(Object key) {
+        int shard = routing.function.shardOf(key, shards.size());
+        if (shard < 0 || shard >= shards.size()) {
+            throw new IllegalStateException("Shard function returned " + shard + " for " + shards.size() + " shards");
+        }
+        return shard;
+    }
+
+    /**
+     * Returns the shards that can hold rows matching the filter.
+     */
+    private int[] shardsFor(Filter filter) {
+        BitSet candidates = candidates(Objects.requireNonNull(filter, "filter"));
+        return candidates == null ? allShards : candidates.stream().toArray();
+    }
+
+    /**
+     * Returns the candidate shards of a filter pinning the routing property, {@code null} for all.
+     */
+    private BitSet candidates(Filter filter) {
+        if (routing.property == null) {
+            return null;
+        }
+        if (filter instanceof Filter.Equal equal && !equal.ignoreCase() && equal.value() != null
+                && equal.property().equals(routing.property)) {
+            BitSet shard = new BitSet(shards.size());
+            shard.set(shardOfKey(equal.value()));
+            return shard;
+        }
+        if (filter instanceof Filter.In in && in.property().equals(routing.property)) {
+            BitSet matching = new BitSet(shards.size());
+            for (Object value : in.values()) {
+                if (value == null) {
+                    return null;
+                }
+                matching.set(shardOfKey(value));
+            }
+            return matching;
+        }
+        if (filter instanceof Filter.Junction junction && junction.type() == Filter.Junction.Type.AND) {
+            BitSet result = null;
+            for (Filter child : junction.filters()) {
+                BitSet pinned = candidates(child);
+                if (pinned != null) {
+                    if (result == null) {
+                        result = pinned;
+                    } else {
+                        result.and(pinned);
+                    }
+                }
+            }
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * Runs one call per target shard, in parallel when there is more than one, in target order.
+     */
+    private <R> List<R> fanOut(int[] targets, IntFunction<R> call) {
+        if (targets.length == 1) {
+            return Collections.singletonList(call.apply(targets[0]));
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>(targets.length);
+        for (int target : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> call.apply(target), executor));
+        }
+        List<R> results = new ArrayList<>(targets.length);
+        try {
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private <X> List<List<X>> groups() {
+        List<List<X>> groups = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            groups.add(new ArrayList<>());
+        }
+        return groups;
+    }
+
+    private static int[] nonEmpty(List<? extends List<?>> groups) {
+        return IntStream.range(0, groups.size()).filter(i -> !groups.get(i).isEmpty()).toArray();
+    }
+
+    private static <X> List<X> concat(List<List<X>> parts) {
+        List<X> result = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+        parts.forEach(result::addAll);
+        return result;
+    }
+
+    private static PageRequest head(PageRequest request) {
+        return PageRequest.of(0, Math.toIntExact(request.offset() + request.size()), request.sort());
+    }
+
+    private static <X> Page<X> merge(List<Page<X>> pages, PageRequest request, Comparator<? super X> comparator) {
+        List<List<X>> runs = new ArrayList<>(pages.size());
+        long total = 0;
+        boolean totalKnown = true;
+        boolean hasNext = false;
+        long fetched = 0;
+        for (Page<X> page : pages) {
+            runs.add(page.content());
+            fetched += page.content().size();
+            hasNext |= page.hasNext();
+            if (page.totalElements().isPresent()) {
+                total += page.totalElements().getAsLong();
+            } else {
+                totalKnown = false;
+            }
+        }
+        List<X> content = kWayMerge(runs, comparator, request.offset(), request.size());
+        if (totalKnown) {
+            return Page.of(content, request, total);
+        }
+        return Page.slice(content, request, hasNext || fetched > request.offset() + content.size());
+    }
+
+    /**
+     * Merges sorted runs, skipping the first {@code skip} rows and returning at most {@code limit}.
+     *
+     * <p>Rows that compare equal are taken from the run with the lower index first, so unsorted
+     * requests yield the runs concatenated in shard order.</p>
+     */
+    static <X> List<X> kWayMerge(List<? extends List<X>> runs, Comparator<? super X> comparator, long skip, int limit) {
+        int[] positions = new int[runs.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, runs.size()), (a, b) -> {
+            int result = comparator.compare(runs.get(a).get(positions[a]), runs.get(b).get(positions[b]));
+            return result != 0 ? result : Integer.compare(a, b);
+        });
+        for (int run = 0; run < runs.size(); run++) {
+            if (!runs.get(run).isEmpty()) {
+                heads.add(run);
+            }
+        }
+        List<X> result = new ArrayList<>(Math.min(limit, runs.stream().mapToInt(List::size).sum()));
+        long skipped = 0;
+        while (!heads.isEmpty() && result.size() < limit) {
+            int run = heads.poll();
+            X next = runs.get(run).get(positions[run]++);
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                result.add(next);
+            }
+            if (positions[run] < runs.get(run).size()) {
+                heads.add(run);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Row> rowComparator(Sort sort) {
+        Comparator<Row> result = (a, b) -> 0;
+        for (Sort.Order order : sort.orders()) {
+            Comparator<Row> next = Comparator.comparing(
+                    row -> (Comparable<Object>) row.get(order.property()),
+                    Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder())
+            );
+            result = result.thenComparing(order.isAscending() ? next : next.reversed());
+        }
+        return result;
+    }
+
+    /**
+     * Maps a routing key to a shard index in {@code [0, shardCount)}.
+     */
+    @FunctionalInterface
+    public interface ShardFunction {
+
+        /**
+         * Distributes keys by {@link Object#hashCode()} modulo the shard count.
+         */
+        ShardFunction HASH = (key, shardCount) -> Math.floorMod(key.hashCode(), shardCount);
+
+        /**
+         * Returns the shard of a non-{@code null} routing key.
+         */
+        int shardOf(Object key, int shardCount);
+    }
+
+    /**
+     * Which value routes an entity to its shard, and how.
+     */
+    public static final class Routing {
+
+        private final String property;
+        private final ShardFunction function;
+
+        private Routing(String property, ShardFunction function) {
+            this.property = property;
+            this.function = Objects.requireNonNull(function, "function");
+        }
+
+        /**
+         * Routes by the hash of the entity id.
+         */
+        public static Routing byId() {
+            return new Routing(null, ShardFunction.HASH);
+        }
+
+        /**
+         * Routes by the entity id with the given function.
+         */
+        public static Routing byId(ShardFunction function) {
+            return new Routing(null, function);
+        }
+
+        /**
+         * Routes by the hash of the given property.
+         */
+        public static Routing byProperty(String property) {
+            return byProperty(property, ShardFunction.HASH);
+        }
+
+        /**
+         * Routes by the given property with the given function.
+         */
+        public static Routing byProperty(String property, ShardFunction function) {
+            Objects.requireNonNull(property, "property");
+            if (property.isBlank()) {
+                throw new IllegalArgumentException("property must not be blank");
+            }
+            return new Routing(property, function);
+        }
+
+        /**
+         * Returns the routing property, or empty when routing by id.
+         */
+        public Optional<String> property() {
+            return Optional.ofNullable(property);
+        }
+
+        @Override
+        public String toString() {
+            return "Routing[" + (property == null ? "id" : property) + ']';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedCrudStore[" + meta.domainType().getSimpleName() + ", " + shards.size() + " shards, "
+                + routing + ']';
+    }
+}
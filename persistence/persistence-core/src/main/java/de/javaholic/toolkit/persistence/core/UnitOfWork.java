@@ -0,0 +1,181 @@
+package de.javaholic.toolkit.persistence.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Queue of saves and deletes against several {@link CrudStore}s that is written in one go.
+ *
+ * <p>Concept: writes are only recorded until {@link #commit()}. Commit runs them in queue order
+ * inside a single write call of the {@link AsyncCrudStoreAdapter.CallScope}, typically one
+ * transaction. Consecutive writes of the same kind against the same store are coalesced into one
+ * {@link CrudStore#saveAll(Collection)} or {@link CrudStore#deleteAll(Collection)} call, so stores
+ * with bulk support write each group with batched statements. Queue writes of referenced rows
+ * first (permissions before roles before users) so foreign keys are satisfied.</p>
+ *
+ * <p>A unit of work is not thread-safe and can be committed once. If a store call fails, the
+ * exception propagates from {@link #commit()} and the scope is expected to roll back.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * new UnitOfWork(transactionScope)
+ *         .saveAll(permissionStore, permissions)
+ *         .saveAll(roleStore, roles)
+ *         .save(userStore, user)
+ *         .commit();
+ * }</pre>
+ */
+public final class UnitOfWork {
+
+    private enum Kind {
+        SAVE,
+        DELETE,
+        DELETE_BY_ID
+    }
+
+    private final AsyncCrudStoreAdapter.CallScope scope;
+    private final List<Step> steps = new ArrayList<>();
+    private boolean committed;
+
+    /**
+     * Creates a unit of work without transaction demarcation.
+     */
+    public UnitOfWork() {
+        this(AsyncCrudStoreAdapter.CallScope.NONE);
+    }
+
+    /**
+     * Creates a unit of work committing inside the given scope.
+     */
+    public UnitOfWork(AsyncCrudStoreAdapter.CallScope scope) {
+        this.scope = Objects.requireNonNull(scope, "scope");
+    }
+
+    /**
+     * Queues saving one entity.
+     */
+    public <T> UnitOfWork save(CrudStore<T, ?> store, T entity) {
+        return add(store, Kind.SAVE, List.of(Objects.requireNonNull(entity, "entity")));
+    }
+
+    /**
+     * Queues saving all given entities.
+     */
+    public <T> UnitOfWork saveAll(CrudStore<T, ?> store, Collection<? extends T> entities) {
+        return add(store, Kind.SAVE, List.copyOf(Objects.requireNonNull(entities, "entities")));
+    }
+
+    /**
+     * Queues deleting one entity.
+     */
+    public <T> UnitOfWork delete(CrudStore<T, ?> store, T entity) {
+        return add(store, Kind.DELETE, List.of(Objects.requireNonNull(entity, "entity")));
+    }
+
+    /**
+     * Queues deleting all given entities.
+     */
+    public <T> UnitOfWork deleteAll(CrudStore<T, ?> store, Collection<? extends T> entities) {
+        return add(store, Kind.DELETE, List.copyOf(Objects.requireNonNull(entities, "entities")));
+    }
+
+    /**
+     * Queues deleting the row with the given id.
+     */
+    public <ID> UnitOfWork deleteById(CrudStore<?, ID> store, ID id) {
+        return add(store, Kind.DELETE_BY_ID, List.of(Objects.requireNonNull(id, "id")));
+    }
+
+    /**
+     * Queues deleting the rows with the given ids.
+     */
+    public <ID> UnitOfWork deleteAllById(CrudStore<?, ID> store, Collection<? extends ID> ids) {
+        return add(store, Kind.DELETE_BY_ID, List.copyOf(Objects.requireNonNull(ids, "ids")));
+    }
+
+    /**
+     * Returns the number of store calls {@link #commit()} would issue.
+     */
+    public int pendingCalls() {
+        return steps.size();
+    }
+
+    /**
+     * Runs all queued writes in queue order inside one write call of the scope.
+     *
+     * @throws IllegalStateException if this unit of work was already committed
+     */
+    public void commit() {
+        checkOpen();
+        committed = true;
+        if (steps.isEmpty()) {
+            return;
+        }
+        List<Step> toRun = List.copyOf(steps);
+        steps.clear();
+        scope.call(false, () -> {
+            for (Step step : toRun) {
+                step.run();
+            }
+            return null;
+        });
+    }
+
+    private UnitOfWork add(CrudStore<?, ?> store, Kind kind, List<?> items) {
+        Objects.requireNonNull(store, "store");
+        checkOpen();
+        if (items.isEmpty()) {
+            return this;
+        }
+        Step last = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+        if (last != null && last.store == store && last.kind == kind) {
+            last.items.addAll(items);
+        } else {
+            steps.add(new Step(store, kind, new ArrayList<>(items)));
+        }
+        return this;
+    }
+
+    private void checkOpen() {
+        if (committed) {
+            throw new IllegalStateException("Unit of work already committed");
+        }
+    }
+
+    private static final class Step {
+        private final CrudStore<?, ?> store;
+        private final Kind kind;
+        private final List<Object> items;
+
+        private Step(CrudStore<?, ?> store, Kind kind, List<Object> items) {
+            this.store = store;
+            this.kind = kind;
+            this.items = items;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private void run() {
+            CrudStore raw = store;
+            boolean single = items.size() == 1;
+            switch (kind) {
+                case SAVE -> {
+                    if (single) {
+                        raw.save(items.get(0));
+                    } else {
+                        raw.saveAll(items);
+                    }
+                }
+                case DELETE -> {
+                    if (single) {
+                        raw.delete(items.get(0));
+                    } else {
+                        raw.deleteAll(items);
+                    }
+                }
+                case DELETE_BY_ID -> raw.deleteAllById(items);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncCrudStoreAdapterTest {
+
+    @Test
+    void runsCallsOnVirtualThreads() {
+        ThreadRecordingStore store = new ThreadRecordingStore();
+        AsyncCrudStore<String, Long> async = new AsyncCrudStoreAdapter<>(store);
+
+        List<String> result = async.findAll().join();
+
+        assertThat(result).containsExactly("a", "b");
+        assertThat(store.lastThread.isVirtual()).isTrue();
+        assertThat(store.lastThread).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void appliesScopeWithReadOnlyFlagPerCall() {
+        ThreadRecordingStore store = new ThreadRecordingStore();
+        List<Boolean> scopes = new ArrayList<>();
+        AsyncCrudStoreAdapter.CallScope scope = new AsyncCrudStoreAdapter.CallScope() {
+            @Override
+            public <R> R call(boolean readOnly, Supplier<R> call) {
+                scopes.add(readOnly);
+                return call.get();
+            }
+        };
+        AsyncCrudStore<String, Long> async = new AsyncCrudStoreAdapter<>(store, Runnable::run, scope);
+
+        async.count().join();
+        async.save("c").join();
+        async.deleteAllById(List.of(1L)).join();
+
+        assertThat(scopes).containsExactly(true, false, false);
+    }
+
+    @Test
+    void completesExceptionallyWhenStoreFails() {
+        ThreadRecordingStore store = new ThreadRecordingStore();
+        AsyncCrudStore<String, Long> async = new AsyncCrudStoreAdapter<>(store);
+
+        CompletableFuture<Void> future = async.delete("x");
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static final class ThreadRecordingStore implements CrudStore<String, Long> {
+        private volatile Thread lastThread;
+
+        @Override
+        public List<String> findAll() {
+            lastThread = Thread.currentThread();
+            return List.of("a", "b");
+        }
+
+        @Override
+        public Optional<String> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public String save(String entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(String entity) {
+            throw new IllegalStateException("delete failed");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingCrudStoreTest {
+
+    static class Role {
+        @Id
+        private Long id;
+        @Version
+        private Long version;
+        private String name;
+
+        Role(Long id, Long version, String name) {
+            this.id = id;
+            this.version = version;
+            this.name = name;
+        }
+    }
+
+    private final CountingStore delegate = new CountingStore();
+    private final AtomicLong clock = new AtomicLong();
+
+    private CachingCrudStore<Role, Long> cache(CachingCrudStore.Settings settings) {
+        return new CachingCrudStore<>(delegate, new EntityIdAccessor<>(BeanIntrospector.inspect(Role.class)),
+                settings.ticker(clock::get));
+    }
+
+    @Test
+    void cachesFindByIdAndRecordsStats() {
+        delegate.rows.put(1L, new Role(1L, 0L, "admin"));
+        CachingCrudStore<Role, Long> store = cache(CachingCrudStore.Settings.maximumSize(10));
+
+        store.findById(1L);
+        store.findById(1L);
+        store.findById(2L);
+
+        assertThat(delegate.findByIdCalls).isEqualTo(2);
+        CacheStats stats = store.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.loadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void writesUpdateEntriesAndDropSnapshot() {
+        delegate.rows.put(1L, new Role(1L, 0L, "admin"));
+        CachingCrudStore<Role, Long> store = cache(CachingCrudStore.Settings.maximumSize(10).cachingFindAll());
+
+        assertThat(store.findAll()).hasSize(1);
+        assertThat(store.findAll()).hasSize(1);
+        store.save(new Role(2L, 0L, "user"));
+        store.save(new Role(1L, 0L, "root"));
+
+        assertThat(store.findAll()).hasSize(2);
+        assertThat(delegate.findAllCalls).isEqualTo(2);
+        assertThat(store.findById(1L)).get().extracting(role -> role.name).isEqualTo("root");
+        assertThat(delegate.findByIdCalls).isZero();
+
+        store.deleteAllById(List.of(1L));
+
+        assertThat(store.findById(1L)).isEmpty();
+        assertThat(delegate.findByIdCalls).isEqualTo(1);
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        delegate.rows.put(1L, new Role(1L, 0L, "admin"));
+        CachingCrudStore<Role, Long> store = cache(CachingCrudStore.Settings.maximumSize(10)
+                .expireAfterWrite(Duration.ofSeconds(30)));
+
+        store.findById(1L);
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        store.findById(1L);
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        store.findById(1L);
+
+        assertThat(delegate.findByIdCalls).isEqualTo(2);
+        assertThat(store.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsFrequentlyReadEntriesWhenFull() {
+        for (long id = 1; id <= 10; id++) {
+            delegate.rows.put(id, new Role(id, 0L, "role-" + id));
+        }
+        CachingCrudStore<Role, Long> store = cache(CachingCrudStore.Settings.maximumSize(2));
+        for (int i = 0; i < 5; i++) {
+            store.findById(1L);
+            store.findById(2L);
+        }
+
+        for (long id = 3; id <= 10; id++) {
+            store.findById(id);
+        }
+        int loadsBefore = delegate.findByIdCalls;
+        store.findById(1L);
+        store.findById(2L);
+
+        assertThat(delegate.findByIdCalls).isEqualTo(loadsBefore);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.stats().evictionCount()).isEqualTo(8);
+    }
+
+    private static final class CountingStore implements CrudStore<Role, Long> {
+        private final Map<Long, Role> rows = new LinkedHashMap<>();
+        private int findAllCalls;
+        private int findByIdCalls;
+
+        @Override
+        public List<Role> findAll() {
+            findAllCalls++;
+            return new ArrayList<>(rows.values());
+        }
+
+        @Override
+        public Optional<Role> findById(Long id) {
+            findByIdCalls++;
+            return Optional.ofNullable(rows.get(id));
+        }
+
+        @Override
+        public Role save(Role entity) {
+            Role saved = new Role(entity.id, entity.version + 1, entity.name);
+            rows.put(saved.id, saved);
+            return saved;
+        }
+
+        @Override
+        public void delete(Role entity) {
+            rows.remove(entity.id);
+        }
+
+        @Override
+        public void deleteAllById(Collection<? extends Long> ids) {
+            ids.forEach(rows::remove);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrudChangeDispatcherTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<RuntimeException> failures = new ArrayList<>();
+    private final CrudChangeDispatcher dispatcher =
+            new CrudChangeDispatcher(tasks::add, 2, (listener, failure) -> failures.add(failure));
+
+    @Test
+    void deliversQueuedEventsInOrderedBatchesFromOneTask() {
+        List<List<CrudChangeEvent>> batches = new ArrayList<>();
+        dispatcher.subscribe(batches::add);
+
+        dispatcher.publish(List.of(event(1), event(2)));
+        dispatcher.publish(List.of(event(3)));
+        runTasks();
+
+        assertThat(batches).containsExactly(List.of(event(1), event(2)), List.of(event(3)));
+    }
+
+    @Test
+    void reportsFailingListenersWithoutStoppingOthersAndStopsAfterClose() {
+        List<CrudChangeEvent> received = new ArrayList<>();
+        dispatcher.subscribe(events -> {
+            throw new IllegalStateException("listener failed");
+        });
+        CrudChangeSource.Subscription subscription = dispatcher.subscribe(received::addAll);
+
+        dispatcher.publish(List.of(event(1)));
+        runTasks();
+        subscription.close();
+        dispatcher.publish(List.of(event(2)));
+        runTasks();
+
+        assertThat(received).containsExactly(event(1));
+        assertThat(failures).hasSize(2).allSatisfy(failure -> assertThat(failure).hasMessage("listener failed"));
+    }
+
+    @Test
+    void skipsPublishingWithoutListeners() {
+        dispatcher.publish(List.of(event(1)));
+
+        assertThat(dispatcher.hasListeners()).isFalse();
+        assertThat(tasks).isEmpty();
+    }
+
+    private void runTasks() {
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+    }
+
+    private static CrudChangeEvent event(long id) {
+        return CrudChangeEvent.created(String.class, id, 0L);
+    }
+}
@@ -0,0 +1,56 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.CrudStoreSnapshotTest.Grant;
+import de.javaholic.toolkit.persistence.core.CrudStoreSnapshotTest.Role;
+import de.javaholic.toolkit.persistence.core.CrudStoreSnapshotTest.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times writing and reading a {@link CrudStoreSnapshot} of many rows.
+ *
+ * <p>Runs only with {@code mvn test -Pbenchmarks}.</p>
+ */
+class CrudStoreSnapshotBenchmark {
+
+    private static final int ROWS = 20_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeAndRead() throws IOException {
+        InMemoryCrudStore<Role, UUID> store = new InMemoryCrudStore<>(Role.class);
+        List<Role> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Role("role-" + i, i % 7 == 0 ? Status.LOCKED : Status.ACTIVE, Instant.ofEpochSecond(1_700_000_000L + i, i),
+                    new Grant("read", 1), new Grant("write-" + (i % 10), i % 3)));
+        }
+        store.saveAll(rows);
+        CrudStoreSnapshot<Role> snapshot = new CrudStoreSnapshot<>(Role.class);
+        Path file = directory.resolve("roles.snapshot");
+
+        long writeStart = System.nanoTime();
+        snapshot.write(store.findAll(), file);
+        long writeNanos = System.nanoTime() - writeStart;
+        long firstReadStart = System.nanoTime();
+        snapshot.read(file);
+        long firstReadNanos = System.nanoTime() - firstReadStart;
+        long readStart = System.nanoTime();
+        snapshot.read(file);
+        long readNanos = System.nanoTime() - readStart;
+
+        System.out.printf("%d rows: snapshot %d KiB, write %d ms, first mapped read %d ms, repeated read %d ms%n", ROWS,
+                Files.size(file) / 1024, TimeUnit.NANOSECONDS.toMillis(writeNanos),
+                TimeUnit.NANOSECONDS.toMillis(firstReadNanos), TimeUnit.NANOSECONDS.toMillis(readNanos));
+    }
+}
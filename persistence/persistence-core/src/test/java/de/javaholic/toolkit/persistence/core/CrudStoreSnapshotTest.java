@@ -0,0 +1,184 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrudStoreSnapshotTest {
+
+    private static final int ROWS = 1_000;
+
+    enum Status {
+        ACTIVE,
+        LOCKED
+    }
+
+    static class Grant {
+        private String code;
+        private int level;
+
+        Grant() {
+        }
+
+        Grant(String code, int level) {
+            this.code = code;
+            this.level = level;
+        }
+    }
+
+    static class Role {
+        @Id
+        private UUID id;
+        @Version
+        private Long version;
+        private String name;
+        private Status status;
+        private Set<Grant> grants = new LinkedHashSet<>();
+        private Instant changedAt;
+
+        Role() {
+        }
+
+        Role(String name, Status status, Instant changedAt, Grant... grants) {
+            this.version = 0L;
+            this.name = name;
+            this.status = status;
+            this.changedAt = changedAt;
+            this.grants.addAll(List.of(grants));
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private final CountingStore store = new CountingStore();
+    private final CrudStoreSnapshot<Role> snapshot = new CrudStoreSnapshot<>(Role.class);
+
+    @Test
+    void roundTripsRowsThroughMappedFile() {
+        List<Role> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Role("role-" + i, i % 7 == 0 ? Status.LOCKED : Status.ACTIVE, Instant.ofEpochSecond(1_700_000_000L + i, i),
+                    new Grant("read", 1), new Grant("write-" + (i % 10), i % 3)));
+        }
+        store.saveAll(rows);
+        Path file = directory.resolve("roles.snapshot");
+
+        snapshot.write(store.findAll(), file);
+        List<Role> restored = snapshot.read(file);
+
+        assertThat(restored).hasSize(ROWS);
+        Role original = rows.get(14);
+        Role copy = restored.stream().filter(role -> role.id.equals(original.id)).findFirst().orElseThrow();
+        assertThat(copy).isNotSameAs(original);
+        assertThat(copy.id).isEqualTo(original.id);
+        assertThat(copy.version).isEqualTo(0L);
+        assertThat(copy.name).isEqualTo("role-14");
+        assertThat(copy.status).isEqualTo(Status.LOCKED);
+        assertThat(copy.changedAt).isEqualTo(original.changedAt);
+        assertThat(copy.grants).extracting(grant -> grant.code + ":" + grant.level).containsExactly("read:1", "write-4:2");
+    }
+
+    @Test
+    void catchesUpOnNewerVersionsAndWarmsCacheWithoutFullLoad() {
+        List<Role> saved = store.saveAll(List.of(
+                new Role("admin", Status.ACTIVE, Instant.EPOCH, new Grant("all", 9)),
+                new Role("editor", Status.ACTIVE, Instant.EPOCH),
+                new Role("viewer", Status.ACTIVE, Instant.EPOCH),
+                new Role("guest", Status.ACTIVE, Instant.EPOCH)));
+        Path file = directory.resolve("roles.snapshot");
+        snapshot.write(store.findAll(), file);
+
+        Role editor = copyOf(saved.get(1));
+        editor.status = Status.LOCKED;
+        editor.version = 1L;
+        store.save(editor);
+        store.delete(saved.get(3));
+        Role auditor = store.save(new Role("auditor", Status.ACTIVE, Instant.EPOCH));
+        store.fullLoads = 0;
+
+        List<Role> restored = snapshot.restore(file, store);
+
+        assertThat(store.fullLoads).isZero();
+        assertThat(store.reloadedIds).containsExactlyInAnyOrder(editor.id, auditor.id);
+        Map<String, Role> byName = restored.stream().collect(Collectors.toMap(role -> role.name, Function.identity()));
+        assertThat(byName).containsOnlyKeys("admin", "editor", "viewer", "auditor");
+        assertThat(byName.get("editor").status).isEqualTo(Status.LOCKED);
+        assertThat(byName.get("admin").grants).extracting(grant -> grant.code).containsExactly("all");
+
+        CachingCrudStore<Role, UUID> cache = new CachingCrudStore<>(store, new EntityIdAccessor<>(BeanIntrospector.inspect(Role.class)),
+                CachingCrudStore.Settings.maximumSize(100).cachingFindAll());
+        cache.warm(restored);
+
+        assertThat(cache.findAll()).hasSize(4);
+        assertThat(cache.findById(auditor.id)).isPresent();
+        assertThat(cache.stats().loadCount()).isZero();
+        assertThat(store.fullLoads).isZero();
+    }
+
+    @Test
+    void rejectsForeignFilesAndFallsBackToFullLoad() throws IOException {
+        store.save(new Role("admin", Status.ACTIVE, Instant.EPOCH));
+        Path file = directory.resolve("other.snapshot");
+        new CrudStoreSnapshot<>(Keyed.class)
+                .write(List.of(new Keyed(UUID.randomUUID())), file);
+
+        assertThatThrownBy(() -> snapshot.read(file)).isInstanceOf(IllegalStateException.class);
+        assertThat(snapshot.restore(file, store)).extracting(role -> role.name).containsExactly("admin");
+        assertThat(store.fullLoads).isEqualTo(1);
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThat(snapshot.restore(directory.resolve("missing.snapshot"), store)).hasSize(1);
+        assertThatThrownBy(() -> snapshot.read(file)).isInstanceOf(IllegalStateException.class);
+    }
+
+    record Keyed(@Id UUID id) {
+    }
+
+    private static Role copyOf(Role role) {
+        Role copy = new Role(role.name, role.status, role.changedAt, role.grants.toArray(Grant[]::new));
+        copy.id = role.id;
+        copy.version = role.version;
+        return copy;
+    }
+
+    private static final class CountingStore extends InMemoryCrudStore<Role, UUID> {
+        private final List<UUID> reloadedIds = new ArrayList<>();
+        private int fullLoads;
+
+        private CountingStore() {
+            super(Role.class);
+        }
+
+        @Override
+        public List<Role> findAll() {
+            fullLoads++;
+            return super.findAll();
+        }
+
+        @Override
+        public List<Role> findAllById(Collection<? extends UUID> ids) {
+            reloadedIds.addAll(ids);
+            return super.findAllById(ids);
+        }
+    }
+}
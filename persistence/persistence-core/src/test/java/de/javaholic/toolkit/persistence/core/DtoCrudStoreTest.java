@@ -23,6 +23,38 @@ class DtoCrudStoreTest {
         assertThat(domainStore.findAllCalled).isTrue();
     }
 
+    @Test
+    void findPageMapsOnlyRowsOfPage() {
+        MockCrudStore domainStore = new MockCrudStore();
+        domainStore.findAllResult = List.of("domain-a", "domain-b", "domain-c", "domain-d", "domain-e");
+        MockDtoMapper mapper = new MockDtoMapper();
+        DtoCrudStore<String, String, Long> store = new DtoCrudStore<>(domainStore, mapper);
+
+        Page<String> page = store.findPage(PageRequest.of(1, 2));
+
+        assertThat(page.content()).containsExactly("dto-domain-c", "dto-domain-d");
+        assertThat(page.totalElements()).hasValue(5);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(mapper.toDtoInputs).containsExactly("domain-c", "domain-d");
+    }
+
+    @Test
+    void forEachChunkMapsChunksInOrder() {
+        MockCrudStore domainStore = new MockCrudStore();
+        domainStore.findAllResult = List.of("domain-a", "domain-b", "domain-c", "domain-d", "domain-e");
+        MockDtoMapper mapper = new MockDtoMapper();
+        DtoCrudStore<String, String, Long> store = new DtoCrudStore<>(domainStore, mapper);
+        List<List<String>> chunks = new java.util.ArrayList<>();
+
+        store.forEachChunk(2, chunks::add);
+
+        assertThat(chunks).containsExactly(
+                List.of("dto-domain-a", "dto-domain-b"),
+                List.of("dto-domain-c", "dto-domain-d"),
+                List.of("dto-domain-e")
+        );
+    }
+
     @Test
     void saveDelegatesAndMaps() {
         MockCrudStore domainStore = new MockCrudStore();
@@ -37,6 +69,20 @@ class DtoCrudStoreTest {
         assertThat(result).isEqualTo("dto-domain-saved");
     }
 
+    @Test
+    void saveAllMapsEachDtoAndDelegatesOnce() {
+        MockCrudStore domainStore = new MockCrudStore();
+        domainStore.saveResult = "domain-saved";
+        MockDtoMapper mapper = new MockDtoMapper();
+        DtoCrudStore<String, String, Long> store = new DtoCrudStore<>(domainStore, mapper);
+
+        List<String> result = store.saveAll(List.of("dto-a", "dto-b"));
+
+        assertThat(mapper.toDomainInputs).containsExactly("dto-a", "dto-b");
+        assertThat(domainStore.savedInputs).containsExactly("domain-dto-a", "domain-dto-b");
+        assertThat(result).containsExactly("dto-domain-saved", "dto-domain-saved");
+    }
+
     @Test
     void deleteMapsAndDelegates() {
         MockCrudStore domainStore = new MockCrudStore();
@@ -0,0 +1,92 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCrudStoreTest {
+
+    static class Entry {
+        private UUID id;
+        private String key;
+        private String locale;
+        private String value;
+
+        Entry(String key, String locale, String value) {
+            this.key = key;
+            this.locale = locale;
+            this.value = value;
+        }
+    }
+
+    private final InMemoryCrudStore<Entry, UUID> store = new InMemoryCrudStore<>(Entry.class,
+            InMemoryCrudStore.Index.unique("key", "locale"),
+            InMemoryCrudStore.Index.on("locale"));
+
+    @Test
+    void assignsIdsAndFindsById() {
+        Entry saved = store.save(new Entry("app.title", "de", "Titel"));
+
+        assertThat(saved.id).isNotNull();
+        assertThat(store.findById(saved.id)).containsSame(saved);
+        assertThat(store.existsById(saved.id)).isTrue();
+        assertThat(store.count()).isEqualTo(1);
+    }
+
+    @Test
+    void answersEqualityFiltersFromIndexesAndKeepsThemInSyncOnWrite() {
+        Entry title = store.save(new Entry("app.title", "de", "Titel"));
+        store.saveAll(List.of(new Entry("app.title", "en", "Title"), new Entry("app.save", "de", "Speichern")));
+
+        Filter byKeyAndLocale = Filter.and(Filter.eq("key", "app.title"), Filter.eq("locale", "de"));
+        assertThat(store.findAll(byKeyAndLocale)).containsExactly(title);
+        assertThat(store.count(Filter.eq("locale", "de"))).isEqualTo(2);
+        assertThat(store.findAll(Filter.in("locale", List.of("en")))).extracting(entry -> entry.value).containsExactly("Title");
+
+        title.locale = "fr";
+        store.save(title);
+
+        assertThat(store.exists(byKeyAndLocale)).isFalse();
+        assertThat(store.findAll(Filter.eq("locale", "fr"))).containsExactly(title);
+
+        store.delete(title);
+
+        assertThat(store.findAll(Filter.eq("locale", "fr"))).isEmpty();
+        assertThat(store.count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsUniqueViolationWithoutStoringAnyEntityOfTheBatch() {
+        store.save(new Entry("app.title", "de", "Titel"));
+
+        assertThatThrownBy(() -> store.saveAll(List.of(new Entry("app.save", "de", "Speichern"), new Entry("app.title", "de", "Doppelt"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate");
+
+        assertThat(store.count()).isEqualTo(1);
+        assertThat(store.findAll(Filter.eq("locale", "de"))).extracting(entry -> entry.key).containsExactly("app.title");
+    }
+
+    @Test
+    void failedBatchRestoresTheIndexKeysOfChangedEntities() {
+        Entry title = store.save(new Entry("app.title", "de", "Titel"));
+        store.save(new Entry("app.save", "de", "Speichern"));
+        Entry found = store.findById(title.id).orElseThrow();
+        found.key = "app.edit";
+
+        assertThatThrownBy(() -> store.saveAll(List.of(found, new Entry("app.save", "de", "Doppelt"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate");
+
+        assertThat(store.count()).isEqualTo(2);
+        assertThatThrownBy(() -> store.save(new Entry("app.title", "de", "Doppelt")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate");
+        store.save(new Entry("app.edit", "de", "Bearbeiten"));
+        assertThat(store.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,246 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogStructuredCrudStoreTest {
+
+    enum Status {
+        ACTIVE,
+        LOCKED
+    }
+
+    static class Tag {
+        private String name;
+
+        Tag() {
+        }
+
+        Tag(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Entry {
+        private UUID id;
+        private String key;
+        private Status status;
+        private Set<Tag> tags = new LinkedHashSet<>();
+
+        Entry() {
+        }
+
+        Entry(String key, Status status, Tag... tags) {
+            this.key = key;
+            this.status = status;
+            this.tags.addAll(List.of(tags));
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    private final List<LogStructuredCrudStore<Entry, UUID>> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() {
+        opened.forEach(LogStructuredCrudStore::close);
+    }
+
+    @Test
+    void keepsWritesAndTombstonesAcrossReopen() {
+        LogStructuredCrudStore<Entry, UUID> store = open(LogStructuredCrudStore.Settings.defaults());
+        Entry title = store.save(new Entry("app.title", Status.ACTIVE, new Tag("ui"), new Tag("header")));
+        Entry legacy = store.save(new Entry("app.legacy", Status.ACTIVE));
+        store.saveAll(List.of(new Entry("app.save", Status.ACTIVE), new Entry("app.cancel", Status.ACTIVE)));
+        title.status = Status.LOCKED;
+        store.save(title);
+        store.delete(legacy);
+        title.key = "changed without save";
+
+        assertThat(store.findById(title.id)).get().satisfies(entry -> assertThat(entry.key).isEqualTo("app.title"));
+        store.close();
+
+        LogStructuredCrudStore<Entry, UUID> reopened = open(LogStructuredCrudStore.Settings.defaults());
+
+        assertThat(reopened.count()).isEqualTo(3);
+        assertThat(reopened.existsById(legacy.id)).isFalse();
+        Entry restored = reopened.findById(title.id).orElseThrow();
+        assertThat(restored.status).isEqualTo(Status.LOCKED);
+        assertThat(restored.tags).extracting(tag -> tag.name).containsExactly("ui", "header");
+        assertThat(reopened.findAll(Filter.eq("status", Status.ACTIVE))).extracting(entry -> entry.key)
+                .containsExactlyInAnyOrder("app.save", "app.cancel");
+        assertThat(reopened.discardedTailBytes()).isZero();
+    }
+
+    @Test
+    void cutsOffTornTailOfNewestSegment() throws IOException {
+        LogStructuredCrudStore<Entry, UUID> store = open(LogStructuredCrudStore.Settings.defaults());
+        Entry kept = store.save(new Entry("kept", Status.ACTIVE));
+        Entry torn = store.save(new Entry("torn", Status.ACTIVE));
+        store.close();
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        LogStructuredCrudStore<Entry, UUID> reopened = open(LogStructuredCrudStore.Settings.defaults());
+
+        assertThat(reopened.discardedTailBytes()).isPositive();
+        assertThat(reopened.existsById(kept.id)).isTrue();
+        assertThat(reopened.existsById(torn.id)).isFalse();
+        reopened.save(new Entry("after recovery", Status.LOCKED));
+        reopened.close();
+        assertThat(open(LogStructuredCrudStore.Settings.defaults()).findAll()).extracting(entry -> entry.key)
+                .containsExactlyInAnyOrder("kept", "after recovery");
+    }
+
+    @Test
+    void rejectsDamageInsideSealedSegments() throws IOException {
+        LogStructuredCrudStore.Settings settings = LogStructuredCrudStore.Settings.defaults().maxSegmentBytes(256);
+        LogStructuredCrudStore<Entry, UUID> store = open(settings);
+        for (int i = 0; i < 20; i++) {
+            store.save(new Entry("key-" + i, Status.ACTIVE));
+        }
+        store.close();
+        Path sealed = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(sealed.toFile(), "rw")) {
+            file.seek(20);
+            file.write(0x7F);
+        }
+
+        assertThatThrownBy(() -> open(settings)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void compactionDropsOverwrittenRecordsAndShrinksTheLog() throws IOException {
+        LogStructuredCrudStore.Settings settings = LogStructuredCrudStore.Settings.defaults()
+                .durability(LogStructuredCrudStore.Durability.NEVER)
+                .maxSegmentBytes(4096)
+                .withoutBackgroundCompaction();
+        LogStructuredCrudStore<Entry, UUID> store = open(settings);
+        List<Entry> entries = store.saveAll(entries(200));
+        for (int round = 0; round < 5; round++) {
+            for (Entry entry : entries) {
+                entry.status = round % 2 == 0 ? Status.LOCKED : Status.ACTIVE;
+            }
+            store.saveAll(entries);
+        }
+        store.deleteAll(entries.subList(0, 100));
+        long before = logBytes();
+        int segmentsBefore = segmentFiles().size();
+
+        assertThat(store.garbageRatio()).isGreaterThan(0.5);
+        assertThat(store.compact()).isTrue();
+
+        long after = logBytes();
+        assertThat(after).isLessThan(before / 5);
+        assertThat(segmentFiles()).hasSizeLessThan(segmentsBefore);
+        assertThat(store.garbageRatio()).isZero();
+        assertThat(store.count()).isEqualTo(100);
+        assertThat(store.findById(entries.get(150).id)).get().satisfies(entry -> assertThat(entry.status).isEqualTo(Status.LOCKED));
+
+        store.save(new Entry("after compaction", Status.ACTIVE, new Tag("new")));
+        store.close();
+        LogStructuredCrudStore<Entry, UUID> reopened = open(settings);
+        assertThat(reopened.count()).isEqualTo(101);
+        assertThat(reopened.existsById(entries.get(0).id)).isFalse();
+        assertThat(reopened.findAll(Filter.eq("key", "after compaction"))).hasSize(1);
+    }
+
+    @Test
+    void compactionSplitsLiveRecordsAtTheSegmentLimit() throws IOException {
+        LogStructuredCrudStore.Settings settings = LogStructuredCrudStore.Settings.defaults()
+                .durability(LogStructuredCrudStore.Durability.NEVER)
+                .maxSegmentBytes(1024)
+                .withoutBackgroundCompaction();
+        LogStructuredCrudStore<Entry, UUID> store = open(settings);
+        List<Entry> entries = store.saveAll(entries(300));
+        for (Entry entry : entries.subList(0, 30)) {
+            entry.status = Status.LOCKED;
+        }
+        store.saveAll(entries.subList(0, 30));
+
+        assertThat(store.compact()).isTrue();
+
+        assertThat(segmentFiles()).hasSizeGreaterThan(2);
+        for (Path segment : segmentFiles()) {
+            assertThat(Files.size(segment)).isLessThanOrEqualTo(1024);
+        }
+        assertThat(store.findById(entries.get(10).id)).get().satisfies(entry -> assertThat(entry.status).isEqualTo(Status.LOCKED));
+        Entry added = store.save(new Entry("after compaction", Status.ACTIVE));
+        assertThat(store.findById(added.id)).isPresent();
+        store.close();
+
+        LogStructuredCrudStore<Entry, UUID> reopened = open(settings);
+        assertThat(reopened.count()).isEqualTo(301);
+        assertThat(reopened.findAll(Filter.eq("status", Status.LOCKED))).hasSize(30);
+        assertThat(reopened.findById(entries.get(299).id)).get().satisfies(entry -> assertThat(entry.key).isEqualTo("key-299"));
+    }
+
+    @Test
+    void compactsInTheBackgroundOnceGarbageExceedsThreshold() throws Exception {
+        LogStructuredCrudStore<Entry, UUID> store = open(LogStructuredCrudStore.Settings.defaults()
+                .durability(LogStructuredCrudStore.Durability.PERIODIC)
+                .syncInterval(Duration.ofMillis(20))
+                .maxSegmentBytes(2048)
+                .compaction(Duration.ofMillis(20), 0.3));
+        List<Entry> entries = store.saveAll(entries(50));
+        for (int round = 0; round < 4; round++) {
+            store.saveAll(entries);
+        }
+        long before = logBytes();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (logBytes() >= before / 2 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertThat(logBytes()).isLessThan(before / 2);
+        assertThat(store.findAll()).hasSize(50);
+    }
+
+    private LogStructuredCrudStore<Entry, UUID> open(LogStructuredCrudStore.Settings settings) {
+        LogStructuredCrudStore<Entry, UUID> store = LogStructuredCrudStore.open(Entry.class, directory, settings);
+        opened.add(store);
+        return store;
+    }
+
+    private static List<Entry> entries(int count) {
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry("key-" + i, Status.ACTIVE, new Tag("tag-" + (i % 5))));
+        }
+        return entries;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private long logBytes() throws IOException {
+        long bytes = 0;
+        for (Path file : segmentFiles()) {
+            bytes += Files.size(file);
+        }
+        return bytes;
+    }
+}
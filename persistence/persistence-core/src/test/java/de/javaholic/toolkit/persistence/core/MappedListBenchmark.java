@@ -0,0 +1,86 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.MappingFixture.User;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares eager and lazy {@link MappedList} results of a 100k-row {@code findAll} of which only
+ * the first page is read: latency and allocation of the read, and the heap the result retains.
+ * Prints the best round of each.
+ *
+ * <p>Runs only with {@code mvn test -Pbenchmarks}.</p>
+ */
+class MappedListBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int PAGE = 50;
+    private static final int ROUNDS = 10;
+
+    @Test
+    void eagerVersusLazy() {
+        InMemoryCrudStore<User, UUID> domainStore = MappingFixture.users(ROWS);
+        UserMapper mapper = new UserMapper();
+        DtoCrudStore<UserDto, User, UUID> eager = new DtoCrudStore<>(domainStore, mapper, MappedList.Mode.EAGER);
+        DtoCrudStore<UserDto, User, UUID> lazy = new DtoCrudStore<>(domainStore, mapper, MappedList.Mode.LAZY);
+        for (int i = 0; i < 5; i++) {
+            firstPage(eager);
+            firstPage(lazy);
+        }
+
+        long eagerNanos = Long.MAX_VALUE;
+        long lazyNanos = Long.MAX_VALUE;
+        long eagerBytes = Long.MAX_VALUE;
+        long lazyBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            firstPage(eager);
+            eagerNanos = Math.min(eagerNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            firstPage(lazy);
+            lazyNanos = Math.min(lazyNanos, System.nanoTime() - start);
+            eagerBytes = Math.min(eagerBytes, MappingFixture.allocatedBytes(() -> firstPage(eager)));
+            lazyBytes = Math.min(lazyBytes, MappingFixture.allocatedBytes(() -> firstPage(lazy)));
+        }
+
+        System.out.printf("%,d rows, first %d read: eager %.2f ms, %,d KiB allocated, %,d KiB retained; "
+                        + "lazy %.2f ms, %,d KiB allocated, %,d KiB retained%n",
+                ROWS, PAGE, eagerNanos / 1e6, eagerBytes / 1024, retainedBytes(eager) / 1024,
+                lazyNanos / 1e6, lazyBytes / 1024, retainedBytes(lazy) / 1024);
+    }
+
+    private static List<UserDto> firstPage(DtoCrudStore<UserDto, User, UUID> store) {
+        List<UserDto> all = store.findAll();
+        for (UserDto dto : all.subList(0, PAGE)) {
+            if (dto.roles().isEmpty()) {
+                throw new AssertionError("user without roles: " + dto.identifier());
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Returns the growth of the used heap after a collection while one first-page result is held.
+     */
+    private static long retainedBytes(DtoCrudStore<UserDto, User, UUID> store) {
+        long before = usedHeapAfterGc();
+        List<UserDto> held = firstPage(store);
+        long after = usedHeapAfterGc();
+        if (held.size() != ROWS) {
+            throw new AssertionError("unexpected size " + held.size());
+        }
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
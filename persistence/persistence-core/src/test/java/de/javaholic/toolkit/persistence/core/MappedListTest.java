@@ -0,0 +1,75 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.MappingFixture.User;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedListTest {
+
+    private static final int ROWS = 1_000;
+    private static final int PAGE = 50;
+
+    @Test
+    void memoizedViewMapsEachElementOnceOnFirstAccess() {
+        AtomicInteger calls = new AtomicInteger();
+        MappedList<String, String> view = MappedList.memoized(List.of("a", "b", "c"), value -> {
+            calls.incrementAndGet();
+            return value.toUpperCase();
+        });
+
+        assertThat(view).isInstanceOf(RandomAccess.class).hasSize(3);
+        assertThat(calls).hasValue(0);
+        String first = view.get(1);
+        assertThat(view.get(1)).isSameAs(first);
+        assertThat(calls).hasValue(1);
+        assertThat(view.mappedCount()).isEqualTo(1);
+
+        assertThat(view).containsExactly("A", "B", "C");
+        assertThat(calls).hasValue(3);
+        assertThat(view.mappedCount()).isEqualTo(3);
+        assertThatThrownBy(() -> view.set(0, "x")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void unmemoizedViewMapsOnEveryAccess() {
+        AtomicInteger calls = new AtomicInteger();
+        List<String> view = MappedList.Mode.LAZY_UNMEMOIZED.map(List.of("a", "b"), value -> {
+            calls.incrementAndGet();
+            return value + calls.get();
+        });
+
+        assertThat(view.get(0)).isEqualTo("a1");
+        assertThat(view.get(0)).isEqualTo("a2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void lazyDtoStoreMapsOnlyTheRenderedPage() {
+        InMemoryCrudStore<User, UUID> domainStore = MappingFixture.users(ROWS);
+        UserMapper mapper = new UserMapper();
+
+        renderFirstPage(new DtoCrudStore<>(domainStore, mapper, MappedList.Mode.EAGER));
+        int eagerCalls = mapper.takeCalls();
+        renderFirstPage(new DtoCrudStore<>(domainStore, mapper, MappedList.Mode.LAZY));
+        int lazyCalls = mapper.takeCalls();
+
+        assertThat(eagerCalls).isEqualTo(ROWS);
+        assertThat(lazyCalls).isEqualTo(PAGE);
+    }
+
+    private static void renderFirstPage(DtoCrudStore<UserDto, User, UUID> store) {
+        List<UserDto> all = store.findAll();
+        assertThat(all).hasSize(ROWS);
+        assertThat(all.subList(0, PAGE)).allSatisfy(dto -> assertThat(dto.roles()).hasSize(3));
+    }
+}
@@ -0,0 +1,70 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.MappingFixture.RoleDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.User;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps 50k users sharing {@value MappingFixture#ROLES} roles to DTOs with one {@link MappingContext}
+ * for the whole read and without one; prints the bytes allocated, the time of the best round and
+ * the distinct role DTOs each variant produces.
+ *
+ * <p>Runs only with {@code mvn test -Pbenchmarks}.</p>
+ */
+class MappingContextBenchmark {
+
+    private static final int USERS = 50_000;
+    private static final int ROUNDS = 10;
+
+    @Test
+    void withAndWithoutContext() {
+        List<User> users = MappingFixture.users(USERS).findAll();
+        UserMapper mapper = new UserMapper();
+        for (int i = 0; i < 5; i++) {
+            map(users, mapper, MappingContext.none());
+            map(users, mapper, MappingContext.create());
+        }
+
+        long withoutNanos = Long.MAX_VALUE;
+        long withNanos = Long.MAX_VALUE;
+        long withoutBytes = Long.MAX_VALUE;
+        long withBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            map(users, mapper, MappingContext.none());
+            withoutNanos = Math.min(withoutNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            map(users, mapper, MappingContext.create());
+            withNanos = Math.min(withNanos, System.nanoTime() - start);
+            withoutBytes = Math.min(withoutBytes, MappingFixture.allocatedBytes(() -> map(users, mapper, MappingContext.none())));
+            withBytes = Math.min(withBytes, MappingFixture.allocatedBytes(() -> map(users, mapper, MappingContext.create())));
+        }
+
+        System.out.printf("%,d users: without context %,d KiB allocated, %.2f ms, %,d role DTOs; "
+                        + "with context %,d KiB allocated, %.2f ms, %,d role DTOs%n",
+                USERS, withoutBytes / 1024, withoutNanos / 1e6, distinctRoles(map(users, mapper, MappingContext.none())),
+                withBytes / 1024, withNanos / 1e6, distinctRoles(map(users, mapper, MappingContext.create())));
+    }
+
+    private static List<UserDto> map(List<User> users, UserMapper mapper, MappingContext context) {
+        List<UserDto> dtos = new ArrayList<>(users.size());
+        for (User user : users) {
+            dtos.add(mapper.toDto(user, context));
+        }
+        return dtos;
+    }
+
+    private static int distinctRoles(List<UserDto> dtos) {
+        Set<RoleDto> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        dtos.forEach(dto -> distinct.addAll(dto.roles()));
+        return distinct.size();
+    }
+}
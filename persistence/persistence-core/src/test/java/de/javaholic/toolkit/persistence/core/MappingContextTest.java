@@ -0,0 +1,84 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.MappingFixture.PermissionDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.Role;
+import de.javaholic.toolkit.persistence.core.MappingFixture.RoleDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.User;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappingContextTest {
+
+    @Test
+    void mapsSharedInstancesAndIdsOncePerContext() {
+        MappingContext context = MappingContext.create();
+        AtomicInteger calls = new AtomicInteger();
+        String first = new String("admin");
+        String second = new String("admin");
+
+        String a = context.mapOnce(first, String.class, value -> value.toUpperCase() + calls.incrementAndGet());
+        String b = context.mapOnce(first, String.class, value -> value.toUpperCase() + calls.incrementAndGet());
+        String c = context.mapOnce(second, String.class, value -> value.toUpperCase() + calls.incrementAndGet());
+        assertThat(b).isSameAs(a);
+        assertThat(c).isNotSameAs(a);
+
+        Integer byId = context.mapOnceById("admin", Integer.class, calls::incrementAndGet);
+        assertThat(context.mapOnceById(second, Integer.class, calls::incrementAndGet)).isSameAs(byId);
+        assertThat(calls).hasValue(3);
+        assertThat(context.size()).isEqualTo(3);
+
+        assertThat(MappingContext.none().mapOnceById("admin", Integer.class, calls::incrementAndGet)).isEqualTo(4);
+        assertThat(MappingContext.none().mapOnceById("admin", Integer.class, calls::incrementAndGet)).isEqualTo(5);
+        assertThat(MappingContext.none().size()).isZero();
+    }
+
+    @Test
+    void dtoStoreSharesNestedDtosWithinOneReadOnly() {
+        DtoCrudStore<UserDto, User, UUID> store = new DtoCrudStore<>(MappingFixture.users(100), new UserMapper());
+
+        List<UserDto> first = store.findAll();
+        List<UserDto> second = store.findAll();
+
+        Set<RoleDto> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        first.forEach(user -> distinct.addAll(user.roles()));
+        assertThat(distinct).hasSize(MappingFixture.ROLES);
+        assertThat(second.get(0).roles().iterator().next())
+                .isNotSameAs(first.get(0).roles().iterator().next());
+        assertThat(store.findById(first.get(0).id())).map(UserDto::identifier).contains(first.get(0).identifier());
+    }
+
+    @Test
+    void usersSharingARoleGetTheSameRoleAndPermissionDtos() {
+        Role editor = new Role("EDITOR", Set.of("doc.read", "doc.write"));
+        Role reader = new Role("READER", Set.of("doc.read"));
+        User alice = new User(UUID.randomUUID(), "alice", "Alice", Set.of(editor));
+        User bob = new User(UUID.randomUUID(), "bob", "Bob", Set.of(editor, reader));
+        UserMapper mapper = new UserMapper();
+        MappingContext context = MappingContext.create();
+
+        RoleDto aliceEditor = roleDto(mapper.toDto(alice, context), "EDITOR");
+        UserDto bobDto = mapper.toDto(bob, context);
+
+        assertThat(roleDto(bobDto, "EDITOR")).isSameAs(aliceEditor);
+        assertThat(permissionDto(roleDto(bobDto, "READER"), "doc.read")).isSameAs(permissionDto(aliceEditor, "doc.read"));
+        assertThat(roleDto(mapper.toDto(bob), "EDITOR")).isNotSameAs(aliceEditor).isEqualTo(aliceEditor);
+    }
+
+    private static RoleDto roleDto(UserDto user, String name) {
+        return user.roles().stream().filter(role -> role.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static PermissionDto permissionDto(RoleDto role, String code) {
+        return role.permissions().stream().filter(permission -> permission.code().equals(code)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,128 @@
+package de.javaholic.toolkit.persistence.core;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Users sharing a fixed set of roles and a counting mapper to their DTOs, shared by the mapping tests.
+ */
+final class MappingFixture {
+
+    static final int ROLES = 30;
+
+    record Role(String name, Set<String> permissions) {
+    }
+
+    record User(UUID id, String identifier, String displayName, Set<Role> roles) {
+    }
+
+    record PermissionDto(String code) {
+    }
+
+    record RoleDto(String name, Set<PermissionDto> permissions) {
+    }
+
+    record UserDto(UUID id, String identifier, String displayName, Set<RoleDto> roles) {
+    }
+
+    private MappingFixture() {
+    }
+
+    /**
+     * Returns an in-memory store holding {@code count} users, each with three of the {@link #ROLES} roles.
+     */
+    static InMemoryCrudStore<User, UUID> users(int count) {
+        List<Role> roles = new ArrayList<>(ROLES);
+        for (int r = 0; r < ROLES; r++) {
+            roles.add(new Role("ROLE_" + r, Set.of("perm." + r + ".read", "perm." + r + ".write", "perm.shared")));
+        }
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User(UUID.nameUUIDFromBytes(("user-" + i).getBytes()), "user-" + i, "User " + i,
+                    Set.of(roles.get(i % ROLES), roles.get((i + 7) % ROLES), roles.get((i + 13) % ROLES))));
+        }
+        InMemoryCrudStore<User, UUID> store = new InMemoryCrudStore<>(User.class);
+        store.saveAll(users);
+        return store;
+    }
+
+    /**
+     * Returns the bytes the current thread allocated while running the task, for the benchmarks.
+     */
+    static long allocatedBytes(Runnable task) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        task.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /**
+     * Maps users to DTOs, sharing role and permission DTOs through the {@link MappingContext} and
+     * counting the users mapped.
+     */
+    static final class UserMapper implements DtoMapper<UserDto, User> {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final boolean threadSafe;
+
+        UserMapper() {
+            this(true);
+        }
+
+        UserMapper(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+        }
+
+        /**
+         * Returns the number of users mapped to DTOs since the last call and resets it.
+         */
+        int takeCalls() {
+            return calls.getAndSet(0);
+        }
+
+        @Override
+        public UserDto toDto(User domain) {
+            return toDto(domain, MappingContext.none());
+        }
+
+        @Override
+        public UserDto toDto(User domain, MappingContext context) {
+            calls.incrementAndGet();
+            Set<RoleDto> roles = new HashSet<>();
+            for (Role role : domain.roles()) {
+                roles.add(context.mapOnceById(role.name(), RoleDto.class, () -> toRoleDto(role, context)));
+            }
+            return new UserDto(domain.id(), domain.identifier(), domain.displayName(), roles);
+        }
+
+        private static RoleDto toRoleDto(Role role, MappingContext context) {
+            Set<PermissionDto> permissions = new HashSet<>();
+            for (String code : role.permissions()) {
+                permissions.add(context.mapOnceById(code, PermissionDto.class, () -> new PermissionDto(code)));
+            }
+            return new RoleDto(role.name(), permissions);
+        }
+
+        @Override
+        public User toDomain(UserDto dto) {
+            Set<Role> roles = new HashSet<>();
+            for (RoleDto role : dto.roles()) {
+                Set<String> permissions = new HashSet<>();
+                role.permissions().forEach(permission -> permissions.add(permission.code()));
+                roles.add(new Role(role.name(), permissions));
+            }
+            return new User(dto.id(), dto.identifier(), dto.displayName(), roles);
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return threadSafe;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.MappingFixture.User;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times sequential and parallel mapping of users across result sizes.
+ *
+ * <p>Runs only with {@code mvn test -Pbenchmarks}.</p>
+ */
+class ParallelMappingBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+
+    @Test
+    void sequentialVersusParallel() {
+        UserMapper mapper = new UserMapper();
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int size : SIZES) {
+            InMemoryCrudStore<User, UUID> domainStore = MappingFixture.users(size);
+            DtoCrudStore<UserDto, User, UUID> sequential = new DtoCrudStore<>(domainStore, mapper);
+            DtoCrudStore<UserDto, User, UUID> forkJoin = new DtoCrudStore<>(domainStore, mapper, ParallelMapping.above(1_000));
+            DtoCrudStore<UserDto, User, UUID> virtual = new DtoCrudStore<>(domainStore, mapper,
+                    ParallelMapping.above(1_000).onVirtualThreads());
+
+            System.out.printf("%,d rows on %d cores: sequential %.2f ms, fork-join %.2f ms, virtual threads %.2f ms%n",
+                    size, cores, millisPerCall(sequential::findAll), millisPerCall(forkJoin::findAll),
+                    millisPerCall(virtual::findAll));
+        }
+    }
+
+    private static double millisPerCall(Supplier<List<UserDto>> call) {
+        for (int i = 0; i < 5; i++) {
+            call.get();
+        }
+        int rounds = 10;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            call.get();
+        }
+        return (System.nanoTime() - start) / (double) TimeUnit.MILLISECONDS.toNanos(1) / rounds;
+    }
+}
@@ -0,0 +1,90 @@
+package de.javaholic.toolkit.persistence.core;
+
+import de.javaholic.toolkit.persistence.core.MappingFixture.User;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserDto;
+import de.javaholic.toolkit.persistence.core.MappingFixture.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelMappingTest {
+
+    @Test
+    void keepsSourceOrderAcrossChunksAndThreads() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            source.add(i);
+        }
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> mapped = ParallelMapping.above(1_000).on(pool).chunkSize(500).map(source, value -> {
+                threads.add(Thread.currentThread().getName());
+                return "row-" + value;
+            });
+
+            assertThat(mapped).hasSize(10_000);
+            for (int i = 0; i < mapped.size(); i++) {
+                assertThat(mapped.get(i)).isEqualTo("row-" + i);
+            }
+            assertThat(threads).allMatch(name -> name.startsWith("ForkJoinPool"));
+            assertThatThrownBy(() -> mapped.add("x")).isInstanceOf(UnsupportedOperationException.class);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void mapsSmallListsOnTheCallingThreadAndPropagatesFailures() {
+        String caller = Thread.currentThread().getName();
+        List<String> small = ParallelMapping.above(100).onVirtualThreads()
+                .map(List.of("a", "b"), value -> value + "@" + Thread.currentThread().getName());
+
+        assertThat(small).containsExactly("a@" + caller, "b@" + caller);
+
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            large.add(i);
+        }
+        assertThatThrownBy(() -> ParallelMapping.above(100).onVirtualThreads().chunkSize(100).map(large, value -> {
+            if (value == 777) {
+                throw new IllegalArgumentException("bad row " + value);
+            }
+            return value;
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("bad row 777");
+    }
+
+    @Test
+    void storesRequireThreadSafeMappers() {
+        InMemoryCrudStore<User, UUID> domainStore = MappingFixture.users(10);
+
+        assertThatThrownBy(() -> new DtoCrudStore<>(domainStore, new UserMapper(false), ParallelMapping.above(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new DtoCrudStore<>(domainStore, new UserMapper(true), ParallelMapping.above(5)).findAll())
+                .hasSize(10).extracting(UserDto::identifier).contains("user-0");
+    }
+
+    @Test
+    void parallelStoresReturnTheSameDtosAsSequentialOnes() {
+        InMemoryCrudStore<User, UUID> domainStore = MappingFixture.users(2_000);
+        UserMapper mapper = new UserMapper();
+        DtoCrudStore<UserDto, User, UUID> sequential = new DtoCrudStore<>(domainStore, mapper);
+        DtoCrudStore<UserDto, User, UUID> forkJoin = new DtoCrudStore<>(domainStore, mapper,
+                ParallelMapping.above(500).chunkSize(250));
+        DtoCrudStore<UserDto, User, UUID> virtual = new DtoCrudStore<>(domainStore, mapper,
+                ParallelMapping.above(500).chunkSize(250).onVirtualThreads());
+
+        List<UserDto> expected = sequential.findAll();
+
+        assertThat(forkJoin.findAll()).isEqualTo(expected);
+        assertThat(virtual.findAll()).isEqualTo(expected);
+    }
+}
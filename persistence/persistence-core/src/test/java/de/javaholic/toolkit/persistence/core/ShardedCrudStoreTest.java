@@ -0,0 +1,243 @@
+package de.javaholic.toolkit.persistence.core;
+
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardedCrudStoreTest {
+
+    static class Event {
+        @Id
+        private UUID id;
+        private String tenant;
+        private int score;
+
+        Event(UUID id, String tenant, int score) {
+            this.id = id;
+            this.tenant = tenant;
+            this.score = score;
+        }
+    }
+
+    private final List<EventStore> databases = List.of(
+            new EventStore("shard-0"), new EventStore("shard-1"), new EventStore("shard-2"));
+
+    @AfterEach
+    void dropDatabases() {
+        databases.forEach(EventStore::close);
+    }
+
+    @Test
+    void routesWritesByIdAndMergesSortedShardResults() {
+        ShardedCrudStore<Event, UUID> store = new ShardedCrudStore<>(databases, databases.get(0), ShardedCrudStore.Routing.byId());
+        List<Integer> scores = new ArrayList<>();
+        for (int score = 0; score < 60; score++) {
+            scores.add(score);
+        }
+        Collections.shuffle(scores, new Random(7));
+        List<Event> events = new ArrayList<>();
+        for (int score : scores) {
+            events.add(new Event(UUID.randomUUID(), "t" + (score % 4), score));
+        }
+
+        List<Event> saved = store.saveAll(events);
+
+        assertThat(saved).extracting(event -> event.id).containsExactlyElementsOf(events.stream().map(event -> event.id).toList());
+        assertThat(databases).allSatisfy(database -> assertThat(database.count()).isPositive());
+        for (Event event : events) {
+            assertThat(databases.get(store.shardOf(event)).findById(event.id)).isPresent();
+        }
+        assertThat(store.count()).isEqualTo(60);
+        assertThat(store.findById(events.get(5).id)).map(event -> event.score).contains(events.get(5).score);
+
+        Page<Event> page = store.findPage(PageRequest.of(2, 7, Sort.by(Sort.Order.desc("score"))));
+        assertThat(page.content()).extracting(event -> event.score).containsExactly(45, 44, 43, 42, 41, 40, 39);
+        assertThat(page.totalElements()).hasValue(60);
+        assertThat(page.hasNext()).isTrue();
+
+        List<Integer> scrolled = new ArrayList<>();
+        ScrollRequest request = ScrollRequest.of(8, Sort.by("score"));
+        Window<Event> window;
+        do {
+            window = store.findWindow(request);
+            window.content().forEach(event -> scrolled.add(event.score));
+            request = window.next();
+        } while (window.hasNext());
+        assertThat(scrolled).isEqualTo(scores.stream().sorted().toList());
+
+        Page<Row> rows = store.findRowPage(Projection.of("tenant"), Filter.atLeast("score", 50), PageRequest.of(0, 3, Sort.by("score")));
+        assertThat(rows.content()).extracting(row -> row.get("tenant")).containsExactly("t2", "t3", "t0");
+        assertThat(rows.content().get(0).projection()).isEqualTo(Projection.of("tenant"));
+        assertThat(rows.totalElements()).hasValue(10);
+
+        store.deleteAllById(List.of(events.get(0).id, events.get(1).id));
+        assertThat(store.count()).isEqualTo(58);
+        assertThat(store.findAllById(List.of(events.get(0).id, events.get(2).id))).extracting(event -> event.id).containsExactly(events.get(2).id);
+    }
+
+    @Test
+    void routesByPropertyAndQueriesOnlyShardsThatCanMatch() {
+        ShardedCrudStore<Event, UUID> store = new ShardedCrudStore<>(databases, databases.get(0), ShardedCrudStore.Routing.byProperty("tenant"));
+        for (int i = 0; i < 40; i++) {
+            store.save(new Event(UUID.randomUUID(), "tenant-" + (i % 5), i));
+        }
+        Set<Integer> tenantShards = Set.of(
+                ShardedCrudStore.ShardFunction.HASH.shardOf("tenant-1", 3),
+                ShardedCrudStore.ShardFunction.HASH.shardOf("tenant-2", 3));
+        databases.forEach(database -> database.filteredReads.set(0));
+
+        List<Event> found = store.findAll(Filter.in("tenant", List.of("tenant-1", "tenant-2")).and(Filter.atMost("score", 20)));
+
+        assertThat(found).extracting(event -> event.score).containsExactlyInAnyOrder(1, 2, 6, 7, 11, 12, 16, 17);
+        for (int shard = 0; shard < databases.size(); shard++) {
+            assertThat(databases.get(shard).filteredReads.get()).isEqualTo(tenantShards.contains(shard) ? 1 : 0);
+        }
+        assertThat(store.count(Filter.eq("tenant", "tenant-3"))).isEqualTo(8);
+        assertThat(store.exists(Filter.eq("tenant", "nobody"))).isFalse();
+    }
+
+    /**
+     * One H2 in-memory database holding one shard; paging is pushed down as {@code ORDER BY ... LIMIT}.
+     */
+    static final class EventStore implements CrudStore<Event, UUID>, CrudStoreMeta<Event> {
+
+        private static final Set<String> COLUMNS = Set.of("id", "tenant", "score");
+
+        private final Connection connection;
+        private final AtomicInteger filteredReads = new AtomicInteger();
+
+        EventStore(String name) {
+            try {
+                connection = DriverManager.getConnection("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+                connection.createStatement().execute(
+                        "create table event (id uuid primary key, tenant varchar(64), score int)");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void close() {
+            try (connection) {
+                connection.createStatement().execute("drop all objects");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public List<Event> findAll() {
+            return query("select id, tenant, score from event");
+        }
+
+        @Override
+        public Optional<Event> findById(UUID id) {
+            return query("select id, tenant, score from event where id = ?", id).stream().findFirst();
+        }
+
+        @Override
+        public List<Event> findAll(Filter filter) {
+            filteredReads.incrementAndGet();
+            return CrudStore.super.findAll(filter);
+        }
+
+        @Override
+        public synchronized long count() {
+            try (ResultSet result = connection.createStatement().executeQuery("select count(*) from event")) {
+                result.next();
+                return result.getLong(1);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Page<Event> findPage(PageRequest request) {
+            List<String> orders = new ArrayList<>();
+            for (Sort.Order order : request.sort().orders()) {
+                if (!COLUMNS.contains(order.property())) {
+                    throw new IllegalArgumentException(order.property());
+                }
+                orders.add(order.property() + (order.isAscending() ? " asc" : " desc"));
+            }
+            String orderBy = orders.isEmpty() ? "" : " order by " + String.join(", ", orders);
+            List<Event> content = query("select id, tenant, score from event" + orderBy + " limit ? offset ?",
+                    request.size(), request.offset());
+            return Page.of(content, request, count());
+        }
+
+        @Override
+        public Event save(Event entity) {
+            update("merge into event (id, tenant, score) key (id) values (?, ?, ?)", entity.id, entity.tenant, entity.score);
+            return entity;
+        }
+
+        @Override
+        public void delete(Event entity) {
+            update("delete from event where id = ?", entity.id);
+        }
+
+        @Override
+        public Class<Event> domainType() {
+            return Event.class;
+        }
+
+        @Override
+        public Class<?> idType() {
+            return UUID.class;
+        }
+
+        @Override
+        public Object getId(Event entity) {
+            return entity.id;
+        }
+
+        @Override
+        public Optional<Object> getVersion(Event entity) {
+            return Optional.empty();
+        }
+
+        private synchronized List<Event> query(String sql, Object... parameters) {
+            try (PreparedStatement statement = prepare(sql, parameters); ResultSet result = statement.executeQuery()) {
+                List<Event> events = new ArrayList<>();
+                while (result.next()) {
+                    events.add(new Event(result.getObject(1, UUID.class), result.getString(2), result.getInt(3)));
+                }
+                return events;
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private synchronized void update(String sql, Object... parameters) {
+            try (PreparedStatement statement = prepare(sql, parameters)) {
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private PreparedStatement prepare(String sql, Object... parameters) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return statement;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package de.javaholic.toolkit.persistence.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnitOfWorkTest {
+
+    static class Item {
+        private UUID id;
+        private String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private final List<String> calls = new ArrayList<>();
+    private final RecordingStore permissions = new RecordingStore("permissions");
+    private final RecordingStore roles = new RecordingStore("roles");
+
+    @Test
+    void coalescesConsecutiveWritesAndRunsThemInQueueOrderInOneScope() {
+        Item read = permissions.save(new Item("read"));
+        calls.clear();
+        RecordingScope scope = new RecordingScope();
+
+        UnitOfWork work = new UnitOfWork(scope)
+                .save(permissions, new Item("write"))
+                .saveAll(permissions, List.of(new Item("delete"), new Item("admin")))
+                .save(roles, new Item("editor"))
+                .save(roles, new Item("viewer"))
+                .deleteById(permissions, read.id);
+
+        assertThat(work.pendingCalls()).isEqualTo(3);
+        assertThat(calls).isEmpty();
+
+        work.commit();
+
+        assertThat(calls).containsExactly("scope:begin", "permissions.saveAll:3", "roles.saveAll:2", "permissions.deleteAllById:1", "scope:end");
+        assertThat(scope.readOnly).containsExactly(false);
+        assertThat(permissions.findAll()).extracting(item -> item.name).containsExactlyInAnyOrder("write", "delete", "admin");
+        assertThat(roles.count()).isEqualTo(2);
+        assertThatThrownBy(work::commit).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void usesSingleCallsForSingleWritesAndPropagatesFailures() {
+        Item editor = roles.save(new Item("editor"));
+        calls.clear();
+
+        new UnitOfWork().save(permissions, new Item("read")).delete(roles, editor).commit();
+
+        assertThat(calls).containsExactly("permissions.save", "roles.delete");
+
+        UnitOfWork failing = new UnitOfWork().save(permissions, new Item("write")).save(roles, new Item(null));
+        assertThatThrownBy(failing::commit).isInstanceOf(IllegalArgumentException.class);
+        assertThat(failing.pendingCalls()).isZero();
+    }
+
+    private final class RecordingScope implements AsyncCrudStoreAdapter.CallScope {
+        private final List<Boolean> readOnly = new ArrayList<>();
+
+        @Override
+        public <R> R call(boolean readOnly, Supplier<R> call) {
+            this.readOnly.add(readOnly);
+            calls.add("scope:begin");
+            R result = call.get();
+            calls.add("scope:end");
+            return result;
+        }
+    }
+
+    private final class RecordingStore implements CrudStore<Item, UUID> {
+        private final String name;
+        private final Map<UUID, Item> items = new LinkedHashMap<>();
+
+        private RecordingStore(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public List<Item> findAll() {
+            return List.copyOf(items.values());
+        }
+
+        @Override
+        public Optional<Item> findById(UUID id) {
+            return Optional.ofNullable(items.get(id));
+        }
+
+        @Override
+        public Item save(Item entity) {
+            calls.add(name + ".save");
+            return write(entity);
+        }
+
+        @Override
+        public List<Item> saveAll(Collection<? extends Item> entities) {
+            calls.add(name + ".saveAll:" + entities.size());
+            List<Item> saved = new ArrayList<>();
+            for (Item entity : entities) {
+                saved.add(write(entity));
+            }
+            return saved;
+        }
+
+        @Override
+        public void delete(Item entity) {
+            calls.add(name + ".delete");
+            items.remove(entity.id);
+        }
+
+        @Override
+        public void deleteAllById(Collection<? extends UUID> ids) {
+            calls.add(name + ".deleteAllById:" + ids.size());
+            ids.forEach(items::remove);
+        }
+
+        private Item write(Item entity) {
+            if (entity.name == null) {
+                throw new IllegalArgumentException("name");
+            }
+            if (entity.id == null) {
+                entity.id = UUID.randomUUID();
+            }
+            items.put(entity.id, entity);
+            return entity;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package de.javaholic.toolkit.persistence.processor;
+
+import de.javaholic.toolkit.persistence.core.DtoMapper;
+import de.javaholic.toolkit.persistence.core.EntityMapper;
+import de.javaholic.toolkit.persistence.core.GenerateMapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates {@link EntityMapper} and {@link DtoMapper} implementations for interfaces annotated
+ * with {@link GenerateMapper}.
+ *
+ * <p>Concept: all type analysis happens at compile time against the element model; the emitted
+ * mapper is plain Java that calls getters, setters and the mappers from
+ * {@link GenerateMapper#uses()}. Nothing is looked up reflectively at run time. Mapping problems,
+ * such as a target property without a source, are reported as compile errors on the annotated
+ * interface.</p>
+ *
+ * <p>Reads ({@code toDto}, or {@code toDomain} of an entity) take the caller's
+ * {@code MappingContext} and hand it to nested mappers; writes do not.</p>
+ */
+@SupportedAnnotationTypes("de.javaholic.toolkit.persistence.core.GenerateMapper")
+public final class MapperProcessor extends AbstractProcessor {
+
+    private Types types;
+    private Elements elements;
+    private Messager messager;
+    private TypeMirror collectionType;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.messager = processingEnv.getMessager();
+        this.collectionType = types.erasure(elements.getTypeElement("java.util.Collection").asType());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+            try {
+                write((TypeElement) element, generate(element));
+            } catch (MappingException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    private MapperSource generate(Element element) {
+        if (element.getKind() != ElementKind.INTERFACE) {
+            throw new MappingException("@GenerateMapper must annotate an interface");
+        }
+        TypeElement declaration = (TypeElement) element;
+        if (!declaration.getTypeParameters().isEmpty()) {
+            throw new MappingException("@GenerateMapper interfaces must not declare type parameters");
+        }
+        if (declaration.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new MappingException("@GenerateMapper interfaces must not be private");
+        }
+        GenerateMapper settings = declaration.getAnnotation(GenerateMapper.class);
+        DeclaredType spi = mapperSupertype(declaration.asType());
+        if (spi == null) {
+            throw new MappingException("@GenerateMapper interfaces must extend EntityMapper or DtoMapper");
+        }
+        boolean dtoMapper = isType(spi, DtoMapper.class);
+
+        List<MapperSource.Field> fields = new ArrayList<>();
+        List<Converter> converters = new ArrayList<>();
+        for (TypeMirror used : usedMappers(settings)) {
+            DeclaredType usedSpi = mapperSupertype(used);
+            if (usedSpi == null) {
+                throw new MappingException(typeName(used) + " in uses is neither an EntityMapper nor a DtoMapper");
+            }
+            String field = fieldName(used, fields);
+            fields.add(new MapperSource.Field(typeName(used), field));
+            TypeMirror a = declaredArgument(usedSpi, 0);
+            TypeMirror b = declaredArgument(usedSpi, 1);
+            if (isType(usedSpi, DtoMapper.class)) {
+                converters.add(new Converter(b, a, field, "toDto", true));
+                converters.add(new Converter(a, b, field, "toDomain", false));
+            } else {
+                converters.add(new Converter(b, a, field, "toDomain", true));
+                converters.add(new Converter(a, b, field, "toEntity", false));
+            }
+        }
+
+        // DtoMapper<DTO, D> reads D into DTO; EntityMapper<D, E> reads E into D. Writes go back.
+        TypeMirror first = declaredArgument(spi, 0);
+        TypeMirror second = declaredArgument(spi, 1);
+        Set<String> ignored = new HashSet<>(Arrays.asList(settings.ignore()));
+        MapperSource.Method read = method(dtoMapper ? "toDto" : "toDomain", second, first, true,
+                settings.shareBy(), ignored, converters);
+        MapperSource.Method write = method(dtoMapper ? "toDomain" : "toEntity", first, second, false,
+                "", ignored, converters);
+
+        return new MapperSource(
+                elements.getPackageOf(declaration).getQualifiedName().toString(),
+                implName(declaration),
+                declaration.getQualifiedName().toString(),
+                declaration.getModifiers().contains(Modifier.PUBLIC),
+                fields,
+                read,
+                write
+        );
+    }
+
+    private MapperSource.Method method(String name, TypeMirror source, TypeMirror target, boolean read,
+                                       String shareBy, Set<String> ignored, List<Converter> converters) {
+        requireBean(target);
+        DeclaredType sourceType = (DeclaredType) source;
+        DeclaredType targetType = (DeclaredType) target;
+        Map<String, ExecutableElement> getters = getters(sourceType);
+        Map<String, ExecutableElement> setters = setters(targetType);
+
+        String shareGetter = null;
+        if (!shareBy.isEmpty()) {
+            ExecutableElement getter = getters.get(shareBy);
+            if (getter == null) {
+                throw new MappingException("shareBy names no readable property '" + shareBy + "' of " + typeName(source));
+            }
+            shareGetter = getter.getSimpleName().toString();
+        }
+
+        List<MapperSource.Property> properties = new ArrayList<>();
+        for (Map.Entry<String, ExecutableElement> setter : setters.entrySet()) {
+            String property = setter.getKey();
+            if (ignored.contains(property)) {
+                continue;
+            }
+            ExecutableElement getter = getters.get(property);
+            if (getter == null) {
+                throw new MappingException("No readable property '" + property + "' on " + typeName(source)
+                        + " for " + typeName(target) + "; add it to ignore if it stays unset");
+            }
+            TypeMirror from = ((ExecutableType) types.asMemberOf(sourceType, getter)).getReturnType();
+            TypeMirror to = ((ExecutableType) types.asMemberOf(targetType, setter.getValue())).getParameterTypes().get(0);
+            properties.add(property(property, getter.getSimpleName().toString(),
+                    setter.getValue().getSimpleName().toString(), from, to, read, converters));
+        }
+        return new MapperSource.Method(name, typeName(source), typeName(target), typeName(types.erasure(target)),
+                read, shareGetter, properties);
+    }
+
+    private MapperSource.Property property(String property, String getter, String setter, TypeMirror from,
+                                           TypeMirror to, boolean read, List<Converter> converters) {
+        String collection = collectionImplementation(to);
+        if (collection != null && isCollection(from)) {
+            TypeMirror fromElement = collectionElement(from);
+            TypeMirror toElement = collectionElement(to);
+            if (fromElement == null || toElement == null || toElement.getKind() == TypeKind.WILDCARD) {
+                throw new MappingException("Property '" + property + "' needs collections with a declared element type");
+            }
+            String call = types.isSameType(fromElement, toElement)
+                    ? null
+                    : converter(fromElement, toElement, property, converters).call(read);
+            return MapperSource.Property.collection(property, getter, setter, typeName(from), typeName(to),
+                    typeName(fromElement), collection, call);
+        }
+        if (types.isAssignable(from, to)) {
+            return MapperSource.Property.assign(property, getter, setter);
+        }
+        return MapperSource.Property.convert(property, getter, setter, typeName(from),
+                converter(from, to, property, converters).call(read));
+    }
+
+    private Converter converter(TypeMirror from, TypeMirror to, String property, List<Converter> converters) {
+        for (Converter converter : converters) {
+            if (types.isAssignable(from, converter.from()) && types.isAssignable(converter.to(), to)) {
+                return converter;
+            }
+        }
+        throw new MappingException("Cannot map property '" + property + "' from " + typeName(from) + " to "
+                + typeName(to) + "; add a mapper to uses or add the property to ignore");
+    }
+
+    private void write(TypeElement declaration, MapperSource source) {
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(source.qualifiedName(), declaration);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.render());
+            }
+        } catch (IOException e) {
+            throw new MappingException("Cannot write " + source.qualifiedName() + ": " + e.getMessage());
+        }
+    }
+
+    private List<? extends TypeMirror> usedMappers(GenerateMapper settings) {
+        try {
+            settings.uses();
+            throw new MappingException("uses must be resolved at compile time");
+        } catch (MirroredTypesException e) {
+            return e.getTypeMirrors();
+        }
+    }
+
+    private DeclaredType mapperSupertype(TypeMirror type) {
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declared
+                    && (isType(declared, DtoMapper.class) || isType(declared, EntityMapper.class))) {
+                return declared;
+            }
+            DeclaredType found = mapperSupertype(supertype);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private boolean isType(DeclaredType type, Class<?> expected) {
+        return ((TypeElement) type.asElement()).getQualifiedName().contentEquals(expected.getCanonicalName());
+    }
+
+    private TypeMirror declaredArgument(DeclaredType type, int index) {
+        List<? extends TypeMirror> arguments = type.getTypeArguments();
+        if (arguments.size() <= index || arguments.get(index).getKind() != TypeKind.DECLARED) {
+            throw new MappingException(typeName(type) + " must name concrete classes as type arguments");
+        }
+        return arguments.get(index);
+    }
+
+    private void requireBean(TypeMirror type) {
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new MappingException(typeName(type) + " must be a concrete class");
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return;
+            }
+        }
+        throw new MappingException(typeName(type) + " needs a public no-argument constructor");
+    }
+
+    private Map<String, ExecutableElement> getters(DeclaredType type) {
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        for (ExecutableElement method : accessors(type)) {
+            String name = method.getSimpleName().toString();
+            if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+            if (name.startsWith("get") && name.length() > 3) {
+                getters.putIfAbsent(propertyName(name.substring(3)), method);
+            } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+                getters.putIfAbsent(propertyName(name.substring(2)), method);
+            }
+        }
+        return getters;
+    }
+
+    private Map<String, ExecutableElement> setters(DeclaredType type) {
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        for (ExecutableElement method : accessors(type)) {
+            String name = method.getSimpleName().toString();
+            if (name.startsWith("set") && name.length() > 3 && method.getParameters().size() == 1) {
+                setters.putIfAbsent(propertyName(name.substring(3)), method);
+            }
+        }
+        return setters;
+    }
+
+    private List<ExecutableElement> accessors(DeclaredType type) {
+        List<ExecutableElement> accessors = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers((TypeElement) type.asElement()))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            TypeElement owner = (TypeElement) method.getEnclosingElement();
+            if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)
+                    && !owner.getQualifiedName().contentEquals("java.lang.Object")) {
+                accessors.add(method);
+            }
+        }
+        return accessors;
+    }
+
+    private boolean isCollection(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), collectionType);
+    }
+
+    private String collectionImplementation(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return switch (((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString()) {
+            case "java.util.Set" -> "java.util.HashSet";
+            case "java.util.List", "java.util.Collection" -> "java.util.ArrayList";
+            default -> null;
+        };
+    }
+
+    private TypeMirror collectionElement(TypeMirror type) {
+        DeclaredType declared = (DeclaredType) type;
+        if (types.isSameType(types.erasure(declared), collectionType)) {
+            if (declared.getTypeArguments().isEmpty()) {
+                return null;
+            }
+            TypeMirror element = declared.getTypeArguments().get(0);
+            if (element instanceof WildcardType wildcard) {
+                return wildcard.getExtendsBound() != null ? wildcard.getExtendsBound() : element;
+            }
+            return element;
+        }
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (isCollection(supertype)) {
+                return collectionElement(supertype);
+            }
+        }
+        return null;
+    }
+
+    private String fieldName(TypeMirror used, List<MapperSource.Field> fields) {
+        String base = propertyName(((DeclaredType) used).asElement().getSimpleName().toString());
+        String name = base;
+        int suffix = 2;
+        while (isTaken(name, fields)) {
+            name = base + suffix++;
+        }
+        return name;
+    }
+
+    private static boolean isTaken(String name, List<MapperSource.Field> fields) {
+        for (MapperSource.Field field : fields) {
+            if (field.name().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String implName(TypeElement declaration) {
+        StringBuilder name = new StringBuilder(declaration.getSimpleName());
+        Element enclosing = declaration.getEnclosingElement();
+        while (enclosing instanceof TypeElement type) {
+            name.insert(0, type.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Impl").toString();
+    }
+
+    private static String propertyName(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Prints a type with qualified names and without type annotations.
+     */
+    private String typeName(TypeMirror type) {
+        return switch (type.getKind()) {
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    yield name;
+                }
+                yield declared.getTypeArguments().stream()
+                        .map(this::typeName)
+                        .collect(Collectors.joining(", ", name + "<", ">"));
+            }
+            case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    yield "? extends " + typeName(wildcard.getExtendsBound());
+                }
+                yield wildcard.getSuperBound() != null ? "? super " + typeName(wildcard.getSuperBound()) : "?";
+            }
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> type.getKind().name().toLowerCase(Locale.ROOT);
+            default -> type.toString();
+        };
+    }
+
+    private record Converter(TypeMirror from, TypeMirror to, String field, String method, boolean context) {
+
+        /**
+         * Returns the call with {@code %s} standing for the argument.
+         */
+        String call(boolean contextAvailable) {
+            return field + "." + method + (context && contextAvailable ? "(%s, context)" : "(%s)");
+        }
+    }
+
+    private static final class MappingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MappingException(String message) {
+            super(message);
+        }
+    }
+}
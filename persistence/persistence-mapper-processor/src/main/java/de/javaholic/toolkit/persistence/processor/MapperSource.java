@@ -0,0 +1,222 @@
+package de.javaholic.toolkit.persistence.processor;
+
+import java.util.List;
+
+/**
+ * Source text of one generated mapper.
+ *
+ * <p>Concept: {@link MapperProcessor} resolves all types and conversions; this class only lays
+ * out the Java code. Every type is written with its qualified name, so the generated file needs
+ * no imports besides the SPI.</p>
+ */
+final class MapperSource {
+
+    private final String packageName;
+    private final String simpleName;
+    private final String declaration;
+    private final boolean isPublic;
+    private final List<Field> fields;
+    private final Method read;
+    private final Method write;
+    private final StringBuilder out = new StringBuilder();
+
+    MapperSource(String packageName, String simpleName, String declaration, boolean isPublic,
+                 List<Field> fields, Method read, Method write) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.declaration = declaration;
+        this.isPublic = isPublic;
+        this.fields = List.copyOf(fields);
+        this.read = read;
+        this.write = write;
+    }
+
+    /**
+     * A mapper from {@code uses}, held in a constructor-injected field.
+     */
+    record Field(String type, String name) {
+    }
+
+    /**
+     * One mapping direction; {@code read} methods take a {@code MappingContext}.
+     */
+    record Method(String name, String sourceType, String targetType, String targetClass, boolean read,
+                  String shareGetter, List<Property> properties) {
+    }
+
+    /**
+     * One target property; {@code call} holds {@code %s} for the converted value, or is {@code null}
+     * when values are taken as they are.
+     */
+    record Property(Kind kind, String name, String getter, String setter, String sourceType, String targetType,
+                    String elementType, String collection, String call) {
+
+        enum Kind { ASSIGN, CONVERT, COLLECTION }
+
+        static Property assign(String name, String getter, String setter) {
+            return new Property(Kind.ASSIGN, name, getter, setter, null, null, null, null, null);
+        }
+
+        static Property convert(String name, String getter, String setter, String sourceType, String call) {
+            return new Property(Kind.CONVERT, name, getter, setter, sourceType, null, null, null, call);
+        }
+
+        static Property collection(String name, String getter, String setter, String sourceType, String targetType,
+                                   String elementType, String collection, String call) {
+            return new Property(Kind.COLLECTION, name, getter, setter, sourceType, targetType, elementType, collection, call);
+        }
+    }
+
+    String qualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String render() {
+        out.setLength(0);
+        if (!packageName.isEmpty()) {
+            line(0, "package " + packageName + ";");
+            line(0, "");
+        }
+        line(0, "import de.javaholic.toolkit.persistence.core.MappingContext;");
+        line(0, "import java.util.Objects;");
+        line(0, "");
+        line(0, "@javax.annotation.processing.Generated(\"" + MapperProcessor.class.getName() + "\")");
+        line(0, (isPublic ? "public " : "") + "final class " + simpleName + " implements " + declaration + " {");
+        line(0, "");
+        renderConstructor();
+        renderRead();
+        renderWrite();
+        renderThreadSafety();
+        line(0, "}");
+        return out.toString();
+    }
+
+    private void renderConstructor() {
+        for (Field field : fields) {
+            line(1, "private final " + field.type() + " " + field.name() + ";");
+        }
+        if (!fields.isEmpty()) {
+            line(0, "");
+        }
+        StringBuilder parameters = new StringBuilder();
+        for (Field field : fields) {
+            if (!parameters.isEmpty()) {
+                parameters.append(", ");
+            }
+            parameters.append(field.type()).append(' ').append(field.name());
+        }
+        line(1, (isPublic ? "public " : "") + simpleName + "(" + parameters + ") {");
+        for (Field field : fields) {
+            line(2, "this." + field.name() + " = Objects.requireNonNull(" + field.name() + ", \"" + field.name() + "\");");
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void renderRead() {
+        line(1, "@Override");
+        line(1, "public " + read.targetType() + " " + read.name() + "(" + read.sourceType() + " source) {");
+        line(2, "return " + read.name() + "(source, MappingContext.none());");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public " + read.targetType() + " " + read.name() + "(" + read.sourceType() + " source, MappingContext context) {");
+        line(2, "Objects.requireNonNull(source, \"source\");");
+        if (read.shareGetter() == null) {
+            renderBody(read);
+        } else {
+            line(2, "Object key = source." + read.shareGetter() + "();");
+            line(2, "if (key == null) {");
+            line(3, "return read(source, context);");
+            line(2, "}");
+            line(2, "return context.mapOnceById(key, " + read.targetClass() + ".class, () -> read(source, context));");
+            line(1, "}");
+            line(0, "");
+            line(1, "private " + read.targetType() + " read(" + read.sourceType() + " source, MappingContext context) {");
+            renderBody(read);
+        }
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void renderWrite() {
+        line(1, "@Override");
+        line(1, "public " + write.targetType() + " " + write.name() + "(" + write.sourceType() + " source) {");
+        line(2, "Objects.requireNonNull(source, \"source\");");
+        renderBody(write);
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void renderBody(Method method) {
+        line(2, method.targetType() + " target = new " + method.targetType() + "();");
+        for (Property property : method.properties()) {
+            String value = "source" + capitalize(property.name());
+            switch (property.kind()) {
+                case ASSIGN -> line(2, "target." + property.setter() + "(source." + property.getter() + "());");
+                case CONVERT -> {
+                    line(2, property.sourceType() + " " + value + " = source." + property.getter() + "();");
+                    line(2, "target." + property.setter() + "(" + value + " == null ? null : "
+                            + property.call().formatted(value) + ");");
+                }
+                case COLLECTION -> renderCollection(property, value);
+            }
+        }
+        line(2, "return target;");
+    }
+
+    private void renderCollection(Property property, String value) {
+        String mapped = "mapped" + capitalize(property.name());
+        line(2, property.sourceType() + " " + value + " = source." + property.getter() + "();");
+        line(2, property.targetType() + " " + mapped + ";");
+        line(2, "if (" + value + " == null) {");
+        line(3, mapped + " = new " + property.collection() + "<>();");
+        if (property.call() == null) {
+            line(2, "} else {");
+            line(3, mapped + " = new " + property.collection() + "<>(" + value + ");");
+        } else {
+            line(2, "} else {");
+            line(3, mapped + " = " + presized(property.collection(), value + ".size()") + ";");
+            line(3, "for (" + property.elementType() + " element : " + value + ") {");
+            line(4, mapped + ".add(" + property.call().formatted("element") + ");");
+            line(3, "}");
+        }
+        line(2, "}");
+        line(2, "target." + property.setter() + "(" + mapped + ");");
+    }
+
+    private void renderThreadSafety() {
+        line(1, "@Override");
+        line(1, "public boolean isThreadSafe() {");
+        if (fields.isEmpty()) {
+            line(2, "return true;");
+        } else {
+            StringBuilder all = new StringBuilder();
+            for (Field field : fields) {
+                if (!all.isEmpty()) {
+                    all.append(" && ");
+                }
+                all.append(field.name()).append(".isThreadSafe()");
+            }
+            line(2, "return " + all + ";");
+        }
+        line(1, "}");
+    }
+
+    private static String presized(String collection, String size) {
+        return collection.equals("java.util.HashSet")
+                ? "java.util.HashSet.newHashSet(" + size + ")"
+                : "new " + collection + "<>(" + size + ")";
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void line(int indent, String text) {
+        if (!text.isEmpty()) {
+            out.append("    ".repeat(indent)).append(text);
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,403 @@
+package de.javaholic.toolkit.persistence.processor;
+
+import de.javaholic.toolkit.persistence.core.DtoMapper;
+import de.javaholic.toolkit.persistence.core.GenerateMapper;
+import de.javaholic.toolkit.persistence.core.MappingContext;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperProcessorTest {
+
+    @GenerateMapper(shareBy = "name")
+    interface TagMapping extends DtoMapper<TagDto, Tag> {
+    }
+
+    @GenerateMapper
+    interface CustomerMapping extends DtoMapper<CustomerDto, Customer> {
+    }
+
+    @GenerateMapper(uses = {TagMapping.class, CustomerMapping.class}, ignore = "label")
+    interface OrderMapping extends DtoMapper<OrderDto, Order> {
+    }
+
+    @Test
+    void mapsPropertiesCollectionsAndNestedBeansBothWays() {
+        OrderMapping mapper = orderMapping();
+        Order order = order("A-1", new Tag("urgent"), new Tag("gift"));
+        order.setCustomer(new Customer("Ada"));
+
+        OrderDto dto = mapper.toDto(order);
+
+        assertThat(dto.getId()).isEqualTo(order.getId());
+        assertThat(dto.getNumber()).isEqualTo("A-1");
+        assertThat(dto.getQuantity()).isEqualTo(3);
+        assertThat(dto.isPaid()).isTrue();
+        assertThat(dto.getNotes()).containsExactly("first", "second").isNotSameAs(order.getNotes());
+        assertThat(dto.getTags()).extracting(TagDto::getName).containsExactlyInAnyOrder("urgent", "gift");
+        assertThat(dto.getCustomer().getName()).isEqualTo("Ada");
+        assertThat(dto.getLabel()).isNull();
+
+        Order back = mapper.toDomain(dto);
+        assertThat(back.getNumber()).isEqualTo("A-1");
+        assertThat(back.getTags()).extracting(Tag::getName).containsExactlyInAnyOrder("urgent", "gift");
+        assertThat(back.getCustomer().getName()).isEqualTo("Ada");
+    }
+
+    @Test
+    void mapsNullCollectionsToEmptyOnesAndNullBeansToNull() {
+        Order order = new Order();
+        order.setNumber("A-2");
+
+        OrderDto dto = orderMapping().toDto(order);
+
+        assertThat(dto.getTags()).isEmpty();
+        assertThat(dto.getNotes()).isEmpty();
+        assertThat(dto.getCustomer()).isNull();
+    }
+
+    @Test
+    void sharesMappedInstancesByPropertyWithinOneContext() {
+        OrderMapping mapper = orderMapping();
+        Order first = order("A-1", new Tag("urgent"));
+        Order second = order("A-2", new Tag("urgent"));
+        MappingContext context = MappingContext.create();
+
+        TagDto shared = mapper.toDto(first, context).getTags().iterator().next();
+
+        assertThat(mapper.toDto(second, context).getTags()).containsExactly(shared);
+        assertThat(mapper.toDto(second).getTags().iterator().next()).isNotSameAs(shared);
+    }
+
+    @Test
+    void isThreadSafeOnlyWhenAllUsedMappersAre() {
+        TagMapping sequentialTags = new TagMapping() {
+            @Override
+            public TagDto toDto(Tag domain) {
+                return new TagDto(domain.getName());
+            }
+
+            @Override
+            public Tag toDomain(TagDto dto) {
+                return new Tag(dto.getName());
+            }
+        };
+
+        assertThat(orderMapping().isThreadSafe()).isTrue();
+        assertThat(new MapperProcessorTest_OrderMappingImpl(sequentialTags, new MapperProcessorTest_CustomerMappingImpl())
+                .isThreadSafe()).isFalse();
+    }
+
+    @Test
+    void reportsUnmappablePropertiesAsCompileErrors() throws IOException {
+        String source = """
+                package sample;
+
+                import de.javaholic.toolkit.persistence.core.DtoMapper;
+                import de.javaholic.toolkit.persistence.core.GenerateMapper;
+
+                public class Broken {
+                    public static class Source {
+                        public String getName() { return null; }
+                        public Integer getCount() { return null; }
+                    }
+
+                    public static class Target {
+                        public void setName(String name) { }
+                        public void setCount(java.util.UUID count) { }
+                        public void setExtra(String extra) { }
+                    }
+
+                    @GenerateMapper(ignore = "count")
+                    public interface MissingSource extends DtoMapper<Target, Source> { }
+
+                    @GenerateMapper(ignore = "extra")
+                    public interface WrongType extends DtoMapper<Target, Source> { }
+                }
+                """;
+
+        List<String> errors = compile("sample.Broken", source);
+
+        assertThat(errors).anyMatch(error -> error.contains("No readable property 'extra'"));
+        assertThat(errors).anyMatch(error -> error.contains("Cannot map property 'count' from java.lang.Integer to java.util.UUID"));
+    }
+
+    private static List<String> compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path output = Files.createTempDirectory("mapper-processor");
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(output.toFile()));
+            List<File> classpath = new ArrayList<>();
+            String path = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+            for (String entry : path.split(File.pathSeparator)) {
+                classpath.add(new File(entry));
+            }
+            files.setLocation(StandardLocation.CLASS_PATH, classpath);
+            JavaFileObject file = new SimpleJavaFileObject(
+                    URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-proc:only"), null, List.of(file));
+            task.setProcessors(List.of(new MapperProcessor()));
+            assertThat(task.call()).isFalse();
+        }
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+
+    private static OrderMapping orderMapping() {
+        return new MapperProcessorTest_OrderMappingImpl(
+                new MapperProcessorTest_TagMappingImpl(), new MapperProcessorTest_CustomerMappingImpl());
+    }
+
+    private static Order order(String number, Tag... tags) {
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setNumber(number);
+        order.setQuantity(3);
+        order.setPaid(true);
+        order.setTags(new HashSet<>(List.of(tags)));
+        order.setNotes(new ArrayList<>(List.of("first", "second")));
+        return order;
+    }
+
+    public static class Tag {
+        private String name;
+
+        public Tag() {
+        }
+
+        public Tag(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class TagDto {
+        private String name;
+
+        public TagDto() {
+        }
+
+        public TagDto(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Customer {
+        private String name;
+
+        public Customer() {
+        }
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class CustomerDto {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Order {
+        private UUID id;
+        private String number;
+        private int quantity;
+        private boolean paid;
+        private Set<Tag> tags;
+        private List<String> notes;
+        private Customer customer;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public Set<Tag> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<Tag> tags) {
+            this.tags = tags;
+        }
+
+        public List<String> getNotes() {
+            return notes;
+        }
+
+        public void setNotes(List<String> notes) {
+            this.notes = notes;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(Customer customer) {
+            this.customer = customer;
+        }
+    }
+
+    public static class OrderDto {
+        private UUID id;
+        private String number;
+        private int quantity;
+        private boolean paid;
+        private Set<TagDto> tags;
+        private List<String> notes;
+        private CustomerDto customer;
+        private String label;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public Set<TagDto> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<TagDto> tags) {
+            this.tags = tags;
+        }
+
+        public List<String> getNotes() {
+            return notes;
+        }
+
+        public void setNotes(List<String> notes) {
+            this.notes = notes;
+        }
+
+        public CustomerDto getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(CustomerDto customer) {
+            this.customer = customer;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.persistence.core.EntityIdAccessor;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Writes many rows of one JPA entity type with a bounded number of statements.
+ *
+ * <p>Concept: rows are processed in chunks of {@link #CHUNK_SIZE}. Per chunk, existing ids are
+ * looked up with one {@code IN} query, new rows are persisted and existing rows updated, and the
+ * chunk is flushed so Hibernate can send the inserts and updates as JDBC batches (see
+ * {@code JpaBatchingAutoConfiguration}). Existing rows are updated through a
+ * {@link JpaPartialUpdater} where the entity type supports it: only differences to the row loaded
+ * by the lookup are written, and unchanged rows are not written at all; other rows are merged.
+ * Deletes become one {@code DELETE ... WHERE id IN (...)}
+ * per chunk unless the entity owns collection tables, in which case rows are loaded per chunk
+ * and removed through the persistence context so join rows are cleaned up too.</p>
+ *
+ * <p>Without an {@link EntityManager}, or outside a surrounding transaction, the writer delegates
+ * to the repository bulk methods, which open their own transaction.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * JpaBulkWriter<JpaI18nEntry> writer = new JpaBulkWriter<>(repository, JpaI18nEntry.class, entityManager);
+ * List<I18nEntry> saved = writer.saveAll(entities, mapper::toDomain);
+ * writer.deleteAllById(ids);
+ * }</pre>
+ */
+public final class JpaBulkWriter<E> {
+
+    /**
+     * Maximum number of rows per chunk and of ids per {@code IN} list.
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    private final JpaRepository<E, Object> repository;
+    private final Class<E> entityType;
+    private final EntityManager entityManager;
+    private final EntityIdAccessor<E> idAccessor;
+    private volatile JpaPartialUpdater<E> partialUpdater;
+
+    /**
+     * What {@link #saveAll(Collection, BiFunction)} did with one entity.
+     */
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        UNCHANGED
+    }
+
+    /**
+     * Creates a writer; {@code entityManager} may be {@code null} to use repository methods only.
+     */
+    @SuppressWarnings("unchecked")
+    public JpaBulkWriter(JpaRepository<E, ?> repository, Class<E> entityType, EntityManager entityManager) {
+        this.repository = (JpaRepository<E, Object>) Objects.requireNonNull(repository, "repository");
+        this.entityType = Objects.requireNonNull(entityType, "entityType");
+        this.entityManager = entityManager;
+        this.idAccessor = new EntityIdAccessor<>(BeanIntrospector.inspect(entityType));
+    }
+
+    /**
+     * Persists new and updates existing entities, returning the mapped persisted state in input order.
+     *
+     * <p>Inside a transaction, persisted entities are detached chunk by chunk after mapping, so
+     * the mapper must not keep references to them.</p>
+     */
+    public <R> List<R> saveAll(Collection<? extends E> entities, Function<? super E, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return saveAll(entities, (saved, outcome) -> mapper.apply(saved));
+    }
+
+    /**
+     * Like {@link #saveAll(Collection, Function)}, also passing the mapper what happened to each
+     * entity.
+     *
+     * <p>Outside a transaction the repository decides between insert and update, and every
+     * entity it does not consider new is reported as {@link Outcome#UPDATED}.</p>
+     */
+    public <R> List<R> saveAll(Collection<? extends E> entities, BiFunction<? super E, Outcome, ? extends R> mapper) {
+        Objects.requireNonNull(entities, "entities");
+        Objects.requireNonNull(mapper, "mapper");
+        List<R> result = new ArrayList<>(entities.size());
+        if (!inTransaction()) {
+            List<E> toSave = List.copyOf(entities);
+            List<Outcome> outcomes = new ArrayList<>(toSave.size());
+            for (E entity : toSave) {
+                outcomes.add(isNew(entity) ? Outcome.CREATED : Outcome.UPDATED);
+            }
+            int index = 0;
+            for (E saved : repository.saveAll(toSave)) {
+                result.add(mapper.apply(saved, outcomes.get(index++)));
+            }
+            return result;
+        }
+        JpaEntityInformation<E, ?> information = JpaEntityInformationSupport.getEntityInformation(entityType, entityManager);
+        JpaPartialUpdater<E> updater = partialUpdater();
+        for (List<? extends E> chunk : chunks(List.copyOf(entities))) {
+            Set<Object> existing = existingIds(chunk, information);
+            List<E> managed = new ArrayList<>(chunk.size());
+            List<Outcome> outcomes = new ArrayList<>(chunk.size());
+            for (E entity : chunk) {
+                Object id = information.getId(entity);
+                if (id == null || !existing.contains(id)) {
+                    entityManager.persist(entity);
+                    managed.add(entity);
+                    outcomes.add(Outcome.CREATED);
+                    continue;
+                }
+                // The lookup loaded the row, so the updater finds it in the persistence context.
+                Optional<JpaPartialUpdater.Update<E>> update = updater.supports(entity)
+                        ? updater.apply(entity)
+                        : Optional.empty();
+                if (update.isPresent()) {
+                    managed.add(update.get().entity());
+                    outcomes.add(update.get().changed() ? Outcome.UPDATED : Outcome.UNCHANGED);
+                } else {
+                    managed.add(entityManager.merge(entity));
+                    outcomes.add(Outcome.UPDATED);
+                }
+            }
+            entityManager.flush();
+            for (int i = 0; i < managed.size(); i++) {
+                E entity = managed.get(i);
+                result.add(mapper.apply(entity, outcomes.get(i)));
+                entityManager.detach(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Deletes the given entities by their ids.
+     */
+    public void deleteAll(Collection<? extends E> entities) {
+        Objects.requireNonNull(entities, "entities");
+        List<Object> ids = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            ids.add(idAccessor.getId(entity));
+        }
+        deleteAllById(ids);
+    }
+
+    /**
+     * Deletes all rows with the given ids; unknown ids are ignored.
+     */
+    public void deleteAllById(Collection<?> ids) {
+        Objects.requireNonNull(ids, "ids");
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (entityManager == null) {
+            repository.deleteAllById(List.copyOf(ids));
+            return;
+        }
+        boolean ownsCollections = !entityManager.getMetamodel().entity(entityType).getPluralAttributes().isEmpty();
+        if (ownsCollections && !inTransaction()) {
+            repository.deleteAllById(List.copyOf(ids));
+            return;
+        }
+        for (List<?> chunk : chunks(List.copyOf(ids))) {
+            if (ownsCollections) {
+                repository.deleteAll(repository.findAllById(List.copyOf(chunk)));
+                entityManager.flush();
+            } else {
+                repository.deleteAllByIdInBatch(List.copyOf(chunk));
+            }
+        }
+    }
+
+    private JpaPartialUpdater<E> partialUpdater() {
+        JpaPartialUpdater<E> updater = partialUpdater;
+        if (updater == null) {
+            updater = new JpaPartialUpdater<>(entityType, entityManager);
+            partialUpdater = updater;
+        }
+        return updater;
+    }
+
+    private boolean isNew(E entity) {
+        return entityManager != null
+                ? JpaEntityInformationSupport.getEntityInformation(entityType, entityManager).isNew(entity)
+                : idAccessor.getId(entity) == null;
+    }
+
+    private boolean inTransaction() {
+        return entityManager != null && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private Set<Object> existingIds(List<? extends E> chunk, JpaEntityInformation<E, ?> information) {
+        List<Object> candidates = new ArrayList<>();
+        for (E entity : chunk) {
+            if (!information.isNew(entity)) {
+                candidates.add(information.getId(entity));
+            }
+        }
+        Set<Object> existing = new HashSet<>();
+        if (candidates.isEmpty()) {
+            return existing;
+        }
+        for (E found : repository.findAllById(candidates)) {
+            existing.add(information.getId(found));
+        }
+        return existing;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,51 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Size and time-to-live of one Hibernate second-level cache region.
+ *
+ * <p>Entries are bounded to {@code maxEntries} and expire {@code timeToLive} after they were
+ * written; a zero time-to-live keeps them until they are evicted by size or invalidated.</p>
+ *
+ * <p>Concept: modules that mark entities, collections or queries as cacheable declare their
+ * regions as beans of this type. When the second-level cache is enabled
+ * ({@code javaholic.jpa.cache.enabled=true}), each region is created with these defaults before
+ * Hibernate starts; {@code javaholic.jpa.cache.regions.<name>.*} overrides them. Entries expire
+ * a fixed time after they were written, whether or not they were read.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * @Bean
+ * public JpaCacheRegion iamRoleCacheRegion() {
+ *     return new JpaCacheRegion(JpaRoleEntity.CACHE_REGION, 1_000, Duration.ofHours(1));
+ * }
+ * }</pre>
+ */
+public record JpaCacheRegion(String name, long maxEntries, Duration timeToLive) {
+
+    /**
+     * Hibernate's region for cached query results without an explicit region.
+     */
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+    /**
+     * Hibernate's region recording the last write per table, used to invalidate query results.
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public JpaCacheRegion {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(timeToLive, "timeToLive");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive must not be negative: " + timeToLive);
+        }
+    }
+}
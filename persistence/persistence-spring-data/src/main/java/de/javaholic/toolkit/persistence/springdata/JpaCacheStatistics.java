@@ -0,0 +1,87 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Read access to the hit, miss and put counters of the Hibernate second-level cache regions.
+ *
+ * <p>Concept: Hibernate keeps the counters per region while {@code hibernate.generate_statistics}
+ * is on, which the second-level cache auto-configuration enables. Counters are cumulative since
+ * the session factory started; each call returns a fresh snapshot.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * cacheStatistics.region(JpaRoleEntity.CACHE_REGION)
+ *         .ifPresent(region -> log.info("role cache hit rate {}", region.hitRate()));
+ * }</pre>
+ */
+public final class JpaCacheStatistics {
+
+    private final Statistics statistics;
+
+    /**
+     * Creates statistics for the session factory behind the given entity manager factory.
+     */
+    public JpaCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = Objects.requireNonNull(entityManagerFactory, "entityManagerFactory")
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    /**
+     * Returns whether Hibernate is collecting statistics.
+     */
+    public boolean isEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    /**
+     * Returns the counters of the named region, if Hibernate knows it.
+     */
+    public Optional<Region> region(String name) {
+        CacheRegionStatistics region;
+        try {
+            region = statistics.getCacheRegionStatistics(name);
+        } catch (IllegalArgumentException unknown) {
+            return Optional.empty();
+        }
+        if (region == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Region(name, region.getHitCount(), region.getMissCount(), region.getPutCount(),
+                region.getElementCountInMemory()));
+    }
+
+    /**
+     * Returns the counters of all second-level cache regions.
+     */
+    public List<Region> regions() {
+        List<Region> regions = new ArrayList<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            region(name).ifPresent(regions::add);
+        }
+        return regions;
+    }
+
+    /**
+     * Counters of one region; {@code elementCount} is negative if the provider does not report it.
+     */
+    public record Region(String name, long hitCount, long missCount, long putCount, long elementCount) {
+
+        /**
+         * Returns the share of lookups answered from the region; {@code 1.0} without lookups.
+         */
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.persistence.core.CrudChangeDispatcher;
+import de.javaholic.toolkit.persistence.core.CrudChangeEvent;
+import de.javaholic.toolkit.persistence.core.CrudChangeSource;
+import de.javaholic.toolkit.persistence.core.CrudStoreListener;
+import de.javaholic.toolkit.persistence.core.EntityIdAccessor;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds change events for writes of one JPA entity type and publishes them after commit.
+ *
+ * <p>Concept: stores record each write as it happens. Inside a transaction with synchronization,
+ * the events of that transaction are buffered and handed to the {@link CrudChangeDispatcher}
+ * in {@code afterCompletion} only if it committed; a rollback discards them. Outside a
+ * transaction the write has already committed when it returns, so events are handed over
+ * immediately. Delivery to listeners is asynchronous either way.</p>
+ *
+ * <p>Whether a save creates or updates is decided before the write with the same rule Spring Data
+ * uses to choose between persist and merge. Nothing is recorded while no listener is
+ * subscribed.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * boolean created = changes.isNew(entity);
+ * E saved = repository.save(entity);
+ * changes.saved(saved, created);
+ * }</pre>
+ */
+public final class JpaChangePublisher<E> implements CrudChangeSource {
+
+    private final Class<?> domainType;
+    private final EntityIdAccessor<E> accessor;
+    private final JpaEntityInformation<E, ?> information;
+    private final CrudChangeDispatcher dispatcher;
+
+    /**
+     * Creates a publisher with a dispatcher delivering on virtual threads.
+     *
+     * @param domainType type reported in events
+     * @param entityType persistent type whose id and version are read
+     * @param entityManager used to read Spring Data entity information; may be {@code null}
+     */
+    public JpaChangePublisher(Class<?> domainType, Class<E> entityType, EntityManager entityManager) {
+        this(domainType, entityType, entityManager, new CrudChangeDispatcher());
+    }
+
+    /**
+     * Creates a publisher using the given dispatcher.
+     */
+    public JpaChangePublisher(
+            Class<?> domainType,
+            Class<E> entityType,
+            EntityManager entityManager,
+            CrudChangeDispatcher dispatcher
+    ) {
+        this.domainType = Objects.requireNonNull(domainType, "domainType");
+        this.accessor = new EntityIdAccessor<>(BeanIntrospector.inspect(entityType));
+        this.information = entityManager == null
+                ? null
+                : JpaEntityInformationSupport.getEntityInformation(entityType, entityManager);
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+    }
+
+    @Override
+    public Subscription subscribe(CrudStoreListener listener) {
+        return dispatcher.subscribe(listener);
+    }
+
+    /**
+     * Returns whether writes need to be recorded at all.
+     */
+    public boolean isActive() {
+        return dispatcher.hasListeners();
+    }
+
+    /**
+     * Returns whether saving the entity inserts it.
+     *
+     * <p>Without entity information this falls back to a missing id.</p>
+     */
+    public boolean isNew(E entity) {
+        return information != null ? information.isNew(entity) : accessor.getId(entity) == null;
+    }
+
+    /**
+     * Records a save of the given persisted entity.
+     */
+    public void saved(E entity, boolean created) {
+        if (isActive()) {
+            record(new Change<>(created ? CrudChangeEvent.Type.CREATED : CrudChangeEvent.Type.UPDATED, entity, null));
+        }
+    }
+
+    /**
+     * Records a delete of the given entity.
+     */
+    public void deleted(E entity) {
+        if (isActive()) {
+            record(new Change<>(CrudChangeEvent.Type.DELETED, entity, null));
+        }
+    }
+
+    /**
+     * Records deletes of the given ids.
+     */
+    public void deletedIds(Collection<?> ids) {
+        if (!isActive()) {
+            return;
+        }
+        for (Object id : ids) {
+            if (id != null) {
+                record(new Change<>(CrudChangeEvent.Type.DELETED, null, id));
+            }
+        }
+    }
+
+    /**
+     * Buffers the change until the transaction completes, or publishes it right away outside one.
+     *
+     * <p>Id and version are read when the events are published, after the flush, so they reflect
+     * the committed row (for example the incremented version of an update).</p>
+     */
+    private void record(Change<E> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Change<E>> buffer = (List<Change<E>>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            List<Change<E>> transactionChanges = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JpaChangePublisher.this);
+                    if (status == STATUS_COMMITTED) {
+                        publish(transactionChanges);
+                    }
+                }
+            });
+            buffer = transactionChanges;
+        }
+        buffer.add(change);
+    }
+
+    private void publish(List<Change<E>> changes) {
+        List<CrudChangeEvent> events = new ArrayList<>(changes.size());
+        for (Change<E> change : changes) {
+            Object id = change.entity == null ? change.id : accessor.getId(change.entity);
+            if (id == null) {
+                continue;
+            }
+            Object version = change.entity == null ? null : accessor.getVersion(change.entity).orElse(null);
+            events.add(switch (change.type) {
+                case CREATED -> CrudChangeEvent.created(domainType, id, version);
+                case UPDATED -> CrudChangeEvent.updated(domainType, id, version);
+                case DELETED -> CrudChangeEvent.deleted(domainType, id, version);
+            });
+        }
+        dispatcher.publish(events);
+    }
+
+    private static final class Change<E> {
+        private final CrudChangeEvent.Type type;
+        private final E entity;
+        private final Object id;
+
+        private Change(CrudChangeEvent.Type type, E entity, Object id) {
+            this.type = type;
+            this.entity = entity;
+            this.id = id;
+        }
+    }
+}
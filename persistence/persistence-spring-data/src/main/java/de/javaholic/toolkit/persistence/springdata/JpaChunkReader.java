@@ -0,0 +1,159 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.persistence.core.EntityIdAccessor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads all rows of one JPA entity type in bounded windows.
+ *
+ * <p>Concept: instead of loading a whole table, rows are fetched window by window ordered by the
+ * {@code @Id} attribute. With an {@link EntityManager} each window is a seek query
+ * ({@code where id > :last order by id}), so every window costs the same regardless of depth.
+ * Without one, the reader falls back to offset pages via {@link JpaRepository#findAll(org.springframework.data.domain.Pageable)}.</p>
+ *
+ * <p>Entities of a window are detached from the persistence context before the next window is
+ * read, so heap usage stays flat inside long-running transactions.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * JpaChunkReader<JpaUserEntity> reader = new JpaChunkReader<>(repository, JpaUserEntity.class, entityManager);
+ * try (Stream<User> users = reader.stream(500, mapper::toDomain)) {
+ *     users.forEach(exporter::write);
+ * }
+ * }</pre>
+ */
+public final class JpaChunkReader<E> {
+
+    private final JpaRepository<E, ?> repository;
+    private final Class<E> entityType;
+    private final EntityManager entityManager;
+    private final EntityIdAccessor<E> idAccessor;
+    private final String idAttribute;
+
+    /**
+     * Creates a reader; {@code entityManager} may be {@code null} to use offset paging.
+     */
+    public JpaChunkReader(JpaRepository<E, ?> repository, Class<E> entityType, EntityManager entityManager) {
+        this.repository = Objects.requireNonNull(repository, "repository");
+        this.entityType = Objects.requireNonNull(entityType, "entityType");
+        this.entityManager = entityManager;
+        BeanMeta<E> meta = BeanIntrospector.inspect(entityType);
+        this.idAccessor = new EntityIdAccessor<>(meta);
+        this.idAttribute = meta.idProperty().orElseThrow().name();
+    }
+
+    /**
+     * Streams all rows mapped through {@code mapper}; the stream must be closed.
+     *
+     * <p>Mapping happens lazily when an element is pulled, while its entity is still attached.</p>
+     */
+    public <R> Stream<R> stream(int fetchSize, Function<? super E, ? extends R> mapper) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        }
+        WindowIterator<R> iterator = new WindowIterator<>(fetchSize, mapper);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(iterator::close);
+    }
+
+    private List<E> window(Object afterId, int pageIndex, int size) {
+        if (entityManager == null) {
+            return repository.findAll(PageRequest.of(pageIndex, size, Sort.by(idAttribute))).getContent();
+        }
+        String entityName = entityManager.getMetamodel().entity(entityType).getName();
+        StringBuilder jpql = new StringBuilder("select e from ").append(entityName).append(" e");
+        if (afterId != null) {
+            jpql.append(" where e.").append(idAttribute).append(" > :after");
+        }
+        jpql.append(" order by e.").append(idAttribute);
+        TypedQuery<E> query = entityManager.createQuery(jpql.toString(), entityType)
+                .setMaxResults(size);
+        if (afterId != null) {
+            query.setParameter("after", afterId);
+        }
+        return query.getResultList();
+    }
+
+    private void detach(List<E> entities) {
+        if (entityManager == null || entities.isEmpty()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        for (E entity : entities) {
+            entityManager.detach(entity);
+        }
+    }
+
+    private final class WindowIterator<R> implements Iterator<R> {
+        private final int size;
+        private final Function<? super E, ? extends R> mapper;
+        private List<E> current = List.of();
+        private int index;
+        private int pageIndex;
+        private Object lastId;
+        private boolean exhausted;
+
+        private WindowIterator(int size, Function<? super E, ? extends R> mapper) {
+            this.size = size;
+            this.mapper = Objects.requireNonNull(mapper, "mapper");
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (index < current.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            boolean first = current.isEmpty() && pageIndex == 0 && lastId == null;
+            if (!first && current.size() < size) {
+                exhausted = true;
+                close();
+                return false;
+            }
+            detach(current);
+            current = window(lastId, pageIndex++, size);
+            index = 0;
+            if (current.isEmpty()) {
+                exhausted = true;
+                return false;
+            }
+            lastId = idAccessor.getId(current.get(current.size() - 1));
+            return true;
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return mapper.apply(current.get(index++));
+        }
+
+        private void close() {
+            detach(current);
+            current = List.of();
+            index = 0;
+        }
+    }
+}
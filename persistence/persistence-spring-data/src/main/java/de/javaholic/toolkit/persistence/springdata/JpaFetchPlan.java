@@ -0,0 +1,246 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Associations to load together with the rows of a read, described as a JPA entity graph.
+ *
+ * <p>Concept: mappers that walk lazy associations run one query per row and association
+ * ({@code N+1}). A fetch plan names the associations up front, either as attribute paths
+ * ({@code "roles"}, {@code "roles.permissions"}) or as a {@code @NamedEntityGraph}. It is applied
+ * in one of two ways:</p>
+ * <ul>
+ *     <li>{@link Strategy#GRAPH}: the graph is passed as load graph to the query reading the rows,
+ *     so rows and associations arrive in one statement.</li>
+ *     <li>{@link Strategy#BATCH}: the rows are read without joins, then one graph query per
+ *     {@link JpaInLists#MAX_SIZE} ids initializes the associations of the loaded rows.</li>
+ * </ul>
+ *
+ * <p>Either way a read takes a constant number of statements. Pages and windows always use
+ * {@code BATCH}: joining collections into a limited query would make Hibernate page in memory.
+ * Reads must run inside a transaction so the batch query finds the loaded rows in the persistence
+ * context.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * JpaFetchPlan plan = JpaFetchPlan.of("roles", "roles.permissions");
+ * List<JpaUserEntity> users = plan.findAll(entityManager, JpaUserEntity.class, SpringDataSpecifications.all());
+ * }</pre>
+ */
+public final class JpaFetchPlan {
+
+    /**
+     * Hint under which the graph is passed to queries and {@code find}.
+     */
+    public static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
+
+    /**
+     * Read operations of a store that a plan can be selected for.
+     */
+    public enum Operation {
+        FIND_ALL,
+        FIND_BY_ID,
+        FIND_ALL_BY_ID,
+        FIND_PAGE,
+        FIND_WINDOW
+    }
+
+    /**
+     * How the associations are loaded.
+     */
+    public enum Strategy {
+        GRAPH,
+        BATCH
+    }
+
+    private final String graphName;
+    private final List<String> attributePaths;
+    private final Strategy strategy;
+
+    private JpaFetchPlan(String graphName, List<String> attributePaths, Strategy strategy) {
+        this.graphName = graphName;
+        this.attributePaths = attributePaths;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Creates a graph plan from dotted attribute paths.
+     *
+     * <p>Example: {@code JpaFetchPlan.of("roles", "roles.permissions")}</p>
+     */
+    public static JpaFetchPlan of(String... attributePaths) {
+        List<String> paths = List.of(attributePaths);
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("attributePaths must not be empty");
+        }
+        for (String path : paths) {
+            if (path.isBlank() || path.startsWith(".") || path.endsWith(".") || path.contains("..")) {
+                throw new IllegalArgumentException("Invalid attribute path: " + path);
+            }
+        }
+        return new JpaFetchPlan(null, paths, Strategy.GRAPH);
+    }
+
+    /**
+     * Creates a graph plan using the {@code @NamedEntityGraph} of the given name.
+     *
+     * <p>Example: {@code JpaFetchPlan.named(JpaUserEntity.ROLES_WITH_PERMISSIONS)}</p>
+     */
+    public static JpaFetchPlan named(String graphName) {
+        Objects.requireNonNull(graphName, "graphName");
+        return new JpaFetchPlan(graphName, List.of(), Strategy.GRAPH);
+    }
+
+    /**
+     * Returns this plan with the {@link Strategy#BATCH} strategy.
+     */
+    public JpaFetchPlan batched() {
+        return strategy == Strategy.BATCH ? this : new JpaFetchPlan(graphName, attributePaths, Strategy.BATCH);
+    }
+
+    /**
+     * Returns how the associations are loaded.
+     */
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Builds the entity graph for the given entity type.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> EntityGraph<E> graph(EntityManager entityManager, Class<E> entityType) {
+        if (graphName != null) {
+            return (EntityGraph<E>) entityManager.getEntityGraph(graphName);
+        }
+        EntityGraph<E> graph = entityManager.createEntityGraph(entityType);
+        Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+        for (String path : attributePaths) {
+            String[] names = path.split("\\.");
+            Subgraph<?> parent = null;
+            StringBuilder prefix = new StringBuilder();
+            for (int i = 0; i < names.length; i++) {
+                prefix.append(i == 0 ? "" : ".").append(names[i]);
+                boolean last = i == names.length - 1;
+                Subgraph<?> subgraph = subgraphs.get(prefix.toString());
+                if (subgraph == null && last) {
+                    if (parent == null) {
+                        graph.addAttributeNodes(names[i]);
+                    } else {
+                        parent.addAttributeNodes(names[i]);
+                    }
+                } else if (subgraph == null) {
+                    subgraph = parent == null ? graph.addSubgraph(names[i]) : parent.addSubgraph(names[i]);
+                    subgraphs.put(prefix.toString(), subgraph);
+                }
+                parent = subgraph;
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Reads all rows matching {@code specification} together with the plan's associations.
+     */
+    public <E> List<E> findAll(EntityManager entityManager, Class<E> entityType, Specification<E> specification) {
+        List<E> rows = query(entityManager, entityType, specification, strategy == Strategy.GRAPH).getResultList();
+        if (strategy == Strategy.BATCH) {
+            load(entityManager, entityType, rows);
+        }
+        return rows;
+    }
+
+    /**
+     * Reads one row by id together with the plan's associations.
+     */
+    public <E> Optional<E> findById(EntityManager entityManager, Class<E> entityType, Object id) {
+        if (strategy == Strategy.BATCH) {
+            E found = entityManager.find(entityType, id);
+            if (found != null) {
+                load(entityManager, entityType, List.of(found));
+            }
+            return Optional.ofNullable(found);
+        }
+        return Optional.ofNullable(entityManager.find(entityType, id, Map.of(LOAD_GRAPH_HINT, graph(entityManager, entityType))));
+    }
+
+    /**
+     * Reads the rows with the given ids, one {@code IN} query per {@link JpaInLists#MAX_SIZE} ids.
+     */
+    public <E> List<E> findAllById(EntityManager entityManager, Class<E> entityType, Collection<?> ids) {
+        List<E> rows = JpaInLists.query(ids, chunk ->
+                query(entityManager, entityType, byIds(entityManager, entityType, chunk), strategy == Strategy.GRAPH)
+                        .getResultList());
+        if (strategy == Strategy.BATCH) {
+            load(entityManager, entityType, rows);
+        }
+        return rows;
+    }
+
+    /**
+     * Initializes the plan's associations of already loaded rows with one graph query per
+     * {@link JpaInLists#MAX_SIZE} rows.
+     */
+    public <E> void load(EntityManager entityManager, Class<E> entityType, Collection<? extends E> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        PersistenceUnitUtil units = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<Object> ids = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            ids.add(units.getIdentifier(entity));
+        }
+        JpaInLists.query(ids, chunk -> query(entityManager, entityType, byIds(entityManager, entityType, chunk), true)
+                .getResultList());
+    }
+
+    private <E> TypedQuery<E> query(
+            EntityManager entityManager,
+            Class<E> entityType,
+            Specification<E> specification,
+            boolean withGraph
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = builder.createQuery(entityType);
+        Root<E> root = query.from(entityType);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        TypedQuery<E> typed = entityManager.createQuery(query);
+        if (withGraph) {
+            typed.setHint(LOAD_GRAPH_HINT, graph(entityManager, entityType));
+        }
+        return typed;
+    }
+
+    private static <E> Specification<E> byIds(EntityManager entityManager, Class<E> entityType, List<?> ids) {
+        String idName = JpaEntityInformationSupport.getEntityInformation(entityType, entityManager)
+                .getRequiredIdAttribute().getName();
+        return (root, query, builder) -> root.get(idName).in(ids);
+    }
+
+    @Override
+    public String toString() {
+        return "JpaFetchPlan[" + (graphName != null ? graphName : String.join(", ", attributePaths)) + ", " + strategy + "]";
+    }
+}
@@ -0,0 +1,66 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runs multi-value lookups as a bounded number of {@code IN} queries.
+ *
+ * <p>Concept: the values are deduplicated, {@code null}s dropped, and the rest split into chunks
+ * of at most {@link #MAX_SIZE} values; the query runs once per chunk and the results are
+ * concatenated. The limit keeps every statement below common bind parameter limits (Oracle
+ * accepts 1000 expressions per {@code IN} list, SQL Server 2100 parameters per statement). With
+ * {@code hibernate.query.in_clause_parameter_padding} (see {@code JpaBatchingAutoConfiguration})
+ * the chunks also reuse a small set of statement shapes.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * List<JpaRoleEntity> roles = JpaInLists.query(names, repository::findByNameIn);
+ * }</pre>
+ */
+public final class JpaInLists {
+
+    /**
+     * Maximum number of values bound to one {@code IN} list.
+     */
+    public static final int MAX_SIZE = 1000;
+
+    private JpaInLists() {
+    }
+
+    /**
+     * Runs {@code query} per chunk of at most {@link #MAX_SIZE} distinct values.
+     */
+    public static <V, R> List<R> query(Collection<? extends V> values, Function<List<V>, ? extends Iterable<? extends R>> query) {
+        return query(values, MAX_SIZE, query);
+    }
+
+    /**
+     * Runs {@code query} per chunk of at most {@code chunkSize} distinct values.
+     */
+    public static <V, R> List<R> query(
+            Collection<? extends V> values,
+            int chunkSize,
+            Function<List<V>, ? extends Iterable<? extends R>> query
+    ) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(query, "query");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        List<V> distinct = new ArrayList<>(new LinkedHashSet<V>(values));
+        distinct.removeIf(Objects::isNull);
+        List<R> result = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<V> chunk = List.copyOf(distinct.subList(from, Math.min(distinct.size(), from + chunkSize)));
+            for (R found : query.apply(chunk)) {
+                result.add(found);
+            }
+        }
+        return result;
+    }
+}
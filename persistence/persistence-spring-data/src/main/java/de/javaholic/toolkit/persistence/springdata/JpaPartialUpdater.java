@@ -0,0 +1,307 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.introspection.BeanIntrospector;
+import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.introspection.BeanProperty;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Saves an existing row of one JPA entity type by applying only what differs from its loaded state.
+ *
+ * <p>Concept: the incoming entity is a detached copy built by a mapper. Merging it would copy
+ * every property and replace owned collections. Instead, the row is loaded into the persistence
+ * context and compared with the copy property by property using {@link BeanMeta}; only differing
+ * properties are written onto the managed entity. A save that changes nothing leaves the managed
+ * entity clean, so Hibernate's dirty check issues no statement at all. Owned collections are
+ * changed in place by set difference, so a join table gets one delete per removed and one insert
+ * per added element instead of delete-all and reinsert. Added entity elements are resolved with
+ * {@link EntityManager#getReference}, associations are compared by id.</p>
+ *
+ * <p>Hibernate writes every column of a dirty row unless the entity is annotated with
+ * {@code @DynamicUpdate}; entities that should update only the changed columns need it. Dynamic
+ * updates are not JDBC-batched, so wide entities gain from it and narrow ones lose batching.</p>
+ *
+ * <p>For versioned entities the version of the incoming copy must match the loaded one, otherwise
+ * an {@link ObjectOptimisticLockingFailureException} is thrown, as a merge would. A changed row is
+ * flushed right away so the returned entity carries the incremented version.</p>
+ *
+ * <p>Entity types this cannot compare (embedded values, maps, composite ids, attributes inherited
+ * from a superclass) are not supported; {@link #supports(Object)} then returns {@code false} and
+ * callers keep merging. Updates need a surrounding transaction.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * JpaPartialUpdater<JpaUserEntity> updater = new JpaPartialUpdater<>(JpaUserEntity.class, entityManager);
+ * if (updater.supports(entity)) {
+ *     updater.update(entity).ifPresent(update -> log.debug("changed: {}", update.changed()));
+ * }
+ * }</pre>
+ */
+public final class JpaPartialUpdater<E> {
+
+    private final Class<E> entityType;
+    private final EntityManager entityManager;
+    private final BeanMeta<E> meta;
+    private final JpaEntityInformation<E, ?> information;
+    private final PersistenceUnitUtil units;
+    private final BeanProperty<E, Object> versionProperty;
+    private final List<Tracked<E>> values = new ArrayList<>();
+    private final List<Tracked<E>> collections = new ArrayList<>();
+    private final boolean supported;
+
+    /**
+     * Creates an updater for the given entity type.
+     */
+    @SuppressWarnings("unchecked")
+    public JpaPartialUpdater(Class<E> entityType, EntityManager entityManager) {
+        this.entityType = Objects.requireNonNull(entityType, "entityType");
+        this.entityManager = Objects.requireNonNull(entityManager, "entityManager");
+        this.meta = BeanIntrospector.inspect(entityType);
+        this.information = JpaEntityInformationSupport.getEntityInformation(entityType, entityManager);
+        this.units = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        this.versionProperty = (BeanProperty<E, Object>) meta.versionProperty().orElse(null);
+        this.supported = track(entityManager.getMetamodel().entity(entityType));
+    }
+
+    /**
+     * Returns whether the entity can be saved through {@link #update(Object)}.
+     *
+     * <p>That requires a supported entity type, an active transaction and an entity that Spring
+     * Data does not consider new.</p>
+     */
+    public boolean supports(E entity) {
+        return supported
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !information.isNew(entity);
+    }
+
+    /**
+     * Applies the differences between the given copy and the stored row to the managed entity.
+     *
+     * <p>Returns an empty result if no row with the entity's id exists; the caller then inserts
+     * it.</p>
+     */
+    public Optional<Update<E>> update(E entity) {
+        Optional<Update<E>> update = apply(entity);
+        if (versionProperty != null && update.isPresent() && update.get().changed()) {
+            entityManager.flush();
+        }
+        return update;
+    }
+
+    /**
+     * Like {@link #update(Object)}, but leaves flushing to the caller.
+     *
+     * <p>Used by {@link JpaBulkWriter} to apply a whole chunk before one flush, so the updates
+     * are sent as JDBC batches; the returned entity carries its new version only after that
+     * flush.</p>
+     */
+    Optional<Update<E>> apply(E entity) {
+        Objects.requireNonNull(entity, "entity");
+        Object id = information.getId(entity);
+        E managed = entityManager.find(entityType, id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        if (managed.getClass() != entityType) {
+            // A proxy keeps no state in its fields, so it cannot be compared.
+            return Optional.of(new Update<>(entityManager.merge(entity), true));
+        }
+        if (versionProperty != null
+                && !Objects.equals(meta.getValue(versionProperty, managed), meta.getValue(versionProperty, entity))) {
+            throw new ObjectOptimisticLockingFailureException(entityType, id);
+        }
+        boolean changed = false;
+        for (Tracked<E> value : values) {
+            changed |= applyValue(value, managed, entity);
+        }
+        for (Tracked<E> collection : collections) {
+            changed |= applyCollection(collection, managed, entity);
+        }
+        return Optional.of(new Update<>(managed, changed));
+    }
+
+    private boolean applyValue(Tracked<E> tracked, E managed, E entity) {
+        Object current = meta.getValue(tracked.property, managed);
+        Object wanted = meta.getValue(tracked.property, entity);
+        if (tracked.association) {
+            Object wantedId = wanted == null ? null : units.getIdentifier(wanted);
+            if (Objects.equals(current == null ? null : units.getIdentifier(current), wantedId)) {
+                return false;
+            }
+            meta.setValue(tracked.property, managed, wanted == null ? null : resolve(tracked, wanted, wantedId));
+            return true;
+        }
+        if (Objects.deepEquals(current, wanted)) {
+            return false;
+        }
+        meta.setValue(tracked.property, managed, wanted);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean applyCollection(Tracked<E> tracked, E managed, E entity) {
+        Collection<Object> current = (Collection<Object>) meta.getValue(tracked.property, managed);
+        Collection<?> wanted = (Collection<?>) meta.getValue(tracked.property, entity);
+        List<Object> wantedKeys = new ArrayList<>(wanted == null ? 0 : wanted.size());
+        Map<Object, Object> wantedByKey = new LinkedHashMap<>();
+        if (wanted != null) {
+            for (Object element : wanted) {
+                Object key = key(tracked, element);
+                wantedKeys.add(key);
+                wantedByKey.putIfAbsent(key, element);
+            }
+        }
+        if (current == null) {
+            if (wantedKeys.isEmpty()) {
+                return false;
+            }
+            Collection<Object> created = tracked.list ? new ArrayList<>() : new LinkedHashSet<>();
+            addAll(tracked, created, wanted);
+            meta.setValue(tracked.property, managed, created);
+            return true;
+        }
+        if (tracked.list) {
+            List<Object> currentKeys = new ArrayList<>(current.size());
+            for (Object element : current) {
+                currentKeys.add(key(tracked, element));
+            }
+            if (currentKeys.equals(wantedKeys)) {
+                return false;
+            }
+            current.clear();
+            if (wanted != null) {
+                addAll(tracked, current, wanted);
+            }
+            return true;
+        }
+        boolean changed = false;
+        Set<Object> kept = new HashSet<>();
+        for (Iterator<Object> it = current.iterator(); it.hasNext(); ) {
+            Object key = key(tracked, it.next());
+            if (wantedByKey.containsKey(key)) {
+                kept.add(key);
+            } else {
+                it.remove();
+                changed = true;
+            }
+        }
+        for (Map.Entry<Object, Object> element : wantedByKey.entrySet()) {
+            if (!kept.contains(element.getKey())) {
+                current.add(resolve(tracked, element.getValue(), element.getKey()));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void addAll(Tracked<E> tracked, Collection<Object> target, Collection<?> elements) {
+        for (Object element : elements) {
+            target.add(resolve(tracked, element, key(tracked, element)));
+        }
+    }
+
+    private Object key(Tracked<E> tracked, Object element) {
+        return tracked.association && element != null ? units.getIdentifier(element) : element;
+    }
+
+    private Object resolve(Tracked<E> tracked, Object element, Object key) {
+        if (!tracked.association || element == null || entityManager.contains(element)) {
+            return element;
+        }
+        return entityManager.getReference(tracked.target, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean track(EntityType<E> model) {
+        if (!model.hasSingleIdAttribute()) {
+            return false;
+        }
+        for (Attribute<? super E, ?> attribute : model.getAttributes()) {
+            if (attribute.getDeclaringType() != model) {
+                return false;
+            }
+            BeanProperty<E, Object> property = (BeanProperty<E, Object>) meta.findProperty(attribute.getName()).orElse(null);
+            if (property == null) {
+                return false;
+            }
+            if (attribute instanceof SingularAttribute<?, ?> singular && (singular.isId() || singular.isVersion())) {
+                continue;
+            }
+            if (!updatable(property.definition()) || inverse(property.definition())) {
+                continue;
+            }
+            switch (attribute.getPersistentAttributeType()) {
+                case BASIC -> values.add(new Tracked<>(property, null, false, false));
+                case MANY_TO_ONE, ONE_TO_ONE -> values.add(new Tracked<>(property, attribute.getJavaType(), true, false));
+                case MANY_TO_MANY, ONE_TO_MANY, ELEMENT_COLLECTION -> {
+                    PluralAttribute<?, ?, ?> plural = (PluralAttribute<?, ?, ?>) attribute;
+                    Type.PersistenceType elementType = plural.getElementType().getPersistenceType();
+                    if (plural.getCollectionType() == PluralAttribute.CollectionType.MAP
+                            || elementType == Type.PersistenceType.EMBEDDABLE) {
+                        return false;
+                    }
+                    collections.add(new Tracked<>(property, plural.getElementType().getJavaType(),
+                            elementType == Type.PersistenceType.ENTITY,
+                            plural.getCollectionType() == PluralAttribute.CollectionType.LIST));
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean updatable(AnnotatedElement definition) {
+        Column column = definition.getAnnotation(Column.class);
+        JoinColumn joinColumn = definition.getAnnotation(JoinColumn.class);
+        return (column == null || column.updatable()) && (joinColumn == null || joinColumn.updatable());
+    }
+
+    private static boolean inverse(AnnotatedElement definition) {
+        OneToMany oneToMany = definition.getAnnotation(OneToMany.class);
+        ManyToMany manyToMany = definition.getAnnotation(ManyToMany.class);
+        OneToOne oneToOne = definition.getAnnotation(OneToOne.class);
+        return (oneToMany != null && !oneToMany.mappedBy().isEmpty())
+                || (manyToMany != null && !manyToMany.mappedBy().isEmpty())
+                || (oneToOne != null && !oneToOne.mappedBy().isEmpty());
+    }
+
+    /**
+     * Outcome of {@link #update(Object)}: the managed entity and whether anything was written to it.
+     */
+    public record Update<E>(E entity, boolean changed) {
+    }
+
+    private record Tracked<E>(BeanProperty<E, Object> property, Class<?> target, boolean association, boolean list) {
+    }
+}
@@ -0,0 +1,204 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSource} that sends read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>Concept: the route is chosen when a connection is obtained. Inside a transaction declared
+ * {@code @Transactional(readOnly = true)} (as the JPA domain stores and Spring Data repository
+ * reads are) the replica is used; read-write transactions and work outside a transaction use the
+ * primary. Because JPA transaction managers obtain their connection before the read-only flag is
+ * bound, the routing data source must be used through {@link #toLazyDataSource()}, which defers
+ * the physical connection to the first statement.</p>
+ *
+ * <p>Read-your-writes: when a read-write transaction commits, its session is pinned to the primary
+ * for {@link #setReadYourWritesWindow(Duration) a short window}, so a grid refresh right after a
+ * save does not miss the row on a lagging replica. The session is the authenticated user when
+ * Spring Security is present and someone is logged in, the current thread otherwise; a custom
+ * key can be set with {@link #setSessionKey(Supplier)}.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * @Bean
+ * @Primary
+ * DataSource dataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+ *     ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource);
+ *     routing.setReadYourWritesWindow(Duration.ofSeconds(5));
+ *     return routing.toLazyDataSource();
+ * }
+ * }</pre>
+ */
+public final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Default time a session stays on the primary after its own write.
+     */
+    public static final Duration DEFAULT_READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(2);
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder",
+            ReadWriteRoutingDataSource.class.getClassLoader()
+    );
+
+    /**
+     * Target of a connection.
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Map<Object, Long> lastWrites = new ConcurrentHashMap<>();
+    private volatile long windowNanos = DEFAULT_READ_YOUR_WRITES_WINDOW.toNanos();
+    private volatile Supplier<?> sessionKey = ReadWriteRoutingDataSource::defaultSessionKey;
+    private volatile LongSupplier ticker = System::nanoTime;
+
+    /**
+     * Creates the routing data source and resolves both targets.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        Objects.requireNonNull(primary, "primary");
+        Objects.requireNonNull(replica, "replica");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Sets how long a session reads from the primary after its last committed write.
+     *
+     * <p>{@link Duration#ZERO} disables the window.</p>
+     */
+    public void setReadYourWritesWindow(Duration window) {
+        Objects.requireNonNull(window, "window");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative: " + window);
+        }
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Sets the supplier of the current session key; it must not return {@code null}.
+     */
+    public void setSessionKey(Supplier<?> sessionKey) {
+        this.sessionKey = Objects.requireNonNull(sessionKey, "sessionKey");
+    }
+
+    /**
+     * Sets the nanosecond time source of the read-your-writes window.
+     */
+    public void setTicker(LongSupplier ticker) {
+        this.ticker = Objects.requireNonNull(ticker, "ticker");
+    }
+
+    /**
+     * Returns this data source behind a {@link LazyConnectionDataSourceProxy}.
+     */
+    public DataSource toLazyDataSource() {
+        return new LazyConnectionDataSourceProxy(this);
+    }
+
+    /**
+     * Returns the route a connection obtained now would take.
+     */
+    public Route currentRoute() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        return withinReadYourWritesWindow(sessionKey.get()) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = currentRoute();
+        if (route == Route.PRIMARY
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && windowNanos > 0) {
+            recordWriteOnCommit();
+        }
+        return route;
+    }
+
+    private void recordWriteOnCommit() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        Object session = sessionKey.get();
+        TransactionSynchronizationManager.bindResource(this, session);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(session, ticker.getAsLong());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadWriteRoutingDataSource.this);
+                purgeExpired();
+            }
+        });
+    }
+
+    private boolean withinReadYourWritesWindow(Object session) {
+        Long lastWrite = lastWrites.get(session);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (ticker.getAsLong() - lastWrite < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(session, lastWrite);
+        return false;
+    }
+
+    private void purgeExpired() {
+        long now = ticker.getAsLong();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+
+    private static Object defaultSessionKey() {
+        if (SECURITY_PRESENT) {
+            Object user = SecuritySessions.currentUser();
+            if (user != null) {
+                return user;
+            }
+        }
+        return Thread.currentThread();
+    }
+
+    /**
+     * Isolates the Spring Security types so this class loads without Spring Security.
+     */
+    private static final class SecuritySessions {
+
+        private static Object currentUser() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated()
+                    || authentication instanceof AnonymousAuthenticationToken) {
+                return null;
+            }
+            return authentication.getName();
+        }
+    }
+}
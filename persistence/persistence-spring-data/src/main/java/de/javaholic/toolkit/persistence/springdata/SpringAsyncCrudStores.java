@@ -0,0 +1,103 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.AsyncCrudStore;
+import de.javaholic.toolkit.persistence.core.AsyncCrudStoreAdapter;
+import de.javaholic.toolkit.persistence.core.CrudStore;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link AsyncCrudStore}s that carry Spring's thread-bound context to the worker thread.
+ *
+ * <p>Concept: every call runs on the configured executor (virtual threads by default). When
+ * Spring Security is on the classpath, the executor is wrapped in a
+ * {@link DelegatingSecurityContextExecutor}, so the {@code SecurityContext} of the submitting thread
+ * is installed for the call and cleared afterwards. When a transaction manager is available, each
+ * call runs in a new transaction on the worker thread, read-only for queries. The call never joins
+ * a transaction of the submitting thread, even for executors that run tasks inline.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * AsyncCrudStore<UserDto, UUID> users = asyncCrudStores.wrap(userFormStore);
+ * users.findAll().thenAccept(rows -> ui.access(() -> grid.setItems(rows)));
+ * }</pre>
+ */
+public class SpringAsyncCrudStores {
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder",
+            SpringAsyncCrudStores.class.getClassLoader()
+    );
+
+    private final Executor executor;
+    private final AsyncCrudStoreAdapter.CallScope scope;
+
+    /**
+     * Creates the factory with the default virtual-thread executor.
+     *
+     * @param transactionManager transaction manager for per-call transactions; may be {@code null}
+     */
+    public SpringAsyncCrudStores(PlatformTransactionManager transactionManager) {
+        this(AsyncCrudStoreAdapter.virtualThreads(), transactionManager);
+    }
+
+    /**
+     * Creates the factory with a custom executor.
+     *
+     * @param transactionManager transaction manager for per-call transactions; may be {@code null}
+     */
+    public SpringAsyncCrudStores(Executor executor, PlatformTransactionManager transactionManager) {
+        Objects.requireNonNull(executor, "executor");
+        this.executor = SECURITY_PRESENT ? SecurityPropagation.wrap(executor) : executor;
+        this.scope = transactionManager == null
+                ? AsyncCrudStoreAdapter.CallScope.NONE
+                : new TransactionScope(transactionManager);
+    }
+
+    /**
+     * Wraps the blocking store.
+     */
+    public <T, ID> AsyncCrudStore<T, ID> wrap(CrudStore<T, ID> store) {
+        return new AsyncCrudStoreAdapter<>(store, executor, scope);
+    }
+
+    private static final class TransactionScope implements AsyncCrudStoreAdapter.CallScope {
+
+        private final TransactionTemplate readTemplate;
+        private final TransactionTemplate writeTemplate;
+
+        private TransactionScope(PlatformTransactionManager transactionManager) {
+            this.readTemplate = template(transactionManager, true);
+            this.writeTemplate = template(transactionManager, false);
+        }
+
+        @Override
+        public <R> R call(boolean readOnly, Supplier<R> call) {
+            return (readOnly ? readTemplate : writeTemplate).execute(status -> call.get());
+        }
+
+        private static TransactionTemplate template(PlatformTransactionManager transactionManager, boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            template.setReadOnly(readOnly);
+            return template;
+        }
+    }
+
+    /**
+     * Isolates the Spring Security types so this class loads without Spring Security.
+     */
+    private static final class SecurityPropagation {
+
+        private static Executor wrap(Executor executor) {
+            return new DelegatingSecurityContextExecutor(executor);
+        }
+    }
+}
@@ -2,31 +2,83 @@ package de.javaholic.toolkit.persistence.springdata;
 
 import de.javaholic.toolkit.introspection.BeanIntrospector;
 import de.javaholic.toolkit.introspection.BeanMeta;
+import de.javaholic.toolkit.persistence.core.CrudChangeSource;
 import de.javaholic.toolkit.persistence.core.CrudStore;
+import de.javaholic.toolkit.persistence.core.CrudStoreListener;
 import de.javaholic.toolkit.persistence.core.CrudStoreMeta;
 import de.javaholic.toolkit.persistence.core.EntityIdAccessor;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.InMemoryFilters;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.Projection;
+import de.javaholic.toolkit.persistence.core.Row;
+import de.javaholic.toolkit.persistence.core.ScrollRequest;
+import de.javaholic.toolkit.persistence.core.Window;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-public class SpringDataCrudStore<T, ID> implements CrudStore<T, ID>, CrudStoreMeta<T> {
+public class SpringDataCrudStore<T, ID> implements CrudStore<T, ID>, CrudStoreMeta<T>, CrudChangeSource {
 
     private final Class<T> domainType;
     private final Class<ID> idType;
     private final JpaRepository<T, ID> repository;
+    private final EntityManager entityManager;
     private final EntityIdAccessor<T> idAccessor;
+    private final JpaChunkReader<T> chunkReader;
+    private final JpaBulkWriter<T> bulkWriter;
+    private final JpaSpecificationExecutor<T> specificationExecutor;
+    private final JpaChangePublisher<T> changes;
+    private final TransactionTemplate readTemplate;
 
     public SpringDataCrudStore(
             Class<T> domainType,
             Class<ID> idType,
             JpaRepository<T, ID> repository
+    ) {
+        this(domainType, idType, repository, null);
+    }
+
+    public SpringDataCrudStore(
+            Class<T> domainType,
+            Class<ID> idType,
+            JpaRepository<T, ID> repository,
+            EntityManager entityManager
+    ) {
+        this(domainType, idType, repository, entityManager, null);
+    }
+
+    /**
+     * Creates the store; with a transaction manager, projection reads run in a read-only
+     * transaction, so they route to a replica and the page query and its count share one.
+     */
+    public SpringDataCrudStore(
+            Class<T> domainType,
+            Class<ID> idType,
+            JpaRepository<T, ID> repository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
     ) {
         this.domainType = domainType;
         this.idType = idType;
         this.repository = repository;
+        this.entityManager = entityManager;
         BeanMeta<T> meta = BeanIntrospector.inspect(domainType);
         this.idAccessor = new EntityIdAccessor<>(meta);
+        this.chunkReader = new JpaChunkReader<>(repository, domainType, entityManager);
+        this.bulkWriter = new JpaBulkWriter<>(repository, domainType, entityManager);
+        this.specificationExecutor = SpringDataSpecifications.executorFor(repository, domainType, entityManager).orElse(null);
+        this.changes = new JpaChangePublisher<>(domainType, domainType, entityManager);
+        this.readTemplate = transactionManager == null ? null : readOnly(transactionManager);
     }
 
     @Override
@@ -39,14 +91,147 @@ public class SpringDataCrudStore<T, ID> implements CrudStore<T, ID>, CrudStoreMe
         return repository.findById(id);
     }
 
+    @Override
+    public List<T> findAllById(Collection<? extends ID> ids) {
+        return JpaInLists.query(ids, repository::findAllById);
+    }
+
+    @Override
+    public List<T> findAll(Filter filter) {
+        InMemoryFilters.validate(filter, domainType);
+        if (specificationExecutor == null) {
+            return CrudStore.super.findAll(filter);
+        }
+        return specificationExecutor.findAll(SpringDataSpecifications.toSpecification(filter));
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public long count(Filter filter) {
+        InMemoryFilters.validate(filter, domainType);
+        if (specificationExecutor == null) {
+            return CrudStore.super.count(filter);
+        }
+        return specificationExecutor.count(SpringDataSpecifications.toSpecification(filter));
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return repository.existsById(id);
+    }
+
+    @Override
+    public boolean exists(Filter filter) {
+        InMemoryFilters.validate(filter, domainType);
+        if (specificationExecutor == null) {
+            return CrudStore.super.exists(filter);
+        }
+        return specificationExecutor.exists(SpringDataSpecifications.toSpecification(filter));
+    }
+
+    @Override
+    public Page<T> findPage(PageRequest request) {
+        return SpringDataPaging.toPage(repository.findAll(SpringDataPaging.toPageable(request)), request, item -> item);
+    }
+
+    @Override
+    public Page<T> findPage(Filter filter, PageRequest request) {
+        InMemoryFilters.validate(filter, domainType);
+        if (specificationExecutor == null) {
+            return CrudStore.super.findPage(filter, request);
+        }
+        return SpringDataPaging.toPage(
+                specificationExecutor.findAll(SpringDataSpecifications.toSpecification(filter), SpringDataPaging.toPageable(request)),
+                request,
+                item -> item
+        );
+    }
+
+    @Override
+    public Window<T> findWindow(ScrollRequest request) {
+        if (specificationExecutor == null) {
+            return CrudStore.super.findWindow(request);
+        }
+        return SpringDataScrolling.scroll(specificationExecutor, request, item -> item);
+    }
+
+    @Override
+    public List<Row> findRows(Projection projection, Filter filter) {
+        InMemoryFilters.validate(filter, domainType);
+        if (specificationExecutor == null || entityManager == null) {
+            return CrudStore.super.findRows(projection, filter);
+        }
+        return read(() -> SpringDataProjections.rows(
+                entityManager, domainType, projection, SpringDataSpecifications.toSpecification(filter)));
+    }
+
+    @Override
+    public Page<Row> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        InMemoryFilters.validate(filter, domainType);
+        if (specificationExecutor == null || entityManager == null) {
+            return CrudStore.super.findRowPage(projection, filter, request);
+        }
+        return read(() -> SpringDataProjections.page(entityManager, specificationExecutor, domainType, projection,
+                SpringDataSpecifications.toSpecification(filter), request));
+    }
+
+    @Override
+    public Stream<T> stream(int fetchSize) {
+        return chunkReader.stream(fetchSize, item -> item);
+    }
+
     @Override
     public T save(T entity) {
-        return repository.save(entity);
+        boolean created = changes.isActive() && changes.isNew(entity);
+        T saved = repository.save(entity);
+        changes.saved(saved, created);
+        return saved;
+    }
+
+    @Override
+    public List<T> saveAll(Collection<? extends T> entities) {
+        if (!changes.isActive()) {
+            return bulkWriter.saveAll(entities, item -> item);
+        }
+        boolean[] created = new boolean[entities.size()];
+        int index = 0;
+        for (T entity : entities) {
+            created[index++] = changes.isNew(entity);
+        }
+        int[] next = {0};
+        return bulkWriter.saveAll(entities, saved -> {
+            changes.saved(saved, created[next[0]++]);
+            return saved;
+        });
     }
 
     @Override
     public void delete(T entity) {
         repository.delete(entity);
+        changes.deleted(entity);
+    }
+
+    @Override
+    public void deleteAll(Collection<? extends T> entities) {
+        bulkWriter.deleteAll(entities);
+        for (T entity : entities) {
+            changes.deleted(entity);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<? extends ID> ids) {
+        bulkWriter.deleteAllById(ids);
+        changes.deletedIds(ids);
+    }
+
+    @Override
+    public Subscription subscribe(CrudStoreListener listener) {
+        return changes.subscribe(listener);
     }
 
     @Override
@@ -68,4 +253,14 @@ public class SpringDataCrudStore<T, ID> implements CrudStore<T, ID>, CrudStoreMe
     public Optional<Object> getVersion(T entity) {
         return idAccessor.getVersion(entity);
     }
+
+    private <R> R read(Supplier<R> read) {
+        return readTemplate == null ? read.get() : readTemplate.execute(status -> read.get());
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
 }
@@ -2,91 +2,162 @@ package de.javaholic.toolkit.persistence.springdata;
 
 import de.javaholic.toolkit.persistence.core.CrudStore;
 import de.javaholic.toolkit.persistence.core.CrudStoreFactory;
+import jakarta.persistence.EntityManager;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.ResolvableType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
-public class SpringDataCrudStoreFactory implements CrudStoreFactory {
+/**
+ * {@link CrudStoreFactory} resolving {@link SpringDataCrudStore}s from the {@link JpaRepository}
+ * beans of an application context.
+ *
+ * <p>Concept: all repository beans are indexed by domain type once, when the context has been
+ * refreshed, resolving each repository's domain and id type a single time. Stores are built on
+ * first request per type and cached, so later {@link #forType(Class)} calls are one map lookup
+ * and callers share one store (and its change subscriptions) per type. A factory that is not
+ * registered as a listener, or is asked before the refresh completed, builds the index on first
+ * use instead. A later refresh of the same context rebuilds the index and drops cached
+ * stores.</p>
+ *
+ * <p>Ambiguous domain types (several repositories) are recorded in the index and rejected when
+ * requested, so they do not fail startup for types no caller needs.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * @Bean
+ * SpringDataCrudStoreFactory crudStoreFactory(ApplicationContext context) {
+ *     return new SpringDataCrudStoreFactory(context);
+ * }
+ *
+ * CrudStore<User, ?> store = factory.forType(User.class);
+ * }</pre>
+ */
+public class SpringDataCrudStoreFactory implements CrudStoreFactory, ApplicationListener<ContextRefreshedEvent> {
 
     private final ApplicationContext context;
-
-    private final ConcurrentHashMap<Class<?>, JpaRepository<?, ?>> repoCache = new ConcurrentHashMap<>();
-
-    private <T> JpaRepository<?, ?> repoFor(Class<T> type) {
-        return repoCache.computeIfAbsent(type, this::resolveJpaRepositoryFor);
-    }
+    private final ConcurrentHashMap<Class<?>, CrudStore<?, ?>> stores = new ConcurrentHashMap<>();
+    private volatile Index index;
 
     public SpringDataCrudStoreFactory(ApplicationContext context) {
         this.context = Objects.requireNonNull(context, "context");
     }
 
+    /**
+     * Rebuilds the repository index when the owning context has been refreshed.
+     */
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    public <T> CrudStore<T, ?> forType(Class<T> type) {
-        Objects.requireNonNull(type, "type");
-
-        JpaRepository repo = repoFor(type);
-        Class<?> idType = resolveIdType(repo);
-
-        return new SpringDataCrudStore(type, idType, repo);
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+        synchronized (this) {
+            index = buildIndex();
+            stores.clear();
+        }
     }
 
-    @SuppressWarnings("rawtypes")
-    private <T> JpaRepository resolveJpaRepositoryFor(Class<T> domainType) {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CrudStore<T, ?> forType(Class<T> type) {
+        CrudStore<?, ?> store = stores.get(Objects.requireNonNull(type, "type"));
+        if (store == null) {
+            store = stores.computeIfAbsent(type, this::createStore);
+        }
+        return (CrudStore<T, ?>) store;
+    }
 
-        Map<String, JpaRepository> repos = context.getBeansOfType(JpaRepository.class);
-        if (repos.isEmpty()) {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private CrudStore<?, ?> createStore(Class<?> type) {
+        Index current = index();
+        if (current.bindings.isEmpty()) {
             throw new IllegalStateException("No JpaRepository beans found in ApplicationContext.");
         }
+        Binding binding = current.bindings.get(type);
+        if (binding == null) {
+            throw new IllegalStateException(
+                    "No JpaRepository bean found for domain type " + type.getName()
+            );
+        }
+        if (binding.repository == null) {
+            throw new IllegalStateException(
+                    "Multiple JpaRepository beans found for domain type " + type.getName()
+                            + " (ambiguous). Please provide a unique repository."
+            );
+        }
+        if (binding.idType == null) {
+            throw new IllegalStateException("Cannot resolve JpaRepository ID type.");
+        }
+        return new SpringDataCrudStore(type, binding.idType, binding.repository, current.entityManager,
+                current.transactionManager);
+    }
 
-        JpaRepository match = null;
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = buildIndex();
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
 
+    @SuppressWarnings("rawtypes")
+    private Index buildIndex() {
+        Map<String, JpaRepository> repos = context.getBeansOfType(JpaRepository.class);
+        Map<Class<?>, Binding> bindings = new HashMap<>(repos.size() * 2);
         for (JpaRepository repo : repos.values()) {
-            Class<?> repoDomain = resolveDomainType(repo);
-            if (repoDomain == null) {
+            ResolvableType rt = ResolvableType.forClass(repo.getClass()).as(JpaRepository.class);
+            if (rt == ResolvableType.NONE) {
                 continue;
             }
-            if (repoDomain.equals(domainType)) {
-                if (match != null) {
-                    throw new IllegalStateException(
-                            "Multiple JpaRepository beans found for domain type " + domainType.getName()
-                                    + " (ambiguous). Please provide a unique repository."
-                    );
-                }
-                match = repo;
+            Class<?> repoDomain = rt.getGeneric(0).resolve();
+            if (repoDomain == null) {
+                continue;
             }
+            Binding binding = bindings.containsKey(repoDomain)
+                    ? Binding.AMBIGUOUS
+                    : new Binding(repo, rt.getGeneric(1).resolve());
+            bindings.put(repoDomain, binding);
         }
-
-        if (match == null) {
-            throw new IllegalStateException(
-                    "No JpaRepository bean found for domain type " + domainType.getName()
-            );
-        }
-
-        return match;
+        EntityManager entityManager = context.getBeanProvider(EntityManager.class).getIfAvailable();
+        PlatformTransactionManager transactionManager = context.getBeanProvider(PlatformTransactionManager.class).getIfUnique();
+        return new Index(Map.copyOf(bindings), entityManager, transactionManager);
     }
 
-    private Class<?> resolveDomainType(Object repoBean) {
-        ResolvableType rt = ResolvableType.forClass(repoBean.getClass()).as(JpaRepository.class);
-        if (rt == ResolvableType.NONE) {
-            return null;
+    private static final class Index {
+        private final Map<Class<?>, Binding> bindings;
+        private final EntityManager entityManager;
+        private final PlatformTransactionManager transactionManager;
+
+        private Index(Map<Class<?>, Binding> bindings, EntityManager entityManager,
+                      PlatformTransactionManager transactionManager) {
+            this.bindings = bindings;
+            this.entityManager = entityManager;
+            this.transactionManager = transactionManager;
         }
-        return rt.getGeneric(0).resolve();
     }
 
-    private Class<?> resolveIdType(Object repoBean) {
-        ResolvableType rt = ResolvableType.forClass(repoBean.getClass()).as(JpaRepository.class);
-        if (rt == ResolvableType.NONE) {
-            throw new IllegalStateException("Cannot resolve JpaRepository ID type.");
-        }
-        Class<?> idType = rt.getGeneric(1).resolve();
-        if (idType == null) {
-            throw new IllegalStateException("Cannot resolve JpaRepository ID type.");
+    private static final class Binding {
+        private static final Binding AMBIGUOUS = new Binding(null, null);
+
+        private final JpaRepository<?, ?> repository;
+        private final Class<?> idType;
+
+        private Binding(JpaRepository<?, ?> repository, Class<?> idType) {
+            this.repository = repository;
+            this.idType = idType;
         }
-        return idType;
     }
 }
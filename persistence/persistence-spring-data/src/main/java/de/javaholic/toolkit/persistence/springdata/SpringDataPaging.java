@@ -0,0 +1,67 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.Sort;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Translation between the platform paging SPI and Spring Data paging types.
+ *
+ * <p>Concept: keep Spring Data types at the adapter edge. Stores convert an SPI
+ * {@link PageRequest} into a {@link Pageable}, run the repository query, and convert the
+ * result back without leaking {@code org.springframework.data.domain.Page}.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * Pageable pageable = SpringDataPaging.toPageable(request);
+ * return SpringDataPaging.toPage(repository.findAll(pageable), request, mapper::toDomain);
+ * }</pre>
+ */
+public final class SpringDataPaging {
+
+    private SpringDataPaging() {
+    }
+
+    /**
+     * Converts an SPI page request to a Spring Data {@link Pageable}.
+     */
+    public static Pageable toPageable(PageRequest request) {
+        return org.springframework.data.domain.PageRequest.of(request.page(), request.size(), toSort(request.sort()));
+    }
+
+    /**
+     * Converts an SPI sort to a Spring Data sort.
+     */
+    public static org.springframework.data.domain.Sort toSort(Sort sort) {
+        if (!sort.isSorted()) {
+            return org.springframework.data.domain.Sort.unsorted();
+        }
+        List<org.springframework.data.domain.Sort.Order> orders = new ArrayList<>(sort.orders().size());
+        for (Sort.Order order : sort.orders()) {
+            orders.add(order.isAscending()
+                    ? org.springframework.data.domain.Sort.Order.asc(order.property())
+                    : org.springframework.data.domain.Sort.Order.desc(order.property()));
+        }
+        return org.springframework.data.domain.Sort.by(orders);
+    }
+
+    /**
+     * Converts a Spring Data page to an SPI page, mapping only the rows of that page.
+     */
+    public static <S, T> Page<T> toPage(
+            org.springframework.data.domain.Page<S> page,
+            PageRequest request,
+            Function<? super S, ? extends T> mapper
+    ) {
+        List<T> content = new ArrayList<>(page.getNumberOfElements());
+        for (S item : page.getContent()) {
+            content.add(mapper.apply(item));
+        }
+        return Page.of(content, request, page.getTotalElements());
+    }
+}
@@ -0,0 +1,130 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.Projection;
+import de.javaholic.toolkit.persistence.core.Row;
+import de.javaholic.toolkit.persistence.core.Sort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projection reads as JPA Criteria tuple queries.
+ *
+ * <p>Concept: a {@link Projection} becomes a {@code SELECT a, b, c FROM Entity} tuple query with the
+ * filter specification as {@code WHERE} clause and the requested sort and page applied in the
+ * database. No entity is instantiated, so lazy associations are never touched and the persistence
+ * context stays empty. Property names must be single-valued entity attributes; collection
+ * attributes are rejected because they would multiply rows.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * Page<Row> rows = SpringDataProjections.page(entityManager, executor, JpaUserEntity.class,
+ *         Projection.of("id", "identifier", "displayName", "status"),
+ *         SpringDataSpecifications.all(), PageRequest.of(0, 100, Sort.by("identifier")));
+ * }</pre>
+ */
+public final class SpringDataProjections {
+
+    private SpringDataProjections() {
+    }
+
+    /**
+     * Reads the projected attributes of all rows matching {@code specification}.
+     */
+    public static <E> List<Row> rows(
+            EntityManager entityManager,
+            Class<E> entityType,
+            Projection projection,
+            Specification<E> specification
+    ) {
+        return query(entityManager, entityType, projection, specification, Sort.unsorted(), null);
+    }
+
+    /**
+     * Reads one page of the projected attributes; the total comes from one {@code SELECT COUNT}.
+     */
+    public static <E> Page<Row> page(
+            EntityManager entityManager,
+            JpaSpecificationExecutor<E> executor,
+            Class<E> entityType,
+            Projection projection,
+            Specification<E> specification,
+            PageRequest request
+    ) {
+        List<Row> content = query(entityManager, entityType, projection, specification, request.sort(), request);
+        if (request.offset() == 0 && content.size() < request.size()) {
+            return Page.of(content, request, content.size());
+        }
+        return Page.of(content, request, executor.count(specification));
+    }
+
+    private static <E> List<Row> query(
+            EntityManager entityManager,
+            Class<E> entityType,
+            Projection projection,
+            Specification<E> specification,
+            Sort sort,
+            PageRequest request
+    ) {
+        EntityType<E> metamodel = entityManager.getMetamodel().entity(entityType);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(entityType);
+        List<Selection<?>> selections = new ArrayList<>(projection.properties().size());
+        for (String property : projection.properties()) {
+            Attribute<? super E, ?> attribute = attribute(metamodel, property);
+            if (attribute.isCollection()) {
+                throw new IllegalArgumentException("Cannot project collection attribute '" + property
+                        + "' of " + entityType.getName());
+            }
+            selections.add(root.get(property));
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(SpringDataPaging.toSort(sort), root, builder));
+        }
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (request != null) {
+            typed.setFirstResult(Math.toIntExact(request.offset()));
+            typed.setMaxResults(request.size());
+        }
+        List<Tuple> tuples = typed.getResultList();
+        List<Row> rows = new ArrayList<>(tuples.size());
+        Object[] values = new Object[selections.size()];
+        for (Tuple tuple : tuples) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = tuple.get(i);
+            }
+            rows.add(projection.row(values));
+        }
+        return rows;
+    }
+
+    private static <E> Attribute<? super E, ?> attribute(EntityType<E> metamodel, String property) {
+        try {
+            return metamodel.getAttribute(property);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown property '" + property + "' on "
+                    + metamodel.getJavaType().getName(), e);
+        }
+    }
+}
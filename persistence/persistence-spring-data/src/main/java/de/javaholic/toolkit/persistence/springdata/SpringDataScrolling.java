@@ -0,0 +1,85 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.KeysetPosition;
+import de.javaholic.toolkit.persistence.core.ScrollRequest;
+import de.javaholic.toolkit.persistence.core.Window;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Translation between the platform keyset scrolling SPI and Spring Data scrolling.
+ *
+ * <p>Concept: an SPI {@link ScrollRequest} becomes a Spring Data fluent query with
+ * {@link ScrollPosition#keyset()} or {@link ScrollPosition#forward(java.util.Map)}. Spring Data
+ * appends the {@code @Id} attribute to the sort and renders the seek predicate, so each window is
+ * an index range scan of {@code size + 1} rows. The resulting
+ * {@code org.springframework.data.domain.Window} is converted back without leaking Spring types.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * SpringDataSpecifications.executorFor(repository, JpaI18nEntry.class, entityManager)
+ *         .map(executor -> SpringDataScrolling.scroll(executor, request, mapper::toDomain));
+ * }</pre>
+ */
+public final class SpringDataScrolling {
+
+    private SpringDataScrolling() {
+    }
+
+    /**
+     * Reads one window via keyset scrolling and maps only its rows.
+     */
+    public static <E, R> Window<R> scroll(
+            JpaSpecificationExecutor<E> executor,
+            ScrollRequest request,
+            Function<? super E, ? extends R> mapper
+    ) {
+        return scroll(executor, SpringDataSpecifications.all(), request, mapper);
+    }
+
+    /**
+     * Reads one window of the rows matching {@code specification} via keyset scrolling.
+     */
+    public static <E, R> Window<R> scroll(
+            JpaSpecificationExecutor<E> executor,
+            Specification<E> specification,
+            ScrollRequest request,
+            Function<? super E, ? extends R> mapper
+    ) {
+        org.springframework.data.domain.Window<E> window = executor.findBy(specification, query -> query
+                .sortBy(SpringDataPaging.toSort(request.sort()))
+                .limit(request.size())
+                .scroll(toScrollPosition(request.position())));
+        List<R> content = new ArrayList<>(window.size());
+        for (E item : window.getContent()) {
+            content.add(mapper.apply(item));
+        }
+        KeysetPosition next = window.isEmpty()
+                ? request.position()
+                : toKeysetPosition(window.positionAt(window.size() - 1));
+        return Window.of(content, request, window.hasNext(), next);
+    }
+
+    /**
+     * Converts an SPI position to a forward Spring Data keyset position.
+     */
+    public static KeysetScrollPosition toScrollPosition(KeysetPosition position) {
+        return position.isInitial() ? ScrollPosition.keyset() : ScrollPosition.forward(position.keys());
+    }
+
+    /**
+     * Converts a Spring Data keyset position to an SPI position.
+     */
+    public static KeysetPosition toKeysetPosition(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Expected a keyset position but got " + position);
+        }
+        return KeysetPosition.of(keyset.getKeys());
+    }
+}
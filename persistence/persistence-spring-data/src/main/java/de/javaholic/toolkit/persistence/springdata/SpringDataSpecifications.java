@@ -0,0 +1,143 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.Filter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Translation of platform {@link Filter} trees into Spring Data JPA {@link Specification}s.
+ *
+ * <p>Concept: every filter node becomes one JPA Criteria predicate on the root entity, so
+ * filtering, paging and sorting run in a single database query. Property names are used as
+ * entity attribute names unchanged. Text matches are rendered as {@code LIKE} with escaped
+ * wildcards; case-insensitive variants compare {@code lower(attribute)}.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * Specification<JpaI18nEntry> spec = SpringDataSpecifications.toSpecification(Filter.startsWith("key", "app."));
+ * List<JpaI18nEntry> rows = repository.findAll(spec);
+ * }</pre>
+ */
+public final class SpringDataSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private SpringDataSpecifications() {
+    }
+
+    /**
+     * Returns an executor that can run specification queries for the given repository.
+     *
+     * <p>Repositories that implement {@link JpaSpecificationExecutor} are used directly. Otherwise
+     * a {@link SimpleJpaRepository} is created on the entity manager; without one the result is
+     * empty and callers fall back to in-memory evaluation.</p>
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Optional<JpaSpecificationExecutor<E>> executorFor(
+            JpaRepository<E, ?> repository,
+            Class<E> entityType,
+            EntityManager entityManager
+    ) {
+        if (repository instanceof JpaSpecificationExecutor<?> executor) {
+            return Optional.of((JpaSpecificationExecutor<E>) executor);
+        }
+        if (entityManager == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SimpleJpaRepository<>(entityType, entityManager));
+    }
+
+    /**
+     * Returns a specification matching all rows.
+     */
+    public static <E> Specification<E> all() {
+        return (root, query, builder) -> null;
+    }
+
+    /**
+     * Translates the filter into a specification.
+     */
+    public static <E> Specification<E> toSpecification(Filter filter) {
+        if (filter.isAll()) {
+            return all();
+        }
+        return (root, query, builder) -> toPredicate(filter, root, builder);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate toPredicate(Filter filter, Root<?> root, CriteriaBuilder builder) {
+        return switch (filter) {
+            case Filter.Equal equal -> {
+                Path<Object> path = root.get(equal.property());
+                if (equal.value() == null) {
+                    yield builder.isNull(path);
+                }
+                if (equal.ignoreCase()) {
+                    yield builder.equal(
+                            builder.lower(path.as(String.class)),
+                            ((String) equal.value()).toLowerCase(Locale.ROOT)
+                    );
+                }
+                yield builder.equal(path, equal.value());
+            }
+            case Filter.In in -> in.values().isEmpty()
+                    ? builder.disjunction()
+                    : root.get(in.property()).in(in.values());
+            case Filter.Match match -> {
+                Expression<String> expression = root.get(match.property());
+                String text = match.text();
+                if (match.ignoreCase()) {
+                    expression = builder.lower(expression);
+                    text = text.toLowerCase(Locale.ROOT);
+                }
+                String pattern = (match.mode() == Filter.Match.Mode.CONTAINS ? "%" : "") + escapeLike(text) + "%";
+                yield builder.like(expression, pattern, ESCAPE);
+            }
+            case Filter.Range range -> {
+                Path<Comparable> path = root.get(range.property());
+                List<Predicate> bounds = new ArrayList<>(2);
+                if (range.lower() != null) {
+                    bounds.add(builder.greaterThanOrEqualTo(path, (Comparable) range.lower()));
+                }
+                if (range.upper() != null) {
+                    bounds.add(builder.lessThanOrEqualTo(path, (Comparable) range.upper()));
+                }
+                yield builder.and(bounds.toArray(Predicate[]::new));
+            }
+            case Filter.Junction junction -> {
+                Predicate[] children = new Predicate[junction.filters().size()];
+                for (int i = 0; i < children.length; i++) {
+                    children[i] = toPredicate(junction.filters().get(i), root, builder);
+                }
+                yield junction.type() == Filter.Junction.Type.AND
+                        ? builder.and(children)
+                        : builder.or(children);
+            }
+        };
+    }
+
+    private static String escapeLike(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.AsyncCrudStoreAdapter;
+import de.javaholic.toolkit.persistence.core.UnitOfWork;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link UnitOfWork}s that commit in one transaction of the application's transaction manager.
+ *
+ * <p>Concept: the queued writes run in a single read-write transaction, joining one that is
+ * already active on the calling thread. The store calls inside share that transaction, so there is
+ * one commit for all stores instead of one per call, and each coalesced group is written by the
+ * JPA stores with batched statements.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * unitOfWorks.begin()
+ *         .saveAll(permissionStore, permissions)
+ *         .saveAll(roleStore, roles)
+ *         .save(userStore, user)
+ *         .commit();
+ * }</pre>
+ */
+public class SpringUnitOfWorks {
+
+    private final AsyncCrudStoreAdapter.CallScope scope;
+
+    /**
+     * Creates the factory.
+     *
+     * @param transactionManager transaction manager for the commit; may be {@code null}
+     */
+    public SpringUnitOfWorks(PlatformTransactionManager transactionManager) {
+        this.scope = transactionManager == null
+                ? AsyncCrudStoreAdapter.CallScope.NONE
+                : new TransactionScope(new TransactionTemplate(transactionManager));
+    }
+
+    /**
+     * Starts an empty unit of work.
+     */
+    public UnitOfWork begin() {
+        return new UnitOfWork(scope);
+    }
+
+    private static final class TransactionScope implements AsyncCrudStoreAdapter.CallScope {
+
+        private final TransactionTemplate template;
+
+        private TransactionScope(TransactionTemplate template) {
+            this.template = template;
+        }
+
+        @Override
+        public <R> R call(boolean readOnly, Supplier<R> call) {
+            return template.execute(status -> call.get());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package de.javaholic.toolkit.persistence.springdata.config;
+
+import de.javaholic.toolkit.persistence.springdata.SpringAsyncCrudStores;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Provides {@link SpringAsyncCrudStores} for wrapping stores into non-blocking variants.
+ *
+ * <p>Concept: calls run on virtual threads, each in its own transaction of the application's
+ * transaction manager, with the caller's security context. Declare an own
+ * {@link SpringAsyncCrudStores} bean to use a different executor.</p>
+ *
+ * <p>Example: {@code AsyncCrudStore<UserDto, UUID> users = asyncCrudStores.wrap(userFormStore);}</p>
+ */
+@AutoConfiguration(after = TransactionAutoConfiguration.class)
+public class AsyncCrudStoreAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SpringAsyncCrudStores springAsyncCrudStores(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        return new SpringAsyncCrudStores(transactionManager.getIfUnique());
+    }
+}
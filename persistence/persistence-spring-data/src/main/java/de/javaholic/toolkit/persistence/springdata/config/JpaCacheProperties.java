@@ -0,0 +1,112 @@
+package de.javaholic.toolkit.persistence.springdata.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of the Hibernate second-level cache, bound from {@code javaholic.jpa.cache.*}.
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * javaholic.jpa.cache.enabled=true
+ * javaholic.jpa.cache.regions.iam-role.max-entries=5000
+ * javaholic.jpa.cache.regions.iam-role.time-to-live=15m
+ * }</pre>
+ */
+@ConfigurationProperties("javaholic.jpa.cache")
+public class JpaCacheProperties {
+
+    /**
+     * Whether the second-level cache is on; off by default.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether queries marked cacheable keep their results in the cache.
+     */
+    private boolean queryCache = true;
+
+    /**
+     * Size of the query result region and of configured regions that no module declares.
+     */
+    private long defaultMaxEntries = 10_000;
+
+    /**
+     * Time-to-live of the query result region and of configured regions that no module declares.
+     */
+    private Duration defaultTimeToLive = Duration.ofMinutes(30);
+
+    /**
+     * Per-region overrides by region name.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isQueryCache() {
+        return queryCache;
+    }
+
+    public void setQueryCache(boolean queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    public long getDefaultMaxEntries() {
+        return defaultMaxEntries;
+    }
+
+    public void setDefaultMaxEntries(long defaultMaxEntries) {
+        this.defaultMaxEntries = defaultMaxEntries;
+    }
+
+    public Duration getDefaultTimeToLive() {
+        return defaultTimeToLive;
+    }
+
+    public void setDefaultTimeToLive(Duration defaultTimeToLive) {
+        this.defaultTimeToLive = defaultTimeToLive;
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    /**
+     * Override of one region; unset values keep the declared defaults.
+     */
+    public static class Region {
+
+        private Long maxEntries;
+
+        private Duration timeToLive;
+
+        public Long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(Long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
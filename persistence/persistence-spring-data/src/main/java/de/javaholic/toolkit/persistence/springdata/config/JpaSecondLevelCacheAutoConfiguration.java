@@ -0,0 +1,143 @@
+package de.javaholic.toolkit.persistence.springdata.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import de.javaholic.toolkit.persistence.springdata.JpaCacheRegion;
+import de.javaholic.toolkit.persistence.springdata.JpaCacheStatistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Enables the Hibernate second-level and query cache on a local Caffeine JCache provider.
+ *
+ * <p>Concept: opt-in via {@code javaholic.jpa.cache.enabled=true}, with
+ * {@code org.hibernate.orm:hibernate-jcache} and {@code com.github.ben-manes.caffeine:jcache} on the
+ * classpath. Without the property the second-level and query cache are switched off explicitly:
+ * Hibernate would otherwise pick the JCache region factory it finds on the classpath and fill
+ * unbounded provider-default regions for every {@code @Cacheable} entity. Every {@link JpaCacheRegion} bean, plus Hibernate's query result and update timestamp
+ * regions and every region listed under {@code javaholic.jpa.cache.regions}, is created as a
+ * size-bounded Caffeine cache before the session factory starts. Regions that are neither
+ * declared nor configured are created by Hibernate with the provider's defaults and a warning.
+ * Which entities, collections and queries are cached is decided by their {@code @Cache}
+ * annotations and {@code org.hibernate.cacheable} hints. Statistics are collected so
+ * {@link JpaCacheStatistics} can report per-region counters. Values already set through
+ * {@code spring.jpa.properties.*} win over these defaults.</p>
+ *
+ * <p>Each application context gets a cache manager of its own, closed with the context. Caches
+ * are local to it: writes through another node are only seen once the entry expires, so regions
+ * of data written elsewhere need a short time-to-live.</p>
+ *
+ * <p>Example: {@code javaholic.jpa.cache.regions.iam-role.time-to-live=5m}</p>
+ */
+@AutoConfiguration(before = HibernateJpaAutoConfiguration.class)
+@ConditionalOnClass(name = "org.hibernate.cache.jcache.internal.JCacheRegionFactory")
+public class JpaSecondLevelCacheAutoConfiguration {
+
+    /**
+     * Default size of the region recording table write timestamps.
+     */
+    public static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 10_000;
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "javaholic.jpa.cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+    static class Disabled {
+
+        @Bean
+        public HibernatePropertiesCustomizer javaholicJpaCacheDisabler() {
+            return hibernate -> {
+                hibernate.putIfAbsent("hibernate.cache.use_second_level_cache", "false");
+                hibernate.putIfAbsent("hibernate.cache.use_query_cache", "false");
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+    @ConditionalOnProperty(prefix = "javaholic.jpa.cache", name = "enabled", havingValue = "true")
+    @EnableConfigurationProperties(JpaCacheProperties.class)
+    static class Enabled {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "javaholicJpaCacheManager")
+        public CacheManager javaholicJpaCacheManager(ObjectProvider<JpaCacheRegion> declared, JpaCacheProperties properties) {
+            Map<String, JpaCacheRegion> regions = new LinkedHashMap<>();
+            regions.put(JpaCacheRegion.DEFAULT_QUERY_RESULTS, new JpaCacheRegion(JpaCacheRegion.DEFAULT_QUERY_RESULTS,
+                    properties.getDefaultMaxEntries(), properties.getDefaultTimeToLive()));
+            // Timestamps must outlive every cached query result, so they never expire.
+            regions.put(JpaCacheRegion.UPDATE_TIMESTAMPS, new JpaCacheRegion(JpaCacheRegion.UPDATE_TIMESTAMPS,
+                    UPDATE_TIMESTAMPS_MAX_ENTRIES, Duration.ZERO));
+            declared.orderedStream().forEach(region -> regions.put(region.name(), region));
+            for (String name : properties.getRegions().keySet()) {
+                regions.putIfAbsent(name, new JpaCacheRegion(name, properties.getDefaultMaxEntries(), properties.getDefaultTimeToLive()));
+            }
+
+            // A URI of its own per context: the provider hands out one manager per URI and JVM, which
+            // would share filled regions between contexts and be closed by whichever closes first.
+            CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+            CacheManager cacheManager = provider.getCacheManager(
+                    URI.create("javaholic-jpa-" + UUID.randomUUID()), getClass().getClassLoader());
+            for (JpaCacheRegion region : regions.values()) {
+                JpaCacheRegion configured = configured(region, properties.getRegions().get(region.name()));
+                cacheManager.createCache(configured.name(), caffeine(configured));
+            }
+            return cacheManager;
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer javaholicJpaCacheCustomizer(CacheManager javaholicJpaCacheManager,
+                                                                         JpaCacheProperties properties) {
+            return hibernate -> {
+                hibernate.putIfAbsent("hibernate.cache.use_second_level_cache", "true");
+                hibernate.putIfAbsent("hibernate.cache.use_query_cache", String.valueOf(properties.isQueryCache()));
+                hibernate.putIfAbsent("hibernate.cache.region.factory_class", "jcache");
+                hibernate.putIfAbsent("hibernate.javax.cache.cache_manager", javaholicJpaCacheManager);
+                hibernate.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+                hibernate.putIfAbsent("hibernate.generate_statistics", "true");
+            };
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JpaCacheStatistics jpaCacheStatistics(EntityManagerFactory entityManagerFactory) {
+            return new JpaCacheStatistics(entityManagerFactory);
+        }
+
+        private static JpaCacheRegion configured(JpaCacheRegion region, JpaCacheProperties.Region override) {
+            if (override == null) {
+                return region;
+            }
+            return new JpaCacheRegion(region.name(),
+                    override.getMaxEntries() != null ? override.getMaxEntries() : region.maxEntries(),
+                    override.getTimeToLive() != null ? override.getTimeToLive() : region.timeToLive());
+        }
+
+        private static CaffeineConfiguration<Object, Object> caffeine(JpaCacheRegion region) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maxEntries()));
+            if (!region.timeToLive().isZero()) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            return configuration;
+        }
+    }
+}
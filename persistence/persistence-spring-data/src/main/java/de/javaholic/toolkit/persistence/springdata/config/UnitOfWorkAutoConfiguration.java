@@ -0,0 +1,24 @@
+package de.javaholic.toolkit.persistence.springdata.config;
+
+import de.javaholic.toolkit.persistence.springdata.SpringUnitOfWorks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Provides {@link SpringUnitOfWorks} for writing to several stores in one transaction.
+ *
+ * <p>Example: {@code unitOfWorks.begin().saveAll(roleStore, roles).save(userStore, user).commit();}</p>
+ */
+@AutoConfiguration(after = TransactionAutoConfiguration.class)
+public class UnitOfWorkAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SpringUnitOfWorks springUnitOfWorks(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        return new SpringUnitOfWorks(transactionManager.getIfUnique());
+    }
+}
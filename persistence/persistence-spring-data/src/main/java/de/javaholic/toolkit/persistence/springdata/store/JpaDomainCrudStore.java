@@ -1,12 +1,45 @@
 package de.javaholic.toolkit.persistence.springdata.store;
 
+import de.javaholic.toolkit.persistence.core.CrudChangeSource;
 import de.javaholic.toolkit.persistence.core.CrudStore;
+import de.javaholic.toolkit.persistence.core.CrudStoreListener;
 import de.javaholic.toolkit.persistence.core.EntityMapper;
+import de.javaholic.toolkit.persistence.core.Filter;
+import de.javaholic.toolkit.persistence.core.InMemoryFilters;
+import de.javaholic.toolkit.persistence.core.MappedList;
+import de.javaholic.toolkit.persistence.core.MappingContext;
+import de.javaholic.toolkit.persistence.core.Page;
+import de.javaholic.toolkit.persistence.core.PageRequest;
+import de.javaholic.toolkit.persistence.core.ParallelMapping;
+import de.javaholic.toolkit.persistence.core.Projection;
+import de.javaholic.toolkit.persistence.core.Row;
+import de.javaholic.toolkit.persistence.core.ScrollRequest;
+import de.javaholic.toolkit.persistence.core.Window;
+import de.javaholic.toolkit.persistence.springdata.JpaBulkWriter;
+import de.javaholic.toolkit.persistence.springdata.JpaChangePublisher;
+import de.javaholic.toolkit.persistence.springdata.JpaChunkReader;
+import de.javaholic.toolkit.persistence.springdata.JpaFetchPlan;
+import de.javaholic.toolkit.persistence.springdata.JpaInLists;
+import de.javaholic.toolkit.persistence.springdata.JpaPartialUpdater;
+import de.javaholic.toolkit.persistence.springdata.SpringDataPaging;
+import de.javaholic.toolkit.persistence.springdata.SpringDataProjections;
+import de.javaholic.toolkit.persistence.springdata.SpringDataScrolling;
+import de.javaholic.toolkit.persistence.springdata.SpringDataSpecifications;
+import jakarta.persistence.EntityManager;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Base {@link CrudStore} implementation that adapts a Spring Data {@link JpaRepository}
@@ -15,13 +48,38 @@ import java.util.Optional;
  * <p>Concept: subclasses provide type binding only; CRUD behavior is shared in this base class.
  * The store boundary remains domain-first, while persistence entities stay internal.</p>
  *
+ * <p>Reads run in read-only transactions so mappers can touch lazy associations; writes run in
+ * read-write transactions. Subclasses that redeclare {@code @Transactional} on their own methods
+ * are unaffected.</p>
+ *
+ * <p>List results of {@code findAll} and {@code findAllById} are mapped eagerly by default.
+ * Subclasses may choose {@link MappedList.Mode#LAZY}, which maps a row when it is first read;
+ * that happens after the read transaction has ended, so it only suits mappers that do not touch
+ * lazy associations. Large results can instead be mapped in parallel chunks with a
+ * {@link ParallelMapping}, which requires a mapper that declares itself thread-safe.</p>
+ *
+ * <p>Subclasses whose mappers walk lazy associations can override {@link #fetchPlan} to load those
+ * associations with the rows of {@code findAll}, {@code findById}, {@code findAllById},
+ * {@code findPage} and {@code findWindow}, in a constant number of statements per read. Fetched
+ * associations are initialized, so they also suit {@link MappedList.Mode#LAZY}.</p>
+ *
+ * <p>All rows of one list, page, window or stream are mapped with one {@link MappingContext}, so
+ * associations shared by several rows are mapped once.</p>
+ *
+ * <p>With an {@link EntityManager}, {@code save} and {@code saveAll} of an existing row compare the
+ * mapped entity with the loaded one and write only the differences (see {@link JpaPartialUpdater});
+ * a save that changes nothing issues no write and reports no change.</p>
+ *
+ * <p>Writes made through the store are reported to {@link CrudChangeSource} subscribers after the
+ * transaction commits; events carry the entity id and version and the domain type.</p>
+ *
  * <p>Example:</p>
  * <pre>{@code
  * public class JpaDomainUserFormStore extends JpaDomainCrudStore<User, UUID, JpaUserEntity, JpaUserRepository> implements UserFormStore {
  * private final JpaUserMapper mapper;
  *
- *     public JpaDomainUserFormStore(JpaUserRepository repo, JpaUserMapper mapper) {
- *         super(repo, mapper);
+ *     public JpaDomainUserFormStore(JpaUserRepository repo, JpaUserMapper mapper, EntityManager entityManager) {
+ *         super(repo, mapper, entityManager);
  *         this.mapper = mapper;
  *     }
  *
@@ -32,24 +90,87 @@ import java.util.Optional;
  *     }
  * }</pre>
  */
+@Transactional(readOnly = true)
 public abstract class JpaDomainCrudStore<
         D,        // Domain
         ID,
         E,        // JpaEntity
         R extends JpaRepository<E, ID>
-        > implements CrudStore<D, ID> {
+        > implements CrudStore<D, ID>, CrudChangeSource {
 
     protected final R repository;
     protected final EntityMapper<D, E> mapper;
+    protected final EntityManager entityManager;
+    private final Class<D> domainType;
+    private final Class<E> entityType;
+    private final MappedList.Mode listMapping;
+    private final ParallelMapping parallelMapping;
+    private volatile JpaChunkReader<E> chunkReader;
+    private volatile JpaBulkWriter<E> bulkWriter;
+    private volatile JpaChangePublisher<E> changes;
+    private volatile JpaPartialUpdater<E> partialUpdater;
 
     /**
      * Creates the adapter with repository and mapper dependencies.
      *
+     * <p>Without an {@link EntityManager}, bulk reads fall back to repository paging.</p>
+     *
      * <p>Example: {@code super(repository, mapper);}</p>
      */
     protected JpaDomainCrudStore(R repository, EntityMapper<D, E> mapper) {
+        this(repository, mapper, null);
+    }
+
+    /**
+     * Creates the adapter with repository, mapper and entity manager dependencies.
+     *
+     * <p>The entity manager is used for seek-based chunk reads and for detaching entities
+     * between chunks; it may be {@code null}.</p>
+     *
+     * <p>Example: {@code super(repository, mapper, entityManager);}</p>
+     */
+    protected JpaDomainCrudStore(R repository, EntityMapper<D, E> mapper, EntityManager entityManager) {
+        this(repository, mapper, entityManager, MappedList.Mode.EAGER);
+    }
+
+    /**
+     * Creates the adapter mapping list results as given.
+     *
+     * <p>Example: {@code super(repository, mapper, entityManager, MappedList.Mode.LAZY);}</p>
+     */
+    protected JpaDomainCrudStore(R repository, EntityMapper<D, E> mapper, EntityManager entityManager,
+                                 MappedList.Mode listMapping) {
+        this(repository, mapper, entityManager, Objects.requireNonNull(listMapping, "listMapping"), null);
+    }
+
+    /**
+     * Creates the adapter mapping large list results in parallel.
+     *
+     * <p>Throws {@link IllegalArgumentException} if the mapper does not declare itself
+     * thread-safe.</p>
+     *
+     * <p>Example: {@code super(repository, mapper, entityManager, ParallelMapping.above(5_000));}</p>
+     */
+    protected JpaDomainCrudStore(R repository, EntityMapper<D, E> mapper, EntityManager entityManager,
+                                 ParallelMapping parallelMapping) {
+        this(repository, mapper, entityManager, MappedList.Mode.EAGER,
+                Objects.requireNonNull(parallelMapping, "parallelMapping"));
+        if (!mapper.isThreadSafe()) {
+            throw new IllegalArgumentException("Parallel mapping needs a thread-safe mapper: " + mapper.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private JpaDomainCrudStore(R repository, EntityMapper<D, E> mapper, EntityManager entityManager,
+                               MappedList.Mode listMapping, ParallelMapping parallelMapping) {
         this.repository = Objects.requireNonNull(repository, "repository");
         this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.entityManager = entityManager;
+        this.listMapping = listMapping;
+        this.parallelMapping = parallelMapping;
+        ResolvableType binding = ResolvableType.forClass(getClass()).as(JpaDomainCrudStore.class);
+        this.domainType = (Class<D>) binding.resolveGeneric(0);
+        this.entityType = (Class<E>) binding.resolveGeneric(2);
     }
 
     /**
@@ -57,9 +178,11 @@ public abstract class JpaDomainCrudStore<
      */
     @Override
     public List<D> findAll() {
-        return repository.findAll().stream()
-                .map(mapper::toDomain)
-                .toList();
+        JpaFetchPlan plan = plan(JpaFetchPlan.Operation.FIND_ALL);
+        if (plan == null) {
+            return toDomains(repository.findAll());
+        }
+        return toDomains(plan.findAll(entityManager, entityType(), SpringDataSpecifications.all()));
     }
 
     /**
@@ -67,24 +190,406 @@ public abstract class JpaDomainCrudStore<
      */
     @Override
     public Optional<D> findById(ID id) {
-        return repository.findById(id)
-                .map(mapper::toDomain);
+        JpaFetchPlan plan = plan(JpaFetchPlan.Operation.FIND_BY_ID);
+        Optional<E> found = plan == null ? repository.findById(id) : plan.findById(entityManager, entityType(), id);
+        return found.map(mapper::toDomain);
+    }
+
+    /**
+     * Loads the entities with one {@code IN} query per {@link JpaInLists#MAX_SIZE} ids.
+     */
+    @Override
+    public List<D> findAllById(Collection<? extends ID> ids) {
+        JpaFetchPlan plan = plan(JpaFetchPlan.Operation.FIND_ALL_BY_ID);
+        if (plan == null) {
+            return toDomains(JpaInLists.query(ids, repository::findAllById));
+        }
+        return toDomains(plan.findAllById(entityManager, entityType(), ids));
+    }
+
+    /**
+     * Loads the entities matching the filter with one criteria query and maps them to domain.
+     *
+     * <p>Filter property names are validated against the entity type before the query runs.</p>
+     */
+    @Override
+    public List<D> findAll(Filter filter) {
+        JpaSpecificationExecutor<E> executor = specificationExecutor(filter);
+        if (executor == null) {
+            return CrudStore.super.findAll(filter);
+        }
+        JpaFetchPlan plan = plan(JpaFetchPlan.Operation.FIND_ALL);
+        if (plan == null) {
+            return toDomains(executor.findAll(SpringDataSpecifications.toSpecification(filter)));
+        }
+        return toDomains(plan.findAll(entityManager, entityType(), SpringDataSpecifications.toSpecification(filter)));
+    }
+
+    /**
+     * Counts rows with {@code SELECT COUNT}.
+     */
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    /**
+     * Counts rows matching the filter with one {@code SELECT COUNT} query.
+     */
+    @Override
+    public long count(Filter filter) {
+        JpaSpecificationExecutor<E> executor = specificationExecutor(filter);
+        if (executor == null) {
+            return CrudStore.super.count(filter);
+        }
+        return executor.count(SpringDataSpecifications.toSpecification(filter));
+    }
+
+    /**
+     * Checks existence by id without mapping the row.
+     */
+    @Override
+    public boolean existsById(ID id) {
+        return repository.existsById(id);
+    }
+
+    /**
+     * Checks whether a row matches the filter with a query that stops at the first match.
+     */
+    @Override
+    public boolean exists(Filter filter) {
+        JpaSpecificationExecutor<E> executor = specificationExecutor(filter);
+        if (executor == null) {
+            return CrudStore.super.exists(filter);
+        }
+        return executor.exists(SpringDataSpecifications.toSpecification(filter));
+    }
+
+    /**
+     * Loads one page via the repository and maps only the rows of that page.
+     *
+     * <p>Sort property names are passed to Spring Data unchanged, so they must name entity
+     * attributes (domain and entity share property names by convention).</p>
+     */
+    @Override
+    public Page<D> findPage(PageRequest request) {
+        return SpringDataPaging.toPage(
+                fetched(repository.findAll(SpringDataPaging.toPageable(request))),
+                request,
+                toDomainInContext()
+        );
+    }
+
+    /**
+     * Loads one page of the entities matching the filter; filter, sort and page run in the database.
+     */
+    @Override
+    public Page<D> findPage(Filter filter, PageRequest request) {
+        JpaSpecificationExecutor<E> executor = specificationExecutor(filter);
+        if (executor == null) {
+            return CrudStore.super.findPage(filter, request);
+        }
+        return SpringDataPaging.toPage(
+                fetched(executor.findAll(SpringDataSpecifications.toSpecification(filter), SpringDataPaging.toPageable(request))),
+                request,
+                toDomainInContext()
+        );
+    }
+
+    /**
+     * Selects only the projected entity attributes with one tuple query.
+     *
+     * <p>No entity is loaded or mapped, so lazy associations stay untouched. Property names must
+     * name single-valued entity attributes; values are returned as stored in the entity. Without
+     * an entity manager the rows are read from mapped domain objects.</p>
+     */
+    @Override
+    public List<Row> findRows(Projection projection, Filter filter) {
+        JpaSpecificationExecutor<E> executor = specificationExecutor(filter);
+        if (executor == null || entityManager == null) {
+            return CrudStore.super.findRows(projection, filter);
+        }
+        return SpringDataProjections.rows(
+                entityManager, entityType(), projection, SpringDataSpecifications.toSpecification(filter));
+    }
+
+    /**
+     * Selects one page of the projected entity attributes; filter, sort and page run in the database.
+     */
+    @Override
+    public Page<Row> findRowPage(Projection projection, Filter filter, PageRequest request) {
+        JpaSpecificationExecutor<E> executor = specificationExecutor(filter);
+        if (executor == null || entityManager == null) {
+            return CrudStore.super.findRowPage(projection, filter, request);
+        }
+        return SpringDataProjections.page(entityManager, executor, entityType(), projection,
+                SpringDataSpecifications.toSpecification(filter), request);
+    }
+
+    /**
+     * Reads one window by seeking past the request's keyset position in the database.
+     *
+     * <p>The seek key is the requested sort plus the entity {@code @Id}. Repositories that do not
+     * implement {@code JpaSpecificationExecutor} are queried through the entity manager; without
+     * one the window is evaluated in memory.</p>
+     */
+    @Override
+    public Window<D> findWindow(ScrollRequest request) {
+        return SpringDataSpecifications.executorFor(repository, entityType(), entityManager)
+                .map(executor -> fetched(SpringDataScrolling.scroll(executor, request, Function.<E>identity()))
+                        .map(toDomainInContext()))
+                .orElseGet(() -> CrudStore.super.findWindow(request));
+    }
+
+    /**
+     * Streams all rows in windows of {@code fetchSize}, mapping each entity when it is pulled.
+     *
+     * <p>Like Spring Data stream queries, the stream must be consumed inside a surrounding
+     * transaction when the mapper touches lazy associations. Prefer {@link #forEachChunk}
+     * which keeps the whole walk inside one read-only transaction.</p>
+     */
+    @Override
+    public Stream<D> stream(int fetchSize) {
+        return chunkReader().stream(fetchSize, toDomainInContext());
+    }
+
+    /**
+     * Walks all rows chunk by chunk inside one read-only transaction.
+     *
+     * <p>Entities of a chunk are detached before the next chunk is read.</p>
+     */
+    @Override
+    public void forEachChunk(int chunkSize, Consumer<List<D>> consumer) {
+        CrudStore.super.forEachChunk(chunkSize, consumer);
     }
 
     /**
      * Maps domain to entity, persists it, then maps persisted entity back to domain.
+     *
+     * <p>An existing row is loaded and only changed properties and collection elements are
+     * written to it; an unchanged row is neither written nor reported as updated. New rows, and
+     * stores without an entity manager, are saved through the repository.</p>
      */
     @Override
+    @Transactional
     public D save(D entity) {
-        E saved = repository.save(mapper.toEntity(entity));
+        E toSave = mapper.toEntity(entity);
+        JpaChangePublisher<E> changes = changes();
+        JpaPartialUpdater<E> updater = partialUpdater();
+        boolean absent = false;
+        if (updater != null && updater.supports(toSave)) {
+            Optional<JpaPartialUpdater.Update<E>> updated = updater.update(toSave);
+            if (updated.isPresent()) {
+                if (updated.get().changed()) {
+                    changes.saved(updated.get().entity(), false);
+                }
+                return mapper.toDomain(updated.get().entity());
+            }
+            absent = true;
+        }
+        boolean created = changes.isActive() && (absent || changes.isNew(toSave));
+        E saved = repository.save(toSave);
+        changes.saved(saved, created);
         return mapper.toDomain(saved);
     }
 
+    /**
+     * Maps all domain instances to entities and writes them in one transaction.
+     *
+     * <p>Rows are written in chunks with JDBC batching; existing rows are detected with one
+     * {@code IN} query per chunk instead of one select per row. As with {@link #save(Object)},
+     * existing rows get only their changes written, and unchanged rows are neither written nor
+     * reported as updated.</p>
+     */
+    @Override
+    @Transactional
+    public List<D> saveAll(Collection<? extends D> entities) {
+        List<E> toSave = toEntities(entities);
+        Function<E, D> toDomain = toDomainInContext();
+        JpaChangePublisher<E> changes = changes();
+        return bulkWriter().saveAll(toSave, (saved, outcome) -> {
+            if (outcome != JpaBulkWriter.Outcome.UNCHANGED) {
+                changes.saved(saved, outcome == JpaBulkWriter.Outcome.CREATED);
+            }
+            return toDomain.apply(saved);
+        });
+    }
+
     /**
      * Deletes by mapping the provided domain instance to its entity representation.
      */
     @Override
+    @Transactional
     public void delete(D entity) {
-        repository.delete(mapper.toEntity(entity));
+        E toDelete = mapper.toEntity(entity);
+        repository.delete(toDelete);
+        changes().deleted(toDelete);
+    }
+
+    /**
+     * Deletes all given domain instances by the ids of their entity representations.
+     */
+    @Override
+    @Transactional
+    public void deleteAll(Collection<? extends D> entities) {
+        List<E> toDelete = toEntities(entities);
+        bulkWriter().deleteAll(toDelete);
+        JpaChangePublisher<E> changes = changes();
+        for (E entity : toDelete) {
+            changes.deleted(entity);
+        }
+    }
+
+    /**
+     * Deletes all rows with the given ids using set-based deletes where the mapping allows it.
+     */
+    @Override
+    @Transactional
+    public void deleteAllById(Collection<? extends ID> ids) {
+        bulkWriter().deleteAllById(ids);
+        changes().deletedIds(ids);
+    }
+
+    /**
+     * Subscribes to writes committed through this store.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Subscription subscribe(CrudStoreListener listener) {
+        return changes().subscribe(listener);
+    }
+
+    /**
+     * Returns the associations to load with the rows of the given read, or {@code null} for none.
+     *
+     * <p>The default loads nothing up front. Plans are only used with an entity manager; pages
+     * and windows always apply them with {@link JpaFetchPlan.Strategy#BATCH}.</p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * @Override
+     * protected JpaFetchPlan fetchPlan(JpaFetchPlan.Operation operation) {
+     *     return JpaFetchPlan.of("roles", "roles.permissions");
+     * }
+     * }</pre>
+     */
+    protected JpaFetchPlan fetchPlan(JpaFetchPlan.Operation operation) {
+        return null;
+    }
+
+    /**
+     * Initializes the associations of the plan for {@code operation} on entities loaded by a
+     * subclass query, so they can be mapped without further statements.
+     *
+     * <p>Example: {@code repository.findByIdentifier(id).map(user -> fetch(Operation.FIND_BY_ID, user))}</p>
+     */
+    protected E fetch(JpaFetchPlan.Operation operation, E entity) {
+        fetch(operation, List.of(entity));
+        return entity;
+    }
+
+    /**
+     * Initializes the associations of the plan for {@code operation} on all given entities.
+     */
+    protected <C extends Collection<E>> C fetch(JpaFetchPlan.Operation operation, C entities) {
+        JpaFetchPlan plan = plan(operation);
+        if (plan != null) {
+            plan.load(entityManager, entityType(), entities);
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the JPA entity type bound by the concrete subclass.
+     */
+    protected Class<E> entityType() {
+        if (entityType == null) {
+            throw new IllegalStateException("Cannot resolve entity type of " + getClass().getName());
+        }
+        return entityType;
+    }
+
+    private JpaSpecificationExecutor<E> specificationExecutor(Filter filter) {
+        InMemoryFilters.validate(filter, entityType());
+        return SpringDataSpecifications.executorFor(repository, entityType(), entityManager).orElse(null);
+    }
+
+    private JpaFetchPlan plan(JpaFetchPlan.Operation operation) {
+        return entityManager == null ? null : fetchPlan(operation);
+    }
+
+    private org.springframework.data.domain.Page<E> fetched(org.springframework.data.domain.Page<E> page) {
+        fetch(JpaFetchPlan.Operation.FIND_PAGE, page.getContent());
+        return page;
+    }
+
+    private Window<E> fetched(Window<E> window) {
+        fetch(JpaFetchPlan.Operation.FIND_WINDOW, window.content());
+        return window;
+    }
+
+    private List<D> toDomains(List<E> entities) {
+        Function<E, D> toDomain = toDomainInContext();
+        return parallelMapping != null
+                ? parallelMapping.map(entities, toDomain)
+                : listMapping.map(entities, toDomain);
+    }
+
+    private Function<E, D> toDomainInContext() {
+        MappingContext context = MappingContext.create();
+        return entity -> mapper.toDomain(entity, context);
+    }
+
+    private List<E> toEntities(Collection<? extends D> entities) {
+        List<E> mapped = new ArrayList<>(entities.size());
+        for (D entity : entities) {
+            mapped.add(mapper.toEntity(entity));
+        }
+        return mapped;
+    }
+
+    private JpaBulkWriter<E> bulkWriter() {
+        JpaBulkWriter<E> writer = bulkWriter;
+        if (writer == null) {
+            writer = new JpaBulkWriter<>(repository, entityType(), entityManager);
+            bulkWriter = writer;
+        }
+        return writer;
+    }
+
+    private JpaPartialUpdater<E> partialUpdater() {
+        if (entityManager == null) {
+            return null;
+        }
+        JpaPartialUpdater<E> updater = partialUpdater;
+        if (updater == null) {
+            updater = new JpaPartialUpdater<>(entityType(), entityManager);
+            partialUpdater = updater;
+        }
+        return updater;
+    }
+
+    private JpaChangePublisher<E> changes() {
+        JpaChangePublisher<E> publisher = changes;
+        if (publisher == null) {
+            synchronized (this) {
+                publisher = changes;
+                if (publisher == null) {
+                    publisher = new JpaChangePublisher<>(
+                            domainType != null ? domainType : entityType(), entityType(), entityManager);
+                    changes = publisher;
+                }
+            }
+        }
+        return publisher;
+    }
+
+    private JpaChunkReader<E> chunkReader() {
+        JpaChunkReader<E> reader = chunkReader;
+        if (reader == null) {
+            reader = new JpaChunkReader<>(repository, entityType(), entityManager);
+            chunkReader = reader;
+        }
+        return reader;
     }
 }
@@ -0,0 +1,103 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.AsyncCrudStore;
+import de.javaholic.toolkit.persistence.core.CrudStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringAsyncCrudStoresTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void propagatesSecurityContextAndRunsEachCallInOwnTransaction() {
+        RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+        RecordingStore store = new RecordingStore();
+        AsyncCrudStore<String, Long> async = new SpringAsyncCrudStores(transactionManager).wrap(store);
+        Authentication caller = new TestingAuthenticationToken("alice", "secret");
+        SecurityContextHolder.getContext().setAuthentication(caller);
+
+        async.findAll().join();
+        async.save("x").join();
+
+        assertThat(store.authentications).containsExactly(caller, caller);
+        assertThat(store.readOnly).containsExactly(true, false);
+        assertThat(transactionManager.definitions)
+                .extracting(TransactionDefinition::getPropagationBehavior)
+                .containsOnly(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(transactionManager.commits).isEqualTo(2);
+    }
+
+    private static final class RecordingStore implements CrudStore<String, Long> {
+        private final List<Authentication> authentications = new ArrayList<>();
+        private final List<Boolean> readOnly = new ArrayList<>();
+
+        private void record() {
+            authentications.add(SecurityContextHolder.getContext().getAuthentication());
+            readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        }
+
+        @Override
+        public List<String> findAll() {
+            record();
+            return List.of();
+        }
+
+        @Override
+        public Optional<String> findById(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public String save(String entity) {
+            record();
+            return entity;
+        }
+
+        @Override
+        public void delete(String entity) {
+        }
+    }
+
+    private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<TransactionDefinition> definitions = new ArrayList<>();
+        private int commits;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            definitions.add(definition);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times repository indexing and store lookups of {@link SpringDataCrudStoreFactory}.
+ *
+ * <p>Runs only with {@code mvn test -Pbenchmarks}.</p>
+ */
+class SpringDataCrudStoreFactoryBenchmark {
+
+    private static final int REPOSITORIES = 300;
+
+    @Test
+    void indexAndLookups() {
+        List<Class<?>> domainTypes = new ArrayList<>(REPOSITORIES);
+        StaticApplicationContext context = new StaticApplicationContext();
+        for (int i = 0; i < REPOSITORIES; i++) {
+            Class<?> domainType = SpringDataCrudStoreFactoryTest.entity("BenchmarkEntity" + i);
+            domainTypes.add(domainType);
+            context.getBeanFactory().registerSingleton("repo" + i,
+                    SpringDataCrudStoreFactoryTest.repository(domainType, "BenchmarkEntity" + i + "Repository"));
+        }
+        SpringDataCrudStoreFactory factory = new SpringDataCrudStoreFactory(context);
+        context.addApplicationListener(factory);
+
+        long refreshStart = System.nanoTime();
+        context.refresh();
+        long refreshNanos = System.nanoTime() - refreshStart;
+
+        long firstStart = System.nanoTime();
+        for (Class<?> domainType : domainTypes) {
+            factory.forType(domainType);
+        }
+        long firstNanos = System.nanoTime() - firstStart;
+
+        long cachedStart = System.nanoTime();
+        for (Class<?> domainType : domainTypes) {
+            factory.forType(domainType);
+        }
+        long cachedNanos = System.nanoTime() - cachedStart;
+
+        System.out.printf("%d repositories: refresh incl. index %d ms, first lookups %d ms, cached lookups %d us%n",
+                REPOSITORIES, TimeUnit.NANOSECONDS.toMillis(refreshNanos), TimeUnit.NANOSECONDS.toMillis(firstNanos),
+                TimeUnit.NANOSECONDS.toMicros(cachedNanos));
+    }
+}
@@ -0,0 +1,101 @@
+package de.javaholic.toolkit.persistence.springdata;
+
+import de.javaholic.toolkit.persistence.core.CrudStore;
+import jakarta.persistence.Id;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpringDataCrudStoreFactoryTest {
+
+    private static final int REPOSITORIES = 20;
+
+    @Test
+    void indexesRepositoriesOnRefreshAndCachesStores() {
+        List<Class<?>> domainTypes = new ArrayList<>(REPOSITORIES);
+        StaticApplicationContext context = new StaticApplicationContext();
+        for (int i = 0; i < REPOSITORIES; i++) {
+            Class<?> domainType = entity("IndexedEntity" + i);
+            domainTypes.add(domainType);
+            context.getBeanFactory().registerSingleton("repo" + i, repository(domainType, "IndexedEntity" + i + "Repository"));
+        }
+        SpringDataCrudStoreFactory factory = new SpringDataCrudStoreFactory(context);
+        context.addApplicationListener(factory);
+        context.refresh();
+
+        List<CrudStore<?, ?>> first = new ArrayList<>(REPOSITORIES);
+        for (Class<?> domainType : domainTypes) {
+            first.add(factory.forType(domainType));
+        }
+
+        for (int i = 0; i < REPOSITORIES; i++) {
+            assertThat(factory.forType(domainTypes.get(i))).isSameAs(first.get(i));
+        }
+    }
+
+    @Test
+    void rejectsAmbiguousAndUnknownTypesOnlyWhenRequested() {
+        Class<?> shared = entity("SharedEntity");
+        Class<?> unique = entity("UniqueEntity");
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("first", repository(shared, "SharedEntityRepository"));
+        context.getBeanFactory().registerSingleton("second", repository(shared, "SharedEntityOtherRepository"));
+        context.getBeanFactory().registerSingleton("unique", repository(unique, "UniqueEntityRepository"));
+        SpringDataCrudStoreFactory factory = new SpringDataCrudStoreFactory(context);
+        context.addApplicationListener(factory);
+        context.refresh();
+
+        assertThat(factory.forType(unique)).isNotNull();
+        assertThatThrownBy(() -> factory.forType(shared))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ambiguous");
+        assertThatThrownBy(() -> factory.forType(String.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No JpaRepository bean found");
+    }
+
+    static Class<?> entity(String simpleName) {
+        return new ByteBuddy()
+                .subclass(Object.class)
+                .name(SpringDataCrudStoreFactoryTest.class.getPackageName() + "." + simpleName)
+                .defineField("id", Long.class, Visibility.PRIVATE)
+                .annotateField(AnnotationDescription.Builder.ofType(Id.class).build())
+                .make()
+                .load(SpringDataCrudStoreFactoryTest.class.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles.lookup()))
+                .getLoaded();
+    }
+
+    static Object repository(Class<?> domainType, String simpleName) {
+        Class<?> repositoryType = new ByteBuddy()
+                .makeInterface(TypeDescription.Generic.Builder.parameterizedType(JpaRepository.class, domainType, Long.class).build())
+                .name(SpringDataCrudStoreFactoryTest.class.getPackageName() + "." + simpleName)
+                .make()
+                .load(SpringDataCrudStoreFactoryTest.class.getClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles.lookup()))
+                .getLoaded();
+        return Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, (proxy, method, args) -> {
+            if (method.getName().equals("toString")) {
+                return simpleName;
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}